@@ -0,0 +1,133 @@
+package com.ctrlf.gateway.accesslog;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 액세스 로그 필터 벤치마크 (기본 샘플링 vs 전체 기록)
+ *
+ * <p>한 스레드(이벤트 루프 가정)에서 요청 1건을 1 op로 처리합니다. ACCESS_LOG logger는
+ * logback-spring.xml의 ASYNC_ACCESS와 같은 비동기 appender로 임시 파일에 기록합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccessLogFilterBenchmark {
+
+    private static final String TOKEN = "eyJhbGciOiJSUzI1NiJ9.benchmark-secret-token";
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+    private Path logDir;
+    private AccessLogFilter sampled;
+    private AccessLogFilter fullyLogged;
+    private WebFilterChain chain;
+
+    @Setup
+    public void setUp() throws Exception {
+        logDir = Files.createTempDirectory("access-log-benchmark");
+        attach(context.getLogger(AccessLogWriter.LOGGER_NAME), logDir.resolve("access.log"));
+
+        sampled = new AccessLogFilter(new AccessLogProperties(), new AccessLogWriter());
+        AccessLogProperties full = new AccessLogProperties();
+        full.setDefaultSampleRate(1.0);
+        fullyLogged = new AccessLogFilter(full, new AccessLogWriter());
+
+        chain = exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        };
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        context.getLogger(AccessLogWriter.LOGGER_NAME).detachAndStopAllAppenders();
+        try (Stream<Path> files = Files.walk(logDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void sampled() {
+        sampled.filter(exchange(), chain).block();
+    }
+
+    @Benchmark
+    public void fullyLogged() {
+        fullyLogged.filter(exchange(), chain).block();
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+            .get("/api/chat/sessions")
+            .header("Authorization", "Bearer " + TOKEN)
+            .header("Cookie", "SESSION=abc123")
+            .header("User-Agent", "Mozilla/5.0 (benchmark)")
+            .header("Accept", "application/json")
+            .header("Accept-Language", "ko-KR,ko;q=0.9")
+            .header("X-Forwarded-For", "10.0.0.1"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+            .id("chat-api-route")
+            .uri(URI.create("http://localhost:9005"))
+            .predicate(e -> true)
+            .build());
+        return exchange;
+    }
+
+    /** logback-spring.xml의 ASYNC_ACCESS와 같은 설정 */
+    private void attach(Logger logger, Path file) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%msg%n");
+        encoder.setCharset(StandardCharsets.UTF_8);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(0);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(fileAppender);
+        async.start();
+
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(async);
+    }
+}
@@ -1,10 +1,15 @@
 package com.ctrlf.gateway;
 
+import com.ctrlf.gateway.security.CachingReactiveJwtDecoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoders;
+import org.springframework.security.oauth2.jwt.SupplierReactiveJwtDecoder;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 
 @Configuration
@@ -33,5 +38,20 @@ public class SecurityConfig {
             .oauth2ResourceServer(oauth2 -> oauth2.jwt());
         return http.build();
     }
+
+    /**
+     * JWT decoder (issuer-uri 기반 검증 + 토큰 해시별 검증 결과 캐시)
+     *
+     * <p>같은 토큰의 반복 요청은 만료 전까지 서명을 다시 검증하지 않습니다.</p>
+     */
+    @Bean
+    public CachingReactiveJwtDecoder jwtDecoder(
+        @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+        @Value("${app.security.jwt-cache.max-entries:50000}") int maxEntries
+    ) {
+        ReactiveJwtDecoder issuerDecoder = new SupplierReactiveJwtDecoder(
+            () -> ReactiveJwtDecoders.fromIssuerLocation(issuerUri));
+        return new CachingReactiveJwtDecoder(issuerDecoder, maxEntries);
+    }
 }
 
@@ -0,0 +1,75 @@
+package com.ctrlf.gateway.accesslog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 액세스 로그 한 건 (JSON 한 줄로 출력)
+ *
+ * @param timestamp 요청 시작 시각
+ * @param requestId 요청 ID (X-Request-Id, 없으면 서버 요청 ID)
+ * @param method HTTP 메서드
+ * @param path 요청 경로 (쿼리 문자열 제외)
+ * @param routeId 매칭된 라우트 ID
+ * @param target 대상 서비스 URI
+ * @param status 응답 상태 코드
+ * @param durationMs 처리 시간
+ * @param outcome COMPLETED | ERROR | CANCELLED
+ * @param reason 기록 사유 (ERROR | SLOW | SAMPLED)
+ * @param clientIp 클라이언트 주소
+ * @param headers 선택한 요청 헤더 (민감 값은 가려진 상태)
+ * @param error 예외 클래스명 (없으면 null)
+ */
+public record AccessLogEntry(
+    Instant timestamp,
+    String requestId,
+    String method,
+    String path,
+    String routeId,
+    String target,
+    int status,
+    long durationMs,
+    String outcome,
+    String reason,
+    String clientIp,
+    Map<String, String> headers,
+    String error
+) {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    public String toJson() {
+        StringWriter out = new StringWriter(256);
+        try (JsonGenerator json = JSON.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("ts", timestamp.toString());
+            json.writeStringField("requestId", requestId);
+            json.writeStringField("method", method);
+            json.writeStringField("path", path);
+            json.writeStringField("route", routeId);
+            json.writeStringField("target", target);
+            json.writeNumberField("status", status);
+            json.writeNumberField("durationMs", durationMs);
+            json.writeStringField("outcome", outcome);
+            json.writeStringField("reason", reason);
+            json.writeStringField("clientIp", clientIp);
+            json.writeObjectFieldStart("headers");
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                json.writeStringField(header.getKey(), header.getValue());
+            }
+            json.writeEndObject();
+            if (error != null) {
+                json.writeStringField("error", error);
+            }
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+}
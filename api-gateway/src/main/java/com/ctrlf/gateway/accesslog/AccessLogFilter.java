@@ -0,0 +1,172 @@
+package com.ctrlf.gateway.accesslog;
+
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * API Gateway 액세스 로그 필터
+ *
+ * <p>요청이 끝난 뒤 요청당 JSON 한 줄을 남깁니다. 에러(4xx/5xx, 예외)와 느린 요청은 항상 기록하고,
+ * 나머지는 라우트별 샘플링 비율만큼만 기록합니다.</p>
+ * <p>Authorization/Cookie 등 민감 헤더 값은 가린 뒤 기록하며, 쿼리 문자열은 남기지 않습니다.
+ * 기록 여부를 먼저 정하므로 샘플링에서 빠진 요청은 헤더 조회나 JSON 생성 비용이 없습니다.</p>
+ * <p>Gateway GlobalFilter가 아닌 WebFilter로, Spring Security 필터 체인보다 먼저 실행합니다.
+ * 인증 실패(401)나 권한 부족(403)처럼 라우팅 전에 끝나는 요청도 기록되며, 이때 route는 unknown입니다.</p>
+ */
+@Slf4j
+@Component
+public class AccessLogFilter implements WebFilter, Ordered {
+
+    /** Spring Security WebFilterChainProxy(-100)보다 먼저 실행 */
+    static final int ORDER = -200;
+
+    static final String REDACTED = "[REDACTED]";
+
+    private static final String ERROR_ATTRIBUTE = AccessLogFilter.class.getName() + ".error";
+
+    private final AccessLogProperties properties;
+    private final AccessLogWriter writer;
+    private final Set<String> redactedHeaders;
+
+    public AccessLogFilter(AccessLogProperties properties, AccessLogWriter writer) {
+        this.properties = properties;
+        this.writer = writer;
+        this.redactedHeaders = properties.getRedactedHeaders().stream()
+            .map(header -> header.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        Instant startedAt = Instant.now();
+        long startNanos = System.nanoTime();
+        return chain.filter(exchange)
+            .doOnError(e -> exchange.getAttributes().put(ERROR_ATTRIBUTE, e))
+            .doFinally(signal -> record(exchange, startedAt, startNanos, signal));
+    }
+
+    private void record(ServerWebExchange exchange, Instant startedAt, long startNanos, SignalType signal) {
+        try {
+            long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+            Throwable error = exchange.getAttribute(ERROR_ATTRIBUTE);
+            int status = exchange.getResponse().getStatusCode() != null
+                ? exchange.getResponse().getStatusCode().value()
+                : (error != null ? 500 : 0);
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "unknown";
+
+            String reason = reasonFor(routeId, status, error, durationMs);
+            if (reason == null) {
+                return;
+            }
+
+            ServerHttpRequest request = exchange.getRequest();
+            String outcome = error != null ? "ERROR" : (signal == SignalType.CANCEL ? "CANCELLED" : "COMPLETED");
+            AccessLogEntry entry = new AccessLogEntry(
+                startedAt,
+                requestIdOf(request),
+                request.getMethod() != null ? request.getMethod().name() : "UNKNOWN",
+                request.getURI().getPath(),
+                routeId,
+                route != null && route.getUri() != null ? route.getUri().toString() : null,
+                status,
+                durationMs,
+                outcome,
+                reason,
+                clientIpOf(request),
+                selectedHeaders(request.getHeaders()),
+                error != null ? error.getClass().getName() : null
+            );
+            writer.write(entry.toJson());
+        } catch (Exception e) {
+            // 로그 기록 실패가 요청 처리에 영향을 주지 않도록 무시
+            log.debug("[액세스 로그] 기록 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기록 사유 (기록하지 않으면 null)
+     */
+    String reasonFor(String routeId, int status, Throwable error, long durationMs) {
+        if (error != null || status >= 400) {
+            return "ERROR";
+        }
+        if (durationMs >= properties.slowThresholdMsFor(routeId)) {
+            return "SLOW";
+        }
+        double rate = properties.sampleRateFor(routeId);
+        if (rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate)) {
+            return "SAMPLED";
+        }
+        return null;
+    }
+
+    private Map<String, String> selectedHeaders(HttpHeaders headers) {
+        Map<String, String> selected = new LinkedHashMap<>();
+        for (String name : properties.getHeaders()) {
+            String value = headers.getFirst(name);
+            if (value != null) {
+                selected.put(name, redactedHeaders.contains(name.toLowerCase(Locale.ROOT)) ? redact(name, value) : value);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 민감 헤더 값 가리기
+     *
+     * <p>Authorization은 인증 방식(Bearer 등)만, Cookie는 쿠키 이름만 남깁니다.</p>
+     */
+    static String redact(String name, String value) {
+        if ("cookie".equalsIgnoreCase(name)) {
+            StringBuilder cookies = new StringBuilder();
+            for (String cookie : value.split(";")) {
+                int eq = cookie.indexOf('=');
+                if (cookies.length() > 0) {
+                    cookies.append("; ");
+                }
+                cookies.append(eq > 0 ? cookie.substring(0, eq).trim() : "").append('=').append(REDACTED);
+            }
+            return cookies.toString();
+        }
+        int space = value.indexOf(' ');
+        return space > 0 ? value.substring(0, space) + " " + REDACTED : REDACTED;
+    }
+
+    private String requestIdOf(ServerHttpRequest request) {
+        String requestId = request.getHeaders().getFirst("X-Request-Id");
+        return requestId != null ? requestId : request.getId();
+    }
+
+    private String clientIpOf(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        return remote != null && remote.getAddress() != null ? remote.getAddress().getHostAddress() : null;
+    }
+
+    @Override
+    public int getOrder() {
+        // 보안 필터보다 먼저 실행되어 전체 처리 시간과 인증 실패 응답까지 기록
+        return ORDER;
+    }
+}
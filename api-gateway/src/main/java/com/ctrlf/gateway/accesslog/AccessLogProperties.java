@@ -0,0 +1,57 @@
+package com.ctrlf.gateway.accesslog;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 액세스 로그 설정
+ *
+ * <pre>
+ * app:
+ *   access-log:
+ *     default-sample-rate: 0.1
+ *     route-sample-rates:
+ *       chat-api-route: 0.05
+ *     slow-threshold-ms: 1000
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.access-log")
+public class AccessLogProperties {
+
+    /** 액세스 로그 사용 여부 */
+    private boolean enabled = true;
+
+    /** 정상 요청 샘플링 비율 (0~1, 라우트별 설정이 없을 때) */
+    private double defaultSampleRate = 0.1;
+
+    /** 라우트 ID별 정상 요청 샘플링 비율 */
+    private Map<String, Double> routeSampleRates = new HashMap<>();
+
+    /** 이 시간 이상 걸린 요청은 샘플링과 관계없이 기록 */
+    private long slowThresholdMs = 1000;
+
+    /** 라우트 ID별 느린 요청 기준 (SSE 스트림처럼 원래 오래 걸리는 라우트용) */
+    private Map<String, Long> routeSlowThresholdsMs = new HashMap<>();
+
+    /** 로그에 남길 요청 헤더 */
+    private List<String> headers = List.of("User-Agent", "X-Forwarded-For", "X-Request-Id", "Authorization", "Cookie");
+
+    /** 값을 가릴 헤더 (대소문자 무시) */
+    private List<String> redactedHeaders = List.of("Authorization", "Proxy-Authorization", "Cookie");
+
+    public double sampleRateFor(String routeId) {
+        return routeSampleRates.getOrDefault(routeId, defaultSampleRate);
+    }
+
+    public long slowThresholdMsFor(String routeId) {
+        return routeSlowThresholdsMs.getOrDefault(routeId, slowThresholdMs);
+    }
+}
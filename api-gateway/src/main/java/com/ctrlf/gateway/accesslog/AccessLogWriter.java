@@ -0,0 +1,24 @@
+package com.ctrlf.gateway.accesslog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 액세스 로그 출력
+ *
+ * <p>전용 logger(ACCESS_LOG)로 JSON 한 줄을 남깁니다. logback-spring.xml에서 이 logger는
+ * 비동기 appender(AsyncAppender)로만 연결되므로, Netty 이벤트 루프에서는 큐에 넣는 비용만 듭니다.</p>
+ */
+@Component
+public class AccessLogWriter {
+
+    /** logback-spring.xml의 전용 logger 이름 */
+    public static final String LOGGER_NAME = "ACCESS_LOG";
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger(LOGGER_NAME);
+
+    public void write(String json) {
+        ACCESS_LOG.info(json);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ctrlf.gateway.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gateway HTTP 요청 메트릭 (요청 수 / 에러 수 / 처리 시간)
+ *
+ * <p>요청 URI 대신 매칭된 route id를 route 태그로 사용하고,
+ * (method, route, status) 조합별 미터는 처음 한 번만 등록한 뒤 캐시에서 꺼내 씁니다.</p>
+ * <p>route가 없는 요청과 max-routes를 넘어 새로 들어온 route는 UNMATCHED 하나로 모아
+ * 시계열 수가 늘어나지 않도록 합니다. 처리 시간 Timer는 SLO 구간별 histogram bucket을 함께 노출합니다.</p>
+ */
+@Slf4j
+@Component
+public class HttpRequestMeters {
+
+    /** route가 없거나 한도를 넘은 요청 */
+    public static final String UNMATCHED = "UNMATCHED";
+
+    private static final Set<String> KNOWN_METHODS =
+        Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+
+    private final MeterRegistry meterRegistry;
+    private final int maxRoutes;
+    private final Duration[] slos;
+
+    private final Set<String> routes = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<MeterKey, RequestMeters> meters = new ConcurrentHashMap<>();
+
+    public HttpRequestMeters(
+        MeterRegistry meterRegistry,
+        @Value("${app.metrics.http.max-routes:100}") int maxRoutes,
+        @Value("${app.metrics.http.slo:100ms,300ms,500ms,1s,3s,10s,30s}") List<Duration> slos
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxRoutes = maxRoutes;
+        this.slos = slos.toArray(Duration[]::new);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * 요청 한 건 기록
+     *
+     * @param method HTTP 메서드
+     * @param routeId 매칭된 route id (없으면 null)
+     * @param status 응답 상태 코드 (없으면 0)
+     * @param sample 요청 시작 시 만든 Timer.Sample (없으면 처리 시간은 기록하지 않음)
+     */
+    public void record(String method, String routeId, int status, Timer.Sample sample) {
+        RequestMeters requestMeters = meters.computeIfAbsent(
+            new MeterKey(normalizeMethod(method), guardRoute(routeId), status), this::register);
+        requestMeters.requests().increment();
+        if (requestMeters.errors() != null) {
+            requestMeters.errors().increment();
+        }
+        if (sample != null) {
+            sample.stop(requestMeters.duration());
+        }
+    }
+
+    private String normalizeMethod(String method) {
+        return method != null && KNOWN_METHODS.contains(method) ? method : "OTHER";
+    }
+
+    private String guardRoute(String routeId) {
+        if (routeId == null) {
+            return UNMATCHED;
+        }
+        if (routes.contains(routeId)) {
+            return routeId;
+        }
+        if (routes.size() >= maxRoutes) {
+            return UNMATCHED;
+        }
+        if (routes.add(routeId) && routes.size() == maxRoutes) {
+            log.warn("[HTTP 메트릭] route 태그가 최대 개수에 도달했습니다. 이후 새 route는 {}로 집계합니다: maxRoutes={}",
+                UNMATCHED, maxRoutes);
+        }
+        return routeId;
+    }
+
+    private RequestMeters register(MeterKey key) {
+        String status = String.valueOf(key.status());
+        Counter requests = Counter.builder("gateway.http.requests.total")
+            .description("Total HTTP requests through gateway")
+            .tag("application", "api-gateway")
+            .tag("method", key.method())
+            .tag("route", key.route())
+            .tag("status", status)
+            .register(meterRegistry);
+        Counter errors = key.status() >= 400
+            ? Counter.builder("gateway.http.errors.total")
+                .description("Total HTTP errors through gateway")
+                .tag("application", "api-gateway")
+                .tag("method", key.method())
+                .tag("route", key.route())
+                .tag("status", status)
+                .register(meterRegistry)
+            : null;
+        // status와 무관하게 (method, route)당 하나 (레지스트리가 같은 Timer를 반환)
+        Timer duration = Timer.builder("gateway.http.request.duration")
+            .description("HTTP request duration through gateway")
+            .tag("application", "api-gateway")
+            .tag("method", key.method())
+            .tag("route", key.route())
+            .serviceLevelObjectives(slos)
+            .register(meterRegistry);
+        return new RequestMeters(requests, errors, duration);
+    }
+
+    private record MeterKey(String method, String route, int status) {}
+
+    private record RequestMeters(Counter requests, Counter errors, Timer duration) {}
+}
@@ -0,0 +1,89 @@
+package com.ctrlf.gateway.ratelimit;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * API Gateway 요청 수 제한 필터
+ *
+ * <p>JWT 사용자 ID(sub)와 라우트별 token bucket으로 요청 수를 제한합니다. 인증 없이 허용된 경로
+ * (/internal/**, 토큰 발급 등)는 클라이언트 IP로 구분합니다.</p>
+ * <p>초과한 요청은 하위 서비스로 보내지 않고 429와 Retry-After(초)로 바로 응답합니다.
+ * 메트릭에 429가 남도록 MetricsFilter(0) 다음에 실행합니다. (액세스 로그는 WebFilter라 항상 바깥에서 기록)</p>
+ */
+@Slf4j
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private final RateLimitProperties properties;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimitProperties properties, TokenBucketRateLimiter rateLimiter) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || properties.limitFor(route.getId()).isUnlimited()) {
+            return chain.filter(exchange);
+        }
+
+        return exchange.getPrincipal()
+            .filter(principal -> !(principal instanceof AnonymousAuthenticationToken))
+            .map(principal -> "user:" + principal.getName())
+            .defaultIfEmpty("")
+            .flatMap(userKey -> {
+                String clientKey = userKey.isEmpty() ? "ip:" + remoteHost(exchange) : userKey;
+                long waitNanos = rateLimiter.tryAcquire(route.getId(), clientKey);
+                if (waitNanos == 0) {
+                    return chain.filter(exchange);
+                }
+                log.debug("[요청 수 제한] 초과: route={}, client={}, retryAfterMs={}",
+                    route.getId(), clientKey, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+                return reject(exchange, waitNanos);
+            });
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, long waitNanos) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        // Retry-After는 초 단위 정수 (1초 미만도 1로 올림)
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return response.setComplete();
+    }
+
+    private static String remoteHost(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null
+            ? remoteAddress.getAddress().getHostAddress()
+            : remoteAddress.getHostString();
+    }
+
+    @Override
+    public int getOrder() {
+        // MetricsFilter(0) 다음에 실행되도록 설정
+        return 1;
+    }
+}
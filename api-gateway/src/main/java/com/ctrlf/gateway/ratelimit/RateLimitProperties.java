@@ -0,0 +1,66 @@
+package com.ctrlf.gateway.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 수 제한 설정 (사용자 + 라우트별 token bucket)
+ *
+ * <pre>
+ * app:
+ *   rate-limit:
+ *     default-limit:
+ *       replenish-rate: 20
+ *       burst-capacity: 40
+ *     routes:
+ *       chat-route:
+ *         replenish-rate: 1
+ *         burst-capacity: 10
+ *     idle-timeout: 10m
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    /** 요청 수 제한 사용 여부 */
+    private boolean enabled = true;
+
+    /** 라우트별 설정이 없을 때의 제한 */
+    private Limit defaultLimit = new Limit();
+
+    /** 라우트 ID별 제한 */
+    private Map<String, Limit> routes = new HashMap<>();
+
+    /** 이 시간 동안 요청이 없는 bucket은 정리 (가득 찬 상태와 같으므로 다시 만들어도 결과가 같음) */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /** 보관할 최대 bucket 수 (넘으면 새 클라이언트 요청은 제한 없이 통과시키고 경고) */
+    private int maxBuckets = 100_000;
+
+    public Limit limitFor(String routeId) {
+        return routes.getOrDefault(routeId, defaultLimit);
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /** 초당 채워지는 토큰 수 (0 이하면 제한하지 않음) */
+        private double replenishRate = 20;
+
+        /** bucket 최대 토큰 수 (순간적으로 허용하는 요청 수) */
+        private int burstCapacity = 40;
+
+        public boolean isUnlimited() {
+            return replenishRate <= 0 || burstCapacity <= 0;
+        }
+    }
+}
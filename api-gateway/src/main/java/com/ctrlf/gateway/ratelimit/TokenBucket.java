@@ -0,0 +1,61 @@
+package com.ctrlf.gateway.ratelimit;
+
+/**
+ * token bucket 하나 (사용자 + 라우트)
+ *
+ * <p>토큰은 요청이 들어올 때 경과 시간만큼 한 번에 채우므로 별도 타이머가 없습니다.</p>
+ * <p>정리된 bucket은 evicted로 표시되어, 정리 직전에 bucket을 꺼낸 요청은 {@link #EVICTED}를 받고
+ * 맵에서 bucket을 다시 찾습니다. (정리된 bucket에서 토큰을 써서 새 bucket의 burst를 한 번 더 받는 일 방지)</p>
+ */
+final class TokenBucket {
+
+    /** 이미 정리된 bucket (호출자가 맵에서 다시 조회) */
+    static final long EVICTED = -1;
+
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private boolean evicted;
+
+    TokenBucket(RateLimitProperties.Limit limit, long nowNanos) {
+        this.capacity = limit.getBurstCapacity();
+        this.tokensPerNano = limit.getReplenishRate() / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @return 0이면 허용, {@link #EVICTED}면 정리된 bucket, 아니면 토큰 하나가 찰 때까지 남은 시간(ns)
+     */
+    synchronized long tryConsume(long nowNanos) {
+        if (evicted) {
+            return EVICTED;
+        }
+        refill(nowNanos);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    /** 마지막 요청 이후 idleNanos 이상 지났으면 정리 표시 후 true */
+    synchronized boolean evictIfIdle(long nowNanos, long idleNanos) {
+        if (nowNanos - lastRefillNanos >= idleNanos) {
+            evicted = true;
+        }
+        return evicted;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ctrlf.gateway.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 token bucket 요청 수 제한기
+ *
+ * <p>bucket은 (라우트 ID, 클라이언트 키)마다 하나이며, 제한은 라우트별 설정(RateLimitProperties)을 따릅니다.
+ * 게이트웨이 인스턴스마다 따로 계산하므로 인스턴스가 N개면 전체 허용량은 최대 N배입니다.</p>
+ * <p>요청이 idle-timeout 동안 없던 bucket은 주기적으로 정리합니다. max-buckets에 도달하면 bucket을 더 만들지 않고
+ * 새 클라이언트 요청은 제한 없이 통과시킨 뒤 정리 주기마다 경고를 남깁니다. (IP를 바꿔 가며 bucket을 채우는 공격자가
+ * 공유 bucket을 소진시켜 새 사용자를 막지 못하도록 함. 이미 bucket이 있는 클라이언트는 계속 제한)</p>
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    private final RateLimitProperties properties;
+    private final ConcurrentHashMap<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+    /** max-buckets 도달로 bucket 없이 통과시킨 요청 수 (정리 주기마다 초기화) */
+    private final LongAdder untrackedRequests = new LongAdder();
+
+    public TokenBucketRateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 요청 하나 허용 여부
+     *
+     * @param routeId 라우트 ID
+     * @param clientKey 클라이언트 키 (사용자 ID 또는 IP)
+     * @return 0이면 허용, 아니면 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String routeId, String clientKey) {
+        return tryAcquire(routeId, clientKey, System.nanoTime());
+    }
+
+    long tryAcquire(String routeId, String clientKey, long nowNanos) {
+        RateLimitProperties.Limit limit = properties.limitFor(routeId);
+        if (limit.isUnlimited()) {
+            return 0;
+        }
+        BucketKey key = new BucketKey(routeId, clientKey);
+        while (true) {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket == null) {
+                if (buckets.size() >= properties.getMaxBuckets()) {
+                    untrackedRequests.increment();
+                    return 0;
+                }
+                bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(limit, nowNanos));
+            }
+            long waitNanos = bucket.tryConsume(nowNanos);
+            // 꺼낸 직후 정리된 bucket이면 다시 조회
+            if (waitNanos != TokenBucket.EVICTED) {
+                return waitNanos;
+            }
+        }
+    }
+
+    /**
+     * 오래 사용하지 않은 bucket 정리
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        int before = buckets.size();
+        int evicted = evictIdle(System.nanoTime());
+        if (evicted > 0) {
+            log.debug("[요청 수 제한] 유휴 bucket 정리: evicted={}, remaining={}", evicted, before - evicted);
+        }
+        long untracked = untrackedRequests.sumThenReset();
+        if (untracked > 0) {
+            log.warn("[요청 수 제한] bucket 수가 최대치에 도달해 새 클라이언트 요청을 제한 없이 통과시켰습니다: maxBuckets={}, requests={}",
+                properties.getMaxBuckets(), untracked);
+        }
+    }
+
+    /**
+     * idle bucket 정리
+     *
+     * <p>마지막 사용 시각 확인과 제거를 computeIfPresent 안에서 bucket 잠금으로 함께 처리하므로,
+     * 방금 사용된 bucket은 남고 제거된 bucket을 이미 꺼낸 요청은 EVICTED를 받아 다시 조회합니다.</p>
+     */
+    int evictIdle(long nowNanos) {
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        int evicted = 0;
+        for (BucketKey key : buckets.keySet()) {
+            if (buckets.computeIfPresent(key, (k, bucket) -> bucket.evictIfIdle(nowNanos, idleNanos) ? null : bucket) == null) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private record BucketKey(String routeId, String clientKey) {}
+}
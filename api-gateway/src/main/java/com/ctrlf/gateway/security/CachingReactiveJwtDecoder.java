@@ -0,0 +1,99 @@
+package com.ctrlf.gateway.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * 검증 결과 캐시 JWT decoder
+ *
+ * <p>같은 access token은 만료 전까지 여러 요청에 재사용되므로, 한 번 검증한 Jwt를 토큰 해시(SHA-256)로
+ * 만료 시각까지 보관하고 이후 요청은 서명 검증 없이 돌려줍니다. 검증에 실패한 토큰은 캐시하지 않습니다.</p>
+ * <p>max-entries에 도달하면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 새 토큰은 캐시하지 않고 매번 검증합니다.</p>
+ */
+@Slf4j
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    private final ReactiveJwtDecoder delegate;
+    private final int maxEntries;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Jwt> cache = new ConcurrentHashMap<>();
+
+    public CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, int maxEntries) {
+        this(delegate, maxEntries, Clock.systemUTC());
+    }
+
+    CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, int maxEntries, Clock clock) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) {
+        String key = hash(token);
+        Jwt cached = cache.get(key);
+        if (cached != null) {
+            if (clock.instant().isBefore(cached.getExpiresAt())) {
+                return Mono.just(cached);
+            }
+            cache.remove(key, cached);
+        }
+        return delegate.decode(token).doOnNext(jwt -> put(key, jwt));
+    }
+
+    private void put(String key, Jwt jwt) {
+        if (jwt.getExpiresAt() == null) {
+            return;
+        }
+        if (cache.size() >= maxEntries && evictExpired() == 0) {
+            return;
+        }
+        cache.put(key, jwt);
+    }
+
+    /**
+     * 만료된 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${app.security.jwt-cache.sweep-interval-ms:60000}")
+    public void evictExpiredEntries() {
+        int evicted = evictExpired();
+        if (evicted > 0) {
+            log.debug("[JWT 캐시] 만료 항목 정리: evicted={}, remaining={}", evicted, cache.size());
+        }
+    }
+
+    int evictExpired() {
+        Instant now = clock.instant();
+        int evicted = 0;
+        for (var entry : cache.entrySet()) {
+            if (!now.isBefore(entry.getValue().getExpiresAt()) && cache.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    /** 토큰 해시 (SHA-256, base64url) - 캐시 키와 검증 claims의 ath에 사용 */
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
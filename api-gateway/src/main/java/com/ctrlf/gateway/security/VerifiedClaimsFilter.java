@@ -0,0 +1,110 @@
+package com.ctrlf.gateway.security;
+
+import com.ctrlf.common.security.InternalHeaders;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 검증 claims 전달 필터
+ *
+ * <p>게이트웨이에서 검증한 JWT의 claims를 공유 키(app.security.verified-claims.secret)로 HS256 서명해
+ * X-Verified-Claims 헤더로 하위 서비스에 전달합니다. 서비스(common-security)는 이 헤더의 서명과 만료만 확인하고
+ * 같은 JWT의 RSA 서명 검증을 다시 하지 않습니다. Authorization 헤더는 그대로 전달합니다.</p>
+ * <p>서명한 claims에는 access token 해시(ath)를 넣어, 헤더를 가로채도 다른 토큰(또는 토큰 없이)과 함께 재사용할 수 없게 합니다.</p>
+ * <p>클라이언트가 보낸 같은 이름의 헤더는 항상 제거합니다. 공유 키가 없으면 헤더를 만들지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class VerifiedClaimsFilter implements GlobalFilter, Ordered {
+
+    private final MACSigner signer;
+
+    public VerifiedClaimsFilter(@Value("${app.security.verified-claims.secret:}") String secret) {
+        this.signer = secret.isBlank() ? null : createSigner(secret);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (signer == null) {
+            return chain.filter(stripClientHeader(exchange));
+        }
+        return exchange.getPrincipal()
+            .filter(JwtAuthenticationToken.class::isInstance)
+            .map(principal -> sign(((JwtAuthenticationToken) principal).getToken()))
+            .map(header -> exchange.mutate()
+                .request(request -> request.headers(headers -> headers.set(InternalHeaders.VERIFIED_CLAIMS, header)))
+                .build())
+            .switchIfEmpty(Mono.fromSupplier(() -> stripClientHeader(exchange)))
+            .flatMap(chain::filter);
+    }
+
+    /**
+     * claims 서명 (토큰 만료 시각을 그대로 유지, 같은 요청의 access token 해시 포함)
+     */
+    String sign(Jwt jwt) {
+        JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder();
+        jwt.getClaims().forEach((name, value) -> claims.claim(name, toJsonValue(value)));
+        claims.claim(InternalHeaders.ACCESS_TOKEN_HASH_CLAIM, CachingReactiveJwtDecoder.hash(jwt.getTokenValue()));
+        SignedJWT signed = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims.build());
+        try {
+            signed.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("검증 claims 서명 실패", e);
+        }
+        return signed.serialize();
+    }
+
+    /** 디코더가 변환한 값(Instant, URL)을 원래 JSON 형식으로 (Date는 epoch 초로 직렬화됨) */
+    private static Object toJsonValue(Object value) {
+        if (value instanceof Instant instant) {
+            return Date.from(instant);
+        }
+        if (value instanceof URL url) {
+            return url.toString();
+        }
+        return value;
+    }
+
+    private static ServerWebExchange stripClientHeader(ServerWebExchange exchange) {
+        if (!exchange.getRequest().getHeaders().containsKey(InternalHeaders.VERIFIED_CLAIMS)) {
+            return exchange;
+        }
+        log.warn("[검증 claims] 클라이언트가 보낸 {} 헤더를 제거합니다: path={}",
+            InternalHeaders.VERIFIED_CLAIMS, exchange.getRequest().getPath());
+        return exchange.mutate()
+            .request(request -> request.headers(headers -> headers.remove(InternalHeaders.VERIFIED_CLAIMS)))
+            .build();
+    }
+
+    private static MACSigner createSigner(String secret) {
+        try {
+            return new MACSigner(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (JOSEException e) {
+            throw new IllegalArgumentException("app.security.verified-claims.secret은 32바이트 이상이어야 합니다.", e);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // RateLimitFilter(1) 다음, 하위 서비스로 전달하기 직전
+        return 2;
+    }
+}
@@ -0,0 +1,210 @@
+package com.ctrlf.gateway.accesslog;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * AccessLogFilter 단위 테스트.
+ */
+@DisplayName("AccessLogFilter 테스트")
+class AccessLogFilterTest {
+
+    private AccessLogProperties properties;
+    private AccessLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AccessLogProperties();
+        writer = mock(AccessLogWriter.class);
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+            .get("/chat/sessions?token=query-secret")
+            .header("Authorization", "Bearer secret-token")
+            .header("Cookie", "SESSION=abc123; theme=dark")
+            .header("User-Agent", "junit"));
+        Route route = Route.async()
+            .id("chat-route")
+            .uri(URI.create("http://localhost:9005"))
+            .predicate(e -> true)
+            .build();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+
+    private static WebFilterChain respondWith(HttpStatus status) {
+        return exchange -> {
+            exchange.getResponse().setStatusCode(status);
+            return Mono.empty();
+        };
+    }
+
+    private String writtenLine() {
+        ArgumentCaptor<String> line = ArgumentCaptor.forClass(String.class);
+        verify(writer).write(line.capture());
+        return line.getValue();
+    }
+
+    @Test
+    @DisplayName("샘플링된 정상 요청 - JSON 한 줄, 민감 헤더와 쿼리 문자열은 남기지 않음")
+    void sampledRequest_WritesRedactedJson() {
+        // given
+        properties.setDefaultSampleRate(1.0);
+        AccessLogFilter filter = new AccessLogFilter(properties, writer);
+
+        // when
+        filter.filter(exchange(), respondWith(HttpStatus.OK)).block();
+
+        // then
+        String line = writtenLine();
+        assertThat(line)
+            .startsWith("{").endsWith("}").doesNotContain("\n")
+            .contains("\"status\":200", "\"route\":\"chat-route\"", "\"path\":\"/chat/sessions\"",
+                "\"reason\":\"SAMPLED\"", "\"outcome\":\"COMPLETED\"", "\"durationMs\":",
+                "\"Authorization\":\"Bearer [REDACTED]\"", "\"Cookie\":\"SESSION=[REDACTED]; theme=[REDACTED]\"",
+                "\"User-Agent\":\"junit\"")
+            .doesNotContain("secret-token", "abc123", "dark", "query-secret");
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 0 - 정상 요청은 기록하지 않음")
+    void zeroSampleRate_SkipsSuccess() {
+        // given
+        properties.setDefaultSampleRate(0.0);
+        AccessLogFilter filter = new AccessLogFilter(properties, writer);
+
+        // when
+        filter.filter(exchange(), respondWith(HttpStatus.OK)).block();
+
+        // then
+        verify(writer, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("라우트별 샘플링 비율이 기본값보다 우선")
+    void routeSampleRate_OverridesDefault() {
+        // given
+        properties.setDefaultSampleRate(0.0);
+        properties.setRouteSampleRates(Map.of("chat-route", 1.0));
+        AccessLogFilter filter = new AccessLogFilter(properties, writer);
+
+        // when
+        filter.filter(exchange(), respondWith(HttpStatus.OK)).block();
+
+        // then
+        assertThat(writtenLine()).contains("\"reason\":\"SAMPLED\"");
+    }
+
+    @Test
+    @DisplayName("에러 응답 - 샘플링 비율 0이어도 항상 기록")
+    void errorStatus_AlwaysLogged() {
+        // given
+        properties.setDefaultSampleRate(0.0);
+        AccessLogFilter filter = new AccessLogFilter(properties, writer);
+
+        // when
+        filter.filter(exchange(), respondWith(HttpStatus.SERVICE_UNAVAILABLE)).block();
+
+        // then
+        assertThat(writtenLine()).contains("\"status\":503", "\"reason\":\"ERROR\"");
+    }
+
+    @Test
+    @DisplayName("하위 필터 예외 - 500/ERROR로 기록하고 예외는 그대로 전달")
+    void chainException_LoggedAndPropagated() {
+        // given
+        properties.setDefaultSampleRate(0.0);
+        AccessLogFilter filter = new AccessLogFilter(properties, writer);
+        WebFilterChain failing = exchange -> Mono.error(new IllegalStateException("boom"));
+
+        // when & then
+        assertThatThrownBy(() -> filter.filter(exchange(), failing).block())
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(writtenLine()).contains(
+            "\"status\":500", "\"outcome\":\"ERROR\"", "\"error\":\"java.lang.IllegalStateException\"");
+    }
+
+    @Test
+    @DisplayName("보안 필터에서 끝난 요청(401) - 라우팅 전이라도 route=unknown으로 기록")
+    void unauthorizedBeforeRouting_Logged() {
+        // given: Spring Security가 라우팅 전에 401로 응답을 끝낸 경우
+        properties.setDefaultSampleRate(0.0);
+        AccessLogFilter filter = new AccessLogFilter(properties, writer);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+            .get("/chat/sessions")
+            .header("Authorization", "Bearer expired-token"));
+
+        // when
+        filter.filter(exchange, respondWith(HttpStatus.UNAUTHORIZED)).block();
+
+        // then
+        assertThat(writtenLine())
+            .contains("\"status\":401", "\"route\":\"unknown\"", "\"reason\":\"ERROR\"")
+            .doesNotContain("expired-token");
+    }
+
+    @Test
+    @DisplayName("필터 순서 - Spring Security WebFilterChainProxy(-100)보다 먼저 실행")
+    void order_BeforeSecurityWebFilterChain() {
+        assertThat(new AccessLogFilter(properties, writer).getOrder()).isLessThan(-100);
+    }
+
+    @Test
+    @DisplayName("느린 요청 - 샘플링 비율 0이어도 항상 기록")
+    void slowRequest_AlwaysLogged() {
+        // given
+        properties.setDefaultSampleRate(0.0);
+        properties.setSlowThresholdMs(20);
+        AccessLogFilter filter = new AccessLogFilter(properties, writer);
+        WebFilterChain slow = exchange -> Mono.delay(Duration.ofMillis(40))
+            .then(Mono.fromRunnable(() -> exchange.getResponse().setStatusCode(HttpStatus.OK)));
+
+        // when
+        filter.filter(exchange(), slow).block();
+
+        // then
+        assertThat(writtenLine()).contains("\"status\":200", "\"reason\":\"SLOW\"");
+    }
+
+    @Test
+    @DisplayName("비활성화 - 기록하지 않음")
+    void disabled_WritesNothing() {
+        // given
+        properties.setEnabled(false);
+        AccessLogFilter filter = new AccessLogFilter(properties, writer);
+
+        // when
+        filter.filter(exchange(), respondWith(HttpStatus.INTERNAL_SERVER_ERROR)).block();
+
+        // then
+        verify(writer, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("헤더 가리기 - 인증 방식/쿠키 이름만 남김")
+    void redact_KeepsSchemeAndCookieNames() {
+        assertThat(AccessLogFilter.redact("Authorization", "Bearer eyJhbGciOi")).isEqualTo("Bearer [REDACTED]");
+        assertThat(AccessLogFilter.redact("Authorization", "opaque-token")).isEqualTo("[REDACTED]");
+        assertThat(AccessLogFilter.redact("Cookie", "a=1;b=2")).isEqualTo("a=[REDACTED]; b=[REDACTED]");
+    }
+}
@@ -0,0 +1,135 @@
+package com.ctrlf.gateway.ratelimit;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RateLimitFilter 단위 테스트 (429 + Retry-After, 사용자/IP 키, 제한 없는 라우트).
+ */
+@DisplayName("RateLimitFilter 테스트")
+class RateLimitFilterTest {
+
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.incrementAndGet();
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return Mono.empty();
+    };
+
+    private RateLimitProperties properties;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        RateLimitProperties.Limit chat = new RateLimitProperties.Limit();
+        chat.setReplenishRate(0.25);
+        chat.setBurstCapacity(2);
+        properties.getRoutes().put("chat-route", chat);
+        RateLimitProperties.Limit internal = new RateLimitProperties.Limit();
+        internal.setReplenishRate(0);
+        properties.getRoutes().put("internal-chat-route", internal);
+        filter = new RateLimitFilter(properties, new TokenBucketRateLimiter(properties));
+    }
+
+    @Test
+    @DisplayName("한도 초과 - 429와 Retry-After, 하위 서비스로 전달하지 않음")
+    void filter_OverLimit_Returns429WithRetryAfter() {
+        // given
+        filter.filter(exchange("chat-route", "user-1", "10.0.0.1"), chain).block();
+        filter.filter(exchange("chat-route", "user-1", "10.0.0.1"), chain).block();
+
+        // when
+        ServerWebExchange rejected = exchange("chat-route", "user-1", "10.0.0.1");
+        filter.filter(rejected, chain).block();
+
+        // then (초당 0.25개 → 4초 후 하나)
+        assertThat(forwarded.get()).isEqualTo(2);
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("4");
+    }
+
+    @Test
+    @DisplayName("JWT 사용자별 bucket - 같은 IP라도 다른 사용자는 허용")
+    void filter_KeyedByJwtSubject() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            filter.filter(exchange("chat-route", "abuser", "10.0.0.1"), chain).block();
+        }
+
+        // when
+        ServerWebExchange other = exchange("chat-route", "user-2", "10.0.0.1");
+        filter.filter(other, chain).block();
+
+        // then
+        assertThat(other.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("인증 없는 요청 - IP별 bucket")
+    void filter_Anonymous_KeyedByIp() {
+        // given
+        for (int i = 0; i < 2; i++) {
+            filter.filter(exchange("chat-route", null, "10.0.0.1"), chain).block();
+        }
+
+        // when
+        ServerWebExchange sameIp = exchange("chat-route", null, "10.0.0.1");
+        ServerWebExchange otherIp = exchange("chat-route", null, "10.0.0.2");
+        filter.filter(sameIp, chain).block();
+        filter.filter(otherIp, chain).block();
+
+        // then
+        assertThat(sameIp.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(otherIp.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("제한 없는 라우트 / 비활성화 - 모두 전달")
+    void filter_UnlimitedRouteOrDisabled_PassesThrough() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            filter.filter(exchange("internal-chat-route", null, "10.0.0.1"), chain).block();
+        }
+        properties.setEnabled(false);
+        for (int i = 0; i < 10; i++) {
+            filter.filter(exchange("chat-route", "user-1", "10.0.0.1"), chain).block();
+        }
+
+        // then
+        assertThat(forwarded.get()).isEqualTo(20);
+    }
+
+    static ServerWebExchange exchange(String routeId, String subject, String ip) {
+        MockServerWebExchange mock = MockServerWebExchange.from(MockServerHttpRequest
+            .post("/chat/messages")
+            .remoteAddress(new InetSocketAddress(ip, 52000)));
+        mock.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+            .id(routeId)
+            .uri(URI.create("http://localhost:9005"))
+            .predicate(e -> true)
+            .build());
+        if (subject == null) {
+            return mock;
+        }
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject(subject).build();
+        return mock.mutate().principal(Mono.just(new JwtAuthenticationToken(jwt))).build();
+    }
+}
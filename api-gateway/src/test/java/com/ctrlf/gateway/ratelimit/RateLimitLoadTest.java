@@ -0,0 +1,158 @@
+package com.ctrlf.gateway.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 수 제한 부하 테스트.
+ *
+ * <p>동시 처리 수가 제한된 하위 서비스(AI 답변 경로 가정, permit 4개, 요청당 5ms)에 한 사용자가 32개 스레드로
+ * 계속 요청을 보내는 동안, 일반 사용자 4명(각자 20ms 간격)의 응답 시간 p99를 제한 없음 / 제한 있음으로 비교해 출력합니다.
+ * 제한이 있을 때 일반 사용자 p99가 목표(기본 50ms, {@code -Dgateway.loadtest.p99-target-ms})를 넘지 않는지 검증합니다.
+ * 단계별 실행 시간은 기본 3초이며 {@code -Dgateway.loadtest.seconds}로 바꿀 수 있습니다.</p>
+ * <p>실제 시간으로 부하를 거는 테스트라 기본 test 태스크에서는 제외하며,
+ * {@code ./gradlew :api-gateway:loadTest}로 실행합니다.</p>
+ */
+@Tag("load")
+@DisplayName("요청 수 제한 부하 테스트")
+class RateLimitLoadTest {
+
+    private static final long PHASE_SECONDS = Long.getLong("gateway.loadtest.seconds", 3);
+    private static final long P99_TARGET_MS = Long.getLong("gateway.loadtest.p99-target-ms", 50);
+
+    private static final int BACKEND_PERMITS = 4;
+    private static final long BACKEND_SERVICE_MS = 5;
+    private static final int ABUSER_THREADS = 32;
+    private static final int NORMAL_USERS = 4;
+    private static final long NORMAL_INTERVAL_MS = 20;
+
+    @Test
+    @DisplayName("한 사용자가 몰아서 요청해도 다른 사용자 p99는 목표 이내")
+    void abusiveUser_DoesNotRaiseOthersP99() throws Exception {
+        // given
+        RateLimitProperties unlimited = properties(false);
+        RateLimitProperties limited = properties(true);
+
+        // when
+        PhaseResult withoutLimit = run(new RateLimitFilter(unlimited, new TokenBucketRateLimiter(unlimited)));
+        PhaseResult withLimit = run(new RateLimitFilter(limited, new TokenBucketRateLimiter(limited)));
+
+        // then
+        System.out.printf("[rate-limit load test] %ds per phase, backend permits=%d x %dms, abuser threads=%d, normal users=%d%n",
+            PHASE_SECONDS, BACKEND_PERMITS, BACKEND_SERVICE_MS, ABUSER_THREADS, NORMAL_USERS);
+        System.out.printf("  no limit   : normal p50=%3dms p99=%4dms (n=%d), abuser forwarded=%,d rejected=%,d%n",
+            withoutLimit.percentileMs(50), withoutLimit.percentileMs(99), withoutLimit.latencies.size(),
+            withoutLimit.abuserForwarded.get(), withoutLimit.abuserRejected.get());
+        System.out.printf("  rate limit : normal p50=%3dms p99=%4dms (n=%d), abuser forwarded=%,d rejected=%,d%n",
+            withLimit.percentileMs(50), withLimit.percentileMs(99), withLimit.latencies.size(),
+            withLimit.abuserForwarded.get(), withLimit.abuserRejected.get());
+
+        assertThat(withLimit.normalRejected.get()).isZero();
+        assertThat(withLimit.abuserRejected.get()).isPositive();
+        assertThat(withLimit.percentileMs(99)).isLessThanOrEqualTo(P99_TARGET_MS);
+    }
+
+    private static RateLimitProperties properties(boolean enabled) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(enabled);
+        RateLimitProperties.Limit chat = new RateLimitProperties.Limit();
+        chat.setReplenishRate(50);
+        chat.setBurstCapacity(50);
+        properties.getRoutes().put("chat-route", chat);
+        return properties;
+    }
+
+    private PhaseResult run(RateLimitFilter filter) throws InterruptedException {
+        Semaphore backend = new Semaphore(BACKEND_PERMITS, true);
+        GatewayFilterChain chain = exchange -> {
+            backend.acquireUninterruptibly();
+            try {
+                Thread.sleep(BACKEND_SERVICE_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                backend.release();
+            }
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        };
+
+        PhaseResult result = new PhaseResult();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(PHASE_SECONDS);
+        CountDownLatch done = new CountDownLatch(ABUSER_THREADS + NORMAL_USERS);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < ABUSER_THREADS; i++) {
+            threads.add(new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    ServerWebExchange exchange = RateLimitFilterTest.exchange("chat-route", "abuser", "10.0.0.66");
+                    filter.filter(exchange, chain).block();
+                    if (HttpStatus.TOO_MANY_REQUESTS.equals(exchange.getResponse().getStatusCode())) {
+                        result.abuserRejected.incrementAndGet();
+                        // Retry-After를 무시하고 곧바로 다시 요청
+                        LockSupport.parkNanos(200_000);
+                    } else {
+                        result.abuserForwarded.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            }));
+        }
+        for (int i = 0; i < NORMAL_USERS; i++) {
+            String userId = "user-" + i;
+            threads.add(new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    ServerWebExchange exchange = RateLimitFilterTest.exchange("chat-route", userId, "10.0.1.1");
+                    long start = System.nanoTime();
+                    filter.filter(exchange, chain).block();
+                    result.latencies.add(System.nanoTime() - start);
+                    if (HttpStatus.TOO_MANY_REQUESTS.equals(exchange.getResponse().getStatusCode())) {
+                        result.normalRejected.incrementAndGet();
+                    }
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(NORMAL_INTERVAL_MS));
+                }
+                done.countDown();
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        done.await(PHASE_SECONDS + 30, TimeUnit.SECONDS);
+        return result;
+    }
+
+    private static class PhaseResult {
+
+        final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        final AtomicLong abuserForwarded = new AtomicLong();
+        final AtomicLong abuserRejected = new AtomicLong();
+        final AtomicLong normalRejected = new AtomicLong();
+
+        long percentileMs(int percentile) {
+            List<Long> sorted;
+            synchronized (latencies) {
+                sorted = new ArrayList<>(latencies);
+            }
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+            return TimeUnit.NANOSECONDS.toMillis(sorted.get(Math.max(0, index)));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.ctrlf.gateway.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenBucketRateLimiter 단위 테스트 (시각을 직접 넘겨 토큰 충전 / 정리 / bucket 한도 확인).
+ */
+@DisplayName("TokenBucketRateLimiter 테스트")
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private RateLimitProperties properties;
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        RateLimitProperties.Limit chat = new RateLimitProperties.Limit();
+        chat.setReplenishRate(2);
+        chat.setBurstCapacity(3);
+        properties.getRoutes().put("chat-route", chat);
+        rateLimiter = new TokenBucketRateLimiter(properties);
+    }
+
+    @Test
+    @DisplayName("burst 소진 후 거절 - 토큰 하나가 찰 때까지 남은 시간 반환")
+    void tryAcquire_BurstExhausted_ReturnsWait() {
+        // when
+        long now = 0;
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("chat-route", "user:a", now)).isZero();
+        }
+        long wait = rateLimiter.tryAcquire("chat-route", "user:a", now);
+
+        // then (초당 2개 → 0.5초 후 하나)
+        assertThat(wait).isBetween(SECOND / 2 - 1, SECOND / 2 + 1);
+        long afterRefill = now + SECOND / 2 + 1_000;
+        assertThat(rateLimiter.tryAcquire("chat-route", "user:a", afterRefill)).isZero();
+        assertThat(rateLimiter.tryAcquire("chat-route", "user:a", afterRefill)).isPositive();
+    }
+
+    @Test
+    @DisplayName("bucket은 사용자 + 라우트별 - 한 사용자가 소진해도 다른 사용자/라우트는 허용")
+    void tryAcquire_IsolatedPerUserAndRoute() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("chat-route", "user:abuser", 0);
+        }
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("chat-route", "user:abuser", 0)).isPositive();
+        assertThat(rateLimiter.tryAcquire("chat-route", "user:other", 0)).isZero();
+        assertThat(rateLimiter.tryAcquire("education-edu-route", "user:abuser", 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("replenish-rate 0 - 제한 없음, bucket도 만들지 않음")
+    void tryAcquire_UnlimitedRoute() {
+        // given
+        RateLimitProperties.Limit unlimited = new RateLimitProperties.Limit();
+        unlimited.setReplenishRate(0);
+        properties.getRoutes().put("internal-chat-route", unlimited);
+
+        // when & then
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(rateLimiter.tryAcquire("internal-chat-route", "ip:10.0.0.1", 0)).isZero();
+        }
+        assertThat(rateLimiter.bucketCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("유휴 bucket 정리 - idle-timeout 지난 bucket만 제거")
+    void evictIdle_RemovesOnlyIdleBuckets() {
+        // given
+        properties.setIdleTimeout(Duration.ofMinutes(10));
+        rateLimiter.tryAcquire("chat-route", "user:idle", 0);
+        rateLimiter.tryAcquire("chat-route", "user:active", 0);
+        long later = TimeUnit.MINUTES.toNanos(11);
+        rateLimiter.tryAcquire("chat-route", "user:active", later);
+
+        // when
+        int evicted = rateLimiter.evictIdle(later);
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리된 bucket - 정리 전에 꺼낸 참조로는 토큰을 쓰지 못하고 EVICTED 반환")
+    void evictedBucket_RejectsStaleReference() {
+        // given
+        RateLimitProperties.Limit limit = properties.limitFor("chat-route");
+        TokenBucket bucket = new TokenBucket(limit, 0);
+        long idleNanos = TimeUnit.MINUTES.toNanos(10);
+
+        // when & then
+        assertThat(bucket.evictIfIdle(TimeUnit.MINUTES.toNanos(5), idleNanos)).isFalse();
+        assertThat(bucket.evictIfIdle(TimeUnit.MINUTES.toNanos(11), idleNanos)).isTrue();
+        assertThat(bucket.tryConsume(TimeUnit.MINUTES.toNanos(11))).isEqualTo(TokenBucket.EVICTED);
+    }
+
+    @Test
+    @DisplayName("정리 후 같은 클라이언트 요청 - 새 bucket을 만들어 허용")
+    void tryAcquire_AfterEviction_CreatesNewBucket() {
+        // given
+        properties.setIdleTimeout(Duration.ofMinutes(10));
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("chat-route", "user:a", 0);
+        }
+        long later = TimeUnit.MINUTES.toNanos(11);
+        rateLimiter.evictIdle(later);
+
+        // when & then
+        assertThat(rateLimiter.bucketCount()).isZero();
+        assertThat(rateLimiter.tryAcquire("chat-route", "user:a", later)).isZero();
+        assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-buckets 도달 - 새 클라이언트는 bucket 없이 통과, 기존 클라이언트는 계속 제한")
+    void tryAcquire_MaxBuckets_LetsNewClientsThrough() {
+        // given
+        properties.setMaxBuckets(2);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("chat-route", "ip:10.0.0.1", 0);
+        }
+        rateLimiter.tryAcquire("chat-route", "ip:10.0.0.2", 0);
+
+        // when (IP를 바꿔 가며 요청해도 새 사용자가 막히지 않음)
+        for (int i = 0; i < 100; i++) {
+            assertThat(rateLimiter.tryAcquire("chat-route", "ip:10.0.1." + i, 0)).isZero();
+        }
+
+        // then
+        assertThat(rateLimiter.tryAcquire("chat-route", "user:new", 0)).isZero();
+        assertThat(rateLimiter.tryAcquire("chat-route", "ip:10.0.0.1", 0)).isPositive();
+        assertThat(rateLimiter.bucketCount()).isEqualTo(2);
+    }
+}
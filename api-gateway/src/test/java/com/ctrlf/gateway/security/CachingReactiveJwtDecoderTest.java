@@ -0,0 +1,141 @@
+package com.ctrlf.gateway.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CachingReactiveJwtDecoder 단위 테스트 (캐시 적중 / 만료 / 실패 미캐시 / 한도).
+ */
+@DisplayName("CachingReactiveJwtDecoder 테스트")
+class CachingReactiveJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-14T00:00:00Z");
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+    private final TestClock clock = new TestClock(NOW);
+
+    private ReactiveJwtDecoder delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = token -> {
+            delegateCalls.incrementAndGet();
+            if (token.startsWith("bad")) {
+                return Mono.error(new BadJwtException("invalid signature"));
+            }
+            return Mono.just(jwt(token, NOW.plus(Duration.ofMinutes(5))));
+        };
+    }
+
+    @Test
+    @DisplayName("같은 토큰 - 만료 전에는 한 번만 검증")
+    void decode_SameToken_VerifiedOnce() {
+        // given
+        CachingReactiveJwtDecoder decoder = new CachingReactiveJwtDecoder(delegate, 100, clock);
+
+        // when
+        Jwt first = decoder.decode("token-a").block();
+        Jwt second = decoder.decode("token-a").block();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(delegateCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 이후 - 캐시를 쓰지 않고 다시 검증")
+    void decode_AfterExpiry_VerifiesAgain() {
+        // given
+        CachingReactiveJwtDecoder decoder = new CachingReactiveJwtDecoder(delegate, 100, clock);
+        decoder.decode("token-a").block();
+
+        // when
+        clock.now = NOW.plus(Duration.ofMinutes(5));
+        decoder.decode("token-a").block();
+
+        // then
+        assertThat(delegateCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검증 실패 - 캐시하지 않음")
+    void decode_Invalid_NotCached() {
+        // given
+        CachingReactiveJwtDecoder decoder = new CachingReactiveJwtDecoder(delegate, 100, clock);
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decode("bad-token").block()).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad-token").block()).isInstanceOf(BadJwtException.class);
+        assertThat(delegateCalls.get()).isEqualTo(2);
+        assertThat(decoder.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("max-entries 도달 - 만료 항목 정리 후에도 가득 차면 새 토큰은 캐시하지 않음")
+    void decode_Full_SkipsCaching() {
+        // given
+        CachingReactiveJwtDecoder decoder = new CachingReactiveJwtDecoder(delegate, 2, clock);
+        decoder.decode("token-a").block();
+        decoder.decode("token-b").block();
+
+        // when
+        decoder.decode("token-c").block();
+        decoder.decode("token-c").block();
+
+        // then
+        assertThat(decoder.size()).isEqualTo(2);
+        assertThat(delegateCalls.get()).isEqualTo(4);
+
+        // 만료 후 정리
+        clock.now = NOW.plus(Duration.ofMinutes(6));
+        assertThat(decoder.evictExpired()).isEqualTo(2);
+        assertThat(decoder.size()).isZero();
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject("user-1")
+            .issuedAt(NOW)
+            .expiresAt(expiresAt)
+            .build();
+    }
+
+    private static class TestClock extends Clock {
+
+        private Instant now;
+
+        TestClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
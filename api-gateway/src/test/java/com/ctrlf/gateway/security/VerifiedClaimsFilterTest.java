@@ -0,0 +1,114 @@
+package com.ctrlf.gateway.security;
+
+import com.ctrlf.common.security.InternalHeaders;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VerifiedClaimsFilter 단위 테스트 (claims 서명 전달 / 클라이언트 헤더 제거).
+ */
+@DisplayName("VerifiedClaimsFilter 테스트")
+class VerifiedClaimsFilterTest {
+
+    private static final String SECRET = "test-verified-claims-secret-0123456789";
+
+    private final AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.set(exchange);
+        return Mono.empty();
+    };
+
+    @Test
+    @DisplayName("JWT 인증 요청 - 같은 claims와 만료 시각, access token 해시(ath)를 공유 키로 서명해 전달")
+    void filter_JwtPrincipal_ForwardsSignedClaims() throws Exception {
+        // given
+        Instant expiresAt = Instant.now().plus(5, ChronoUnit.MINUTES);
+        Jwt jwt = Jwt.withTokenValue("user-token")
+            .header("alg", "RS256")
+            .subject("2f3c6a5e-0d7f-4a53-9c1b-8f0a3f9e7d11")
+            .issuer("http://localhost:8090/realms/ctrlf")
+            .claim("department", List.of("인사팀"))
+            .claim("realm_access", Map.of("roles", List.of("EMPLOYEE")))
+            .issuedAt(Instant.now())
+            .expiresAt(expiresAt)
+            .build();
+        ServerWebExchange exchange = exchange()
+            .mutate().principal(Mono.just(new JwtAuthenticationToken(jwt))).build();
+
+        // when
+        new VerifiedClaimsFilter(SECRET).filter(exchange, chain).block();
+
+        // then
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        assertThat(headers.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer user-token");
+        Jwt verified = serviceDecoder().decode(headers.getFirst(InternalHeaders.VERIFIED_CLAIMS));
+        assertThat(verified.getSubject()).isEqualTo(jwt.getSubject());
+        assertThat(verified.getClaimAsStringList("department")).containsExactly("인사팀");
+        assertThat(verified.getClaimAsMap("realm_access")).containsEntry("roles", List.of("EMPLOYEE"));
+        assertThat(verified.getExpiresAt()).isEqualTo(expiresAt.truncatedTo(ChronoUnit.SECONDS));
+        byte[] tokenHash = MessageDigest.getInstance("SHA-256").digest("user-token".getBytes(StandardCharsets.US_ASCII));
+        assertThat(verified.getClaimAsString(InternalHeaders.ACCESS_TOKEN_HASH_CLAIM))
+            .isEqualTo(Base64.getUrlEncoder().withoutPadding().encodeToString(tokenHash));
+    }
+
+    @Test
+    @DisplayName("클라이언트가 보낸 헤더 - 인증 없는 요청이면 제거")
+    void filter_ForgedHeaderWithoutPrincipal_Stripped() {
+        // when
+        new VerifiedClaimsFilter(SECRET).filter(exchange(), chain).block();
+
+        // then
+        assertThat(forwarded.get().getRequest().getHeaders().containsKey(InternalHeaders.VERIFIED_CLAIMS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("공유 키 없음 - 헤더를 만들지 않고 클라이언트 헤더도 제거")
+    void filter_NoSecret_StripsOnly() {
+        // given
+        Jwt jwt = Jwt.withTokenValue("user-token").header("alg", "RS256").subject("user-1").build();
+        ServerWebExchange exchange = exchange()
+            .mutate().principal(Mono.just(new JwtAuthenticationToken(jwt))).build();
+
+        // when
+        new VerifiedClaimsFilter("").filter(exchange, chain).block();
+
+        // then
+        assertThat(forwarded.get().getRequest().getHeaders().containsKey(InternalHeaders.VERIFIED_CLAIMS)).isFalse();
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest
+            .get("/api/chat/sessions")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer user-token")
+            .header(InternalHeaders.VERIFIED_CLAIMS, "forged.claims.header"));
+    }
+
+    /** common-security VerifiedClaimsAuthenticationFilter와 같은 설정 */
+    private static NimbusJwtDecoder serviceDecoder() {
+        return NimbusJwtDecoder
+            .withSecretKey(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"))
+            .macAlgorithm(MacAlgorithm.HS256)
+            .build();
+    }
+}
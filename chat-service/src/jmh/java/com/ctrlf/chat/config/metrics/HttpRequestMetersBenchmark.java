@@ -0,0 +1,107 @@
+package com.ctrlf.chat.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * HTTP 요청 메트릭 기록 벤치마크 (요청마다 builder + register + 경로 정규식 vs 캐시된 미터)
+ *
+ * <p>채팅 API 형태의 요청 목록 전체를 1 op로 기록합니다. 두 방식 모두 같은 태그, 같은 미터 이름을 사용하고
+ * gc 프로파일러의 gc.alloc.rate.norm 값으로 op당 할당량을 비교합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HttpRequestMetersBenchmark {
+
+    private List<Request> requests;
+    private MeterRegistry legacyRegistry;
+    private MeterRegistry cachedRegistry;
+    private HttpRequestMeters httpRequestMeters;
+
+    @Setup
+    public void setUp() {
+        String sessionId = UUID.randomUUID().toString();
+        String messageId = UUID.randomUUID().toString();
+        requests = List.of(
+            new Request("POST", "/chat/messages", "/chat/messages", 200),
+            new Request("GET", "/api/chat/sessions/" + sessionId, "/api/chat/sessions/{sessionId}", 200),
+            new Request("GET", "/chat/sessions/" + sessionId + "/messages", "/chat/sessions/{sessionId}/messages", 200),
+            new Request("POST", "/chat/sessions/" + sessionId + "/messages/" + messageId + "/feedback",
+                "/chat/sessions/{sessionId}/messages/{messageId}/feedback", 201),
+            new Request("GET", "/chat/sessions/" + sessionId + "/messages", "/chat/sessions/{sessionId}/messages", 404),
+            new Request("GET", "/admin/dashboard/chat/summary", "/admin/dashboard/chat/summary", 200),
+            new Request("GET", "/admin/faqs/jobs/42", "/admin/faqs/jobs/{jobId}", 200),
+            new Request("POST", "/chat/messages", "/chat/messages", 500)
+        );
+        legacyRegistry = new SimpleMeterRegistry();
+        cachedRegistry = new SimpleMeterRegistry();
+        httpRequestMeters = new HttpRequestMeters(cachedRegistry, 200,
+            List.of(Duration.ofMillis(100), Duration.ofMillis(300), Duration.ofMillis(500),
+                Duration.ofSeconds(1), Duration.ofSeconds(3), Duration.ofSeconds(10)));
+    }
+
+    @Benchmark
+    public void legacy() {
+        for (Request request : requests) {
+            Timer.Sample sample = Timer.start(legacyRegistry);
+            String path = legacyPath(request.uri());
+            Counter.builder("chat.http.requests.total")
+                .description("Total HTTP requests")
+                .tag("application", "chat-service")
+                .tag("method", request.method())
+                .tag("path", path)
+                .tag("status", String.valueOf(request.status()))
+                .register(legacyRegistry)
+                .increment();
+            if (request.status() >= 400) {
+                Counter.builder("chat.http.errors.total")
+                    .description("Total HTTP errors")
+                    .tag("application", "chat-service")
+                    .tag("method", request.method())
+                    .tag("path", path)
+                    .tag("status", String.valueOf(request.status()))
+                    .register(legacyRegistry)
+                    .increment();
+            }
+            sample.stop(Timer.builder("chat.http.request.duration")
+                .description("HTTP request duration")
+                .tag("application", "chat-service")
+                .tag("method", request.method())
+                .tag("path", path)
+                .register(legacyRegistry));
+        }
+    }
+
+    @Benchmark
+    public void cached() {
+        for (Request request : requests) {
+            Timer.Sample sample = httpRequestMeters.start();
+            httpRequestMeters.record(request.method(), request.pattern(), request.status(), sample);
+        }
+    }
+
+    /** 기존 MetricsInterceptor.getPath */
+    private static String legacyPath(String path) {
+        if (path.startsWith("/actuator")) {
+            return "/actuator/**";
+        }
+        return path.replaceAll("/\\d+", "/{id}")
+            .replaceAll("/[a-f0-9]{8}-[a-f0-9]{4}-[a-f0-9]{4}-[a-f0-9]{4}-[a-f0-9]{12}", "/{uuid}");
+    }
+
+    private record Request(String method, String uri, String pattern, int status) {}
+}
@@ -0,0 +1,84 @@
+package com.ctrlf.chat.faq.cluster;
+
+import com.ctrlf.chat.keyword.KeywordDictionary;
+import com.ctrlf.chat.keyword.KoreanKeywordExtractor;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 질문 클러스터링 벤치마크 (단일 스레드, 1 op = 질문 N개를 빈 저장소에 모두 배정)
+ *
+ * <p>keyword/corpus.txt 질문에 팀 이름, 띄어쓰기 제거, 문장부호 변형을 섞어 N개를 만들고,
+ * 키워드 추출 → 정규화 → MinHash 서명 → LSH 배정까지 실제 경로 전체를 측정합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class QuestionClusteringBenchmark {
+
+    private static final String[] DOMAINS = {"POLICY", "EDU", "IT", "ETC"};
+    private static final String[] SUFFIXES = {"", "?", "??", ".", "!", " 알려주세요", " 궁금합니다"};
+
+    @Param({"1000000"})
+    private int questionCount;
+
+    private String[] questions;
+    private KoreanKeywordExtractor extractor;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> corpus;
+        try (InputStream in = resource("keyword/corpus.txt");
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            corpus = reader.lines().filter(line -> !line.isBlank() && !line.startsWith("#")).toList();
+        }
+        try (InputStream in = resource("keyword/ko-dictionary.txt")) {
+            extractor = new KoreanKeywordExtractor(KeywordDictionary.load(in));
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        questions = new String[questionCount];
+        for (int i = 0; i < questionCount; i++) {
+            String question = corpus.get(random.nextInt(corpus.size()));
+            if (random.nextBoolean()) {
+                question = question.replace(" ", "");
+            }
+            questions[i] = (random.nextInt(200) + 1) + "팀 " + question + SUFFIXES[random.nextInt(SUFFIXES.length)];
+        }
+    }
+
+    @Benchmark
+    public QuestionClusterStore cluster() {
+        QuestionClusterStore store = new QuestionClusterStore(extractor, 16, 4, 2, 0.6, questionCount);
+        for (int i = 0; i < questions.length; i++) {
+            store.record(questions[i], null, DOMAINS[i & 3], null);
+        }
+        return store;
+    }
+
+    private static InputStream resource(String name) throws IOException {
+        InputStream in = QuestionClusteringBenchmark.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) {
+            throw new IOException("resource not found: " + name);
+        }
+        return in;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ctrlf.chat.faq.snapshot;
+
+import com.ctrlf.chat.faq.dto.response.FaqDashboardResponse;
+import com.ctrlf.chat.faq.entity.Faq;
+import com.ctrlf.chat.faq.repository.FaqRepository;
+import com.ctrlf.chat.faq.repository.FaqUiCategoryRepository;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 홈 FAQ 조회 처리량 벤치마크 (기존 요청별 그룹핑 vs 스냅샷 조회)
+ *
+ * <p>legacy는 기존 FaqQueryServiceImpl.getHomeFaqs()의 요청별 작업(도메인 분포 집계, LinkedHashMap 그룹핑,
+ * DTO 변환)을 재현하고, snapshot은 {@link FaqSnapshotHolder#current()}에서 미리 만든 목록을 읽습니다.
+ * 두 경로 모두 엔티티 목록이 이미 메모리에 있다고 가정하므로 DB 왕복은 포함되지 않습니다.
+ * 실제 서비스에서는 legacy 경로마다 쿼리 1회가 더해지므로 차이는 이보다 큽니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class FaqSnapshotBenchmark {
+
+    private static final String[] DOMAINS = {"POLICY", "PRIVACY", "HARASSMENT", "SECURITY", "EDU", "IT", "ETC"};
+
+    @Param({"20", "200"})
+    private int faqCount;
+
+    private List<Faq> faqs;
+    private FaqSnapshotHolder holder;
+
+    @Setup
+    public void setUp() {
+        faqs = new ArrayList<>(faqCount);
+        Instant now = Instant.now();
+        for (int i = 0; i < faqCount; i++) {
+            Faq faq = new Faq();
+            faq.setId(UUID.randomUUID());
+            faq.setDomain(DOMAINS[i % DOMAINS.length]);
+            faq.setQuestion("자주 묻는 질문 " + i);
+            faq.setAnswer("답변 " + i);
+            faq.setPriority(i % 5 + 1);
+            faq.setIsActive(true);
+            faq.setPublishedAt(now.minusSeconds(i));
+            faqs.add(faq);
+        }
+        faqs.sort((a, b) -> a.getDomain().compareTo(b.getDomain()));
+
+        FaqRepository faqRepository = proxy(FaqRepository.class, faqs);
+        FaqUiCategoryRepository categoryRepository = proxy(FaqUiCategoryRepository.class, List.of());
+        holder = new FaqSnapshotHolder(faqRepository, categoryRepository);
+        holder.current();
+    }
+
+    @Benchmark
+    public List<FaqDashboardResponse> legacy() {
+        // 기존 로그 인자 계산 (info 로그라 매 요청 수행됨)
+        Map<String, Long> distribution = faqs.stream()
+            .collect(Collectors.groupingBy(Faq::getDomain, Collectors.counting()));
+        Map<String, Faq> domainFaqMap = new LinkedHashMap<>();
+        for (Faq faq : faqs) {
+            domainFaqMap.putIfAbsent(faq.getDomain(), faq);
+        }
+        List<FaqDashboardResponse> result = domainFaqMap.values()
+            .stream()
+            .map(FaqDashboardResponse::from)
+            .toList();
+        if (distribution.isEmpty()) {
+            return List.of();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<FaqDashboardResponse> snapshot() {
+        return holder.current().homeFaqs();
+    }
+
+    /** 모든 조회 메서드가 같은 목록을 반환하는 리포지토리 (Spring Data 없이 홀더만 구동) */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, List<?> rows) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+            (target, method, args) -> method.getReturnType() == List.class ? rows : null);
+    }
+}
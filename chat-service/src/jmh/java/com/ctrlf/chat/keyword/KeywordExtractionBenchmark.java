@@ -0,0 +1,65 @@
+package com.ctrlf.chat.keyword;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 키워드 추출 벤치마크 (기존 replace 체인 vs 사전 트라이 단일 패스)
+ *
+ * <p>실제 사내 질문 형태의 코퍼스(keyword/corpus.txt) 전체를 1 op로 처리합니다.
+ * gc 프로파일러의 gc.alloc.rate.norm 값으로 op당 할당량을 비교합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeywordExtractionBenchmark {
+
+    private List<String> corpus;
+    private KoreanKeywordExtractor extractor;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = resource("keyword/corpus.txt");
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            corpus = reader.lines().filter(line -> !line.isBlank() && !line.startsWith("#")).toList();
+        }
+        try (InputStream in = resource("keyword/ko-dictionary.txt")) {
+            extractor = new KoreanKeywordExtractor(KeywordDictionary.load(in));
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (String question : corpus) {
+            blackhole.consume(LegacyKeywordExtractor.extract(question));
+        }
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        for (String question : corpus) {
+            blackhole.consume(extractor.extract(question));
+        }
+    }
+
+    private static InputStream resource(String name) throws IOException {
+        InputStream in = KeywordExtractionBenchmark.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) {
+            throw new IOException("resource not found: " + name);
+        }
+        return in;
+    }
+}
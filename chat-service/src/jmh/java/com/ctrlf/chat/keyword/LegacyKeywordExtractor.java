@@ -0,0 +1,44 @@
+package com.ctrlf.chat.keyword;
+
+/**
+ * 기존 ChatMessageServiceImpl.extractKeyword 구현 (벤치마크 비교 기준)
+ */
+final class LegacyKeywordExtractor {
+
+    private LegacyKeywordExtractor() {}
+
+    static String extract(String content) {
+        if (content == null || content.isBlank()) {
+            return null;
+        }
+
+        String cleaned = content.trim();
+
+        if (cleaned.length() <= 10) {
+            return cleaned.length() > 200 ? cleaned.substring(0, 200) : cleaned;
+        }
+
+        String[] stopWords = {
+            "은 ", "는 ", "이 ", "가 ", "을 ", "를 ", "의 ", "에 ", "에서 ", "로 ", "으로 ",
+            "에게 ", "께 ", "한테 ", "에게서 ", "한테서 ", "와 ", "과 ", "하고 ", "도 ", "만 ",
+            "부터 ", "까지 ", "에서부터 ", "조차 ", "마저 ", "뿐 ", "따라 ", "마다 "
+        };
+
+        String keyword = cleaned;
+        for (String stopWord : stopWords) {
+            keyword = keyword.replace(stopWord, " ");
+        }
+
+        keyword = keyword.replaceAll("\\s+", " ").trim();
+
+        if (keyword.length() > 200) {
+            keyword = keyword.substring(0, 200).trim();
+            int lastSpace = keyword.lastIndexOf(' ');
+            if (lastSpace > 0) {
+                keyword = keyword.substring(0, lastSpace);
+            }
+        }
+
+        return keyword.isBlank() ? cleaned.substring(0, Math.min(200, cleaned.length())) : keyword;
+    }
+}
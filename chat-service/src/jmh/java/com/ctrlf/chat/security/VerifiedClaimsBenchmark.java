@@ -0,0 +1,130 @@
+package com.ctrlf.chat.security;
+
+import com.ctrlf.common.security.InternalHeaders;
+import com.ctrlf.common.security.VerifiedClaimsAuthenticationFilter;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+/**
+ * 세 서비스 호출 체인의 요청당 JWT 처리 비용 벤치마크
+ *
+ * <p>1 op = 게이트웨이 + 하위 서비스 3곳을 거치는 요청 하나입니다.</p>
+ * <ul>
+ *   <li>reverifyEverywhere: 게이트웨이와 각 서비스가 같은 Keycloak 토큰(RS256)을 매번 파싱 / 서명 검증</li>
+ *   <li>verifiedClaims: 게이트웨이는 토큰 해시로 캐시된 검증 결과를 쓰고 claims(+ 토큰 해시 ath)를 HS256으로 서명,
+ *       각 서비스는 VerifiedClaimsAuthenticationFilter로 헤더 서명과 토큰 해시만 확인</li>
+ * </ul>
+ * <p>AverageTime(µs/op)을 요청당 CPU 시간으로 보고, gc 프로파일러의 gc.alloc.rate.norm으로 할당량을 비교합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VerifiedClaimsBenchmark {
+
+    private static final int SERVICES = 3;
+    private static final String SECRET = "benchmark-verified-claims-secret-0123456789";
+
+    private String token;
+    private String authorization;
+    private NimbusJwtDecoder rsaDecoder;
+    private MACSigner gatewaySigner;
+    private Map<String, Jwt> gatewayCache;
+    private VerifiedClaimsAuthenticationFilter serviceFilter;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        // Keycloak access token과 비슷한 claims
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .issuer("http://localhost:8090/realms/ctrlf")
+            .subject(UUID.randomUUID().toString())
+            .audience("account")
+            .jwtID(UUID.randomUUID().toString())
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plusSeconds(3600)))
+            .claim("typ", "Bearer")
+            .claim("azp", "ctrlf-front")
+            .claim("session_state", UUID.randomUUID().toString())
+            .claim("scope", "openid profile email")
+            .claim("realm_access", Map.of("roles", List.of("EMPLOYEE", "offline_access", "uma_authorization")))
+            .claim("resource_access", Map.of("account", Map.of("roles", List.of("manage-account", "view-profile"))))
+            .claim("department", List.of("인사팀"))
+            .claim("name", "홍길동")
+            .claim("preferred_username", "hong.gildong")
+            .claim("email", "hong.gildong@ctrlf.example")
+            .build();
+        SignedJWT signed = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("kid-1").build(), claims);
+        signed.sign(new RSASSASigner(keyPair.getPrivate()));
+        token = signed.serialize();
+        authorization = "Bearer " + token;
+
+        rsaDecoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+        gatewaySigner = new MACSigner(SECRET.getBytes(StandardCharsets.UTF_8));
+        gatewayCache = new ConcurrentHashMap<>();
+        gatewayCache.put(hash(token), rsaDecoder.decode(token));
+        serviceFilter = new VerifiedClaimsAuthenticationFilter(SECRET);
+    }
+
+    @Benchmark
+    public void reverifyEverywhere(Blackhole blackhole) {
+        // 게이트웨이
+        blackhole.consume(rsaDecoder.decode(token));
+        // 하위 서비스
+        for (int i = 0; i < SERVICES; i++) {
+            blackhole.consume(rsaDecoder.decode(token));
+        }
+    }
+
+    @Benchmark
+    public void verifiedClaims(Blackhole blackhole) throws Exception {
+        // 게이트웨이: 캐시 조회 + claims 서명 (VerifiedClaimsFilter와 같은 방식)
+        String tokenHash = hash(token);
+        Jwt jwt = gatewayCache.get(tokenHash);
+        JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder();
+        jwt.getClaims().forEach((name, value) -> claims.claim(name, value instanceof Instant instant ? Date.from(instant) : value));
+        claims.claim(InternalHeaders.ACCESS_TOKEN_HASH_CLAIM, tokenHash);
+        SignedJWT signed = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims.build());
+        signed.sign(gatewaySigner);
+        String header = signed.serialize();
+        // 하위 서비스
+        for (int i = 0; i < SERVICES; i++) {
+            blackhole.consume(serviceFilter.verify(header, authorization));
+        }
+    }
+
+    private static String hash(String value) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+}
@@ -3,6 +3,7 @@ package com.ctrlf.chat;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Chat Service 애플리케이션 메인 클래스
@@ -15,6 +16,7 @@ import org.springframework.boot.autoconfigure.domain.EntityScan;
  */
 @SpringBootApplication
 @EntityScan(basePackages = {"com.ctrlf.chat", "com.ctrlf.chat.telemetry"})
+@EnableScheduling
 public class ChatServiceApplication {
     
     /**
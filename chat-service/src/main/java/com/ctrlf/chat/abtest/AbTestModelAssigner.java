@@ -1,62 +1,360 @@
 package com.ctrlf.chat.abtest;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
  * A/B 테스트 모델 할당 서비스
- * 
+ *
  * <p>세션 생성 시 사용자 ID 기반 해시를 사용하여 일관된 모델 할당을 보장합니다.</p>
  * <p>동일 사용자는 항상 동일한 모델을 할당받아 일관성 있는 테스트가 가능합니다.</p>
- * 
+ * <p>arm(임베딩 모델)은 여러 개일 수 있고, 비율은 재시작 없이 바꿀 수 있습니다. 사용자 해시 구간을 비율 누적값으로
+ * 나누므로 비율이 바뀌어도 경계 근처 사용자만 다른 arm으로 옮겨집니다.</p>
+ * <p>턴이 끝날 때마다 arm별 지연시간/에러/토큰 처리량을 기록하며(CHAT_TURN 텔레메트리와 같은 값),
+ * 밴딧 모드를 켜면 주기적으로 p95 지연시간이 좋은 arm 쪽으로 비율을 옮깁니다.
+ * 이때 arm별 최소 비율, 1회 최대 변경 폭, 최소 샘플 수 가드레일을 지킵니다.</p>
+ * <p>실험은 ab-test.enabled로 켭니다. 꺼져 있으면(기본값) 모든 사용자에게 기존 기본 모델(openai)을 할당하고
+ * 세션 생성 시에도 모델을 정하지 않습니다. 통계 기록은 계속합니다.</p>
+ * <p>런타임 비율 변경(관리자 API, 밴딧 조정)은 이 인스턴스 메모리에만 반영되며 재시작하면 설정값으로 돌아갑니다.
+ * 인스턴스가 여러 개면 각자 다른 비율과 통계를 가지므로, 같은 비율이 필요하면 각 인스턴스에 변경을 보내거나
+ * 설정(ab-test.arms)을 바꿔 재배포해야 합니다.</p>
+ *
  * @author CtrlF Team
  * @since 1.0.0
  */
+@Slf4j
 @Component
 public class AbTestModelAssigner {
 
+    /** 사용자 해시 구간 수 */
+    private static final int BUCKETS = 10000;
+
+    /** 실험을 끈 경우 할당하는 기본 모델 (실험 도입 전 기본값) */
+    static final String BASELINE_MODEL = "openai";
+
+    /**
+     * arm별 현황
+     *
+     * @param arm arm 이름 (임베딩 모델)
+     * @param weight 현재 할당 비율
+     * @param samples 통계 윈도우 내 턴 수
+     * @param p50LatencyMs 지연시간 중앙값 (에러 제외)
+     * @param p95LatencyMs 지연시간 95퍼센타일 (에러 턴은 error-latency-ms로 간주)
+     * @param errorRate 에러 비율
+     * @param tokensPerSecond 출력 토큰 처리량 평균
+     */
+    public record ArmReport(
+        String arm,
+        double weight,
+        int samples,
+        long p50LatencyMs,
+        long p95LatencyMs,
+        double errorRate,
+        double tokensPerSecond
+    ) {}
+
     /**
-     * OpenAI 모델 할당 비율 (0.0 ~ 1.0)
-     * 기본값: 0.5 (50:50)
+     * 실험 현황
+     *
+     * @param enabled 실험 사용 여부 (false면 모두 기본 모델)
+     * @param banditEnabled 밴딧 모드 여부
+     * @param arms arm별 현황 (설정 순서, 이 인스턴스 기준)
      */
-    @Value("${ab-test.openai-ratio:0.5}")
-    private double openaiRatio;
+    public record ExperimentReport(boolean enabled, boolean banditEnabled, List<ArmReport> arms) {}
+
+    /** 현재 할당 비율 (arm 순서는 설정 순서로 고정, 교체 시 새 배열로 바꿈) */
+    private volatile double[] weights;
+
+    private final List<String> arms;
+    private final Map<String, ArmStats> stats;
+
+    private final boolean enabled;
+    private volatile boolean banditEnabled;
+    private final double minWeight;
+    private final double maxStep;
+    private final int minSamples;
+    private final long errorLatencyMs;
+    private final long rebalanceIntervalMs;
+    private final AtomicLong lastRebalanceAt = new AtomicLong(System.currentTimeMillis());
+
+    public AbTestModelAssigner(
+        @Value("${ab-test.enabled:false}") boolean enabled,
+        @Value("${ab-test.arms:}") String armsSpec,
+        @Value("${ab-test.openai-ratio:0.5}") double openaiRatio,
+        @Value("${ab-test.bandit.enabled:false}") boolean banditEnabled,
+        @Value("${ab-test.bandit.min-weight:0.1}") double minWeight,
+        @Value("${ab-test.bandit.max-step:0.1}") double maxStep,
+        @Value("${ab-test.bandit.min-samples:50}") int minSamples,
+        @Value("${ab-test.bandit.error-latency-ms:30000}") long errorLatencyMs,
+        @Value("${ab-test.bandit.rebalance-interval-ms:60000}") long rebalanceIntervalMs,
+        @Value("${ab-test.stats.window-size:1000}") int windowSize
+    ) {
+        Map<String, Double> initial = parseArms(armsSpec, openaiRatio);
+        this.arms = List.copyOf(initial.keySet());
+        this.weights = normalize(initial.values().stream().mapToDouble(Double::doubleValue).toArray());
+        Map<String, ArmStats> armStats = new LinkedHashMap<>();
+        for (String arm : arms) {
+            armStats.put(arm, new ArmStats(windowSize));
+        }
+        this.stats = Collections.unmodifiableMap(armStats);
+        this.enabled = enabled;
+        this.banditEnabled = banditEnabled;
+        this.minWeight = minWeight;
+        this.maxStep = maxStep;
+        this.minSamples = minSamples;
+        this.errorLatencyMs = errorLatencyMs;
+        this.rebalanceIntervalMs = rebalanceIntervalMs;
+    }
 
     /**
      * 사용자 ID와 도메인을 기반으로 임베딩 모델을 할당합니다.
-     * 
+     *
      * <p>할당 규칙:</p>
      * <ul>
      *   <li>사용자 ID의 해시값을 사용하여 일관된 할당 보장</li>
-     *   <li>동일 사용자는 항상 동일한 모델 할당</li>
-     *   <li>설정 가능한 비율로 할당 (기본 50:50)</li>
+     *   <li>동일 사용자는 비율이 바뀌지 않는 한 항상 동일한 모델 할당</li>
+     *   <li>현재 비율로 할당 (기본 openai:sroberta 50:50)</li>
+     *   <li>실험이 꺼져 있거나 사용자 ID가 없으면 기본 모델(openai)</li>
      * </ul>
-     * 
+     *
      * @param userId 사용자 UUID
      * @param domain 도메인 (선택적, 향후 도메인별 다른 비율 적용 가능)
-     * @return 할당된 모델 ("openai" 또는 "sroberta")
+     * @return 할당된 모델 (arm 이름)
      */
     public String assignModel(UUID userId, String domain) {
-        // 사용자 ID 기반 해시 (음수 방지)
-        int hash = Math.abs(userId.hashCode());
-        
-        // 0.0 ~ 1.0 범위로 정규화
-        double normalized = (hash % 10000) / 10000.0;
-        
-        // 비율에 따라 할당
-        String model = normalized < openaiRatio ? "openai" : "sroberta";
-        
-        return model;
+        if (!enabled || userId == null) {
+            return BASELINE_MODEL;
+        }
+
+        // 사용자 ID 기반 해시를 0.0 ~ 1.0 범위로 정규화 (음수 방지)
+        double normalized = Math.abs(userId.hashCode() % BUCKETS) / (double) BUCKETS;
+
+        // 비율 누적값 구간으로 할당
+        double[] current = weights;
+        double cumulative = 0;
+        for (int i = 0; i < current.length; i++) {
+            cumulative += current[i];
+            if (normalized < cumulative) {
+                return arms.get(i);
+            }
+        }
+        return arms.get(arms.size() - 1);
+    }
+
+    /**
+     * 턴 결과를 기록합니다. 실험 arm이 아닌 모델이면 무시합니다.
+     *
+     * @param arm 사용한 임베딩 모델
+     * @param latencyMs 전체 응답 시간
+     * @param completionTokens 출력 토큰 수 (모르면 null)
+     * @param error 에러 여부
+     */
+    public void recordTurn(String arm, long latencyMs, Integer completionTokens, boolean error) {
+        ArmStats armStats = arm != null ? stats.get(arm) : null;
+        if (armStats == null) {
+            return;
+        }
+        armStats.record(latencyMs, completionTokens, error);
+        maybeRebalance();
+    }
+
+    /**
+     * 할당 비율을 바꿉니다. (재시작 없이 즉시 반영, 합이 1이 되도록 정규화)
+     *
+     * @param newWeights arm별 비율 (지정하지 않은 arm은 0)
+     */
+    public void setWeights(Map<String, Double> newWeights) {
+        double[] next = new double[arms.size()];
+        for (Map.Entry<String, Double> entry : newWeights.entrySet()) {
+            int index = arms.indexOf(entry.getKey());
+            if (index < 0) {
+                throw new IllegalArgumentException("알 수 없는 실험 arm입니다: " + entry.getKey() + " (허용값: " + arms + ")");
+            }
+            if (entry.getValue() == null || entry.getValue() < 0) {
+                throw new IllegalArgumentException("비율은 0 이상이어야 합니다: " + entry.getKey());
+            }
+            next[index] = entry.getValue();
+        }
+        if (Arrays.stream(next).sum() <= 0) {
+            throw new IllegalArgumentException("비율 합이 0보다 커야 합니다.");
+        }
+        weights = normalize(next);
+        log.info("A/B test weights updated: {}", weightsByArm());
+    }
+
+    public void setBanditEnabled(boolean enabled) {
+        banditEnabled = enabled;
+        log.info("A/B test bandit mode: enabled={}", enabled);
+    }
+
+    public ExperimentReport report() {
+        double[] current = weights;
+        List<ArmReport> reports = new ArrayList<>(arms.size());
+        for (int i = 0; i < arms.size(); i++) {
+            ArmStats.Summary summary = stats.get(arms.get(i)).summary(errorLatencyMs);
+            reports.add(new ArmReport(
+                arms.get(i),
+                current[i],
+                summary.samples(),
+                summary.p50LatencyMs(),
+                summary.p95LatencyMs(),
+                summary.errorRate(),
+                summary.tokensPerSecond()
+            ));
+        }
+        return new ExperimentReport(enabled, banditEnabled, reports);
+    }
+
+    /** 실험 사용 여부 (false면 세션 생성 시 모델을 할당하지 않음) */
+    public boolean isEnabled() {
+        return enabled;
     }
 
     /**
      * OpenAI 모델 할당 비율을 반환합니다.
-     * 
-     * @return OpenAI 모델 할당 비율 (0.0 ~ 1.0)
+     *
+     * @return OpenAI 모델 할당 비율 (0.0 ~ 1.0, openai arm이 없으면 0)
      */
     public double getOpenaiRatio() {
-        return openaiRatio;
+        int index = arms.indexOf("openai");
+        return index >= 0 ? weights[index] : 0;
+    }
+
+    private void maybeRebalance() {
+        if (!banditEnabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastRebalanceAt.get();
+        if (now - last >= rebalanceIntervalMs && lastRebalanceAt.compareAndSet(last, now)) {
+            rebalance();
+        }
     }
-}
 
+    /**
+     * p95 지연시간 기준으로 비율을 한 단계 조정합니다.
+     *
+     * <p>샘플이 min-samples 이상인 arm끼리 현재 비율 합을 (1 / p95)² 비례로 다시 나눈 값을 목표로 삼고,
+     * 각 arm은 목표 쪽으로 최대 max-step만 움직입니다. 모든 arm은 min-weight 이상을 유지하므로
+     * 느려졌던 arm이 회복되면 다시 비율을 되찾을 수 있습니다.</p>
+     */
+    synchronized void rebalance() {
+        double[] current = weights;
+        int n = current.length;
+        double[] score = new double[n];
+        boolean[] eligible = new boolean[n];
+        int eligibleCount = 0;
+        double eligibleWeight = 0;
+        double scoreSum = 0;
+        for (int i = 0; i < n; i++) {
+            ArmStats.Summary summary = stats.get(arms.get(i)).summary(errorLatencyMs);
+            if (summary.samples() >= minSamples) {
+                eligible[i] = true;
+                eligibleCount++;
+                eligibleWeight += current[i];
+                double inverse = 1.0 / Math.max(1, summary.p95LatencyMs());
+                score[i] = inverse * inverse;
+                scoreSum += score[i];
+            }
+        }
+        if (eligibleCount < 2) {
+            return;
+        }
+
+        double[] next = current.clone();
+        for (int i = 0; i < n; i++) {
+            if (eligible[i]) {
+                double target = eligibleWeight * score[i] / scoreSum;
+                double step = Math.max(-maxStep, Math.min(maxStep, target - current[i]));
+                next[i] = current[i] + step;
+            }
+        }
+        double[] adjusted = applyFloor(next, minWeight);
+        if (!Arrays.equals(adjusted, current)) {
+            weights = adjusted;
+            log.info("A/B test bandit rebalanced: weights={}", weightsByArm());
+        }
+    }
+
+    private Map<String, Double> weightsByArm() {
+        double[] current = weights;
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (int i = 0; i < arms.size(); i++) {
+            result.put(arms.get(i), current[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 모든 비율을 floor 이상으로 올리고, 넘친 만큼을 floor 초과분에 비례해 다른 arm에서 뺍니다. (합 1 유지)
+     */
+    static double[] applyFloor(double[] values, double floor) {
+        double[] result = normalize(values);
+        double effectiveFloor = Math.min(floor, 1.0 / result.length);
+        double deficit = 0;
+        double surplus = 0;
+        for (double value : result) {
+            if (value < effectiveFloor) {
+                deficit += effectiveFloor - value;
+            } else {
+                surplus += value - effectiveFloor;
+            }
+        }
+        if (deficit == 0) {
+            return result;
+        }
+        for (int i = 0; i < result.length; i++) {
+            if (result[i] < effectiveFloor) {
+                result[i] = effectiveFloor;
+            } else {
+                result[i] -= deficit * (result[i] - effectiveFloor) / surplus;
+            }
+        }
+        return result;
+    }
+
+    private static double[] normalize(double[] values) {
+        double sum = Arrays.stream(values).sum();
+        double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i] / sum;
+        }
+        return result;
+    }
+
+    /**
+     * arm 설정 파싱 ("openai:0.5,sroberta:0.5"). 비어 있으면 openai-ratio로 openai/sroberta 2개 arm을 만듭니다.
+     */
+    private static Map<String, Double> parseArms(String spec, double openaiRatio) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        if (spec == null || spec.isBlank()) {
+            result.put("openai", openaiRatio);
+            result.put("sroberta", 1.0 - openaiRatio);
+            return result;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("ab-test.arms 형식 오류 (예: openai:0.5,sroberta:0.5): " + spec);
+            }
+            double weight = Double.parseDouble(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("ab-test.arms 비율은 0 이상이어야 합니다: " + entry);
+            }
+            result.put(parts[0].trim(), weight);
+        }
+        if (result.values().stream().mapToDouble(Double::doubleValue).sum() <= 0) {
+            throw new IllegalArgumentException("ab-test.arms 비율 합이 0보다 커야 합니다: " + spec);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package com.ctrlf.chat.abtest;
+
+import java.util.Arrays;
+
+/**
+ * 실험 arm별 최근 턴 통계 (최근 windowSize개 샘플 링 버퍼)
+ *
+ * <p>CHAT_TURN 텔레메트리와 같은 값(전체 지연시간, 출력 토큰 수, 에러 여부)을 턴이 끝날 때 기록합니다.
+ * 에러 턴의 지연시간은 꼬리 지연시간 계산 시 errorLatencyMs로 간주하므로, 에러가 늘면 p95도 나빠집니다.</p>
+ */
+final class ArmStats {
+
+    /**
+     * 통계 요약
+     *
+     * @param samples 윈도우 내 샘플 수
+     * @param p50LatencyMs 지연시간 중앙값 (에러 제외)
+     * @param p95LatencyMs 지연시간 95퍼센타일 (에러는 errorLatencyMs로 간주)
+     * @param errorRate 에러 비율
+     * @param tokensPerSecond 출력 토큰 처리량 평균 (토큰 수를 알 수 있는 성공 턴 기준, 없으면 0)
+     */
+    record Summary(int samples, long p50LatencyMs, long p95LatencyMs, double errorRate, double tokensPerSecond) {}
+
+    private final long[] latencies;
+    private final boolean[] errors;
+    /** 토큰 수를 모르는 턴은 -1 */
+    private final double[] tokensPerSecond;
+    private int next;
+    private int size;
+
+    ArmStats(int windowSize) {
+        this.latencies = new long[windowSize];
+        this.errors = new boolean[windowSize];
+        this.tokensPerSecond = new double[windowSize];
+    }
+
+    synchronized void record(long latencyMs, Integer completionTokens, boolean error) {
+        latencies[next] = Math.max(0, latencyMs);
+        errors[next] = error;
+        tokensPerSecond[next] = (!error && completionTokens != null && latencyMs > 0)
+            ? completionTokens * 1000.0 / latencyMs
+            : -1;
+        next = (next + 1) % latencies.length;
+        size = Math.min(size + 1, latencies.length);
+    }
+
+    synchronized Summary summary(long errorLatencyMs) {
+        if (size == 0) {
+            return new Summary(0, 0, 0, 0, 0);
+        }
+        long[] tail = new long[size];
+        long[] succeeded = new long[size];
+        int successCount = 0;
+        int errorCount = 0;
+        double tpsSum = 0;
+        int tpsCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (errors[i]) {
+                errorCount++;
+                tail[i] = Math.max(latencies[i], errorLatencyMs);
+            } else {
+                tail[i] = latencies[i];
+                succeeded[successCount++] = latencies[i];
+            }
+            if (tokensPerSecond[i] >= 0) {
+                tpsSum += tokensPerSecond[i];
+                tpsCount++;
+            }
+        }
+        Arrays.sort(tail);
+        Arrays.sort(succeeded, 0, successCount);
+        return new Summary(
+            size,
+            successCount > 0 ? percentile(succeeded, successCount, 0.50) : 0,
+            percentile(tail, size, 0.95),
+            (double) errorCount / size,
+            tpsCount > 0 ? tpsSum / tpsCount : 0
+        );
+    }
+
+    /** nearest-rank 퍼센타일 (정렬된 배열 앞 count개 기준) */
+    private static long percentile(long[] sorted, int count, double p) {
+        int rank = (int) Math.ceil(p * count);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
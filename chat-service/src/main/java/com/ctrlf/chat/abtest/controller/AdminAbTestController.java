@@ -0,0 +1,51 @@
+package com.ctrlf.chat.abtest.controller;
+
+import com.ctrlf.chat.abtest.AbTestModelAssigner;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 모델 A/B 테스트 관리자 API
+ *
+ * <p>arm별 지연시간/에러율/토큰 처리량 조회, 할당 비율 변경, 밴딧 모드 전환을 제공합니다.
+ * 변경은 재시작 없이 다음 세션 할당부터 반영됩니다. 요청을 받은 인스턴스 메모리에만 반영되며
+ * 다른 인스턴스와 공유하지 않고 재시작하면 설정값으로 돌아갑니다.</p>
+ */
+@RestController
+@RequestMapping("/admin/ab-test")
+@RequiredArgsConstructor
+public class AdminAbTestController {
+
+    private final AbTestModelAssigner abTestModelAssigner;
+
+    /**
+     * 실험 현황 조회 (arm별 비율 + 최근 턴 통계)
+     */
+    @GetMapping
+    public AbTestModelAssigner.ExperimentReport getReport() {
+        return abTestModelAssigner.report();
+    }
+
+    /**
+     * 할당 비율 변경 (합이 1이 되도록 정규화, 지정하지 않은 arm은 0)
+     *
+     * @param weights arm별 비율 (예: {"openai": 0.7, "sroberta": 0.3})
+     */
+    @PutMapping("/weights")
+    public AbTestModelAssigner.ExperimentReport setWeights(@RequestBody Map<String, Double> weights) {
+        abTestModelAssigner.setWeights(weights);
+        return abTestModelAssigner.report();
+    }
+
+    /**
+     * 밴딧 모드 전환 (켜면 p95 지연시간이 좋은 arm 쪽으로 비율을 자동 조정)
+     *
+     * @param enabled 밴딧 모드 여부
+     */
+    @PutMapping("/bandit")
+    public AbTestModelAssigner.ExperimentReport setBandit(@RequestParam boolean enabled) {
+        abTestModelAssigner.setBanditEnabled(enabled);
+        return abTestModelAssigner.report();
+    }
+}
@@ -42,6 +42,14 @@ public class ChatAiResponse {
         @JsonProperty("masked")
         private Boolean masked;
 
+        /** 사용자와 무관한 공용 답변 여부 (true일 때만 답변 캐시 저장) */
+        @JsonProperty("cacheable")
+        private Boolean cacheable;
+
+        /** 사용자별 데이터(교육 이수 현황 등)로 만든 답변 여부 (true면 답변 캐시 제외) */
+        @JsonProperty("personalized")
+        private Boolean personalized;
+
         /** 프론트엔드 액션 지시 (영상 재생, 퀴즈 시작 등) */
         @JsonProperty("action")
         private ChatActionDto action;
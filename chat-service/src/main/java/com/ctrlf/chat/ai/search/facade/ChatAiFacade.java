@@ -53,6 +53,8 @@ public class ChatAiFacade {
                 }
             })
             .filter(line -> !line.isBlank())
+            // 응답 도중 구독이 취소되면 Reactor Netty가 연결을 풀에 반납하지 않고 닫으므로 AI 서버도 생성을 중단할 수 있음
+            .doOnCancel(() -> log.info("[CHAT → AI/STREAM] cancelled traceId={}", traceId))
             .doOnError(e -> log.error("[CHAT → AI/STREAM] error", e));
     }
 }
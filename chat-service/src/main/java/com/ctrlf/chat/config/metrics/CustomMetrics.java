@@ -1,9 +1,13 @@
 package com.ctrlf.chat.config.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -25,6 +29,13 @@ public class CustomMetrics {
     private Counter chatSessionsCreated;
     private Counter faqQueries;
 
+    // 스트리밍 메트릭 (type: emitter | flux)
+    private final Map<String, AtomicInteger> activeStreams = new ConcurrentHashMap<>();
+    private Counter streamEventsDropped;
+    private Counter slowConsumerDisconnects;
+    private Counter streamsCancelled;
+    private Counter tokensAfterDisconnect;
+
     @PostConstruct
     public void init() {
         // 비즈니스 메트릭 (고정 태그만 사용)
@@ -43,46 +54,31 @@ public class CustomMetrics {
             .tag("application", "chat-service")
             .register(meterRegistry);
 
-        log.info("Custom metrics initialized");
-    }
-
-    // API 메트릭
-    public void incrementHttpRequest(String method, String path, int statusCode) {
-        Counter.builder("chat.http.requests.total")
-            .description("Total HTTP requests")
+        streamEventsDropped = Counter.builder("chat.stream.events.dropped.total")
+            .description("SSE events dropped for slow consumers (DROP_OLDEST policy)")
             .tag("application", "chat-service")
-            .tag("method", method)
-            .tag("path", path)
-            .tag("status", String.valueOf(statusCode))
-            .register(meterRegistry)
-            .increment();
-    }
+            .register(meterRegistry);
 
-    public void incrementHttpError(String method, String path, int statusCode) {
-        Counter.builder("chat.http.errors.total")
-            .description("Total HTTP errors")
+        slowConsumerDisconnects = Counter.builder("chat.stream.slow_consumer.disconnects.total")
+            .description("SSE streams closed because the client could not keep up (DISCONNECT policy)")
             .tag("application", "chat-service")
-            .tag("method", method)
-            .tag("path", path)
-            .tag("status", String.valueOf(statusCode))
-            .register(meterRegistry)
-            .increment();
-    }
+            .register(meterRegistry);
 
-    public Timer.Sample startHttpRequestTimer() {
-        return Timer.start(meterRegistry);
-    }
+        streamsCancelled = Counter.builder("chat.stream.cancelled.total")
+            .description("SSE streams cancelled before done (client disconnect, timeout, slow consumer)")
+            .tag("application", "chat-service")
+            .register(meterRegistry);
 
-    public void recordHttpRequestDuration(Timer.Sample sample, String method, String path) {
-        Timer timer = Timer.builder("chat.http.request.duration")
-            .description("HTTP request duration")
+        tokensAfterDisconnect = Counter.builder("chat.stream.tokens.after_disconnect.total")
+            .description("Token events generated by the AI server but never delivered to a disconnected client")
             .tag("application", "chat-service")
-            .tag("method", method)
-            .tag("path", path)
             .register(meterRegistry);
-        sample.stop(timer);
+
+        log.info("Custom metrics initialized");
     }
 
+    // API 메트릭 (요청 수 / 에러 수 / 처리 시간)은 HttpRequestMeters에서 기록
+
     // 비즈니스 메트릭
     public void incrementChatMessagesSent() {
         chatMessagesSent.increment();
@@ -95,4 +91,84 @@ public class CustomMetrics {
     public void incrementFaqQueries() {
         faqQueries.increment();
     }
+
+    // 스트리밍 메트릭
+    public void incrementActiveStreams(String type) {
+        activeStreamsGauge(type).incrementAndGet();
+    }
+
+    public void decrementActiveStreams(String type) {
+        activeStreamsGauge(type).decrementAndGet();
+    }
+
+    public void incrementStreamEventsDropped() {
+        streamEventsDropped.increment();
+    }
+
+    public void incrementSlowConsumerDisconnects() {
+        slowConsumerDisconnects.increment();
+    }
+
+    public void recordStreamCancelled(int undeliveredTokens) {
+        streamsCancelled.increment();
+        tokensAfterDisconnect.increment(undeliveredTokens);
+    }
+
+    /**
+     * 답변 캐시 적중 (savedMs: 최초 생성에 걸렸던 시간 = 절약된 지연 시간)
+     */
+    public void recordAnswerCacheHit(long savedMs) {
+        answerCacheRequests("hit").increment();
+        DistributionSummary.builder("chat.answer_cache.saved_latency")
+            .description("LLM latency saved by answer cache hits")
+            .baseUnit("milliseconds")
+            .tag("application", "chat-service")
+            .register(meterRegistry)
+            .record(savedMs);
+    }
+
+    public void recordAnswerCacheMiss() {
+        answerCacheRequests("miss").increment();
+    }
+
+    public void incrementAnswerCacheSkipped(String reason) {
+        Counter.builder("chat.answer_cache.skipped.total")
+            .description("Answers not cached (not_cacheable, pii, personalized, action)")
+            .tag("application", "chat-service")
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private Counter answerCacheRequests(String result) {
+        return Counter.builder("chat.answer_cache.requests.total")
+            .description("Answer cache lookups")
+            .tag("application", "chat-service")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 중복 전송 요청 (source: in_flight = 처리 중인 요청 대기, stored = 저장된 답변 반환)
+     */
+    public void incrementDuplicateSends(String source) {
+        Counter.builder("chat.messages.duplicate.total")
+            .description("Duplicate chat sends answered without a second AI call")
+            .tag("application", "chat-service")
+            .tag("source", source)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private AtomicInteger activeStreamsGauge(String type) {
+        return activeStreams.computeIfAbsent(type, t -> {
+            AtomicInteger value = new AtomicInteger();
+            Gauge.builder("chat.stream.active", value, AtomicInteger::get)
+                .description("Currently open SSE streams")
+                .tag("application", "chat-service")
+                .tag("type", t)
+                .register(meterRegistry);
+            return value;
+        });
+    }
 }
@@ -0,0 +1,126 @@
+package com.ctrlf.chat.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * HTTP 요청 메트릭 (요청 수 / 에러 수 / 처리 시간)
+ *
+ * <p>path 태그는 요청 URI가 아닌 매칭된 핸들러 패턴(예: /chat/sessions/{sessionId})을 사용하고,
+ * (method, path, status) 조합별 미터는 처음 한 번만 등록한 뒤 캐시에서 꺼내 씁니다.</p>
+ * <p>핸들러 패턴이 없는 요청(404 등)과 max-paths를 넘어 새로 들어온 패턴은 UNMATCHED 하나로 모아
+ * 시계열 수가 늘어나지 않도록 합니다. 처리 시간 Timer는 SLO 구간별 histogram bucket을 함께 노출합니다.</p>
+ */
+@Slf4j
+@Component
+public class HttpRequestMeters {
+
+    /** 핸들러 패턴이 없거나 한도를 넘은 경로 */
+    public static final String UNMATCHED = "UNMATCHED";
+
+    private static final Set<String> KNOWN_METHODS =
+        Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+
+    private final MeterRegistry meterRegistry;
+    private final int maxPaths;
+    private final Duration[] slos;
+
+    private final Set<String> paths = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<MeterKey, RequestMeters> meters = new ConcurrentHashMap<>();
+
+    public HttpRequestMeters(
+        MeterRegistry meterRegistry,
+        @Value("${app.metrics.http.max-paths:200}") int maxPaths,
+        @Value("${app.metrics.http.slo:100ms,300ms,500ms,1s,3s,10s}") List<Duration> slos
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxPaths = maxPaths;
+        this.slos = slos.toArray(Duration[]::new);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * 요청 한 건 기록
+     *
+     * @param method HTTP 메서드
+     * @param pathPattern 매칭된 핸들러 패턴 (없으면 null)
+     * @param status 응답 상태 코드
+     * @param sample 요청 시작 시 만든 Timer.Sample (없으면 처리 시간은 기록하지 않음)
+     */
+    public void record(String method, String pathPattern, int status, Timer.Sample sample) {
+        RequestMeters requestMeters = meters.computeIfAbsent(
+            new MeterKey(normalizeMethod(method), guardPath(pathPattern), status), this::register);
+        requestMeters.requests().increment();
+        if (requestMeters.errors() != null) {
+            requestMeters.errors().increment();
+        }
+        if (sample != null) {
+            sample.stop(requestMeters.duration());
+        }
+    }
+
+    private String normalizeMethod(String method) {
+        return method != null && KNOWN_METHODS.contains(method) ? method : "OTHER";
+    }
+
+    private String guardPath(String pathPattern) {
+        if (pathPattern == null) {
+            return UNMATCHED;
+        }
+        if (paths.contains(pathPattern)) {
+            return pathPattern;
+        }
+        if (paths.size() >= maxPaths) {
+            return UNMATCHED;
+        }
+        if (paths.add(pathPattern) && paths.size() == maxPaths) {
+            log.warn("[HTTP 메트릭] path 태그가 최대 개수에 도달했습니다. 이후 새 경로는 {}로 집계합니다: maxPaths={}",
+                UNMATCHED, maxPaths);
+        }
+        return pathPattern;
+    }
+
+    private RequestMeters register(MeterKey key) {
+        String status = String.valueOf(key.status());
+        Counter requests = Counter.builder("chat.http.requests.total")
+            .description("Total HTTP requests")
+            .tag("application", "chat-service")
+            .tag("method", key.method())
+            .tag("path", key.path())
+            .tag("status", status)
+            .register(meterRegistry);
+        Counter errors = key.status() >= 400
+            ? Counter.builder("chat.http.errors.total")
+                .description("Total HTTP errors")
+                .tag("application", "chat-service")
+                .tag("method", key.method())
+                .tag("path", key.path())
+                .tag("status", status)
+                .register(meterRegistry)
+            : null;
+        // status와 무관하게 (method, path)당 하나 (레지스트리가 같은 Timer를 반환)
+        Timer duration = Timer.builder("chat.http.request.duration")
+            .description("HTTP request duration")
+            .tag("application", "chat-service")
+            .tag("method", key.method())
+            .tag("path", key.path())
+            .serviceLevelObjectives(slos)
+            .register(meterRegistry);
+        return new RequestMeters(requests, errors, duration);
+    }
+
+    private record MeterKey(String method, String path, int status) {}
+
+    private record RequestMeters(Counter requests, Counter errors, Timer duration) {}
+}
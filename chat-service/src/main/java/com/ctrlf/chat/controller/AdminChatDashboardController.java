@@ -116,7 +116,8 @@ public class AdminChatDashboardController {
     @GetMapping("/logs")
     @Operation(
         summary = "채팅 로그 목록 조회",
-        description = "Elasticsearch chat_log 인덱스에서 채팅 로그를 필터링 및 페이징하여 조회합니다."
+        description = "Elasticsearch chat_log 인덱스에서 채팅 로그를 필터링 및 페이징하여 조회합니다. "
+            + "응답의 nextCursor를 cursor로 전달하면 PIT 기반으로 다음 페이지를 이어서 조회합니다."
     )
     @ApiResponses({
         @ApiResponse(
@@ -152,7 +153,9 @@ public class AdminChatDashboardController {
         @Parameter(description = "페이지 크기 (기본값: 20)", example = "20")
         @RequestParam(value = "size", required = false) Integer size,
         @Parameter(description = "정렬 (예: createdAt,desc)", example = "createdAt,desc")
-        @RequestParam(value = "sort", required = false) String sort
+        @RequestParam(value = "sort", required = false) String sort,
+        @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 있으면 page 대신 사용)")
+        @RequestParam(value = "cursor", required = false) String cursor
     ) {
         return ResponseEntity.ok(chatLogElasticsearchService.getChatLogs(
             period,
@@ -166,7 +169,8 @@ public class AdminChatDashboardController {
             hasPiiOnly,
             page,
             size,
-            sort
+            sort,
+            cursor
         ));
     }
 }
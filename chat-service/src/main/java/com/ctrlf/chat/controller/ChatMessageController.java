@@ -1,14 +1,21 @@
 package com.ctrlf.chat.controller;
 
+import com.ctrlf.chat.dto.request.AnswerCacheInvalidateRequest;
 import com.ctrlf.chat.dto.request.ChatMessageSendRequest;
+import com.ctrlf.chat.dto.response.AnswerCacheInvalidateResponse;
 import com.ctrlf.chat.dto.response.ChatMessageCursorResponse;
 import com.ctrlf.chat.dto.response.ChatMessageSendResponse;
 import com.ctrlf.chat.entity.ChatMessage;
+import com.ctrlf.chat.service.ChatAnswerCache;
 import com.ctrlf.chat.service.ChatMessageService;
 import com.ctrlf.common.security.SecurityUtils;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -114,15 +121,19 @@ public class ChatMessageController {
      * 
      * @param domain 도메인 필터 (선택)
      * @param daysBack 최근 N일간의 데이터 (기본값: 30)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (기본값/최대: 10000)
      * @return 질문 로그 목록
      */
     @GetMapping("/admin/messages")
     public ResponseEntity<com.ctrlf.chat.dto.response.AdminMessageLogResponse> getAdminMessages(
         @RequestParam(required = false) String domain,
-        @RequestParam(required = false, defaultValue = "30") Integer daysBack
+        @RequestParam(required = false, defaultValue = "30") Integer daysBack,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
     ) {
         return ResponseEntity.ok(
-            chatMessageService.getAdminMessages(domain, daysBack)
+            chatMessageService.getAdminMessages(domain, daysBack, cursor, size)
         );
     }
 }
@@ -131,7 +142,7 @@ public class ChatMessageController {
  * 내부 서비스 간 통신용 채팅 메시지 컨트롤러
  * 
  * <p>AI 서버 등 내부 서비스에서 호출하는 API를 제공합니다.</p>
- * <p>/internal/** 경로는 인증이 필요 없습니다.</p>
+ * <p>/internal/** 경로는 JWT 인증이 필요 없습니다. 상태를 바꾸는 API는 X-Internal-Token 헤더를 검증합니다.</p>
  * 
  * @author CtrlF Team
  * @since 1.0.0
@@ -141,7 +152,13 @@ public class ChatMessageController {
 @RequiredArgsConstructor
 class InternalChatMessageController {
 
+    private static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
     private final ChatMessageService chatMessageService;
+    private final ChatAnswerCache chatAnswerCache;
+
+    @Value("${app.internal.token:}")
+    private String internalToken;
 
     /**
      * 내부 서비스용 질문 로그 조회 (FAQ 자동 생성용)
@@ -151,15 +168,51 @@ class InternalChatMessageController {
      * 
      * @param domain 도메인 필터 (선택)
      * @param daysBack 최근 N일간의 데이터 (기본값: 30)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (기본값/최대: 10000)
      * @return 질문 로그 목록
      */
     @GetMapping("/admin/messages")
     public ResponseEntity<com.ctrlf.chat.dto.response.AdminMessageLogResponse> getAdminMessages(
         @RequestParam(required = false) String domain,
-        @RequestParam(required = false, defaultValue = "30") Integer daysBack
+        @RequestParam(required = false, defaultValue = "30") Integer daysBack,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
     ) {
         return ResponseEntity.ok(
-            chatMessageService.getAdminMessages(domain, daysBack)
+            chatMessageService.getAdminMessages(domain, daysBack, cursor, size)
         );
     }
+
+    /**
+     * 답변 캐시 무효화
+     *
+     * <p>infra-service에서 RAG 사규 문서의 버전이 바뀌면 호출합니다.
+     * 해당 도메인의 캐시된 답변을 모두 무효화합니다.</p>
+     * <p>X-Internal-Token이 app.internal.token과 다르면(설정이 비어 있어도) 401을 반환합니다.</p>
+     *
+     * @param token 내부 API 인증 토큰
+     * @param request 변경된 사규의 도메인 (없으면 전체 무효화)
+     * @return 무효화된 항목 수
+     */
+    @PostMapping("/answer-cache/invalidate")
+    public ResponseEntity<AnswerCacheInvalidateResponse> invalidateAnswerCache(
+        @RequestHeader(value = INTERNAL_TOKEN_HEADER, required = false) String token,
+        @RequestBody AnswerCacheInvalidateRequest request
+    ) {
+        if (!isInternalCaller(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(
+            new AnswerCacheInvalidateResponse(chatAnswerCache.onPolicyChanged(request.domain()))
+        );
+    }
+
+    private boolean isInternalCaller(String token) {
+        if (internalToken == null || internalToken.isBlank() || token == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+            internalToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
 }
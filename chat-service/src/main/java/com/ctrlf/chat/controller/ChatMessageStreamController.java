@@ -1,8 +1,13 @@
 package com.ctrlf.chat.controller;
 
 import com.ctrlf.chat.service.ChatStreamService;
+import com.ctrlf.chat.service.NonBlockingSseWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -21,23 +26,30 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class ChatMessageStreamController {
 
     private final ChatStreamService chatStreamService;
+    private final NonBlockingSseWriter nonBlockingSseWriter;
 
     /**
      * 메시지 스트림 조회 (SSE)
      *
      * <p>특정 메시지의 AI 응답을 실시간으로 스트리밍합니다.</p>
+     * <p>각 이벤트에는 순번(id)이 붙습니다. 연결이 끊긴 뒤 Last-Event-ID 헤더로 재연결하면
+     * 놓친 이벤트부터 재전송한 뒤 진행 중인 스트림에 이어 붙습니다. (AI 서버 재호출 없음)</p>
      *
      * @param messageId 스트리밍할 메시지 ID
+     * @param lastEventId 마지막으로 받은 이벤트 id (재연결 시)
      * @return SseEmitter (text/event-stream)
      */
     @GetMapping(
         value = "/{messageId}/stream",
         produces = "text/event-stream"
     )
-    public SseEmitter stream(@PathVariable UUID messageId) {
+    public SseEmitter stream(
+        @PathVariable UUID messageId,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
         try {
             // ✅ emitter 생성 및 생명주기는 Service가 담당
-            return chatStreamService.stream(messageId);
+            return chatStreamService.stream(messageId, parseLastEventId(lastEventId));
         } catch (Exception e) {
             // 컨트롤러 레벨 예외 발생 시 (예: messageId 파싱 실패 등)
             // SSE 에러 이벤트로 처리하기 위해 emitter를 생성하여 에러 전송
@@ -51,4 +63,40 @@ public class ChatMessageStreamController {
             return errorEmitter;
         }
     }
+
+    /**
+     * 메시지 스트림 조회 (SSE, 백프레셔 적용)
+     *
+     * <p>{@link #stream(UUID, String)}와 같은 이벤트(meta/token/done/error)를 전송하되,
+     * 클라이언트가 소비한 만큼만 다음 이벤트를 보내고 미전송 이벤트는 스트림별로 제한된 크기만 보관합니다.
+     * 버퍼가 가득 차면 app.chat.stream.slow-consumer-policy에 따라 연결을 종료하거나 오래된 이벤트를 버립니다.</p>
+     * <p>쓰기는 {@link NonBlockingSseWriter}가 Servlet 논블로킹 I/O로 처리하므로 느린 클라이언트가 스레드를 점유하지 않습니다.</p>
+     *
+     * @param messageId 스트리밍할 메시지 ID
+     * @param lastEventId 마지막으로 받은 이벤트 id (재연결 시)
+     */
+    @GetMapping(
+        value = "/{messageId}/stream/reactive",
+        produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    public void streamReactive(
+        @PathVariable UUID messageId,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        Long resumeFrom = parseLastEventId(lastEventId);
+        nonBlockingSseWriter.write(request, response, chatStreamService.streamFlux(messageId, resumeFrom));
+    }
+
+    private Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 Last-Event-ID입니다: " + lastEventId);
+        }
+    }
 }
@@ -4,14 +4,16 @@ import com.ctrlf.chat.dto.request.ChatSessionCreateRequest;
 import com.ctrlf.chat.dto.request.ChatSessionUpdateRequest;
 import com.ctrlf.chat.dto.request.SessionLlmModelSetRequest;
 import com.ctrlf.chat.dto.request.SessionModelSetRequest;
+import com.ctrlf.chat.dto.response.ChatSessionCursorResponse;
 import com.ctrlf.chat.dto.response.ChatSessionHistoryResponse;
 import com.ctrlf.chat.dto.response.ChatSessionResponse;
 import com.ctrlf.chat.service.ChatSessionService;
 import jakarta.validation.Valid;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -57,15 +59,24 @@ public class ChatSessionController {
     }
 
     /**
-     * 세션 목록 조회
+     * 세션 목록 조회 (커서 기반 페이지네이션)
      * 
-     * <p>모든 세션 목록을 조회합니다.</p>
+     * <p>로그인 사용자의 세션을 최근 활동순으로 조회합니다.</p>
+     * <p>각 세션에는 마지막 메시지 미리보기와 메시지 수가 포함됩니다.</p>
      * 
-     * @return 세션 목록
+     * @param cursor 다음 페이지 커서 (선택적, 첫 페이지 조회 시 null)
+     * @param size 페이지 크기 (기본값: 20, 최대: 100)
+     * @param jwt JWT 토큰 (사용자 정보)
+     * @return 세션 목록 및 페이지네이션 정보
      */
     @GetMapping
-    public List<ChatSessionResponse> getList() {
-        return chatSessionService.getSessionList();
+    public ChatSessionCursorResponse getList(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @AuthenticationPrincipal Jwt jwt
+    ) {
+        UUID userUuid = UUID.fromString(jwt.getSubject());
+        return chatSessionService.getSessionList(userUuid, cursor, size);
     }
 
     /**
@@ -100,14 +111,21 @@ public class ChatSessionController {
     /**
      * 세션 히스토리 조회
      * 
-     * <p>세션의 전체 메시지 히스토리를 조회합니다.</p>
+     * <p>세션의 메시지 히스토리를 최신 메시지부터 페이지 단위로 조회합니다.</p>
+     * <p>위로 스크롤할 때 nextCursor로 이전 메시지를 이어서 조회합니다.</p>
      * 
      * @param sessionId 조회할 세션 ID
+     * @param cursor 이전 메시지 페이지 커서 (선택적, 첫 페이지 조회 시 null)
+     * @param size 페이지 크기 (기본값: 50, 최대: 100)
      * @return 세션 정보 및 메시지 목록
      */
     @GetMapping("/{sessionId}/history")
-    public ChatSessionHistoryResponse history(@PathVariable UUID sessionId) {
-        return chatSessionService.getSessionHistory(sessionId);
+    public ChatSessionHistoryResponse history(
+        @PathVariable UUID sessionId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int size
+    ) {
+        return chatSessionService.getSessionHistory(sessionId, cursor, size);
     }
 
     /**
@@ -0,0 +1,11 @@
+package com.ctrlf.chat.dto.request;
+
+/**
+ * 답변 캐시 무효화 요청 DTO (내부 서비스용)
+ *
+ * <p>infra-service에서 RAG 사규 문서가 활성화/변경될 때 호출합니다.</p>
+ */
+public record AnswerCacheInvalidateRequest(
+    /** 변경된 사규의 도메인 (없으면 전체 무효화) */
+    String domain
+) {}
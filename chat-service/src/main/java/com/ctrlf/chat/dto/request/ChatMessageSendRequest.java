@@ -21,5 +21,11 @@ public record ChatMessageSendRequest(
      * 
      * <p>Backend는 이 값을 검증하고 AI 서비스로 그대로 전달합니다.</p>
      */
-    String model
+    String model,
+    /**
+     * 클라이언트 요청 ID (선택, 중복 전송 방지 키)
+     *
+     * <p>재시도 시 같은 값을 보내면 AI를 다시 호출하지 않고 첫 요청과 같은 응답을 받습니다.</p>
+     */
+    String requestId
 ) {}
@@ -10,6 +10,7 @@ import lombok.Getter;
  * 관리자용 질문 로그 조회 응답 DTO
  * 
  * <p>AI 서버에서 FAQ 자동 생성을 위해 질문 로그를 조회할 때 사용합니다.</p>
+ * <p>nextCursor가 있으면 같은 조건에 cursor 파라미터로 전달해 다음 페이지를 조회합니다.</p>
  */
 @Getter
 @AllArgsConstructor
@@ -18,9 +19,16 @@ public class AdminMessageLogResponse {
     /** 질문 로그 목록 */
     private List<MessageLogItem> messages;
 
-    /** 총 개수 */
+    /** 총 개수 (현재 페이지가 아닌 전체 매칭 건수) */
     private Integer totalCount;
 
+    /** 다음 페이지 커서 (마지막 페이지면 null) */
+    private String nextCursor;
+
+    public AdminMessageLogResponse(List<MessageLogItem> messages, Integer totalCount) {
+        this(messages, totalCount, null);
+    }
+
     /**
      * 질문 로그 항목
      */
@@ -0,0 +1,9 @@
+package com.ctrlf.chat.dto.response;
+
+/**
+ * 답변 캐시 무효화 응답 DTO
+ */
+public record AnswerCacheInvalidateResponse(
+    /** 무효화된 캐시 항목 수 */
+    int invalidated
+) {}
@@ -53,6 +53,8 @@ public final class ChatLogDtos {
         private Integer totalPages;
         private Integer page;
         private Integer size;
+        /** 다음 페이지 커서 (커서 조회 시 사용, 마지막 페이지면 null) */
+        private String nextCursor;
     }
 }
 
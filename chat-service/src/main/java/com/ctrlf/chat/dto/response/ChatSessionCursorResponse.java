@@ -0,0 +1,15 @@
+package com.ctrlf.chat.dto.response;
+
+import java.util.List;
+
+/**
+ * 사용자 세션 목록 커서 기반 조회 응답 DTO.
+ */
+public record ChatSessionCursorResponse(
+    /** 세션 목록 (최근 활동순) */
+    List<ChatSessionListItem> sessions,
+    /** 다음 페이지 요청을 위한 커서(없으면 null) */
+    String nextCursor,
+    /** 다음 페이지 존재 여부 */
+    boolean hasNext
+) {}
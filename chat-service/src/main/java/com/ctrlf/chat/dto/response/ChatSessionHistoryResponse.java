@@ -6,10 +6,14 @@ import java.util.UUID;
 
 /**
  * 세션 히스토리 응답 DTO.
- * (기존 전체 조회 유지)
+ * (최신 메시지부터 페이지 단위로 조회, 페이지 내 메시지는 오래된 -> 최신 순)
  */
 public record ChatSessionHistoryResponse(
     UUID sessionId,
     String title,
-    List<ChatMessage> messages
+    List<ChatMessage> messages,
+    /** 이전(더 오래된) 메시지 페이지 요청을 위한 커서(없으면 null) */
+    String nextCursor,
+    /** 이전 메시지 존재 여부 */
+    boolean hasNext
 ) {}
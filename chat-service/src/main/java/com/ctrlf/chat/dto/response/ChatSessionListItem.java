@@ -0,0 +1,38 @@
+package com.ctrlf.chat.dto.response;
+
+import com.ctrlf.chat.entity.ChatSession;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 세션 목록 항목 DTO.
+ * (마지막 메시지 미리보기/메시지 수는 세션 행에 비정규화된 값)
+ */
+public record ChatSessionListItem(
+    UUID id,
+    String title,
+    String domain,
+    UUID userUuid,
+    /** 마지막 메시지 미리보기 (메시지가 없으면 null) */
+    String lastMessagePreview,
+    /** 메시지 수 */
+    int messageCount,
+    /** 마지막 활동 시각 (목록 정렬 기준) */
+    Instant lastActivityAt,
+    Instant createdAt,
+    Instant updatedAt
+) {
+    public static ChatSessionListItem from(ChatSession session) {
+        return new ChatSessionListItem(
+            session.getId(),
+            session.getTitle(),
+            session.getDomain(),
+            session.getUserUuid(),
+            session.getLastMessagePreview(),
+            session.getMessageCount(),
+            session.getLastActivityAt(),
+            session.getCreatedAt(),
+            session.getUpdatedAt()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.ctrlf.chat.elasticsearch.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
@@ -19,7 +20,6 @@ import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -30,15 +30,24 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChatLogElasticsearchService {
 
-    private final ElasticsearchClient elasticsearchClient;
+    /** from/size 페이징 허용 범위 (ES index.max_result_window 기본값) */
+    private static final int MAX_OFFSET_WINDOW = 10000;
+
+    /** 채팅 로그 목록에 필요한 _source 필드 */
+    private static final List<String> SOURCE_FIELDS = List.of(
+        "createdAt", "userId", "role", "department", "domain", "route", "modelName",
+        "question", "answer", "traceId", "conversationId", "errorCode",
+        "hasPiiInput", "hasPiiOutput", "ragUsed", "ragSourceCount", "turnId", "latencyMsTotal"
+    );
 
-    @Value("${app.elasticsearch.chat-log-index:chat_log}")
-    private String chatLogIndex;
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchCursorPager cursorPager;
+    private final ChatLogIndexManager chatLogIndexManager;
 
     /**
      * 채팅 로그를 Elasticsearch에 저장
      *
-     * <p>Elasticsearch의 chat_log 인덱스에 저장합니다.</p>
+     * <p>Elasticsearch의 chat_log 월 인덱스(createdAt 기준)에 저장합니다.</p>
      *
      * @param message 채팅 메시지
      * @param session 채팅 세션
@@ -85,6 +94,7 @@ public class ChatLogElasticsearchService {
             }
             
             // Elasticsearch에 저장 (동기적으로 실행하여 저장 완료 보장)
+            String chatLogIndex = chatLogIndexManager.writeIndexFor(message.getCreatedAt());
             IndexRequest<Map<String, Object>> request = IndexRequest.of(i -> i
                 .index(chatLogIndex)
                 .id(message.getId().toString())
@@ -128,6 +138,7 @@ public class ChatLogElasticsearchService {
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @param sort 정렬 (예: createdAt,desc)
+     * @param cursor 이전 응답의 nextCursor (있으면 page 대신 커서로 다음 페이지 조회)
      * @return 채팅 로그 페이지 응답
      */
     public ChatLogDtos.PageResponse<ChatLogDtos.ChatLogItem> getChatLogs(
@@ -142,16 +153,19 @@ public class ChatLogElasticsearchService {
         Boolean hasPiiOnly,
         Integer page,
         Integer size,
-        String sort
+        String sort,
+        String cursor
     ) {
         try {
-            log.info("[Elasticsearch 채팅 로그 조회] 요청: period={}, startDate={}, endDate={}, department={}, domain={}, route={}, model={}, onlyError={}, hasPiiOnly={}, page={}, size={}, sort={}",
-                period, startDateStr, endDateStr, department, domain, route, model, onlyError, hasPiiOnly, page, size, sort);
+            log.info("[Elasticsearch 채팅 로그 조회] 요청: period={}, startDate={}, endDate={}, department={}, domain={}, route={}, model={}, onlyError={}, hasPiiOnly={}, page={}, size={}, sort={}, cursor={}",
+                period, startDateStr, endDateStr, department, domain, route, model, onlyError, hasPiiOnly, page, size, sort, cursor != null);
 
-            // 기간 계산
-            Instant[] periodRange = calculatePeriodRange(period, startDateStr, endDateStr);
+            // 기간 계산 (커서 조회 시 첫 페이지의 기준 시각 사용)
+            Instant[] periodRange = calculatePeriodRange(period, startDateStr, endDateStr, cursorPager.anchorOf(cursor));
             Instant startDate = periodRange[0];
             Instant endDate = periodRange[1];
+            // 조회 기간과 겹치는 월 인덱스만 검색
+            List<String> chatLogIndices = chatLogIndexManager.searchIndicesFor(startDate, endDate);
 
             // 페이징 설정
             int pageNumber = (page != null && page >= 0) ? page : 0;
@@ -239,24 +253,70 @@ public class ChatLogElasticsearchService {
             }
 
             BoolQuery boolQuery = boolQueryBuilder.build();
+            Query query = Query.of(q -> q.bool(boolQuery));
+            SortOptions sortOptions = SortOptions.of(so -> so
+                .field(f -> f
+                    .field(finalSortField)
+                    .order("desc".equalsIgnoreCase(finalSortOrder)
+                        ? SortOrder.Desc
+                        : SortOrder.Asc)
+                )
+            );
+
+            // 커서가 있거나 첫 페이지면 PIT + search_after 커서 조회
+            boolean hasCursor = cursor != null && !cursor.isBlank();
+            if (hasCursor || pageNumber == 0) {
+                String queryKey = String.join("|", "chat-log",
+                    String.valueOf(period), String.valueOf(startDateStr), String.valueOf(endDateStr),
+                    String.valueOf(department), String.valueOf(domain), String.valueOf(route), String.valueOf(model),
+                    String.valueOf(onlyError), String.valueOf(hasPiiOnly),
+                    String.valueOf(pageSize), finalSortField, finalSortOrder);
+                ElasticsearchCursorPager.CursorPage<ChatLogDtos.ChatLogItem> cursorPage = cursorPager.fetch(
+                    new ElasticsearchCursorPager.CursorQuery(
+                        chatLogIndices, query, List.of(sortOptions), SOURCE_FIELDS, pageSize, queryKey, endDate),
+                    cursor,
+                    hit -> {
+                        try {
+                            return hit.source() != null ? convertToChatLogItem(hit.id(), hit.source()) : null;
+                        } catch (Exception e) {
+                            log.warn("[Elasticsearch 채팅 로그 조회] 항목 변환 실패: id={}, error={}", hit.id(), e.getMessage());
+                            return null;
+                        }
+                    }
+                );
+                int totalPages = (int) Math.ceil((double) cursorPage.total() / pageSize);
+
+                log.info("[Elasticsearch 채팅 로그 조회] 커서 조회 완료: items={}, totalHits={}, hasMore={}",
+                    cursorPage.items().size(), cursorPage.total(), cursorPage.hasMore());
+
+                return new ChatLogDtos.PageResponse<>(
+                    cursorPage.items(),
+                    cursorPage.total(),
+                    totalPages,
+                    hasCursor ? null : pageNumber,
+                    pageSize,
+                    cursorPage.nextCursor()
+                );
+            }
+
+            // 페이지 번호 직접 이동 (레거시): 깊은 페이지는 ES 부담이 커서 max_result_window 이내로 제한
+            if ((long) from + pageSize > MAX_OFFSET_WINDOW) {
+                throw new IllegalArgumentException(
+                    "페이지 번호 조회는 " + MAX_OFFSET_WINDOW + "건까지만 가능합니다. cursor로 조회하세요.");
+            }
 
             // 검색 요청 생성
             SearchRequest searchRequest = SearchRequest.of(s -> s
-                .index(chatLogIndex)
-                .query(Query.of(q -> q.bool(boolQuery)))
+                .index(chatLogIndices)
+                .ignoreUnavailable(true)
+                .query(query)
                 .from(from)
                 .size(pageSize)
-                .sort(so -> so
-                    .field(f -> f
-                        .field(finalSortField)
-                        .order("desc".equalsIgnoreCase(finalSortOrder)
-                            ? SortOrder.Desc
-                            : SortOrder.Asc)
-                    )
-                )
+                .sort(sortOptions)
+                .source(src -> src.filter(f -> f.includes(SOURCE_FIELDS)))
             );
 
-            log.info("[Elasticsearch 채팅 로그 조회] 검색 시작: index={}, from={}, size={}", chatLogIndex, from, pageSize);
+            log.info("[Elasticsearch 채팅 로그 조회] 검색 시작: indices={}, from={}, size={}", chatLogIndices, from, pageSize);
 
             // 검색 실행
             SearchResponse<Map> response = elasticsearchClient.search(searchRequest, Map.class);
@@ -292,9 +352,13 @@ public class ChatLogElasticsearchService {
                 totalHits,
                 totalPages,
                 pageNumber,
-                pageSize
+                pageSize,
+                null
             );
 
+        } catch (IllegalArgumentException e) {
+            // 잘못되었거나 만료된 커서, 허용 범위를 넘는 페이지 (400 응답)
+            throw e;
         } catch (Exception e) {
             log.error("[Elasticsearch 채팅 로그 조회] 오류 발생", e);
             throw new RuntimeException("채팅 로그 조회 실패: " + e.getMessage(), e);
@@ -405,14 +469,14 @@ public class ChatLogElasticsearchService {
     /**
      * 기간 계산
      */
-    private Instant[] calculatePeriodRange(String period, String startDateStr, String endDateStr) {
+    private Instant[] calculatePeriodRange(String period, String startDateStr, String endDateStr, Instant now) {
         // startDate/endDate가 있으면 우선 사용
         if (startDateStr != null && !startDateStr.isBlank()) {
             try {
                 Instant startDate = Instant.parse(startDateStr);
                 Instant endDate = endDateStr != null && !endDateStr.isBlank()
                     ? Instant.parse(endDateStr)
-                    : Instant.now();
+                    : now;
                 return new Instant[]{startDate, endDate};
             } catch (Exception e) {
                 log.warn("[Elasticsearch 채팅 로그 조회] 날짜 파싱 실패: startDate={}, endDate={}, error={}",
@@ -425,7 +489,7 @@ public class ChatLogElasticsearchService {
             period = "30";
         }
 
-        Instant endDate = Instant.now();
+        Instant endDate = now;
         Instant startDate;
         switch (period) {
             case "7":
@@ -0,0 +1,132 @@
+package com.ctrlf.chat.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * chat_log 월 인덱스 관리
+ *
+ * <p>채팅 로그는 createdAt(UTC) 기준 월 인덱스({prefix}-yyyy.MM)에 저장하고,
+ * 조회 시에는 조회 기간과 겹치는 월 인덱스만 대상으로 검색합니다.</p>
+ * <p>인덱스 템플릿({prefix}-*)이 매핑과 읽기 alias를 지정하므로, 새 달의 첫 로그가 저장될 때
+ * 자동 생성되는 인덱스에도 같은 매핑이 적용됩니다. 보존 기간이 지난 월 인덱스와 레거시 인덱스 삭제는 infra-service가 담당합니다.</p>
+ */
+@Slf4j
+@Component
+public class ChatLogIndexManager {
+
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyy.MM");
+
+    /** 인덱스 매핑 (infra-service와 동일) */
+    private static final String MAPPING_RESOURCE = "/elasticsearch/chat-log-mapping.json";
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final String indexPrefix;
+    private final String readAlias;
+    private final String legacyIndex;
+    /** 월 인덱스로 쓰기 시작한 시각 (이전 로그만 레거시 인덱스에 있음, 모르면 null) */
+    private final Instant legacyCutover;
+    private final int maxSearchIndices;
+
+    public ChatLogIndexManager(
+        ElasticsearchClient elasticsearchClient,
+        @Value("${app.elasticsearch.chat-log.index-prefix:chat_log}") String indexPrefix,
+        @Value("${app.elasticsearch.chat-log.read-alias:chat_log_read}") String readAlias,
+        @Value("${app.elasticsearch.chat-log.legacy-index:chat_log}") String legacyIndex,
+        @Value("${app.elasticsearch.chat-log.legacy-cutover:}") String legacyCutover,
+        @Value("${app.elasticsearch.chat-log.max-search-indices:24}") int maxSearchIndices
+    ) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.indexPrefix = indexPrefix;
+        this.readAlias = readAlias;
+        this.legacyIndex = legacyIndex != null && !legacyIndex.isBlank() ? legacyIndex : null;
+        this.legacyCutover = legacyCutover != null && !legacyCutover.isBlank()
+            ? LocalDate.parse(legacyCutover.trim()).atStartOfDay(ZoneOffset.UTC).toInstant()
+            : null;
+        this.maxSearchIndices = maxSearchIndices;
+        if (this.legacyIndex != null && this.legacyCutover == null) {
+            log.warn("[chat_log 인덱스] legacy-cutover가 없어 모든 조회에 레거시 인덱스를 포함합니다: legacyIndex={}",
+                this.legacyIndex);
+        }
+    }
+
+    /**
+     * 인덱스 템플릿 등록 (기동 시, 같은 이름이면 덮어씀)
+     *
+     * <p>실패해도 기동은 계속합니다. 템플릿 없이 생성된 인덱스는 동적 매핑이 적용되므로 로그를 남깁니다.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void installTemplate() {
+        try (InputStream mapping = ChatLogIndexManager.class.getResourceAsStream(MAPPING_RESOURCE)) {
+            TypeMapping typeMapping = TypeMapping.of(m -> m.withJson(mapping));
+            elasticsearchClient.indices().putIndexTemplate(p -> p
+                .name(indexPrefix)
+                .indexPatterns(indexPrefix + "-*")
+                .template(t -> t
+                    .mappings(typeMapping)
+                    .aliases(readAlias, a -> a)
+                )
+            );
+            log.info("[chat_log 인덱스] 템플릿 등록: pattern={}-*, readAlias={}", indexPrefix, readAlias);
+        } catch (Exception e) {
+            log.warn("[chat_log 인덱스] 템플릿 등록 실패: pattern={}-*, error={}", indexPrefix, e.getMessage());
+        }
+    }
+
+    /**
+     * 로그 저장 인덱스 (createdAt이 속한 UTC 월)
+     *
+     * <p>늦게 도착한 로그도 발생 월 인덱스에 저장되므로, 조회 기간으로 고른 인덱스에서 빠지지 않습니다.</p>
+     */
+    public String writeIndexFor(Instant createdAt) {
+        Instant at = createdAt != null ? createdAt : Instant.now();
+        return indexName(YearMonth.from(at.atZone(ZoneOffset.UTC)));
+    }
+
+    /**
+     * 조회 기간 [start, end]와 겹치는 인덱스 목록
+     *
+     * <p>월 인덱스가 max-search-indices를 넘으면 읽기 alias로 대신 조회합니다.
+     * 월 인덱스 도입 전 단일 인덱스(legacy-index)는 조회 시작이 legacy-cutover 이전일 때만 포함합니다.
+     * (cutover를 설정하지 않았으면 항상 포함)
+     * 아직 없는 달의 인덱스가 포함될 수 있으므로 검색 시 ignore_unavailable을 함께 사용해야 합니다.</p>
+     */
+    public List<String> searchIndicesFor(Instant start, Instant end) {
+        YearMonth first = YearMonth.from(start.atZone(ZoneOffset.UTC));
+        YearMonth last = YearMonth.from(end.atZone(ZoneOffset.UTC));
+        if (last.isBefore(first)) {
+            last = first;
+        }
+
+        List<String> indices = new ArrayList<>();
+        if (first.until(last, ChronoUnit.MONTHS) + 1 > maxSearchIndices) {
+            indices.add(readAlias);
+        } else {
+            for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+                indices.add(indexName(month));
+            }
+        }
+        if (legacyIndex != null && (legacyCutover == null || start.isBefore(legacyCutover))) {
+            indices.add(legacyIndex);
+        }
+        return indices;
+    }
+
+    private String indexName(YearMonth month) {
+        return indexPrefix + "-" + month.format(MONTH_SUFFIX);
+    }
+}
@@ -0,0 +1,248 @@
+package com.ctrlf.chat.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Elasticsearch point-in-time(PIT) + search_after 기반 커서 페이지 조회기
+ *
+ * <p>size(10000) 단일 검색이나 from/size 페이징 대신, PIT로 고정한 스냅샷 위에서
+ * search_after로 고정 크기 페이지를 순서대로 조회합니다.</p>
+ * <p>다음 페이지 위치(PIT ID, 마지막 정렬 값, 조회 조건 키, 기준 시각)는 불투명(opaque)
+ * 커서 문자열로 클라이언트에 전달하므로, 서버는 한 페이지 외의 상태를 보관하지 않습니다.
+ * 따라서 조회 기간이 길어져도 chat-service 메모리 사용량은 페이지 크기에만 비례합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchCursorPager {
+
+    /** index.max_result_window 기본값 (search_after도 한 번에 이 크기를 넘을 수 없음) */
+    static final int MAX_RESULT_WINDOW = 10_000;
+
+    /** 커서 직렬화 전용 (ES 클라이언트의 매퍼와 분리) */
+    private static final ObjectMapper CURSOR_MAPPER = new ObjectMapper();
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    /** PIT 유지 시간 (페이지 간 최대 대기 시간) */
+    @Value("${app.elasticsearch.cursor.keep-alive:2m}")
+    private String keepAlive;
+
+    /**
+     * 커서 조회 조건
+     *
+     * @param indices 조회 인덱스 (없는 인덱스는 무시)
+     * @param query 검색 쿼리 (모든 페이지에서 동일해야 함)
+     * @param sort 정렬 조건 (_shard_doc 타이브레이커는 자동 추가)
+     * @param includes 응답에 포함할 _source 필드
+     * @param size 페이지 크기
+     * @param key 조회 조건 식별 키 (다른 조건의 커서 재사용 방지)
+     * @param anchor 조회 기준 시각 (첫 페이지에서 커서에 고정됨)
+     */
+    public record CursorQuery(
+        List<String> indices,
+        Query query,
+        List<SortOptions> sort,
+        List<String> includes,
+        int size,
+        String key,
+        Instant anchor
+    ) {}
+
+    /**
+     * 커서 페이지 결과
+     *
+     * @param items 현재 페이지 항목
+     * @param total 전체 매칭 건수 (첫 페이지에서 계산 후 커서로 전달)
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public record CursorPage<T>(List<T> items, long total, String nextCursor) {
+        public boolean hasMore() {
+            return nextCursor != null;
+        }
+    }
+
+    /** 커서에 담기는 상태 (Base64URL JSON) */
+    record CursorState(String pit, List<Object> after, String key, long total, long anchor) {}
+
+    /**
+     * 커서의 기준 시각을 반환합니다. 커서가 없으면 현재 시각을 반환합니다.
+     *
+     * <p>기간 필터("최근 N일")를 첫 페이지와 동일한 기준으로 다시 만들 때 사용합니다.</p>
+     */
+    public Instant anchorOf(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Instant.now();
+        }
+        return Instant.ofEpochMilli(decode(cursor).anchor());
+    }
+
+    /**
+     * 한 페이지를 조회합니다.
+     *
+     * <p>cursor가 없으면 PIT를 새로 열고 첫 페이지를 조회합니다. 마지막 페이지에 도달하면
+     * PIT를 즉시 닫습니다. 중간에 조회를 멈춘 PIT는 keep-alive 이후 ES가 정리합니다.</p>
+     *
+     * @param query 조회 조건
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param mapper 검색 결과 변환 함수 (null 반환 시 해당 항목 제외)
+     * @throws IllegalArgumentException 커서가 잘못되었거나 만료된 경우
+     */
+    public <T> CursorPage<T> fetch(CursorQuery query, String cursor, Function<Hit<Map>, T> mapper)
+        throws IOException {
+        CursorState state = (cursor == null || cursor.isBlank()) ? null : decode(cursor);
+        String key = Integer.toHexString(query.key().hashCode());
+        if (state != null && !key.equals(state.key())) {
+            throw new IllegalArgumentException("커서가 현재 조회 조건과 일치하지 않습니다.");
+        }
+
+        boolean firstPage = state == null;
+        String pitId = firstPage ? openPointInTime(query.indices()) : state.pit();
+
+        List<SortOptions> sort = new ArrayList<>(query.sort());
+        sort.add(SortOptions.of(so -> so.field(f -> f.field("_shard_doc").order(SortOrder.Asc))));
+
+        // size + 1 조회로 다음 페이지 존재 여부를 추가 왕복 없이 판단
+        // (size가 max_result_window와 같으면 한 건 더 볼 수 없으므로 꽉 찬 페이지를 "다음 있음"으로 간주)
+        int fetchSize = Math.min(query.size() + 1, MAX_RESULT_WINDOW);
+        SearchRequest request = SearchRequest.of(s -> {
+            s.pit(p -> p.id(pitId).keepAlive(k -> k.time(keepAlive)))
+                .query(query.query())
+                .sort(sort)
+                .size(fetchSize)
+                .source(src -> src.filter(f -> f.includes(query.includes())))
+                .trackTotalHits(t -> t.enabled(firstPage));
+            if (!firstPage) {
+                s.searchAfter(toFieldValues(state.after()));
+            }
+            return s;
+        });
+
+        SearchResponse<Map> response;
+        try {
+            response = elasticsearchClient.search(request, Map.class);
+        } catch (ElasticsearchException e) {
+            if (firstPage) {
+                closePointInTime(pitId);
+            } else if (e.status() == 404) {
+                throw new IllegalArgumentException("커서가 만료되었습니다. 처음부터 다시 조회하세요.", e);
+            }
+            throw e;
+        }
+
+        List<Hit<Map>> hits = response.hits().hits();
+        boolean hasMore = hits.size() > query.size()
+            || (fetchSize == query.size() && hits.size() == query.size());
+        List<Hit<Map>> pageHits = hasMore ? hits.subList(0, query.size()) : hits;
+
+        List<T> items = new ArrayList<>(pageHits.size());
+        for (Hit<Map> hit : pageHits) {
+            T item = mapper.apply(hit);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+
+        long total = firstPage
+            ? (response.hits().total() != null ? response.hits().total().value() : pageHits.size())
+            : state.total();
+        // ES가 PIT ID를 갱신해 돌려줄 수 있으므로 응답 값을 우선 사용
+        String nextPitId = response.pitId() != null ? response.pitId() : pitId;
+
+        if (!hasMore) {
+            closePointInTime(nextPitId);
+            return new CursorPage<>(items, total, null);
+        }
+
+        long anchor = firstPage ? query.anchor().toEpochMilli() : state.anchor();
+        List<Object> after = fromFieldValues(pageHits.get(pageHits.size() - 1).sort());
+        String nextCursor = encode(new CursorState(nextPitId, after, key, total, anchor));
+        return new CursorPage<>(items, total, nextCursor);
+    }
+
+    private String openPointInTime(List<String> indices) throws IOException {
+        return elasticsearchClient.openPointInTime(o -> o
+            .index(indices)
+            .ignoreUnavailable(true)
+            .keepAlive(k -> k.time(keepAlive))
+        ).id();
+    }
+
+    private void closePointInTime(String pitId) {
+        try {
+            elasticsearchClient.closePointInTime(c -> c.id(pitId));
+        } catch (Exception e) {
+            // 닫기 실패 시에도 keep-alive 이후 자동 정리되므로 조회 결과에는 영향 없음
+            log.debug("[Elasticsearch 커서 조회] PIT 닫기 실패: error={}", e.getMessage());
+        }
+    }
+
+    private String encode(CursorState state) {
+        try {
+            byte[] json = CURSOR_MAPPER.writeValueAsBytes(state);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("커서 생성 실패", e);
+        }
+    }
+
+    private CursorState decode(String cursor) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            CursorState state = CURSOR_MAPPER.readValue(json, CursorState.class);
+            if (state.pit() != null && state.after() != null && state.key() != null) {
+                return state;
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            log.debug("[Elasticsearch 커서 조회] 커서 해석 실패: error={}", e.getMessage());
+        }
+        throw new IllegalArgumentException("잘못된 커서입니다.");
+    }
+
+    private List<Object> fromFieldValues(List<FieldValue> values) {
+        List<Object> result = new ArrayList<>(values.size());
+        for (FieldValue value : values) {
+            result.add(value.isNull() ? null : value._get());
+        }
+        return result;
+    }
+
+    private List<FieldValue> toFieldValues(List<Object> values) {
+        List<FieldValue> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value == null) {
+                result.add(FieldValue.NULL);
+            } else if (value instanceof Double || value instanceof Float) {
+                result.add(FieldValue.of(((Number) value).doubleValue()));
+            } else if (value instanceof Number) {
+                result.add(FieldValue.of(((Number) value).longValue()));
+            } else if (value instanceof Boolean) {
+                result.add(FieldValue.of((Boolean) value));
+            } else {
+                result.add(FieldValue.of(value.toString()));
+            }
+        }
+        return result;
+    }
+}
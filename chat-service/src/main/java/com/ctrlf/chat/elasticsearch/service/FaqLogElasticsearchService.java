@@ -1,14 +1,11 @@
 package com.ctrlf.chat.elasticsearch.service;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.json.JsonData;
-import co.elastic.clients.elasticsearch.core.SearchRequest;
-import co.elastic.clients.elasticsearch.core.SearchResponse;
-import co.elastic.clients.elasticsearch.core.search.Hit;
 import com.ctrlf.chat.dto.response.AdminMessageLogResponse;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -17,7 +14,6 @@ import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -28,42 +24,63 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class FaqLogElasticsearchService {
 
-    private final ElasticsearchClient elasticsearchClient;
+    /**
+     * 커서 페이지 기본 크기
+     *
+     * <p>커서 도입 전 단일 조회와 같은 10,000건입니다. nextCursor를 따르지 않는 기존 호출자(AI 서버)도
+     * 이전과 같은 양을 받고, 커서 키에 크기가 포함되므로 다음 페이지도 같은 기본값으로 이어집니다.</p>
+     */
+    private static final int DEFAULT_PAGE_SIZE = ElasticsearchCursorPager.MAX_RESULT_WINDOW;
 
-    @Value("${app.elasticsearch.chat-log-index:chat_log}")
-    private String chatLogIndex;
+    /** 커서 페이지 최대 크기 */
+    private static final int MAX_PAGE_SIZE = ElasticsearchCursorPager.MAX_RESULT_WINDOW;
+
+    /** FAQ 초안 생성에 필요한 _source 필드 (camelCase 우선, snake_case 대체) */
+    private static final List<String> SOURCE_FIELDS = List.of(
+        "sessionId", "session_id", "content", "keyword", "domain",
+        "userId", "user_id", "createdAt", "created_at"
+    );
+
+    private final ElasticsearchCursorPager cursorPager;
+    private final ChatLogIndexManager chatLogIndexManager;
 
     /**
-     * FAQ 초안 생성용 질문 로그 조회
+     * FAQ 초안 생성용 질문 로그 조회 (커서 페이지)
      *
      * <p>Elasticsearch의 chat_log 인덱스에서 사용자 질문 로그를 조회합니다.</p>
      * <p>백엔드에서 채팅 메시지 저장 시 자동으로 저장된 로그를 조회합니다.</p>
      * <p>AI 서버에서 FAQ 자동 생성을 위해 호출하는 API에 사용됩니다.</p>
-     * <p>기존 AdminMessageLogResponse 형식과 호환됩니다.</p>
+     * <p>PIT + search_after로 고정 크기 페이지씩 조회하며, 응답의 nextCursor를 다시 전달하면
+     * 다음 페이지를 이어서 조회합니다. 기간이 길어도 10,000건에서 잘리지 않습니다.</p>
      *
      * @param domain 도메인 필터 (선택)
      * @param daysBack 최근 N일간의 데이터 (기본값: 30)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (기본값/최대: 10000)
      * @return FAQ 로그 목록 응답 (AdminMessageLogResponse 형식)
      */
-    public AdminMessageLogResponse getFaqLogs(String domain, Integer daysBack) {
+    public AdminMessageLogResponse getFaqLogs(String domain, Integer daysBack, String cursor, Integer size) {
+        List<String> chatLogIndices = List.of();
         try {
             // 기본값 설정
             int actualDaysBack = (daysBack != null && daysBack > 0) ? daysBack : 30;
-            Instant startDate = Instant.now().minusSeconds(actualDaysBack * 24L * 60L * 60L);
-            Instant endDate = Instant.now();
+            int pageSize = (size != null && size > 0) ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+            // 기준 시각은 첫 페이지에서 커서에 고정 (페이지마다 기간이 밀리지 않도록)
+            Instant endDate = cursorPager.anchorOf(cursor);
+            Instant startDate = endDate.minusSeconds(actualDaysBack * 24L * 60L * 60L);
+            // 조회 기간과 겹치는 월 인덱스만 검색
+            chatLogIndices = chatLogIndexManager.searchIndicesFor(startDate, endDate);
 
-            log.info("[Elasticsearch FAQ 로그 조회] 요청: domain={}, daysBack={}, startDate={}, endDate={}, index={}",
-                domain, actualDaysBack, startDate, endDate, chatLogIndex);
+            log.info("[Elasticsearch FAQ 로그 조회] 요청: domain={}, daysBack={}, startDate={}, endDate={}, size={}, cursor={}, indices={}",
+                domain, actualDaysBack, startDate, endDate, pageSize, cursor != null, chatLogIndices);
 
-            // 쿼리 빌더 생성
+            // 쿼리 빌더 생성 (점수 계산이 필요 없으므로 filter 컨텍스트 사용)
             BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
 
             // 날짜 범위 필터 (ISO 8601 형식 문자열)
             String startDateIso = startDate.toString();
             String endDateIso = endDate.toString();
-            log.debug("[Elasticsearch FAQ 로그 조회] 날짜 범위 필터: createdAt >= {} AND createdAt <= {}", 
-                startDateIso, endDateIso);
-            boolQueryBuilder.must(Query.of(q -> q
+            boolQueryBuilder.filter(Query.of(q -> q
                 .range(r -> r
                     .field("createdAt")
                     .gte(JsonData.of(startDateIso))
@@ -72,139 +89,64 @@ public class FaqLogElasticsearchService {
             ));
 
             // role = 'user' 필터 (사용자 질문만)
-            log.debug("[Elasticsearch FAQ 로그 조회] role 필터: role=user");
-            boolQueryBuilder.must(Query.of(q -> q
+            boolQueryBuilder.filter(Query.of(q -> q
                 .term(t -> t.field("role").value("user"))
             ));
 
             // 도메인 필터
             if (domain != null && !domain.isBlank()) {
-                log.debug("[Elasticsearch FAQ 로그 조회] 도메인 필터: domain={}", domain);
-                boolQueryBuilder.must(Query.of(q -> q
+                boolQueryBuilder.filter(Query.of(q -> q
                     .term(t -> t.field("domain").value(domain))
                 ));
             }
 
             BoolQuery boolQuery = boolQueryBuilder.build();
 
-            // 검색 요청 생성 (최대 10000개 조회)
-            // 인덱스: chat_log (백엔드에서 채팅 메시지 저장 시 자동 저장)
-            SearchRequest searchRequest = SearchRequest.of(s -> s
-                .index(chatLogIndex)  // chat_log 인덱스 (백엔드에서 채팅 메시지 저장 시 자동 저장)
-                .query(Query.of(q -> q.bool(boolQuery)))
-                .size(10000)  // FAQ 생성용이므로 충분히 많은 데이터 조회
-                .sort(so -> so
-                    .field(f -> f
-                        .field("createdAt")
-                        .order(SortOrder.Desc)
-                    )
-                )
+            ElasticsearchCursorPager.CursorQuery cursorQuery = new ElasticsearchCursorPager.CursorQuery(
+                chatLogIndices,
+                Query.of(q -> q.bool(boolQuery)),
+                List.of(SortOptions.of(so -> so.field(f -> f.field("createdAt").order(SortOrder.Desc)))),
+                SOURCE_FIELDS,
+                pageSize,
+                String.join("|", "faq", String.valueOf(domain), String.valueOf(actualDaysBack), String.valueOf(pageSize)),
+                endDate
             );
 
-            log.info("[Elasticsearch FAQ 로그 조회] 검색 시작: index={}, queryFilters={}", 
-                chatLogIndex, 
-                String.format("createdAt:[%s TO %s], role:user%s", 
-                    startDateIso, endDateIso, 
-                    domain != null && !domain.isBlank() ? ", domain:" + domain : ""));
-
-            // 검색 실행
-            SearchResponse<Map> response = elasticsearchClient.search(searchRequest, Map.class);
-
-            long totalHits = response.hits().total() != null ? response.hits().total().value() : 0;
-            int hitsSize = response.hits().hits().size();
-            
-            log.info("[Elasticsearch FAQ 로그 조회] 검색 완료: totalHits={}, hits={}, index={}",
-                totalHits, hitsSize, chatLogIndex);
-
-            // 샘플 데이터 로깅 (디버깅용, 최대 3개)
-            if (hitsSize > 0) {
-                log.info("[Elasticsearch FAQ 로그 조회] ✅ 샘플 데이터 (최대 3개):");
-                for (int i = 0; i < Math.min(3, hitsSize); i++) {
-                    Hit<Map> hit = response.hits().hits().get(i);
+            ElasticsearchCursorPager.CursorPage<AdminMessageLogResponse.MessageLogItem> page =
+                cursorPager.fetch(cursorQuery, cursor, hit -> {
                     Map<String, Object> source = hit.source();
-                    if (source != null) {
-                        // 필드명 확인 (camelCase 우선, snake_case 대체)
-                        Object createdAtField = source.get("createdAt");
-                        if (createdAtField == null) {
-                            createdAtField = source.get("created_at");
-                        }
-                        Object userIdField = source.get("userId");
-                        if (userIdField == null) {
-                            userIdField = source.get("user_id");
-                        }
-                        Object sessionIdField = source.get("sessionId");
-                        if (sessionIdField == null) {
-                            sessionIdField = source.get("session_id");
-                        }
-                        log.info("[Elasticsearch FAQ 로그 조회] 샘플[{}]: id={}, content={}, role={}, domain={}, createdAt={}, userId={}, sessionId={}",
-                            i, hit.id(), 
-                            source.get("content"), 
-                            source.get("role"),
-                            source.get("domain"),
-                            createdAtField,
-                            userIdField,
-                            sessionIdField);
-                    }
-                }
-            } else {
-                log.warn("[Elasticsearch FAQ 로그 조회] ⚠️ 조회된 데이터가 0개입니다! 인덱스={}, 필터=createdAt:[{} TO {}], role:user{}", 
-                    chatLogIndex, startDateIso, endDateIso,
-                    domain != null && !domain.isBlank() ? ", domain:" + domain : "");
-                log.warn("[Elasticsearch FAQ 로그 조회] ⚠️ 가능한 원인:");
-                log.warn("[Elasticsearch FAQ 로그 조회]   1. Elasticsearch 인덱스가 존재하지 않음: curl http://localhost:9200/_cat/indices/{}?v", chatLogIndex);
-                log.warn("[Elasticsearch FAQ 로그 조회]   2. 백엔드에서 채팅 메시지 저장 시 Elasticsearch에 저장되지 않음");
-                log.warn("[Elasticsearch FAQ 로그 조회]   3. 최근 채팅이 발생하지 않음");
-                log.warn("[Elasticsearch FAQ 로그 조회]   4. 날짜 범위 필터가 너무 좁음 (현재: {} ~ {})", startDateIso, endDateIso);
-            }
+                    return source != null ? convertToMessageLogItem(hit.id(), source) : null;
+                });
 
-            // 결과 변환
-            List<AdminMessageLogResponse.MessageLogItem> items = new ArrayList<>();
-            int conversionSuccess = 0;
-            int conversionFailed = 0;
-            
-            for (Hit<Map> hit : response.hits().hits()) {
-                try {
-                    Map<String, Object> source = hit.source();
-                    if (source == null) {
-                        conversionFailed++;
-                        continue;
-                    }
+            log.info("[Elasticsearch FAQ 로그 조회] 조회 완료: totalHits={}, items={}, hasMore={}, indices={}",
+                page.total(), page.items().size(), page.hasMore(), chatLogIndices);
 
-                    AdminMessageLogResponse.MessageLogItem item = convertToMessageLogItem(hit.id(), source);
-                    if (item != null) {
-                        items.add(item);
-                        conversionSuccess++;
-                    } else {
-                        conversionFailed++;
-                    }
-                } catch (Exception e) {
-                    conversionFailed++;
-                    log.warn("[Elasticsearch FAQ 로그 조회] 항목 변환 실패: id={}, error={}", hit.id(), e.getMessage());
-                }
+            if (page.total() == 0) {
+                log.warn("[Elasticsearch FAQ 로그 조회] ⚠️ 조회된 데이터가 0개입니다! 인덱스={}, 필터=createdAt:[{} TO {}], role:user{}",
+                    chatLogIndices, startDateIso, endDateIso,
+                    domain != null && !domain.isBlank() ? ", domain:" + domain : "");
             }
 
-            long totalCount = totalHits;
-
-            log.info("[Elasticsearch FAQ 로그 조회] 변환 완료: totalHits={}, items={}, conversionSuccess={}, conversionFailed={}", 
-                totalCount, items.size(), conversionSuccess, conversionFailed);
-
-            return new AdminMessageLogResponse(items, (int) totalCount);
+            return new AdminMessageLogResponse(page.items(), (int) page.total(), page.nextCursor());
 
+        } catch (IllegalArgumentException e) {
+            // 잘못되었거나 만료된 커서 (400 응답)
+            throw e;
         } catch (ElasticsearchException e) {
             // Elasticsearch 예외 처리 (인덱스가 없거나 검색 오류)
             if (e.getMessage() != null && e.getMessage().contains("index_not_found_exception")) {
-                log.warn("[Elasticsearch FAQ 로그 조회] 인덱스가 없습니다: index={}, message={}. 빈 결과를 반환합니다.",
-                    chatLogIndex, e.getMessage());
+                log.warn("[Elasticsearch FAQ 로그 조회] 인덱스가 없습니다: indices={}, message={}. 빈 결과를 반환합니다.",
+                    chatLogIndices, e.getMessage());
                 // 인덱스가 없으면 빈 결과 반환 (백엔드가 아직 채팅 로그를 저장하지 않았을 수 있음)
                 return new AdminMessageLogResponse(new ArrayList<>(), 0);
             } else {
-                log.error("[Elasticsearch FAQ 로그 조회] Elasticsearch 오류 발생: index={}, error={}",
-                    chatLogIndex, e.getMessage(), e);
+                log.error("[Elasticsearch FAQ 로그 조회] Elasticsearch 오류 발생: indices={}, error={}",
+                    chatLogIndices, e.getMessage(), e);
                 throw new RuntimeException("FAQ 로그 조회 실패: " + e.getMessage(), e);
             }
         } catch (Exception e) {
-            log.error("[Elasticsearch FAQ 로그 조회] 오류 발생: index={}, error={}",
-                chatLogIndex, e.getMessage(), e);
+            log.error("[Elasticsearch FAQ 로그 조회] 오류 발생: indices={}, error={}",
+                chatLogIndices, e.getMessage(), e);
             throw new RuntimeException("FAQ 로그 조회 실패: " + e.getMessage(), e);
         }
     }
@@ -65,6 +65,15 @@ public class ChatMessage {
     @Column(name = "response_time_ms")
     private Long responseTimeMs;
 
+    /** 클라이언트 요청 ID (중복 전송 방지 키, 정상 응답된 assistant 메시지에만 저장) */
+    @Column(name = "request_id", length = 100)
+    private String requestId;
+
+    /** 처리 상태 (스트리밍 답변의 완료/에러/취소 구분) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ChatMessageStatus status = ChatMessageStatus.PENDING;
+
     /** 에러 여부 */
     @Column(name = "is_error")
     private Boolean isError;
@@ -83,11 +92,13 @@ public class ChatMessage {
 
     /**
      * 엔티티 저장 전 실행되는 콜백
-     * 생성 시각을 현재 시간으로 설정합니다.
+     * 생성 시각이 지정되지 않았으면 현재 시간으로 설정합니다.
      */
     @PrePersist
     void onCreate() {
-        this.createdAt = Instant.now();
+        if (this.createdAt == null) {
+            this.createdAt = Instant.now();
+        }
     }
 
     /**
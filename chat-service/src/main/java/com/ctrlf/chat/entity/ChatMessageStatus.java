@@ -4,5 +4,7 @@ public enum ChatMessageStatus {
     PENDING,
     STREAMING,
     DONE,
-    ERROR
+    ERROR,
+    /** 클라이언트 연결 끊김 등으로 생성 도중 중단됨 (부분 답변 저장) */
+    CANCELLED
 }
@@ -14,6 +14,9 @@ import lombok.Setter;
 @NoArgsConstructor
 public class ChatSession {
 
+    /** 마지막 메시지 미리보기 최대 길이 */
+    public static final int PREVIEW_LENGTH = 100;
+
     /** 채팅 세션(채팅방) PK */
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -60,6 +63,31 @@ public class ChatSession {
     @Column(name = "llm_model", length = 20)
     private String llmModel;
 
+    /**
+     * 마지막 활동 시각 (마지막 메시지 저장 시각, 세션 목록 정렬/커서 기준)
+     *
+     * <p>아래 세 컬럼은 메시지 저장 시 {@code ChatSessionRepository}의 원자적 UPDATE로만 갱신합니다.
+     * 엔티티 dirty checking이 오래된 값으로 덮어쓰지 않도록 updatable = false 입니다.</p>
+     */
+    @Column(name = "last_activity_at", nullable = false, updatable = false)
+    private Instant lastActivityAt;
+
+    /** 마지막 메시지 미리보기 */
+    @Column(name = "last_message_preview", length = 200, updatable = false)
+    private String lastMessagePreview;
+
+    /** 메시지 수 */
+    @Column(name = "message_count", nullable = false, updatable = false)
+    private int messageCount;
+
+    /** 메시지 아카이브 시각 (null이면 메시지가 chat_message에 있음, 아카이브/복원 시 원자적 UPDATE로만 갱신) */
+    @Column(name = "archived_at", updatable = false)
+    private Instant archivedAt;
+
+    /** 마지막 아카이브 복원 시각 (복원 직후 다시 아카이브되지 않도록 비활성 기준에 포함) */
+    @Column(name = "restored_at", updatable = false)
+    private Instant restoredAt;
+
     /**
      * 엔티티 저장 전 실행되는 콜백
      * 생성 시각, 수정 시각을 현재 시간으로 설정하고 삭제 플래그를 false로 초기화합니다.
@@ -68,6 +96,7 @@ public class ChatSession {
     public void prePersist() {
         this.createdAt = Instant.now();
         this.updatedAt = Instant.now();
+        this.lastActivityAt = this.createdAt;
         this.deleted = false;
     }
 
@@ -97,4 +126,27 @@ public class ChatSession {
     public void softDelete() {
         this.deleted = true;
     }
+
+    /**
+     * 메시지 내용을 세션 목록용 미리보기로 변환합니다.
+     *
+     * <p>연속 공백/줄바꿈을 공백 하나로 줄이고 {@link #PREVIEW_LENGTH}자에서 자릅니다. (서로게이트 쌍은 자르지 않음)</p>
+     *
+     * @param content 메시지 내용
+     * @return 미리보기 (내용이 없으면 null)
+     */
+    public static String preview(String content) {
+        if (content == null || content.isBlank()) {
+            return null;
+        }
+        String collapsed = content.strip().replaceAll("\\s+", " ");
+        if (collapsed.length() <= PREVIEW_LENGTH) {
+            return collapsed;
+        }
+        int end = PREVIEW_LENGTH;
+        if (Character.isHighSurrogate(collapsed.charAt(end - 1))) {
+            end--;
+        }
+        return collapsed.substring(0, end);
+    }
 }
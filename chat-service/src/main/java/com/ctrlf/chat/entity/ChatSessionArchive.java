@@ -0,0 +1,46 @@
+package com.ctrlf.chat.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 비활성 세션 메시지 아카이브
+ *
+ * <p>세션의 chat_message 행 전체를 JSON 배열(jsonb_agg)로 묶어 gzip으로 압축해 한 행에 보관합니다.
+ * 세션을 다시 열면 chat_message로 복원하고 이 행은 삭제됩니다.</p>
+ */
+@Entity
+@Table(name = "chat_session_archive", schema = "chat")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChatSessionArchive {
+
+    /** 세션 ID (PK) */
+    @Id
+    @Column(name = "session_id", columnDefinition = "uuid")
+    private UUID sessionId;
+
+    /** 아카이브된 메시지 수 */
+    @Column(name = "message_count", nullable = false)
+    private int messageCount;
+
+    /** gzip 압축된 메시지 JSON 배열 */
+    @Column(name = "payload", nullable = false, columnDefinition = "bytea")
+    private byte[] payload;
+
+    /** 아카이브 시각 */
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    public ChatSessionArchive(UUID sessionId, int messageCount, byte[] payload, Instant archivedAt) {
+        this.sessionId = sessionId;
+        this.messageCount = messageCount;
+        this.payload = payload;
+        this.archivedAt = archivedAt;
+    }
+}
@@ -0,0 +1,186 @@
+package com.ctrlf.chat.faq.cluster;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash + LSH(locality-sensitive hashing) 근사 중복 인덱스
+ *
+ * <p>정규화된 문자열을 문자 k-gram(shingle) 집합으로 보고, 해시 함수 bands × rows개의 최솟값으로
+ * MinHash 서명을 만듭니다. 서명을 rows개씩 나눈 밴드마다 해시 버킷을 두고, 한 밴드라도 같은 버킷에
+ * 들어간 클러스터만 후보로 비교하므로 전체 클러스터 수와 무관하게 질문당 비교 횟수가 bands개 이하입니다.</p>
+ * <p>버킷에는 클러스터 대표(첫 질문)의 서명만 등록하고, 후보는 대표 서명과의 추정 Jaccard 유사도가
+ * 기준 이상일 때만 같은 클러스터로 판정합니다. 멤버가 늘어나도 클러스터가 옆으로 번지지(chaining) 않습니다.</p>
+ * <p>스레드 안전하지 않습니다. {@link #signature}는 상태를 바꾸지 않으므로 동시에 호출해도 되지만,
+ * {@link #find}/{@link #add}는 호출 측에서 동기화해야 합니다.</p>
+ */
+final class MinHashLshIndex {
+
+    private static final int INITIAL_CLUSTERS = 1024;
+
+    private final int bands;
+    private final int rows;
+    private final int numHashes;
+    private final int shingleSize;
+    private final int minMatches;
+
+    /** 해시 함수 i: multipliers[i] * x + offsets[i] (x는 shingle 해시를 섞은 값, 32비트 산술) */
+    private final int[] multipliers;
+    private final int[] offsets;
+
+    /** (도메인, 밴드, 밴드 값) 해시 → 대표 클러스터 ID */
+    private final LongIntHashMap buckets;
+
+    /** 클러스터 대표 서명 (클러스터 ID * numHashes 위치부터 numHashes개) */
+    private int[] signatures;
+    private int[] domains;
+    private int size;
+
+    /**
+     * @param bands LSH 밴드 수 (많을수록 재현율↑, 메모리↑)
+     * @param rows 밴드당 해시 수 (많을수록 정밀도↑, 재현율↓)
+     * @param shingleSize 문자 k-gram 길이
+     * @param threshold 같은 클러스터로 판정할 최소 추정 Jaccard 유사도
+     * @param seed 해시 함수 시드 (같은 시드면 재시작 후에도 같은 서명)
+     */
+    MinHashLshIndex(int bands, int rows, int shingleSize, double threshold, long seed) {
+        if (bands <= 0 || rows <= 0 || shingleSize <= 0) {
+            throw new IllegalArgumentException("bands, rows, shingleSize는 1 이상이어야 합니다.");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.numHashes = bands * rows;
+        this.shingleSize = shingleSize;
+        this.minMatches = (int) Math.ceil(threshold * numHashes);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        this.multipliers = new int[numHashes];
+        this.offsets = new int[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            multipliers[i] = random.nextInt() | 1;
+            offsets[i] = random.nextInt();
+        }
+
+        this.buckets = new LongIntHashMap(INITIAL_CLUSTERS * bands);
+        this.signatures = new int[INITIAL_CLUSTERS * numHashes];
+        this.domains = new int[INITIAL_CLUSTERS];
+    }
+
+    /**
+     * 정규화된 문자열의 MinHash 서명을 계산합니다.
+     *
+     * <p>문자열이 shingle 길이보다 짧으면 문자열 전체를 shingle 1개로 사용합니다.
+     * shingle마다 해시 함수 전체를 적용하는 안쪽 루프는 int 곱셈/덧셈/min만 사용해 JIT가 SIMD로 벡터화할 수 있습니다.</p>
+     */
+    int[] signature(CharSequence text) {
+        int[] signature = new int[numHashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        int length = text.length();
+        int k = Math.min(shingleSize, length);
+        for (int start = 0; start + k <= length && k > 0; start++) {
+            int shingle = 0;
+            for (int j = start; j < start + k; j++) {
+                shingle = 31 * shingle + text.charAt(j);
+            }
+            int x = mix(shingle);
+            for (int i = 0; i < numHashes; i++) {
+                signature[i] = Math.min(signature[i], multipliers[i] * x + offsets[i]);
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 서명과 가장 유사한 같은 도메인의 클러스터를 찾습니다.
+     *
+     * @return 클러스터 ID (기준 이상으로 유사한 클러스터가 없으면 -1)
+     */
+    int find(int domain, int[] signature) {
+        int best = -1;
+        int bestMatches = minMatches - 1;
+        int[] checked = new int[bands];
+        int checkedCount = 0;
+
+        for (int band = 0; band < bands; band++) {
+            int cluster = buckets.get(bandKey(domain, band, signature));
+            if (cluster < 0 || domains[cluster] != domain || contains(checked, checkedCount, cluster)) {
+                continue;
+            }
+            checked[checkedCount++] = cluster;
+
+            int matches = matches(cluster, signature);
+            if (matches > bestMatches) {
+                best = cluster;
+                bestMatches = matches;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 서명을 대표로 하는 새 클러스터를 등록합니다.
+     *
+     * <p>이미 다른 클러스터가 차지한 버킷은 덮어쓰지 않습니다.</p>
+     *
+     * @return 새 클러스터 ID (0부터 순서대로 증가)
+     */
+    int add(int domain, int[] signature) {
+        int cluster = size;
+        if (cluster == domains.length) {
+            domains = Arrays.copyOf(domains, cluster * 2);
+            signatures = Arrays.copyOf(signatures, cluster * 2 * numHashes);
+        }
+        domains[cluster] = domain;
+        System.arraycopy(signature, 0, signatures, cluster * numHashes, numHashes);
+        size++;
+
+        for (int band = 0; band < bands; band++) {
+            buckets.putIfAbsent(bandKey(domain, band, signature), cluster);
+        }
+        return cluster;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int matches(int cluster, int[] signature) {
+        int base = cluster * numHashes;
+        int matches = 0;
+        for (int i = 0; i < numHashes; i++) {
+            if (signatures[base + i] == signature[i]) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /** murmur3 finalizer: 비슷한 shingle 해시가 비슷한 값으로 이어지지 않도록 비트를 섞음 */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    private long bandKey(int domain, int band, int[] signature) {
+        long key = (domain * 0x9E3779B97F4A7C15L) ^ band;
+        int from = band * rows;
+        for (int i = from; i < from + rows; i++) {
+            key = (key ^ (signature[i] & 0xFFFFFFFFL)) * 0xBF58476D1CE4E5B9L;
+            key ^= key >>> 31;
+        }
+        return key;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.ctrlf.chat.faq.cluster;
+
+import com.ctrlf.chat.dto.response.AdminMessageLogResponse;
+import com.ctrlf.chat.elasticsearch.service.FaqLogElasticsearchService;
+import com.ctrlf.chat.faq.entity.FaqCandidate;
+import com.ctrlf.chat.faq.repository.FaqCandidateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재시작 시 질문 클러스터 복원
+ *
+ * <p>클러스터는 메모리에만 있으므로, 기동 후 백그라운드 스레드에서 기존 FAQ 후보를 먼저 등록하고
+ * 최근 30일 사용자 질문 로그(Elasticsearch chat_log)를 커서 페이지로 한 번 재생합니다.
+ * 이후에는 메시지 전송 시점에 {@link QuestionClusterStore#record}로 증분 반영됩니다.</p>
+ * <p>재생 기준 시각은 첫 페이지 조회 시각으로 고정되므로, 그 뒤에 들어온 질문은 증분 반영분으로만 집계됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionClusterBootstrap {
+
+    private final QuestionClusterStore questionClusterStore;
+    private final FaqCandidateRepository faqCandidateRepository;
+    private final FaqLogElasticsearchService faqLogElasticsearchService;
+
+    @Value("${app.faq.cluster.bootstrap.enabled:true}")
+    private boolean enabled;
+
+    /** 재생할 질문 로그 기간 */
+    @Value("${app.faq.cluster.bootstrap.days-back:30}")
+    private int daysBack;
+
+    /** 질문 로그 커서 페이지 크기 */
+    @Value("${app.faq.cluster.bootstrap.page-size:5000}")
+    private int pageSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::bootstrap, "faq-cluster-bootstrap");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void bootstrap() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            int seeded = 0;
+            for (FaqCandidate candidate : faqCandidateRepository.findAll()) {
+                if (questionClusterStore.seed(candidate.getId(), candidate.getCanonicalQuestion(), candidate.getDomain()) >= 0) {
+                    seeded++;
+                }
+            }
+
+            long replayed = 0;
+            String cursor = null;
+            do {
+                AdminMessageLogResponse page = faqLogElasticsearchService.getFaqLogs(null, daysBack, cursor, pageSize);
+                for (AdminMessageLogResponse.MessageLogItem item : page.getMessages()) {
+                    questionClusterStore.record(item.getContent(), null, item.getDomain(), item.getCreatedAt());
+                    replayed++;
+                }
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            log.info("FAQ question clusters restored: candidates={}, questions={}, clusters={}, elapsedMs={}",
+                seeded, replayed, questionClusterStore.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 복원 실패 시에도 이후 질문은 증분 반영되므로 서비스 기동에는 영향 없음
+            log.warn("FAQ question cluster bootstrap failed: error={}", e.getMessage(), e);
+        }
+    }
+}
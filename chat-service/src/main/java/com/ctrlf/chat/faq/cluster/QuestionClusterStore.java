@@ -0,0 +1,272 @@
+package com.ctrlf.chat.faq.cluster;
+
+import com.ctrlf.chat.keyword.KoreanKeywordExtractor;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 근사 중복 질문 클러스터 저장소 (FAQ 후보 생성용)
+ *
+ * <p>사용자 질문이 들어올 때마다 키워드 추출 → 정규화(공백/문장부호 제거) → MinHash 서명 순으로 처리해
+ * 기존 클러스터에 배정하거나 새 클러스터를 만들고, 클러스터별 일자 카운트를 갱신합니다.
+ * "연차 규정 알려줘"와 "연차규정 알려주세요"처럼 띄어쓰기나 어미만 다른 질문은 같은 클러스터가 됩니다.</p>
+ * <p>FAQ 후보는 이 클러스터에서 바로 읽으므로, 후보를 갱신할 때마다 전체 로그를 다시 읽지 않습니다.
+ * 재시작 시에는 {@link QuestionClusterBootstrap}이 기존 FAQ 후보와 최근 로그로 한 번만 다시 채웁니다.</p>
+ * <p>카운트는 질문 시각(UTC) 기준 일자 버킷 30개로 관리하며, 최근 7일/30일 질문 수를 계산합니다.</p>
+ */
+@Slf4j
+@Component
+public class QuestionClusterStore {
+
+    /** 일자 카운트 보관 기간 (FAQ 후보의 question_count_30d) */
+    static final int WINDOW_DAYS = 30;
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    /** 도메인 미지정 질문 (FaqLogElasticsearchService와 동일한 기본값) */
+    private static final String DEFAULT_DOMAIN = "ETC";
+
+    /**
+     * 클러스터 조회 결과
+     *
+     * @param id 클러스터 ID
+     * @param domain 도메인
+     * @param representative 대표 질문 (클러스터의 첫 질문 또는 연결된 FAQ 후보의 질문)
+     * @param count7d 최근 7일 질문 수
+     * @param count30d 최근 30일 질문 수
+     * @param lastAskedAt 마지막 질문 시각
+     * @param candidateId 연결된 FAQ 후보 ID (없으면 null)
+     */
+    public record ClusterSnapshot(
+        int id,
+        String domain,
+        String representative,
+        int count7d,
+        int count30d,
+        Instant lastAskedAt,
+        UUID candidateId
+    ) {}
+
+    /** 클러스터 상태 (저장소 락 안에서만 접근) */
+    private static final class Cluster {
+        final String domain;
+        final String representative;
+        /** 일자 버킷: epochDay % WINDOW_DAYS 위치에 (일자, 질문 수) */
+        final int[] days = new int[WINDOW_DAYS];
+        final int[] counts = new int[WINDOW_DAYS];
+        long lastAskedAt;
+        UUID candidateId;
+
+        Cluster(String domain, String representative) {
+            this.domain = domain;
+            this.representative = representative;
+        }
+
+        void increment(long askedAtSeconds) {
+            int day = (int) Math.floorDiv(askedAtSeconds, SECONDS_PER_DAY);
+            int slot = Math.floorMod(day, WINDOW_DAYS);
+            if (days[slot] != day) {
+                // 버킷에 더 최근 일자가 들어 있으면 보관 기간을 벗어난 질문 (최신순 로그 재생 시)
+                if (days[slot] > day) {
+                    return;
+                }
+                days[slot] = day;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+            lastAskedAt = Math.max(lastAskedAt, askedAtSeconds);
+        }
+
+        int countSince(int today, int windowDays) {
+            int total = 0;
+            for (int i = 0; i < WINDOW_DAYS; i++) {
+                if (days[i] > today - windowDays && days[i] <= today) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+    }
+
+    private final KoreanKeywordExtractor keywordExtractor;
+    private final MinHashLshIndex index;
+    private final int maxClusters;
+
+    private final List<Cluster> clusters = new ArrayList<>();
+    private final Map<String, Integer> domainIds = new HashMap<>();
+    private boolean capacityWarned;
+
+    public QuestionClusterStore(
+        KoreanKeywordExtractor keywordExtractor,
+        @Value("${app.faq.cluster.bands:16}") int bands,
+        @Value("${app.faq.cluster.rows:4}") int rows,
+        @Value("${app.faq.cluster.shingle-size:2}") int shingleSize,
+        @Value("${app.faq.cluster.similarity-threshold:0.6}") double similarityThreshold,
+        @Value("${app.faq.cluster.max-clusters:500000}") int maxClusters
+    ) {
+        this.keywordExtractor = keywordExtractor;
+        this.index = new MinHashLshIndex(bands, rows, shingleSize, similarityThreshold, 0x5EEDL);
+        this.maxClusters = maxClusters;
+    }
+
+    /**
+     * 질문을 클러스터에 배정하고 카운트를 1 올립니다.
+     *
+     * @param question 사용자 질문 원문
+     * @param keyword 추출된 키워드 (null이면 질문에서 다시 추출)
+     * @param domain 도메인 (null이면 ETC)
+     * @param askedAt 질문 시각 (null이면 현재 시각)
+     * @return 배정된 클러스터 ID (정규화 후 빈 질문이거나 클러스터 수 상한에 도달했으면 -1)
+     */
+    public int record(String question, String keyword, String domain, Instant askedAt) {
+        String text = shingleText(question, keyword);
+        if (text.isEmpty()) {
+            return -1;
+        }
+        // 서명 계산은 상태를 바꾸지 않으므로 락 밖에서 수행
+        int[] signature = index.signature(text);
+        long askedAtSeconds = (askedAt != null ? askedAt : Instant.now()).getEpochSecond();
+
+        synchronized (this) {
+            int cluster = findOrCreate(normalizeDomain(domain), signature, question.trim());
+            if (cluster >= 0) {
+                clusters.get(cluster).increment(askedAtSeconds);
+            }
+            return cluster;
+        }
+    }
+
+    /**
+     * 기존 FAQ 후보를 클러스터로 등록합니다. 카운트는 올리지 않습니다.
+     *
+     * <p>이후 들어오는 유사 질문이 새 후보를 만들지 않고 이 후보의 카운트로 집계됩니다.
+     * 이미 유사한 클러스터가 있고 아직 후보가 연결되지 않았으면 그 클러스터에 연결합니다.</p>
+     *
+     * @return 연결된 클러스터 ID (정규화 후 빈 질문이면 -1)
+     */
+    public int seed(UUID candidateId, String question, String domain) {
+        String text = shingleText(question, null);
+        if (text.isEmpty()) {
+            return -1;
+        }
+        int[] signature = index.signature(text);
+
+        synchronized (this) {
+            String normalizedDomain = normalizeDomain(domain);
+            int domainId = domainId(normalizedDomain);
+            int cluster = index.find(domainId, signature);
+            if (cluster < 0 || clusters.get(cluster).candidateId != null) {
+                cluster = index.add(domainId, signature);
+                clusters.add(new Cluster(normalizedDomain, question.trim()));
+            }
+            clusters.get(cluster).candidateId = candidateId;
+            return cluster;
+        }
+    }
+
+    /**
+     * 클러스터에 FAQ 후보를 연결합니다.
+     */
+    public synchronized void linkCandidate(int clusterId, UUID candidateId) {
+        clusters.get(clusterId).candidateId = candidateId;
+    }
+
+    /**
+     * FAQ 후보로 보여줄 클러스터를 최근 30일 질문 수 내림차순으로 반환합니다.
+     *
+     * <p>최근 30일 질문 수가 minCount30d 이상인 클러스터와, 이미 FAQ 후보가 연결된 클러스터(카운트 갱신용)를 포함합니다.</p>
+     *
+     * @param domain 도메인 필터 (null이면 전체)
+     * @param minCount30d 최소 최근 30일 질문 수
+     */
+    public List<ClusterSnapshot> snapshot(String domain, int minCount30d) {
+        int today = (int) Math.floorDiv(Instant.now().getEpochSecond(), SECONDS_PER_DAY);
+        List<ClusterSnapshot> result = new ArrayList<>();
+
+        synchronized (this) {
+            for (int id = 0; id < clusters.size(); id++) {
+                Cluster cluster = clusters.get(id);
+                if (domain != null && !cluster.domain.equals(domain)) {
+                    continue;
+                }
+                int count30d = cluster.countSince(today, WINDOW_DAYS);
+                if (count30d < minCount30d && cluster.candidateId == null) {
+                    continue;
+                }
+                result.add(new ClusterSnapshot(
+                    id,
+                    cluster.domain,
+                    cluster.representative,
+                    cluster.countSince(today, 7),
+                    count30d,
+                    cluster.lastAskedAt > 0 ? Instant.ofEpochSecond(cluster.lastAskedAt) : null,
+                    cluster.candidateId
+                ));
+            }
+        }
+
+        result.sort(Comparator.comparingInt(ClusterSnapshot::count30d).reversed());
+        return result;
+    }
+
+    public synchronized int size() {
+        return clusters.size();
+    }
+
+    private int findOrCreate(String domain, int[] signature, String question) {
+        int domainId = domainId(domain);
+        int cluster = index.find(domainId, signature);
+        if (cluster >= 0) {
+            return cluster;
+        }
+        if (clusters.size() >= maxClusters) {
+            if (!capacityWarned) {
+                capacityWarned = true;
+                log.warn("FAQ question cluster limit reached: maxClusters={}. New questions without a similar cluster are ignored.",
+                    maxClusters);
+            }
+            return -1;
+        }
+        cluster = index.add(domainId, signature);
+        clusters.add(new Cluster(domain, question));
+        return cluster;
+    }
+
+    private int domainId(String domain) {
+        return domainIds.computeIfAbsent(domain, d -> domainIds.size());
+    }
+
+    /**
+     * 클러스터링 대상 문자열: 키워드(조사/불용어 제거)를 NFKC + 소문자로 바꾸고 글자/숫자만 남깁니다.
+     * 띄어쓰기 차이가 shingle에 영향을 주지 않도록 공백도 제거합니다.
+     */
+    private String shingleText(String question, String keyword) {
+        if (question == null || question.isBlank()) {
+            return "";
+        }
+        String source = (keyword != null && !keyword.isBlank()) ? keyword : keywordExtractor.extract(question);
+        String normalized = Normalizer.normalize(source, Normalizer.Form.NFKC);
+
+        StringBuilder text = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                text.append(Character.toLowerCase(c));
+            }
+        }
+        return text.toString();
+    }
+
+    private static String normalizeDomain(String domain) {
+        return (domain == null || domain.isBlank()) ? DEFAULT_DOMAIN : domain.trim();
+    }
+}
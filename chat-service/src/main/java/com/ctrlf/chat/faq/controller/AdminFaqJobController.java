@@ -0,0 +1,51 @@
+package com.ctrlf.chat.faq.controller;
+
+import com.ctrlf.chat.faq.dto.response.FaqJobResponse;
+import com.ctrlf.chat.faq.job.FaqJobRunner;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 백그라운드 FAQ 작업(AI 답변 생성 등) 상태 조회 / 취소 관리자 API
+ */
+@RestController
+@RequestMapping("/admin/faqs/jobs")
+@RequiredArgsConstructor
+public class AdminFaqJobController {
+
+    private final FaqJobRunner faqJobRunner;
+
+    /**
+     * 작업 목록 조회 (최근 시작 순, 끝난 작업은 일정 시간 후 정리됨)
+     */
+    @GetMapping
+    public List<FaqJobResponse> list() {
+        return faqJobRunner.list().stream().map(FaqJobResponse::from).toList();
+    }
+
+    /**
+     * 작업 진행 상태 조회
+     *
+     * @param jobId 작업 ID (작업 시작 API 응답의 jobId)
+     */
+    @GetMapping("/{jobId}")
+    public FaqJobResponse get(@PathVariable UUID jobId) {
+        return faqJobRunner.find(jobId)
+            .map(FaqJobResponse::from)
+            .orElseThrow(() -> new IllegalArgumentException("FAQ 작업이 존재하지 않습니다."));
+    }
+
+    /**
+     * 작업 취소 (이미 처리한 항목의 결과는 저장됨)
+     *
+     * @param jobId 작업 ID
+     */
+    @PostMapping("/{jobId}/cancel")
+    public FaqJobResponse cancel(@PathVariable UUID jobId) {
+        return faqJobRunner.cancel(jobId)
+            .map(FaqJobResponse::from)
+            .orElseThrow(() -> new IllegalArgumentException("FAQ 작업이 존재하지 않습니다."));
+    }
+}
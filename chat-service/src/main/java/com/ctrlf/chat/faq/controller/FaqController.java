@@ -3,12 +3,13 @@ package com.ctrlf.chat.faq.controller;
 import com.ctrlf.chat.faq.dto.request.FaqCreateRequest;
 import com.ctrlf.chat.faq.dto.request.FaqUpdateRequest;
 import com.ctrlf.chat.faq.dto.response.FaqResponse;
-import com.ctrlf.chat.faq.dto.response.InitialFaqAiAnswerGenerateResponse;
+import com.ctrlf.chat.faq.dto.response.FaqJobResponse;
 import com.ctrlf.chat.faq.service.FaqService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -85,12 +86,14 @@ public class FaqController {
      * 
      * <p>초기 데이터로 넣은 FAQ 질문들(ID가 00000000-0000-0000-0000-로 시작)에 대해
      * AI로 답변을 생성하여 FAQ의 answer 필드를 업데이트합니다.</p>
+     * <p>백그라운드 작업으로 실행되며 즉시 202를 반환합니다.
+     * 진행 상태는 GET /admin/faqs/jobs/{jobId}로 조회합니다.</p>
      * 
-     * @return 초기 FAQ AI 답변 생성 응답 (상태, 성공/실패 개수 포함)
+     * @return 시작된 작업 상태
      */
     @PostMapping("/initial/generate-ai-answers")
-    public ResponseEntity<InitialFaqAiAnswerGenerateResponse> generateAiAnswersForInitialFaqs() {
-        InitialFaqAiAnswerGenerateResponse response = faqService.generateAiAnswersForInitialFaqs();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<FaqJobResponse> generateAiAnswersForInitialFaqs() {
+        FaqJobResponse response = faqService.generateAiAnswersForInitialFaqs();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
 }
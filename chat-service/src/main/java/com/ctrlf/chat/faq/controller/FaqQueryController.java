@@ -1,12 +1,22 @@
 package com.ctrlf.chat.faq.controller;
 
 import com.ctrlf.chat.faq.dto.response.FaqDashboardResponse;
+import com.ctrlf.chat.faq.dto.response.FaqUiCategoryResponse;
 import com.ctrlf.chat.faq.service.FaqQueryService;
+import com.ctrlf.chat.faq.snapshot.FaqSnapshot;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+/**
+ * 사용자 FAQ 조회 API
+ *
+ * <p>응답에는 FAQ 스냅샷 버전 기반 ETag가 붙습니다. 클라이언트가 If-None-Match로 같은 ETag를 보내면
+ * Spring MVC가 본문 없이 304 Not Modified로 응답합니다. (ResponseEntity의 ETag 조건부 처리)</p>
+ */
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -19,27 +29,41 @@ public class FaqQueryController {
      * FAQ 홈 (도메인별 1개)
      */
     @GetMapping("/home")
-    public List<FaqDashboardResponse> getHomeFaqs() {
-        log.info("[FAQ 조회] 홈 화면 FAQ 조회 요청 수신: GET /faq/home");
-        List<FaqDashboardResponse> result = faqQueryService.getHomeFaqs();
-        log.info("[FAQ 조회] 홈 화면 FAQ 조회 응답 반환: FAQ 개수={}, 도메인 목록={}", 
-            result.size(),
-            result.stream().map(FaqDashboardResponse::getDomain).toList());
-        return result;
+    public ResponseEntity<List<FaqDashboardResponse>> getHomeFaqs() {
+        FaqSnapshot snapshot = faqQueryService.snapshot();
+        log.debug("[FAQ 조회] 홈 화면 FAQ 조회: version={}, FAQ 개수={}", snapshot.version(), snapshot.homeFaqs().size());
+        return withEtag(snapshot, snapshot.homeFaqs());
     }
 
     /**
      * 도메인별 FAQ TOP 2 (도메인별 최대 2개로 제한)
      */
     @GetMapping
-    public List<FaqDashboardResponse> getDomainFaqs(
+    public ResponseEntity<List<FaqDashboardResponse>> getDomainFaqs(
         @RequestParam String domain
     ) {
-        log.info("[FAQ 조회] 도메인별 FAQ 조회 요청 수신: GET /faq?domain={}", domain);
-        List<FaqDashboardResponse> result = faqQueryService.getDomainFaqs(domain);
-        log.info("[FAQ 조회] 도메인별 FAQ 조회 응답 반환: domain={}, FAQ 개수={}, FAQ IDs={}", 
-            domain, result.size(),
-            result.stream().map(FaqDashboardResponse::getId).toList());
-        return result;
+        FaqSnapshot snapshot = faqQueryService.snapshot();
+        List<FaqDashboardResponse> result = snapshot.domainFaqs(domain);
+        log.debug("[FAQ 조회] 도메인별 FAQ 조회: version={}, domain={}, FAQ 개수={}", snapshot.version(), domain, result.size());
+        return withEtag(snapshot, result);
+    }
+
+    /**
+     * 활성 UI 카테고리 목록 (정렬 순서순)
+     */
+    @GetMapping("/categories")
+    public ResponseEntity<List<FaqUiCategoryResponse>> getCategories() {
+        FaqSnapshot snapshot = faqQueryService.snapshot();
+        return withEtag(snapshot, snapshot.activeCategories());
+    }
+
+    /**
+     * 스냅샷 ETag를 붙인 200 응답. 캐시된 응답은 매번 재검증하도록 no-cache를 지정합니다.
+     */
+    private static <T> ResponseEntity<T> withEtag(FaqSnapshot snapshot, T body) {
+        return ResponseEntity.ok()
+            .eTag(snapshot.etag())
+            .cacheControl(CacheControl.noCache())
+            .body(body);
     }
 }
@@ -0,0 +1,65 @@
+package com.ctrlf.chat.faq.dto.response;
+
+import com.ctrlf.chat.faq.job.FaqJob;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 백그라운드 FAQ 작업 상태 응답 DTO
+ */
+@Getter
+@Builder
+public class FaqJobResponse {
+
+    private UUID jobId;
+
+    /** 작업 종류 (예: INITIAL_FAQ_AI_ANSWER) */
+    private String type;
+
+    /** 작업 상태 (RUNNING, COMPLETED, CANCELLED) */
+    private String status;
+
+    /** 전체 항목 수 */
+    private Integer totalCount;
+
+    /** AI 호출까지 끝난 항목 수 */
+    private Integer processedCount;
+
+    /** 저장까지 끝난 항목 수 */
+    private Integer successCount;
+
+    /** 실패한 항목 수 */
+    private Integer failCount;
+
+    /** 재시도 횟수 */
+    private Integer retryCount;
+
+    /** 취소 요청 여부 */
+    private Boolean cancelRequested;
+
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    /** 실패 항목 (최대 100개) */
+    private List<FaqJob.ItemError> errors;
+
+    public static FaqJobResponse from(FaqJob job) {
+        return FaqJobResponse.builder()
+            .jobId(job.getId())
+            .type(job.getType())
+            .status(job.getStatus().name())
+            .totalCount(job.getTotalCount())
+            .processedCount(job.getProcessedCount())
+            .successCount(job.getSuccessCount())
+            .failCount(job.getFailCount())
+            .retryCount(job.getRetryCount())
+            .cancelRequested(job.isCancelRequested())
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .errors(job.getErrors())
+            .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.ctrlf.chat.faq.job;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * 백그라운드 FAQ 작업 진행 상태
+ *
+ * <p>워커 스레드가 갱신하고 상태 조회 API가 읽으므로 카운트는 모두 원자적으로 관리합니다.
+ * 성공 수는 DB 저장까지 끝난 항목 수입니다.</p>
+ */
+public class FaqJob {
+
+    /** 실패 항목 보고 최대 개수 */
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        CANCELLED
+    }
+
+    /**
+     * 실패 항목
+     *
+     * @param itemKey 항목 식별자
+     * @param attempts 시도 횟수
+     * @param message 마지막 오류 메시지
+     */
+    public record ItemError(String itemKey, int attempts, String message) {}
+
+    @Getter
+    private final UUID id = UUID.randomUUID();
+    @Getter
+    private final String type;
+    @Getter
+    private final int totalCount;
+    @Getter
+    private final Instant startedAt = Instant.now();
+
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger retried = new AtomicInteger();
+    private final List<ItemError> errors = new ArrayList<>();
+
+    @Getter
+    private volatile Status status = Status.RUNNING;
+    @Getter
+    private volatile boolean cancelRequested;
+    @Getter
+    private volatile Instant finishedAt;
+
+    FaqJob(String type, int totalCount) {
+        this.type = type;
+        this.totalCount = totalCount;
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    /** AI 호출까지 끝난 항목 수 (성공/실패 무관) */
+    public int getProcessedCount() {
+        return processed.get();
+    }
+
+    public int getSuccessCount() {
+        return succeeded.get();
+    }
+
+    public int getFailCount() {
+        return failed.get();
+    }
+
+    /** 재시도 횟수 (항목별 첫 시도 제외) */
+    public int getRetryCount() {
+        return retried.get();
+    }
+
+    public synchronized List<ItemError> getErrors() {
+        return List.copyOf(errors);
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    void markProcessed() {
+        processed.incrementAndGet();
+    }
+
+    void markRetried() {
+        retried.incrementAndGet();
+    }
+
+    void markSucceeded(int count) {
+        succeeded.addAndGet(count);
+    }
+
+    void markFailed(int count, String itemKey, int attempts, String message) {
+        failed.addAndGet(count);
+        synchronized (this) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ItemError(itemKey, attempts, message));
+            }
+        }
+    }
+
+    void finish() {
+        finishedAt = Instant.now();
+        status = cancelRequested ? Status.CANCELLED : Status.COMPLETED;
+    }
+}
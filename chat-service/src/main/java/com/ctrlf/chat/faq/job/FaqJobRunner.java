@@ -0,0 +1,253 @@
+package com.ctrlf.chat.faq.job;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * FAQ AI 작업 실행기 (백그라운드)
+ *
+ * <p>항목 목록을 고정 크기 워커 풀에서 병렬로 처리합니다. 모든 작업의 AI 호출은 하나의 {@link TokenBucket}을 공유하므로
+ * 워커 수와 무관하게 AI 서버로 가는 호출 속도는 설정값을 넘지 않습니다.</p>
+ * <ul>
+ *   <li>항목별 재시도: 예외가 나면 최대 max-attempts번까지 다시 시도합니다. (재시도도 토큰을 소비)</li>
+ *   <li>배치 저장: 결과를 batch-size개씩 모아 한 트랜잭션으로 저장합니다.</li>
+ *   <li>취소: 취소 요청 후에는 새 항목을 꺼내지 않으며, 이미 받은 결과는 저장합니다.</li>
+ * </ul>
+ * <p>작업 상태는 메모리에만 보관하며, 끝난 작업은 retention 이후 정리됩니다.</p>
+ */
+@Slf4j
+@Component
+public class FaqJobRunner {
+
+    private final TransactionTemplate transactionTemplate;
+    private final TokenBucket tokenBucket;
+    private final int workers;
+    private final int maxAttempts;
+    private final int batchSize;
+    private final Duration retention;
+
+    /**
+     * 작업 워커 풀
+     * (Bean으로 등록하면 Spring Boot 기본 applicationTaskExecutor가 비활성화되므로 내부에서만 관리)
+     */
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Map<UUID, FaqJob> jobs = new ConcurrentHashMap<>();
+
+    public FaqJobRunner(
+        PlatformTransactionManager transactionManager,
+        @Value("${app.faq.job.workers:4}") int workers,
+        @Value("${app.faq.job.rate-per-second:2.0}") double ratePerSecond,
+        @Value("${app.faq.job.burst:2}") int burst,
+        @Value("${app.faq.job.max-attempts:3}") int maxAttempts,
+        @Value("${app.faq.job.batch-size:20}") int batchSize,
+        @Value("${app.faq.job.retention-minutes:60}") long retentionMinutes
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tokenBucket = new TokenBucket(ratePerSecond, burst);
+        this.workers = Math.max(1, workers);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.batchSize = Math.max(1, batchSize);
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.executor = createExecutor(this.workers);
+    }
+
+    /**
+     * 작업을 시작합니다. 같은 종류의 작업이 이미 실행 중이면 새로 시작하지 않고 그 작업을 반환합니다.
+     */
+    public synchronized <T, R> FaqJob submit(FaqJobTask<T, R> task) {
+        evictFinished();
+        for (FaqJob job : jobs.values()) {
+            if (job.isRunning() && job.getType().equals(task.type())) {
+                log.info("FAQ job already running: type={}, jobId={}", task.type(), job.getId());
+                return job;
+            }
+        }
+
+        List<T> items = List.copyOf(task.items());
+        FaqJob job = new FaqJob(task.type(), items.size());
+        jobs.put(job.getId(), job);
+        new Execution<>(job, task, items).start();
+        log.info("FAQ job started: type={}, jobId={}, items={}", task.type(), job.getId(), items.size());
+        return job;
+    }
+
+    public Optional<FaqJob> find(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /** 보관 중인 작업 (최근 시작 순) */
+    public List<FaqJob> list() {
+        return jobs.values().stream()
+            .sorted(Comparator.comparing(FaqJob::getStartedAt).reversed())
+            .toList();
+    }
+
+    public Optional<FaqJob> cancel(UUID jobId) {
+        FaqJob job = jobs.get(jobId);
+        if (job != null && job.isRunning()) {
+            job.requestCancel();
+            log.info("FAQ job cancel requested: type={}, jobId={}", job.getType(), jobId);
+        }
+        return Optional.ofNullable(job);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(FaqJob::requestCancel);
+        executor.shutdown();
+    }
+
+    private void evictFinished() {
+        Instant threshold = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("faq-job-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 작업 한 건의 실행 상태. 워커들은 같은 인덱스 카운터에서 항목을 하나씩 꺼내고,
+     * 마지막으로 끝난 워커가 남은 결과를 저장하고 작업을 종료합니다.
+     */
+    private final class Execution<T, R> {
+
+        private final FaqJob job;
+        private final FaqJobTask<T, R> task;
+        private final List<T> items;
+        private final AtomicInteger next = new AtomicInteger();
+        private final List<R> pending = new ArrayList<>();
+        private AtomicInteger activeWorkers;
+
+        Execution(FaqJob job, FaqJobTask<T, R> task, List<T> items) {
+            this.job = job;
+            this.task = task;
+            this.items = items;
+        }
+
+        void start() {
+            int count = Math.max(1, Math.min(workers, items.size()));
+            activeWorkers = new AtomicInteger(count);
+            for (int i = 0; i < count; i++) {
+                executor.execute(this::work);
+            }
+        }
+
+        private void work() {
+            try {
+                int index;
+                while (!job.isCancelRequested() && (index = next.getAndIncrement()) < items.size()) {
+                    R result = processWithRetry(items.get(index));
+                    if (result != null) {
+                        List<R> batch = offer(result);
+                        if (batch != null) {
+                            save(batch);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                job.requestCancel();
+            } catch (RuntimeException e) {
+                log.error("FAQ job worker failed: type={}, jobId={}, error={}", job.getType(), job.getId(), e.getMessage(), e);
+            } finally {
+                if (activeWorkers.decrementAndGet() == 0) {
+                    complete();
+                }
+            }
+        }
+
+        private R processWithRetry(T item) throws InterruptedException {
+            String key = task.itemKey(item);
+            String lastError = null;
+            int attempts = 0;
+            while (attempts < maxAttempts) {
+                if (attempts > 0) {
+                    // 취소 요청 후에는 재시도하지 않음
+                    if (job.isCancelRequested()) {
+                        break;
+                    }
+                    job.markRetried();
+                }
+                attempts++;
+                tokenBucket.acquire();
+                try {
+                    R result = task.process(item);
+                    job.markProcessed();
+                    if (result == null) {
+                        job.markFailed(1, key, attempts, "empty result");
+                    }
+                    return result;
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    lastError = e.getMessage();
+                    log.warn("FAQ job item failed: type={}, item={}, attempt={}/{}, error={}",
+                        job.getType(), key, attempts, maxAttempts, e.getMessage());
+                }
+            }
+            job.markProcessed();
+            job.markFailed(1, key, attempts, lastError);
+            return null;
+        }
+
+        private List<R> offer(R result) {
+            synchronized (pending) {
+                pending.add(result);
+                if (pending.size() < batchSize) {
+                    return null;
+                }
+                List<R> batch = new ArrayList<>(pending);
+                pending.clear();
+                return batch;
+            }
+        }
+
+        private void save(List<R> batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> task.saveBatch(batch));
+                job.markSucceeded(batch.size());
+            } catch (RuntimeException e) {
+                job.markFailed(batch.size(), "batch", 1, e.getMessage());
+                log.error("FAQ job batch save failed: type={}, jobId={}, size={}, error={}",
+                    job.getType(), job.getId(), batch.size(), e.getMessage(), e);
+            }
+        }
+
+        private void complete() {
+            List<R> rest;
+            synchronized (pending) {
+                rest = new ArrayList<>(pending);
+                pending.clear();
+            }
+            if (!rest.isEmpty()) {
+                save(rest);
+            }
+            job.finish();
+            log.info("FAQ job finished: type={}, jobId={}, status={}, total={}, success={}, fail={}, retries={}, elapsedMs={}",
+                job.getType(), job.getId(), job.getStatus(), job.getTotalCount(), job.getSuccessCount(),
+                job.getFailCount(), job.getRetryCount(), Duration.between(job.getStartedAt(), job.getFinishedAt()).toMillis());
+        }
+    }
+}
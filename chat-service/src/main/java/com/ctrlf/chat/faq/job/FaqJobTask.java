@@ -0,0 +1,34 @@
+package com.ctrlf.chat.faq.job;
+
+import java.util.List;
+
+/**
+ * {@link FaqJobRunner}에서 실행할 작업 정의
+ *
+ * @param <T> 입력 항목 타입 (워커 스레드 간에 공유되므로 JPA 엔티티 대신 값 객체 사용)
+ * @param <R> 항목별 처리 결과 타입
+ */
+public interface FaqJobTask<T, R> {
+
+    /** 작업 종류 (같은 종류의 작업이 실행 중이면 새로 시작하지 않음) */
+    String type();
+
+    /** 처리할 항목 목록 */
+    List<T> items();
+
+    /** 실패 항목 보고용 식별자 */
+    String itemKey(T item);
+
+    /**
+     * 항목 하나를 처리합니다. 호출 전에 속도 제한 토큰을 하나 얻습니다.
+     *
+     * @return 처리 결과 (null이면 재시도 없이 실패 처리)
+     * @throws Exception 재시도 대상 실패
+     */
+    R process(T item) throws Exception;
+
+    /**
+     * 처리 결과를 한 트랜잭션으로 저장합니다.
+     */
+    void saveBatch(List<R> results);
+}
@@ -0,0 +1,102 @@
+package com.ctrlf.chat.faq.job;
+
+import com.ctrlf.chat.ai.search.client.ChatAiClient;
+import com.ctrlf.chat.ai.search.dto.ChatAiResponse;
+import com.ctrlf.chat.faq.entity.Faq;
+import com.ctrlf.chat.faq.repository.FaqRepository;
+import com.ctrlf.chat.faq.snapshot.FaqChangedEvent;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 초기 FAQ 데이터 질문에 대한 AI 답변 생성 작업
+ *
+ * <p>FAQ 질문마다 AI 채팅 API를 호출하고, 받은 답변을 배치 단위로 FAQ answer에 반영합니다.
+ * 배치가 커밋될 때마다 FAQ 스냅샷이 갱신되므로 진행 중에도 반영된 답변이 바로 노출됩니다.</p>
+ */
+public class InitialFaqAnswerTask implements FaqJobTask<InitialFaqAnswerTask.Item, InitialFaqAnswerTask.Answer> {
+
+    public static final String TYPE = "INITIAL_FAQ_AI_ANSWER";
+
+    /** FAQ 답변 생성용 사용자 ID */
+    private static final UUID SYSTEM_USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000000");
+
+    /** 답변 생성 대상 (엔티티 대신 값만 워커 스레드에 전달) */
+    public record Item(UUID faqId, String question, String domain) {
+
+        public static Item from(Faq faq) {
+            return new Item(faq.getId(), faq.getQuestion(), faq.getDomain());
+        }
+    }
+
+    /** 생성된 답변 */
+    public record Answer(UUID faqId, String answer) {}
+
+    private final List<Item> items;
+    private final ChatAiClient chatAiClient;
+    private final FaqRepository faqRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InitialFaqAnswerTask(
+        List<Item> items,
+        ChatAiClient chatAiClient,
+        FaqRepository faqRepository,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        this.items = items;
+        this.chatAiClient = chatAiClient;
+        this.faqRepository = faqRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public List<Item> items() {
+        return items;
+    }
+
+    @Override
+    public String itemKey(Item item) {
+        return item.faqId().toString();
+    }
+
+    @Override
+    public Answer process(Item item) {
+        ChatAiResponse aiResponse = chatAiClient.ask(
+            UUID.randomUUID(),  // 임시 세션 ID (FAQ 답변 생성용)
+            SYSTEM_USER_ID,
+            "ADMIN",  // 관리자 역할
+            null,  // department는 null
+            item.domain(),
+            "WEB",
+            item.question(),  // FAQ 질문을 AI에 전달
+            "openai",  // 기본 임베딩 모델
+            "exaone"  // 기본 LLM 모델
+        );
+        if (aiResponse == null || aiResponse.getAnswer() == null || aiResponse.getAnswer().isBlank()) {
+            return null;
+        }
+        return new Answer(item.faqId(), aiResponse.getAnswer());
+    }
+
+    @Override
+    public void saveBatch(List<Answer> results) {
+        Map<UUID, String> answers = results.stream()
+            .collect(Collectors.toMap(Answer::faqId, Answer::answer, (first, second) -> second));
+        Instant now = Instant.now();
+        // 트랜잭션 안에서 조회한 엔티티를 변경하면 커밋 시 UPDATE가 JDBC 배치로 전송됨
+        for (Faq faq : faqRepository.findAllById(answers.keySet())) {
+            faq.setAnswer(answers.get(faq.getId()));
+            faq.setUpdatedAt(now);
+        }
+        eventPublisher.publishEvent(new FaqChangedEvent("faq.initial-answers"));
+    }
+}
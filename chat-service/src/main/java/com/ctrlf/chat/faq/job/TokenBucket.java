@@ -0,0 +1,58 @@
+package com.ctrlf.chat.faq.job;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 속도 제한기 (AI 서버 호출용)
+ *
+ * <p>초당 ratePerSecond개씩 토큰이 채워지고 최대 burst개까지 쌓입니다. 토큰이 없으면 다음 토큰이
+ * 채워질 때까지 호출 스레드가 기다리므로, 작업 전체 시간은 고정 대기 없이 설정한 호출 속도로만 결정됩니다.</p>
+ * <p>토큰은 예약 방식으로 차감하므로 여러 워커가 동시에 기다려도 호출 간격이 고르게 유지됩니다.</p>
+ */
+class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double capacity;
+    private final double nanosPerToken;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double ratePerSecond, int burst) {
+        this(ratePerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double ratePerSecond, int burst, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("ratePerSecond must be > 0 and burst >= 1");
+        }
+        this.capacity = burst;
+        this.nanosPerToken = NANOS_PER_SECOND / ratePerSecond;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 1개를 얻을 때까지 기다립니다.
+     */
+    void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000L, (int) (waitNanos % 1_000_000L));
+        }
+    }
+
+    /**
+     * 토큰 1개를 예약하고, 예약한 토큰을 쓸 수 있을 때까지 기다려야 하는 시간(ns)을 반환합니다.
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) / nanosPerToken);
+        lastRefill = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * nanosPerToken);
+    }
+}
@@ -20,6 +20,11 @@ public interface FaqCandidateService {
      */
     List<FaqCandidateResponse> getCandidates(String domain, String status);
 
+    /**
+     * 질문 클러스터를 FAQ 후보에 반영 (주기 실행)
+     */
+    void syncClusterCandidates();
+
     /**
      * FAQ 후보 단건 조회
      */
@@ -1,5 +1,6 @@
 package com.ctrlf.chat.faq.service;
 
+import com.ctrlf.chat.faq.cluster.QuestionClusterStore;
 import com.ctrlf.chat.faq.dto.request.FaqCandidateCreateRequest;
 import com.ctrlf.chat.faq.dto.response.FaqCandidateResponse;
 import com.ctrlf.chat.faq.entity.FaqCandidate;
@@ -8,9 +9,15 @@ import com.ctrlf.chat.faq.repository.FaqCandidateRepository;
 import com.ctrlf.chat.faq.repository.FaqRevisionRepository;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +29,11 @@ public class FaqCandidateServiceImpl implements FaqCandidateService {
 
     private final FaqCandidateRepository faqCandidateRepository;
     private final FaqRevisionRepository faqRevisionRepository;
+    private final QuestionClusterStore questionClusterStore;
+
+    /** 질문 클러스터를 FAQ 후보로 올리는 최소 최근 30일 질문 수 */
+    @Value("${app.faq.cluster.min-questions:3}")
+    private int minQuestions;
 
     @Override
     public UUID create(FaqCandidateCreateRequest request) {
@@ -36,14 +48,22 @@ public class FaqCandidateServiceImpl implements FaqCandidateService {
         candidate.setAvgIntentConfidence(0.8);
         candidate.setCreatedAt(Instant.now());
         
-        return faqCandidateRepository.save(candidate).getId();
+        UUID id = faqCandidateRepository.save(candidate).getId();
+        // 이후 들어오는 유사 질문이 이 후보의 카운트로 집계되도록 클러스터에 등록
+        questionClusterStore.seed(id, candidate.getCanonicalQuestion(), candidate.getDomain());
+        return id;
     }
 
+    /**
+     * FAQ 후보 목록 조회
+     *
+     * <p>질문 클러스터 반영은 {@link #syncClusterCandidates()} 배치가 담당하므로 여기서는 조회만 합니다.</p>
+     */
     @Override
     @Transactional(readOnly = true)
     public List<FaqCandidateResponse> getCandidates(String domain, String status) {
         log.info("[FAQ 후보 목록 조회] 서비스 호출: domain={}, status={}", domain, status);
-        
+
         List<FaqCandidate> candidates;
 
         try {
@@ -96,6 +116,63 @@ public class FaqCandidateServiceImpl implements FaqCandidateService {
         return response;
     }
 
+    /**
+     * 질문 클러스터 → FAQ 후보 반영 배치
+     *
+     * <p>최근 30일 질문 수가 기준 이상인 새 클러스터는 NEW 후보로 추가하고, 이미 연결된 후보는
+     * 질문 수와 마지막 질문 시각을 갱신합니다. 후보 상태(EXCLUDED 등)는 관리자 결정이므로 건드리지 않습니다.</p>
+     * <p>fixedDelay 실행이라 이전 실행이 끝나기 전에 다시 시작하지 않으므로, 같은 클러스터로 후보가 중복 생성되지 않습니다.</p>
+     */
+    @Override
+    @Scheduled(
+        fixedDelayString = "${app.faq.cluster.sync-delay-ms:300000}",
+        initialDelayString = "${app.faq.cluster.sync-delay-ms:300000}"
+    )
+    public void syncClusterCandidates() {
+        List<QuestionClusterStore.ClusterSnapshot> clusters = questionClusterStore.snapshot(null, minQuestions);
+        if (clusters.isEmpty()) {
+            return;
+        }
+
+        List<UUID> linkedIds = clusters.stream()
+            .map(QuestionClusterStore.ClusterSnapshot::candidateId)
+            .filter(Objects::nonNull)
+            .toList();
+        Map<UUID, FaqCandidate> linked = faqCandidateRepository.findAllById(linkedIds).stream()
+            .collect(Collectors.toMap(FaqCandidate::getId, Function.identity()));
+
+        int created = 0;
+        for (QuestionClusterStore.ClusterSnapshot cluster : clusters) {
+            FaqCandidate candidate = cluster.candidateId() != null ? linked.get(cluster.candidateId()) : null;
+            if (candidate == null) {
+                // 새 클러스터이거나 연결된 후보가 삭제된 경우
+                if (cluster.count30d() < minQuestions) {
+                    continue;
+                }
+                candidate = new FaqCandidate();
+                candidate.setCanonicalQuestion(cluster.representative());
+                candidate.setDomain(cluster.domain());
+                candidate.setStatus(FaqCandidate.CandidateStatus.NEW);
+                candidate.setPiiDetected(false);
+                candidate.setCreatedAt(Instant.now());
+            }
+            // 변경 감지로 값이 바뀐 후보만 UPDATE
+            candidate.setQuestionCount7d(cluster.count7d());
+            candidate.setQuestionCount30d(cluster.count30d());
+            if (cluster.lastAskedAt() != null) {
+                candidate.setLastAskedAt(cluster.lastAskedAt());
+            }
+
+            if (candidate.getId() == null) {
+                UUID id = faqCandidateRepository.save(candidate).getId();
+                questionClusterStore.linkCandidate(cluster.id(), id);
+                created++;
+            }
+        }
+
+        log.info("[FAQ 후보 클러스터 반영] 완료: clusters={}, created={}", clusters.size(), created);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public FaqCandidateResponse getCandidate(UUID id) {
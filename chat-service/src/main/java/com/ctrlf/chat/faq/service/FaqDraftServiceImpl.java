@@ -3,11 +3,13 @@ package com.ctrlf.chat.faq.service;
 import com.ctrlf.chat.faq.dto.response.FaqDraftResponse;
 import com.ctrlf.chat.faq.entity.*;
 import com.ctrlf.chat.faq.repository.*;
+import com.ctrlf.chat.faq.snapshot.FaqChangedEvent;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class FaqDraftServiceImpl implements FaqDraftService {
     private final FaqDraftRepository faqDraftRepository;
     private final FaqRepository faqRepository;
     private final FaqRevisionRepository faqRevisionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -228,6 +231,7 @@ public class FaqDraftServiceImpl implements FaqDraftService {
                 null
             )
         );
+        eventPublisher.publishEvent(new FaqChangedEvent("faq.approve"));
     }
 
     @Override
@@ -1,10 +1,14 @@
 package com.ctrlf.chat.faq.service;
 
 import com.ctrlf.chat.faq.dto.response.FaqDashboardResponse;
+import com.ctrlf.chat.faq.snapshot.FaqSnapshot;
 import java.util.List;
 
 public interface FaqQueryService {
 
+    // 현재 FAQ 스냅샷 (ETag 응답용: 목록과 버전을 같은 스냅샷에서 읽기 위해 사용)
+    FaqSnapshot snapshot();
+
     // 홈 FAQ (도메인별 1개)
     List<FaqDashboardResponse> getHomeFaqs();
 
@@ -6,6 +6,7 @@ import com.ctrlf.chat.faq.dto.request.FaqDraftGenerateBatchRequest;
 import com.ctrlf.chat.faq.dto.request.FaqUpdateRequest;
 import com.ctrlf.chat.faq.dto.response.AutoFaqGenerateResponse;
 import com.ctrlf.chat.faq.dto.response.FaqDraftGenerateBatchResponse;
+import com.ctrlf.chat.faq.dto.response.FaqJobResponse;
 import com.ctrlf.chat.faq.dto.response.FaqResponse;
 
 import java.util.List;
@@ -52,9 +53,9 @@ public interface FaqService {
     void rejectDraft(UUID draftId, UUID reviewerId, String reason);
 
     /**
-     * 초기 FAQ 데이터의 질문들에 대해 AI 답변을 생성하여 업데이트
+     * 초기 FAQ 데이터의 질문들에 대해 AI 답변 생성 작업을 백그라운드로 시작
      * 
-     * @return 초기 FAQ AI 답변 생성 응답 (상태, 성공/실패 개수 포함)
+     * @return 시작된 작업 상태 (같은 작업이 실행 중이면 그 작업의 상태)
      */
-    com.ctrlf.chat.faq.dto.response.InitialFaqAiAnswerGenerateResponse generateAiAnswersForInitialFaqs();
+    FaqJobResponse generateAiAnswersForInitialFaqs();
 }
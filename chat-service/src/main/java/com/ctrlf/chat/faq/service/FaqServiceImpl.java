@@ -1,5 +1,6 @@
 package com.ctrlf.chat.faq.service;
 
+import com.ctrlf.chat.faq.cluster.QuestionClusterStore;
 import com.ctrlf.chat.faq.dto.request.AutoFaqGenerateRequest;
 import com.ctrlf.chat.faq.dto.request.FaqCreateRequest;
 import com.ctrlf.chat.faq.dto.request.FaqDraftGenerateBatchRequest;
@@ -9,17 +10,23 @@ import com.ctrlf.chat.faq.dto.response.AutoFaqGenerateResponse;
 import com.ctrlf.chat.faq.exception.FaqNotFoundException;
 import com.ctrlf.chat.faq.dto.response.FaqDraftGenerateBatchResponse;
 import com.ctrlf.chat.faq.dto.response.FaqDraftGenerateResponse;
+import com.ctrlf.chat.faq.dto.response.FaqJobResponse;
 import com.ctrlf.chat.faq.dto.response.FaqResponse;
 import com.ctrlf.chat.ai.search.client.ChatAiClient;
-import com.ctrlf.chat.ai.search.dto.ChatAiResponse;
 import com.ctrlf.chat.faq.entity.*;
+import com.ctrlf.chat.faq.job.FaqJob;
+import com.ctrlf.chat.faq.job.FaqJobRunner;
+import com.ctrlf.chat.faq.job.InitialFaqAnswerTask;
 import com.ctrlf.chat.faq.repository.*;
+import com.ctrlf.chat.faq.snapshot.FaqChangedEvent;
+import com.ctrlf.chat.faq.snapshot.FaqSnapshotHolder;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +42,10 @@ public class FaqServiceImpl implements FaqService {
     private final FaqRevisionRepository faqRevisionRepository;
     private final FaqAiClient faqAiClient;
     private final ChatAiClient chatAiClient;
+    private final QuestionClusterStore questionClusterStore;
+    private final FaqSnapshotHolder faqSnapshotHolder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FaqJobRunner faqJobRunner;
 
     // =========================
     // FAQ 조회 및 관리
@@ -54,6 +65,7 @@ public class FaqServiceImpl implements FaqService {
         faq.setUpdatedAt(Instant.now());
 
         faqRepository.save(faq);
+        eventPublisher.publishEvent(new FaqChangedEvent("faq.create"));
         log.info("FAQ 수동 생성 완료: id={}, question={}, domain={}", faq.getId(), faq.getQuestion(), faq.getDomain());
         return faq.getId();
     }
@@ -62,11 +74,8 @@ public class FaqServiceImpl implements FaqService {
     @Transactional(readOnly = true)
     public List<FaqResponse> getAll() {
         // 모든 활성화된 FAQ 반환 (초기 데이터 20개 + 관리자 승인 FAQ 모두 포함)
-        // 우선순위 순으로 정렬, 동일 우선순위는 publishedAt DESC, createdAt ASC
-        return faqRepository.findAllActiveOrderedByPriorityAndPublishedAt()
-            .stream()
-            .map(FaqResponse::from)
-            .toList();
+        // 우선순위 순으로 정렬, 동일 우선순위는 publishedAt DESC, createdAt ASC (스냅샷에서 조회)
+        return faqSnapshotHolder.current().activeFaqs();
     }
 
     @Override
@@ -81,6 +90,7 @@ public class FaqServiceImpl implements FaqService {
         if (request.getPriority() != null) faq.setPriority(request.getPriority());
 
         faq.setUpdatedAt(Instant.now());
+        eventPublisher.publishEvent(new FaqChangedEvent("faq.update"));
     }
 
     @Override
@@ -90,6 +100,7 @@ public class FaqServiceImpl implements FaqService {
 
         faq.setIsActive(false);
         faq.setUpdatedAt(Instant.now());
+        eventPublisher.publishEvent(new FaqChangedEvent("faq.delete"));
     }
 
     // =========================
@@ -306,6 +317,7 @@ public class FaqServiceImpl implements FaqService {
         );
 
         faqRevisionRepository.save(revision);
+        eventPublisher.publishEvent(new FaqChangedEvent("faq.approve"));
     }
 
     @Override
@@ -413,7 +425,8 @@ public class FaqServiceImpl implements FaqService {
             })
             .collect(Collectors.toList());
 
-        // 성공한 항목들을 DB에 저장
+        // 성공한 항목들을 모아 한 번에 저장 (JDBC 배치 INSERT)
+        List<FaqDraft> drafts = new java.util.ArrayList<>();
         for (int i = 0; i < responses.size(); i++) {
             FaqDraftGenerateResponse response = responses.get(i);
             if ("SUCCESS".equals(response.getStatus()) && response.getFaqDraft() != null) {
@@ -432,9 +445,10 @@ public class FaqServiceImpl implements FaqService {
                     .createdAt(java.time.LocalDateTime.now())
                     .build();
 
-                faqDraftRepository.save(faqDraft);
+                drafts.add(faqDraft);
             }
         }
+        faqDraftRepository.saveAll(drafts);
 
         return new FaqDraftGenerateBatchResponse(
             responses,
@@ -504,6 +518,7 @@ public class FaqServiceImpl implements FaqService {
         // FAQ 후보(Candidate) 저장
         if (aiResponse.candidates() != null && !aiResponse.candidates().isEmpty()) {
             log.info("[FAQ 자동 생성] AI 서버에서 {}개의 FAQ 후보를 발견했습니다. DB 저장 시작", aiResponse.candidates().size());
+            List<FaqCandidate> candidates = new java.util.ArrayList<>();
             for (FaqAiClient.FaqCandidateInfo candidateInfo : aiResponse.candidates()) {
                 try {
                     // cluster_id로 domain 찾기 (draft에서 매핑)
@@ -521,20 +536,25 @@ public class FaqServiceImpl implements FaqService {
                     candidate.setCreatedAt(java.time.Instant.now());
                     candidate.setLastAskedAt(java.time.Instant.now());  // 최근 질문 시각
                     candidate.setPiiDetected(false);  // 기본값
-                    
-                    FaqCandidate savedCandidate = faqCandidateRepository.save(candidate);
-                    candidateSavedCount++;
-                    log.info("[FAQ 자동 생성] FAQ 후보 저장 성공: candidateId={}, question='{}', domain={}, status={}", 
-                        savedCandidate.getId(), 
-                        savedCandidate.getCanonicalQuestion(),
-                        savedCandidate.getDomain(),
-                        savedCandidate.getStatus());
+                    candidates.add(candidate);
                 } catch (Exception e) {
                     candidateFailedCount++;
                     log.error("[FAQ 자동 생성] FAQ 후보 저장 실패: clusterId={}, error={}", 
                         candidateInfo.cluster_id(), e.getMessage(), e);
                 }
             }
+
+            // 한 번에 저장 (JDBC 배치 INSERT)
+            for (FaqCandidate savedCandidate : faqCandidateRepository.saveAll(candidates)) {
+                // 유사 질문이 같은 후보로 집계되도록 질문 클러스터에 등록
+                questionClusterStore.seed(savedCandidate.getId(), savedCandidate.getCanonicalQuestion(), savedCandidate.getDomain());
+                candidateSavedCount++;
+                log.info("[FAQ 자동 생성] FAQ 후보 저장 성공: candidateId={}, question='{}', domain={}, status={}", 
+                    savedCandidate.getId(), 
+                    savedCandidate.getCanonicalQuestion(),
+                    savedCandidate.getDomain(),
+                    savedCandidate.getStatus());
+            }
             log.info("[FAQ 자동 생성] FAQ 후보 저장 완료: savedCount={}, failedCount={}", 
                 candidateSavedCount, candidateFailedCount);
         } else {
@@ -550,6 +570,7 @@ public class FaqServiceImpl implements FaqService {
 
         if (aiResponse.drafts() != null && !aiResponse.drafts().isEmpty()) {
             log.info("[FAQ 자동 생성] {}개의 FAQ 초안을 DB에 저장 시작", aiResponse.drafts().size());
+            List<FaqDraft> drafts = new java.util.ArrayList<>();
             for (FaqAiClient.FaqDraftPayload draftPayload : aiResponse.drafts()) {
                 try {
                     // Domain을 원본 형식으로 매핑 (AI 서버는 SEC_POLICY 형식 사용)
@@ -567,9 +588,9 @@ public class FaqServiceImpl implements FaqService {
                         .createdAt(java.time.LocalDateTime.now())
                         .build();
 
-                    faqDraftRepository.save(faqDraft);
+                    drafts.add(faqDraft);
                     savedCount++;
-                    log.debug("[FAQ 자동 생성] FAQ 초안 저장 성공: draftId={}, question={}", 
+                    log.debug("[FAQ 자동 생성] FAQ 초안 저장 준비: draftId={}, question={}", 
                         faqDraft.getFaqDraftId(), faqDraft.getQuestion());
 
                     // 응답용 DTO 생성
@@ -594,6 +615,8 @@ public class FaqServiceImpl implements FaqService {
                         draftPayload.faq_draft_id(), e.getMessage(), e);
                 }
             }
+            // 한 번에 저장 (JDBC 배치 INSERT)
+            faqDraftRepository.saveAll(drafts);
             log.info("[FAQ 자동 생성] FAQ 초안 저장 완료: savedCount={}, failedCount={}", savedCount, failedCount);
         } else {
             log.warn("[FAQ 자동 생성] AI 서버에서 FAQ 초안을 생성하지 못했습니다. drafts={}", 
@@ -665,104 +688,19 @@ public class FaqServiceImpl implements FaqService {
     }
 
     @Override
-    public com.ctrlf.chat.faq.dto.response.InitialFaqAiAnswerGenerateResponse generateAiAnswersForInitialFaqs() {
-        log.info("[초기 FAQ AI 답변 생성] 시작");
-        
+    @Transactional(readOnly = true)
+    public FaqJobResponse generateAiAnswersForInitialFaqs() {
         // 초기 데이터 FAQ 조회 (ID가 00000000-0000-0000-0000-로 시작하는 것들)
-        List<Faq> initialFaqs = faqRepository.findInitialDataFaqs();
-        
-        if (initialFaqs.isEmpty()) {
-            log.warn("[초기 FAQ AI 답변 생성] 초기 데이터 FAQ를 찾을 수 없습니다.");
-            return new com.ctrlf.chat.faq.dto.response.InitialFaqAiAnswerGenerateResponse(
-                "FAILED",
-                0,
-                0,
-                0,
-                "초기 데이터 FAQ를 찾을 수 없습니다."
-            );
-        }
-        
-        log.info("[초기 FAQ AI 답변 생성] 초기 데이터 FAQ 개수: {}", initialFaqs.size());
-        
-        int successCount = 0;
-        int failCount = 0;
-        
-        // 각 FAQ 질문에 대해 AI 답변 생성
-        for (Faq faq : initialFaqs) {
-            try {
-                log.info("[초기 FAQ AI 답변 생성] 처리 중: id={}, question={}, domain={}", 
-                    faq.getId(), faq.getQuestion(), faq.getDomain());
-                
-                // 임시 세션 ID 생성 (FAQ 답변 생성용)
-                UUID tempSessionId = UUID.randomUUID();
-                // 임시 사용자 ID 생성 (FAQ 답변 생성용)
-                UUID tempUserId = UUID.fromString("00000000-0000-0000-0000-000000000000");
-                
-                // ChatAiClient를 사용하여 AI 답변 생성
-                ChatAiResponse aiResponse = chatAiClient.ask(
-                    tempSessionId,
-                    tempUserId,
-                    "ADMIN",  // 관리자 역할
-                    null,  // department는 null
-                    faq.getDomain(),
-                    "WEB",
-                    faq.getQuestion(),  // FAQ 질문을 AI에 전달
-                    "openai",  // 기본 임베딩 모델
-                    "exaone"  // 기본 LLM 모델
-                );
-                
-                if (aiResponse != null && aiResponse.getAnswer() != null && !aiResponse.getAnswer().isBlank()) {
-                    // AI 답변으로 FAQ 업데이트
-                    faq.setAnswer(aiResponse.getAnswer());
-                    faq.setUpdatedAt(Instant.now());
-                    faqRepository.save(faq);
-                    
-                    successCount++;
-                    log.info("[초기 FAQ AI 답변 생성] 성공: id={}, question={}", 
-                        faq.getId(), faq.getQuestion());
-                } else {
-                    failCount++;
-                    log.warn("[초기 FAQ AI 답변 생성] AI 응답이 비어있음: id={}, question={}", 
-                        faq.getId(), faq.getQuestion());
-                }
-                
-                // API 호출 제한을 피하기 위해 짧은 대기 시간 추가
-                Thread.sleep(500);  // 0.5초 대기
-                
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                failCount++;
-                log.error("[초기 FAQ AI 답변 생성] 인터럽트 발생: id={}, question={}, error={}", 
-                    faq.getId(), faq.getQuestion(), e.getMessage(), e);
-            } catch (Exception e) {
-                failCount++;
-                log.error("[초기 FAQ AI 답변 생성] 실패: id={}, question={}, error={}", 
-                    faq.getId(), faq.getQuestion(), e.getMessage(), e);
-            }
-        }
-        
-        // 상태 결정
-        String status;
-        String errorMessage = null;
-        if (failCount == 0) {
-            status = "SUCCESS";
-        } else if (successCount > 0) {
-            status = "PARTIAL";
-            errorMessage = String.format("%d개 FAQ 업데이트 실패", failCount);
-        } else {
-            status = "FAILED";
-            errorMessage = "모든 FAQ 업데이트 실패";
+        List<InitialFaqAnswerTask.Item> items = faqRepository.findInitialDataFaqs().stream()
+            .map(InitialFaqAnswerTask.Item::from)
+            .toList();
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("초기 데이터 FAQ를 찾을 수 없습니다.");
         }
-        
-        log.info("[초기 FAQ AI 답변 생성] 완료: 전체={}, 성공={}, 실패={}, 상태={}", 
-            initialFaqs.size(), successCount, failCount, status);
-        
-        return new com.ctrlf.chat.faq.dto.response.InitialFaqAiAnswerGenerateResponse(
-            status,
-            initialFaqs.size(),
-            successCount,
-            failCount,
-            errorMessage
-        );
+
+        // AI 호출은 작업 실행기에서 속도 제한 + 병렬로 처리하고, 결과는 배치 단위로 저장
+        FaqJob job = faqJobRunner.submit(new InitialFaqAnswerTask(items, chatAiClient, faqRepository, eventPublisher));
+        log.info("[초기 FAQ AI 답변 생성] 작업 시작: jobId={}, 초기 데이터 FAQ 개수={}", job.getId(), job.getTotalCount());
+        return FaqJobResponse.from(job);
     }
 }
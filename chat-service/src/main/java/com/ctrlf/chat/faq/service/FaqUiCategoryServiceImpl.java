@@ -9,9 +9,12 @@ import com.ctrlf.chat.faq.entity.FaqUiCategory;
 import com.ctrlf.chat.faq.repository.FaqRepository;
 import com.ctrlf.chat.faq.repository.FaqRevisionRepository;
 import com.ctrlf.chat.faq.repository.FaqUiCategoryRepository;
+import com.ctrlf.chat.faq.snapshot.FaqChangedEvent;
+import com.ctrlf.chat.faq.snapshot.FaqSnapshotHolder;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +28,8 @@ public class FaqUiCategoryServiceImpl implements FaqUiCategoryService {
     private final FaqUiCategoryRepository faqUiCategoryRepository;
     private final FaqRepository faqRepository;
     private final FaqRevisionRepository faqRevisionRepository;
+    private final FaqSnapshotHolder faqSnapshotHolder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UUID create(FaqUiCategoryCreateRequest req, UUID operatorId) {
@@ -48,7 +53,9 @@ public class FaqUiCategoryServiceImpl implements FaqUiCategoryService {
             operatorId
         );
 
-        return faqUiCategoryRepository.save(category).getId();
+        UUID id = faqUiCategoryRepository.save(category).getId();
+        eventPublisher.publishEvent(new FaqChangedEvent("category.create"));
+        return id;
     }
 
     @Override
@@ -57,6 +64,7 @@ public class FaqUiCategoryServiceImpl implements FaqUiCategoryService {
             .orElseThrow(() -> new IllegalArgumentException("카테고리가 존재하지 않습니다."));
 
         category.update(req.getDisplayName(), req.getSortOrder(), req.getIsActive(), operatorId);
+        eventPublisher.publishEvent(new FaqChangedEvent("category.update"));
     }
 
     // ===============================
@@ -89,13 +97,13 @@ public class FaqUiCategoryServiceImpl implements FaqUiCategoryService {
                 reason
             )
         );
+        eventPublisher.publishEvent(new FaqChangedEvent("category.deactivate"));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<FaqUiCategoryResponse> getActiveCategories() {
-        return faqUiCategoryRepository.findByIsActiveTrueOrderBySortOrderAsc()
-            .stream().map(FaqUiCategoryResponse::from).toList();
+        return faqSnapshotHolder.current().activeCategories();
     }
 
     @Override
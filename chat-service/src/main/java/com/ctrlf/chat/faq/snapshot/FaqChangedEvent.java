@@ -0,0 +1,11 @@
+package com.ctrlf.chat.faq.snapshot;
+
+/**
+ * 게시 FAQ 또는 UI 카테고리 변경 이벤트
+ *
+ * <p>FAQ 생성/승인/수정/삭제, 카테고리 생성/수정/비활성화 시 발행하며,
+ * 트랜잭션 커밋 후 {@link FaqSnapshotHolder}가 조회용 스냅샷을 다시 만듭니다.</p>
+ *
+ * @param reason 변경 사유 (로그용, 예: "faq.update")
+ */
+public record FaqChangedEvent(String reason) {}
@@ -0,0 +1,49 @@
+package com.ctrlf.chat.faq.snapshot;
+
+import com.ctrlf.chat.faq.dto.response.FaqDashboardResponse;
+import com.ctrlf.chat.faq.dto.response.FaqResponse;
+import com.ctrlf.chat.faq.dto.response.FaqUiCategoryResponse;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시 FAQ / UI 카테고리 조회용 불변 스냅샷
+ *
+ * <p>조회 API는 DB 대신 이 스냅샷을 그대로 반환합니다. 변경 시에는 새 스냅샷을 만들어 통째로 교체하므로
+ * 한 응답 안에서 서로 다른 버전의 데이터가 섞이지 않습니다.</p>
+ *
+ * @param version 스냅샷 버전 (재빌드마다 증가, ETag 값)
+ * @param homeFaqs 홈 화면 FAQ (도메인별 1개)
+ * @param domainFaqs 도메인별 FAQ (도메인별 최대 2개, 최신 게시순)
+ * @param activeFaqs 전체 활성 FAQ (우선순위순)
+ * @param activeCategories 활성 UI 카테고리 (정렬 순서순)
+ */
+public record FaqSnapshot(
+    long version,
+    List<FaqDashboardResponse> homeFaqs,
+    Map<String, List<FaqDashboardResponse>> domainFaqs,
+    List<FaqResponse> activeFaqs,
+    List<FaqUiCategoryResponse> activeCategories
+) {
+
+    public FaqSnapshot {
+        homeFaqs = List.copyOf(homeFaqs);
+        domainFaqs = Map.copyOf(domainFaqs);
+        activeFaqs = List.copyOf(activeFaqs);
+        activeCategories = List.copyOf(activeCategories);
+    }
+
+    /**
+     * 도메인별 FAQ (없는 도메인이면 빈 목록)
+     */
+    public List<FaqDashboardResponse> domainFaqs(String domain) {
+        return domain != null ? domainFaqs.getOrDefault(domain, List.of()) : List.of();
+    }
+
+    /**
+     * 스냅샷 버전 기반 ETag (강한 검증자, 따옴표 포함)
+     */
+    public String etag() {
+        return "\"faq-" + version + "\"";
+    }
+}
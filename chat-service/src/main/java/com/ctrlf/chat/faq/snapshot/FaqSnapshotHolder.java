@@ -0,0 +1,127 @@
+package com.ctrlf.chat.faq.snapshot;
+
+import com.ctrlf.chat.faq.dto.response.FaqDashboardResponse;
+import com.ctrlf.chat.faq.dto.response.FaqResponse;
+import com.ctrlf.chat.faq.dto.response.FaqUiCategoryResponse;
+import com.ctrlf.chat.faq.entity.Faq;
+import com.ctrlf.chat.faq.repository.FaqRepository;
+import com.ctrlf.chat.faq.repository.FaqUiCategoryRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시 FAQ / UI 카테고리 스냅샷 보관소
+ *
+ * <p>홈/도메인 FAQ와 카테고리 조회는 채팅 UI에서 가장 많이 호출되지만 데이터는 하루 몇 번만 바뀝니다.
+ * 그래서 조회 시 DB를 읽지 않고, {@link FaqChangedEvent}가 커밋된 뒤에만 DB에서 새 스냅샷을 만들어
+ * volatile 참조 하나로 교체합니다. 조회 스레드는 항상 완성된 스냅샷만 봅니다.</p>
+ * <p>버전은 기동 시각(ms)에서 시작해 재빌드마다 1씩 증가하므로, 재시작 후에도 이전 ETag와 겹치지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class FaqSnapshotHolder {
+
+    private final FaqRepository faqRepository;
+    private final FaqUiCategoryRepository faqUiCategoryRepository;
+
+    private final AtomicLong versions = new AtomicLong(System.currentTimeMillis());
+    private volatile FaqSnapshot current;
+    /** 마지막 재빌드가 실패해 다음 조회 때 다시 시도해야 하는지 여부 */
+    private volatile boolean stale = true;
+
+    public FaqSnapshotHolder(FaqRepository faqRepository, FaqUiCategoryRepository faqUiCategoryRepository) {
+        this.faqRepository = faqRepository;
+        this.faqUiCategoryRepository = faqUiCategoryRepository;
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다. 아직 만들어지지 않았거나 직전 재빌드가 실패했으면 먼저 만듭니다.
+     */
+    public FaqSnapshot current() {
+        FaqSnapshot snapshot = current;
+        if (snapshot != null && !stale) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (current == null || stale) {
+                try {
+                    rebuild("read");
+                } catch (RuntimeException e) {
+                    // 이전 스냅샷이 있으면 그대로 제공 (DB 장애 시에도 조회 유지)
+                    if (current == null) {
+                        throw e;
+                    }
+                    log.warn("FAQ snapshot refresh failed, serving version {}: error={}", current.version(), e.getMessage());
+                }
+            }
+            return current;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh("startup");
+    }
+
+    /**
+     * FAQ/카테고리 변경이 커밋된 뒤 스냅샷을 다시 만듭니다. (트랜잭션 밖에서 발행된 경우 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        refresh(event.reason());
+    }
+
+    private synchronized void refresh(String reason) {
+        try {
+            rebuild(reason);
+        } catch (RuntimeException e) {
+            stale = true;
+            log.error("FAQ snapshot rebuild failed: reason={}, error={}", reason, e.getMessage(), e);
+        }
+    }
+
+    private void rebuild(String reason) {
+        List<Faq> byDomain = faqRepository.findAllActiveOrderedByDomainAndPublishedAt();
+
+        // 도메인별 첫 번째 FAQ = 홈, 앞의 2개 = 도메인 상세 (LinkedHashMap으로 도메인 순서 유지)
+        Map<String, List<FaqDashboardResponse>> domainFaqs = new LinkedHashMap<>();
+        List<FaqDashboardResponse> homeFaqs = new ArrayList<>();
+        for (Faq faq : byDomain) {
+            if (faq.getDomain() == null) {
+                continue;
+            }
+            List<FaqDashboardResponse> faqs = domainFaqs.computeIfAbsent(faq.getDomain(), d -> new ArrayList<>(2));
+            if (faqs.size() < 2) {
+                FaqDashboardResponse response = FaqDashboardResponse.from(faq);
+                if (faqs.isEmpty()) {
+                    homeFaqs.add(response);
+                }
+                faqs.add(response);
+            }
+        }
+        domainFaqs.replaceAll((domain, faqs) -> List.copyOf(faqs));
+
+        List<FaqResponse> activeFaqs = faqRepository.findAllActiveOrderedByPriorityAndPublishedAt()
+            .stream()
+            .map(FaqResponse::from)
+            .toList();
+        List<FaqUiCategoryResponse> activeCategories = faqUiCategoryRepository.findByIsActiveTrueOrderBySortOrderAsc()
+            .stream()
+            .map(FaqUiCategoryResponse::from)
+            .toList();
+
+        FaqSnapshot snapshot = new FaqSnapshot(versions.incrementAndGet(), homeFaqs, domainFaqs, activeFaqs, activeCategories);
+        current = snapshot;
+        stale = false;
+        log.info("FAQ snapshot rebuilt: reason={}, version={}, faqs={}, domains={}, categories={}",
+            reason, snapshot.version(), activeFaqs.size(), domainFaqs.size(), activeCategories.size());
+    }
+}
@@ -0,0 +1,169 @@
+package com.ctrlf.chat.keyword;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 키워드 추출용 사전 (조사 / 불용어 / 보호 단어)
+ *
+ * <p>사전 파일은 섹션 헤더와 한 줄에 한 단어 형식입니다. '#'으로 시작하는 줄은 주석입니다.</p>
+ * <pre>
+ * [particles]   토큰 끝에서 제거할 조사 (예: 은, 는, 에서)
+ * [stopwords]   키워드에서 통째로 뺄 토큰 (예: 알려줘, 어떻게)
+ * [protected]   조사처럼 끝나지만 명사인 단어 (예: 휴가, 평가) - 토큰이 이 단어로 끝나면 조사를 떼지 않음
+ * </pre>
+ * <p>조사/보호 단어는 역순 트라이 하나에, 불용어는 정순 트라이에 담아
+ * 토큰 끝(또는 처음)에서 한 번의 순회로 판정합니다. 자식 노드는 정렬된 char 배열로 보관해
+ * 조회 시 박싱이나 문자열 생성이 없습니다.</p>
+ */
+public final class KeywordDictionary {
+
+    static final int PARTICLE = 1;
+    static final int PROTECTED = 2;
+    static final int STOPWORD = 4;
+
+    /** 조사/보호 단어 역순 트라이 (토큰 끝에서 앞으로 순회) */
+    private final Node suffixes = new Node();
+    /** 불용어 정순 트라이 */
+    private final Node stopwords = new Node();
+
+    private KeywordDictionary() {}
+
+    /**
+     * 사전 파일을 읽습니다. (UTF-8)
+     *
+     * @throws IllegalArgumentException 알 수 없는 섹션이거나 섹션 밖에 단어가 있는 경우
+     */
+    public static KeywordDictionary load(InputStream in) throws IOException {
+        KeywordDictionary dictionary = new KeywordDictionary();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String section = null;
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                String word = line.strip();
+                if (word.isEmpty() || word.startsWith("#")) {
+                    continue;
+                }
+                if (word.startsWith("[") && word.endsWith("]")) {
+                    section = word.substring(1, word.length() - 1);
+                    continue;
+                }
+                if (section == null) {
+                    throw new IllegalArgumentException("섹션 밖의 단어입니다 (line " + lineNo + "): " + word);
+                }
+                switch (section) {
+                    case "particles" -> dictionary.suffixes.insertReversed(word, PARTICLE);
+                    case "protected" -> dictionary.suffixes.insertReversed(word, PROTECTED);
+                    case "stopwords" -> dictionary.stopwords.insert(word, STOPWORD);
+                    default -> throw new IllegalArgumentException("알 수 없는 섹션입니다 (line " + lineNo + "): " + section);
+                }
+            }
+        }
+        return dictionary;
+    }
+
+    /**
+     * text[start, end) 토큰 끝에서 떼어낼 조사 길이를 반환합니다. (없으면 0)
+     *
+     * <p>가장 긴 조사를 고르되, 남는 어간이 minStem(1글자 조사는 2글자, 그 외 1글자) 이상이어야 합니다.
+     * 토큰이 조사보다 길거나 같은 보호 단어로 끝나면 떼지 않습니다.</p>
+     */
+    int particleLength(CharSequence text, int start, int end) {
+        Node node = suffixes;
+        int particle = 0;
+        int protectedLength = 0;
+        for (int i = end - 1; i >= start; i--) {
+            node = node.child(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            int length = end - i;
+            int stem = i - start;
+            if ((node.flags & PARTICLE) != 0 && stem >= (length == 1 ? 2 : 1)) {
+                particle = length;
+            }
+            if ((node.flags & PROTECTED) != 0) {
+                protectedLength = length;
+            }
+        }
+        return protectedLength >= particle ? 0 : particle;
+    }
+
+    /**
+     * text[start, end) 토큰이 불용어인지 확인합니다.
+     */
+    boolean isStopword(CharSequence text, int start, int end) {
+        Node node = stopwords;
+        for (int i = start; i < end; i++) {
+            node = node.child(text.charAt(i));
+            if (node == null) {
+                return false;
+            }
+        }
+        return (node.flags & STOPWORD) != 0;
+    }
+
+    /**
+     * 트라이 노드 (자식은 정렬된 char 배열 + 이진 탐색)
+     */
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int flags;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        void insert(String word, int flag) {
+            Node node = this;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.getOrCreate(word.charAt(i));
+            }
+            node.flags |= flag;
+        }
+
+        void insertReversed(String word, int flag) {
+            Node node = this;
+            for (int i = word.length() - 1; i >= 0; i--) {
+                node = node.getOrCreate(word.charAt(i));
+            }
+            node.flags |= flag;
+        }
+
+        private Node getOrCreate(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node created = new Node();
+            keys = insertChar(keys, insertAt, c);
+            children = insertNode(children, insertAt, created);
+            return created;
+        }
+
+        private static char[] insertChar(char[] array, int at, char value) {
+            char[] result = new char[array.length + 1];
+            System.arraycopy(array, 0, result, 0, at);
+            result[at] = value;
+            System.arraycopy(array, at, result, at + 1, array.length - at);
+            return result;
+        }
+
+        private static Node[] insertNode(Node[] array, int at, Node value) {
+            Node[] result = new Node[array.length + 1];
+            System.arraycopy(array, 0, result, 0, at);
+            result[at] = value;
+            System.arraycopy(array, at, result, at + 1, array.length - at);
+            return result;
+        }
+    }
+}
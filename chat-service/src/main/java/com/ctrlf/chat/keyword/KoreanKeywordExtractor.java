@@ -0,0 +1,120 @@
+package com.ctrlf.chat.keyword;
+
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 질문 키워드 추출기
+ *
+ * <p>질문을 공백 단위 토큰으로 한 번만 순회하면서 토큰 끝의 문장부호와 조사를 떼고,
+ * 불용어 토큰은 건너뛴 뒤 결과를 하나의 StringBuilder에 바로 씁니다.
+ * 중간 문자열을 만들지 않으므로 메시지당 할당은 결과 문자열 1개 수준입니다.</p>
+ * <p>추출 결과는 chat_message.keyword, Elasticsearch chat_log 색인, FAQ 후보 그룹핑에 공통으로 쓰입니다.</p>
+ */
+@Slf4j
+@Component
+public class KoreanKeywordExtractor {
+
+    /** chat_message.keyword 컬럼 길이 */
+    static final int MAX_LENGTH = 200;
+
+    /** 이 길이 이하의 질문은 그대로 키워드로 사용 */
+    private static final int SHORT_QUESTION_LENGTH = 10;
+
+    private final KeywordDictionary dictionary;
+
+    @Autowired
+    public KoreanKeywordExtractor(
+        @Value("${app.chat.keyword.dictionary:classpath:keyword/ko-dictionary.txt}") Resource dictionaryFile
+    ) throws IOException {
+        try (InputStream in = dictionaryFile.getInputStream()) {
+            this.dictionary = KeywordDictionary.load(in);
+        }
+        log.info("Keyword dictionary loaded: {}", dictionaryFile.getDescription());
+    }
+
+    public KoreanKeywordExtractor(KeywordDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * 질문에서 키워드를 추출합니다.
+     *
+     * @param content 사용자 질문
+     * @return 키워드 (최대 200자, 질문이 비어 있으면 null)
+     */
+    public String extract(String content) {
+        if (content == null || content.isBlank()) {
+            return null;
+        }
+
+        int start = 0;
+        int end = content.length();
+        while (start < end && Character.isWhitespace(content.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(content.charAt(end - 1))) {
+            end--;
+        }
+
+        // 너무 짧은 경우 그대로 반환
+        if (end - start <= SHORT_QUESTION_LENGTH) {
+            return content.substring(start, end);
+        }
+
+        StringBuilder keyword = new StringBuilder(Math.min(end - start, MAX_LENGTH));
+        int i = start;
+        while (i < end) {
+            while (i < end && Character.isWhitespace(content.charAt(i))) {
+                i++;
+            }
+            int tokenStart = i;
+            while (i < end && !Character.isWhitespace(content.charAt(i))) {
+                i++;
+            }
+            int tokenEnd = i;
+            while (tokenEnd > tokenStart && isTrailingPunctuation(content.charAt(tokenEnd - 1))) {
+                tokenEnd--;
+            }
+            if (tokenEnd == tokenStart || dictionary.isStopword(content, tokenStart, tokenEnd)) {
+                continue;
+            }
+
+            tokenEnd -= dictionary.particleLength(content, tokenStart, tokenEnd);
+            // "무엇을" → "무엇"처럼 조사를 뗀 뒤 불용어가 되는 경우
+            if (dictionary.isStopword(content, tokenStart, tokenEnd)) {
+                continue;
+            }
+
+            int separator = keyword.length() > 0 ? 1 : 0;
+            if (keyword.length() + separator + (tokenEnd - tokenStart) > MAX_LENGTH) {
+                // 단어 중간에서 자르지 않음 (첫 토큰부터 너무 긴 경우만 잘라서 사용)
+                if (keyword.length() == 0) {
+                    keyword.append(content, tokenStart, tokenStart + MAX_LENGTH);
+                }
+                break;
+            }
+            if (separator == 1) {
+                keyword.append(' ');
+            }
+            keyword.append(content, tokenStart, tokenEnd);
+        }
+
+        if (keyword.length() == 0) {
+            return content.substring(start, Math.min(end, start + MAX_LENGTH));
+        }
+        return keyword.toString();
+    }
+
+    private static boolean isTrailingPunctuation(char c) {
+        return switch (c) {
+            case '?', '!', '.', ',', '~', '…', '？', '！', '。', '，' -> true;
+            default -> false;
+        };
+    }
+}
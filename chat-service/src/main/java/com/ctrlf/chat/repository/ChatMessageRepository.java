@@ -2,10 +2,12 @@ package com.ctrlf.chat.repository;
 
 import com.ctrlf.chat.entity.ChatMessage;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,6 +20,9 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, UUID>
     // ✅ 추가: 해당 세션에서 가장 최근 user 메시지 1개
     Optional<ChatMessage> findTopBySessionIdAndRoleOrderByCreatedAtDesc(UUID sessionId, String role);
 
+    /** 중복 전송 확인용 (request_id 유니크 인덱스) */
+    Optional<ChatMessage> findByRequestId(String requestId);
+
     @Query(
         value = """
             SELECT *
@@ -55,274 +60,62 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, UUID>
     );
 
     // ========================
-    // 대시보드 통계 쿼리
+    // 월 파티션 (V21)
     // ========================
 
     /**
-     * 오늘 질문 수 조회 (user role 메시지)
-     */
-    @Query(
-        value = """
-            SELECT COUNT(*)
-            FROM chat.chat_message m
-            WHERE m.role = 'user'
-              AND DATE(m.created_at) = CURRENT_DATE
-              AND (:department IS NULL OR m.department = :department)
-            """,
-        nativeQuery = true
-    )
-    Long countTodayQuestions(@Param("department") String department);
-
-    /**
-     * 평균 응답 시간 조회 (밀리초)
-     */
-    @Query(
-        value = """
-            SELECT COALESCE(AVG(m.response_time_ms), 0)
-            FROM chat.chat_message m
-            WHERE m.role = 'assistant'
-              AND m.response_time_ms IS NOT NULL
-              AND m.created_at >= :startDate
-              AND (:department IS NULL OR m.department = :department)
-            """,
-        nativeQuery = true
-    )
-    Long getAverageResponseTime(
-        @Param("startDate") Instant startDate,
-        @Param("department") String department
-    );
-
-    /**
-     * PII 감지 비율 조회 (%)
-     */
-    @Query(
-        value = """
-            SELECT CASE
-                WHEN COUNT(*) = 0 THEN 0.0
-                ELSE (COUNT(CASE WHEN m.pii_detected = true THEN 1 END) * 100.0 / COUNT(*))
-            END
-            FROM chat.chat_message m
-            WHERE m.role = 'user'
-              AND m.created_at >= :startDate
-              AND (:department IS NULL OR m.department = :department)
-            """,
-        nativeQuery = true
-    )
-    Double getPiiDetectionRate(
-        @Param("startDate") Instant startDate,
-        @Param("department") String department
-    );
-
-    /**
-     * 에러율 조회 (%)
+     * 월 파티션 생성 (이미 있으면 건너뜀)
+     *
+     * @param month 파티션 대상 월에 속한 날짜
+     * @return 파티션 테이블 이름
      */
-    @Query(
-        value = """
-            SELECT CASE
-                WHEN COUNT(*) = 0 THEN 0.0
-                ELSE (COUNT(CASE WHEN m.is_error = true THEN 1 END) * 100.0 / COUNT(*))
-            END
-            FROM chat.chat_message m
-            WHERE m.role = 'assistant'
-              AND m.created_at >= :startDate
-              AND (:department IS NULL OR m.department = :department)
-            """,
-        nativeQuery = true
-    )
-    Double getErrorRate(
-        @Param("startDate") Instant startDate,
-        @Param("department") String department
-    );
+    @Query(value = "SELECT chat.create_chat_message_partition(CAST(:month AS date))", nativeQuery = true)
+    String createMonthlyPartition(@Param("month") LocalDate month);
 
-    /**
-     * 기간 내 질문 수 조회
-     */
-    @Query(
-        value = """
-            SELECT COUNT(*)
-            FROM chat.chat_message m
-            WHERE m.role = 'user'
-              AND m.created_at >= :startDate
-              AND (:department IS NULL OR m.department = :department)
-            """,
-        nativeQuery = true
-    )
-    Long countQuestionsByPeriod(
-        @Param("startDate") Instant startDate,
-        @Param("department") String department
-    );
-
-    /**
-     * 활성 사용자 수 조회 (고유 user_uuid 기준)
-     */
-    @Query(
-        value = """
-            SELECT COUNT(DISTINCT s.user_uuid)
-            FROM chat.chat_session s
-            INNER JOIN chat.chat_message m ON m.session_id = s.id
-            WHERE m.role = 'user'
-              AND m.created_at >= :startDate
-              AND s.deleted = false
-              AND (:department IS NULL OR m.department = :department)
-            """,
-        nativeQuery = true
-    )
-    Long countActiveUsers(
-        @Param("startDate") Instant startDate,
-        @Param("department") String department
-    );
+    // ========================
+    // 비활성 세션 아카이브 / 복원
+    // ========================
 
     /**
-     * RAG 사용 비율 조회 (%)
+     * 세션 메시지 전체를 삭제하면서 삭제한 행을 JSON 배열 텍스트로 반환 (chat_message 행 그대로, 오래된 순)
+     * - 삭제와 직렬화를 한 문장으로 처리하므로 그 사이에 들어온 메시지를 아카이브 없이 지우는 일이 없음
      */
     @Query(
         value = """
-            SELECT CASE
-                WHEN COUNT(*) = 0 THEN 0.0
-                ELSE (COUNT(CASE WHEN m.routing_type = 'RAG' THEN 1 END) * 100.0 / COUNT(*))
-            END
-            FROM chat.chat_message m
-            WHERE m.role = 'assistant'
-              AND m.created_at >= :startDate
-              AND (:department IS NULL OR m.department = :department)
+            WITH moved AS (
+                DELETE FROM chat.chat_message
+                WHERE session_id = :sessionId
+                RETURNING *
+            )
+            SELECT
+                COALESCE(CAST(jsonb_agg(to_jsonb(moved) ORDER BY moved.created_at, moved.id) AS text), '[]') AS messages,
+                COUNT(*) AS "messageCount"
+            FROM moved
             """,
         nativeQuery = true
     )
-    Double getRagUsageRate(
-        @Param("startDate") Instant startDate,
-        @Param("department") String department
-    );
+    ExtractedMessages extractSessionMessagesAsJson(@Param("sessionId") UUID sessionId);
 
-    /**
-     * 라우트별 질문 비율 조회
-     */
-    @Query(
-        value = """
-            SELECT 
-                COALESCE(m.routing_type, 'OTHER') as route_type,
-                COUNT(*) as count,
-                COUNT(*) * 100.0 / (SELECT COUNT(*) FROM chat.chat_message m2 
-                    WHERE m2.role = 'assistant' 
-                      AND m2.created_at >= :startDate
-                      AND (:department IS NULL OR m2.department = :department)) as ratio
-            FROM chat.chat_message m
-            WHERE m.role = 'assistant'
-              AND m.created_at >= :startDate
-              AND (:department IS NULL OR m.department = :department)
-            GROUP BY COALESCE(m.routing_type, 'OTHER')
-            ORDER BY count DESC
-            """,
-        nativeQuery = true
-    )
-    List<Object[]> getRouteRatio(
-        @Param("startDate") Instant startDate,
-        @Param("department") String department
-    );
+    /** extractSessionMessagesAsJson 결과 */
+    interface ExtractedMessages {
+        String getMessages();
 
-    /**
-     * 최근 많이 질문된 키워드 Top N 조회
-     */
-    @Query(
-        value = """
-            SELECT 
-                m.keyword,
-                COUNT(*) as question_count
-            FROM chat.chat_message m
-            WHERE m.role = 'user'
-              AND m.keyword IS NOT NULL
-              AND m.created_at >= :startDate
-              AND (:department IS NULL OR m.department = :department)
-            GROUP BY m.keyword
-            ORDER BY question_count DESC
-            LIMIT :limit
-            """,
-        nativeQuery = true
-    )
-    List<Object[]> getTopKeywords(
-        @Param("startDate") Instant startDate,
-        @Param("department") String department,
-        @Param("limit") int limit
-    );
+        long getMessageCount();
+    }
 
     /**
-     * 일별 질문 수 및 에러율 추이 조회
+     * extractSessionMessagesAsJson 결과를 chat_message로 되돌림 (id/created_at 포함 원래 값 그대로)
      */
+    @Modifying
     @Query(
         value = """
-            SELECT 
-                TO_CHAR(DATE_TRUNC('day', m.created_at), 'YYYY-MM-DD') as bucket_start,
-                COUNT(*) as question_count,
-                COUNT(CASE WHEN m.is_error = true THEN 1 END) * 100.0 / NULLIF(COUNT(*), 0) as error_rate
-            FROM chat.chat_message m
-            WHERE m.role = 'assistant'
-              AND m.created_at >= :startDate
-              AND m.created_at < :endDate
-              AND (:department IS NULL OR m.department = :department)
-            GROUP BY DATE_TRUNC('day', m.created_at)
-            ORDER BY bucket_start ASC
-            """,
-        nativeQuery = true
-    )
-    List<Object[]> getQuestionTrendByDay(
-        @Param("startDate") Instant startDate,
-        @Param("endDate") Instant endDate,
-        @Param("department") String department
-    );
-
-    /**
-     * 주별 질문 수 및 에러율 추이 조회
-     */
-    @Query(
-        value = """
-            SELECT 
-                TO_CHAR(DATE_TRUNC('week', m.created_at), 'YYYY-MM-DD') as bucket_start,
-                COUNT(*) as question_count,
-                COUNT(CASE WHEN m.is_error = true THEN 1 END) * 100.0 / NULLIF(COUNT(*), 0) as error_rate
-            FROM chat.chat_message m
-            WHERE m.role = 'assistant'
-              AND m.created_at >= :startDate
-              AND m.created_at < :endDate
-              AND (:department IS NULL OR m.department = :department)
-            GROUP BY DATE_TRUNC('week', m.created_at)
-            ORDER BY bucket_start ASC
-            """,
-        nativeQuery = true
-    )
-    List<Object[]> getQuestionTrendByWeek(
-        @Param("startDate") Instant startDate,
-        @Param("endDate") Instant endDate,
-        @Param("department") String department
-    );
-
-    /**
-     * 도메인별 질문 비율 조회
-     */
-    @Query(
-        value = """
-            SELECT 
-                COALESCE(UPPER(TRIM(s.domain)), 'OTHER') as domain,
-                COUNT(*) as count,
-                COUNT(*) * 100.0 / NULLIF((SELECT COUNT(*) FROM chat.chat_message m2 
-                    INNER JOIN chat.chat_session s2 ON s2.id = m2.session_id
-                    WHERE m2.role = 'user' 
-                      AND m2.created_at >= :startDate
-                      AND s2.deleted = false
-                      AND (:department IS NULL OR m2.department = :department)), 0) as ratio
-            FROM chat.chat_message m
-            INNER JOIN chat.chat_session s ON s.id = m.session_id
-            WHERE m.role = 'user'
-              AND m.created_at >= :startDate
-              AND s.deleted = false
-              AND (:department IS NULL OR m.department = :department)
-            GROUP BY COALESCE(UPPER(TRIM(s.domain)), 'OTHER')
-            ORDER BY count DESC
+            INSERT INTO chat.chat_message
+            SELECT *
+            FROM jsonb_populate_recordset(CAST(NULL AS chat.chat_message), CAST(:messagesJson AS jsonb))
             """,
         nativeQuery = true
     )
-    List<Object[]> getDomainRatio(
-        @Param("startDate") Instant startDate,
-        @Param("department") String department
-    );
+    int importMessagesFromJson(@Param("messagesJson") String messagesJson);
 
     // ========================
     // 관리자용 질문 로그 조회 (FAQ 자동 생성용)
@@ -333,6 +126,7 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, UUID>
      * 
      * <p>AI 서버에서 FAQ 자동 생성을 위해 질문 로그를 조회할 때 사용합니다.</p>
      * <p>여러 사용자 간의 질문 빈도를 분석하기 위해 user role 메시지만 조회합니다.</p>
+     * <p>chat_message만 읽으므로 chat_session_archive로 옮겨진(비활성) 세션의 질문은 포함되지 않습니다.</p>
      */
     @Query(
         value = """
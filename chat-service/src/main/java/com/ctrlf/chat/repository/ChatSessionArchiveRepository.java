@@ -0,0 +1,21 @@
+package com.ctrlf.chat.repository;
+
+import com.ctrlf.chat.entity.ChatSessionArchive;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ChatSessionArchiveRepository extends JpaRepository<ChatSessionArchive, UUID> {
+
+    /**
+     * 복원용 조회 (행 잠금)
+     * - 같은 세션을 동시에 복원해도 한 번만 chat_message로 되돌리도록 직렬화
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM ChatSessionArchive a WHERE a.sessionId = :sessionId")
+    Optional<ChatSessionArchive> findForUpdate(@Param("sessionId") UUID sessionId);
+}
@@ -1,23 +1,19 @@
 package com.ctrlf.chat.repository;
 
 import com.ctrlf.chat.entity.ChatSession;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ChatSessionRepository extends JpaRepository<ChatSession, UUID> {
 
-    @Query("""
-        SELECT s
-        FROM ChatSession s
-        WHERE s.deleted = false
-        ORDER BY s.createdAt DESC
-    """)
-    List<ChatSession> findAllActive();
-
     @Query("""
         SELECT s
         FROM ChatSession s
@@ -25,4 +21,147 @@ public interface ChatSessionRepository extends JpaRepository<ChatSession, UUID>
           AND s.deleted = false
     """)
     ChatSession findActiveById(UUID sessionId);
+
+    // ========================
+    // 세션 목록 키셋 페이지네이션 (idx_chat_session_user_activity)
+    // ========================
+
+    @Query(
+        value = """
+            SELECT *
+            FROM chat.chat_session s
+            WHERE s.user_uuid = :userUuid
+              AND s.deleted = false
+            ORDER BY s.last_activity_at DESC, s.id DESC
+            LIMIT :limit
+            """,
+        nativeQuery = true
+    )
+    List<ChatSession> findFirstPageByUserUuid(
+        @Param("userUuid") UUID userUuid,
+        @Param("limit") int limit
+    );
+
+    @Query(
+        value = """
+            SELECT *
+            FROM chat.chat_session s
+            WHERE s.user_uuid = :userUuid
+              AND s.deleted = false
+              AND (s.last_activity_at, s.id) < (:cursorActivityAt, :cursorId)
+            ORDER BY s.last_activity_at DESC, s.id DESC
+            LIMIT :limit
+            """,
+        nativeQuery = true
+    )
+    List<ChatSession> findNextPageByUserUuid(
+        @Param("userUuid") UUID userUuid,
+        @Param("cursorActivityAt") Instant cursorActivityAt,
+        @Param("cursorId") UUID cursorId,
+        @Param("limit") int limit
+    );
+
+    // ========================
+    // 메시지 저장 시 비정규화 컬럼 갱신
+    // ========================
+
+    /**
+     * 새 메시지 반영 (메시지 수 +1, 마지막 활동 시각/미리보기 갱신)
+     * - 동시 저장에도 카운트가 유실되지 않도록 원자적 UPDATE로 처리
+     */
+    @Transactional
+    @Modifying
+    @Query(
+        value = """
+            UPDATE chat.chat_session
+            SET message_count = message_count + 1,
+                last_activity_at = GREATEST(last_activity_at, :createdAt),
+                last_message_preview = CASE
+                    WHEN :createdAt >= last_activity_at THEN :preview
+                    ELSE last_message_preview
+                END
+            WHERE id = :sessionId
+            """,
+        nativeQuery = true
+    )
+    int recordMessage(
+        @Param("sessionId") UUID sessionId,
+        @Param("preview") String preview,
+        @Param("createdAt") Instant createdAt
+    );
+
+    /**
+     * 마지막 메시지 내용이 바뀐 경우 미리보기만 갱신 (스트리밍 완료, 재시도)
+     */
+    @Transactional
+    @Modifying
+    @Query(
+        value = """
+            UPDATE chat.chat_session
+            SET last_message_preview = :preview
+            WHERE id = :sessionId
+            """,
+        nativeQuery = true
+    )
+    int updateLastMessagePreview(
+        @Param("sessionId") UUID sessionId,
+        @Param("preview") String preview
+    );
+
+    // ========================
+    // 비활성 세션 아카이브 (idx_chat_session_archive_candidate)
+    // ========================
+
+    /**
+     * 아카이브 대상 세션 ID 조회
+     * - 마지막 활동과 마지막 복원이 모두 cutoff 이전이고 메시지가 있는 세션 (오래된 순)
+     */
+    @Query(
+        value = """
+            SELECT CAST(s.id AS varchar)
+            FROM chat.chat_session s
+            WHERE s.archived_at IS NULL
+              AND s.last_activity_at < :cutoff
+              AND (s.restored_at IS NULL OR s.restored_at < :cutoff)
+              AND s.message_count > 0
+            ORDER BY s.last_activity_at ASC
+            LIMIT :limit
+            """,
+        nativeQuery = true
+    )
+    List<String> findArchiveCandidateIds(
+        @Param("cutoff") Instant cutoff,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 아카이브 표시 (세션 행 잠금)
+     * - 후보 조회 이후 다시 활동이 생긴 세션은 0을 반환하므로 건너뜀
+     */
+    @Modifying
+    @Query(
+        value = """
+            UPDATE chat.chat_session
+            SET archived_at = :archivedAt
+            WHERE id = :sessionId
+              AND archived_at IS NULL
+              AND last_activity_at < :cutoff
+            """,
+        nativeQuery = true
+    )
+    int markArchived(
+        @Param("sessionId") UUID sessionId,
+        @Param("cutoff") Instant cutoff,
+        @Param("archivedAt") Instant archivedAt
+    );
+
+    @Modifying
+    @Query(
+        value = "UPDATE chat.chat_session SET archived_at = NULL, restored_at = :restoredAt WHERE id = :sessionId",
+        nativeQuery = true
+    )
+    int markRestored(
+        @Param("sessionId") UUID sessionId,
+        @Param("restoredAt") Instant restoredAt
+    );
 }
@@ -0,0 +1,218 @@
+package com.ctrlf.chat.service;
+
+import com.ctrlf.chat.config.metrics.CustomMetrics;
+import com.ctrlf.chat.dto.response.ChatSourceDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 반복 질문 답변 캐시
+ *
+ * <p>연차 규정, 보안 교육 마감일처럼 같은 질문이 반복될 때 LLM 생성을 다시 하지 않도록
+ * (정규화된 질문, 도메인, 모델, 사규 버전) 단위로 답변을 보관합니다.</p>
+ * <p>캐시 키에 사용자가 없으므로 AI가 공용 답변으로 명시(cacheable=true)한 답변만 저장합니다. 표시가 없으면
+ * 저장하지 않고(fail closed), 표시가 있어도 개인화(personalized)/PII 포함(masked)/프론트엔드 액션 답변은 제외합니다.
+ * 사규 버전이 바뀌면 해당 도메인의 항목을 모두 무효화합니다.</p>
+ * <p>따라서 캐시가 동작하려면 AI 서버 응답 계약에 {@code meta.cacheable}이 있어야 합니다.
+ * ({@code /ai/chat/messages}의 meta, {@code /ai/chat/stream}의 meta 이벤트. docs/chat-service/chat/flow/chat_flow.md 참고)
+ * AI 서버가 이 필드를 보내지 않으면 답변은 저장되지 않고 {@code not_cacheable} 제외 메트릭만 증가합니다.</p>
+ */
+@Slf4j
+@Component
+public class ChatAnswerCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s?!.~。？！]+$");
+
+    /** 도메인 미지정 질문용 키 */
+    private static final String NO_DOMAIN = "_";
+
+    /**
+     * 캐시 키
+     *
+     * @param question 정규화된 질문
+     * @param domain 도메인
+     * @param model 임베딩 모델 + LLM 모델
+     * @param epoch 전체 무효화 세대
+     * @param policyVersion 도메인의 사규 버전 (변경 시 증가)
+     */
+    record Key(String question, String domain, String model, long epoch, long policyVersion) {}
+
+    /**
+     * 캐시된 답변
+     *
+     * @param answer 답변 본문
+     * @param llmModel 답변을 생성한 LLM 모델
+     * @param promptTokens 입력 토큰 수
+     * @param completionTokens 출력 토큰 수
+     * @param routingType 라우팅 타입
+     * @param sources RAG 출처 정보
+     * @param responseTimeMs 최초 생성에 걸린 시간 (캐시 적중 시 절약된 지연 시간)
+     */
+    public record CachedAnswer(
+        String answer,
+        String llmModel,
+        Integer promptTokens,
+        Integer completionTokens,
+        String routingType,
+        List<ChatSourceDto> sources,
+        long responseTimeMs
+    ) {}
+
+    private final CustomMetrics customMetrics;
+    private final boolean enabled;
+    private final int maxQuestionChars;
+    private final Cache<Key, CachedAnswer> cache;
+
+    /** 도메인별 사규 버전 (policy 변경 알림마다 증가) */
+    private final Map<String, AtomicLong> policyVersions = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    public ChatAnswerCache(
+        CustomMetrics customMetrics,
+        @Value("${app.chat.answer-cache.enabled:true}") boolean enabled,
+        @Value("${app.chat.answer-cache.max-entries:10000}") long maxEntries,
+        @Value("${app.chat.answer-cache.ttl-minutes:360}") long ttlMinutes,
+        @Value("${app.chat.answer-cache.max-question-chars:500}") int maxQuestionChars
+    ) {
+        this.customMetrics = customMetrics;
+        this.enabled = enabled;
+        this.maxQuestionChars = maxQuestionChars;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .build();
+    }
+
+    /**
+     * 캐시 키를 만듭니다. 캐시를 사용하지 않는 질문(비활성화, 빈 질문, 너무 긴 질문)이면 null을 반환합니다.
+     *
+     * <p>AI 호출 전에 만든 키로 조회와 저장을 모두 해야, 생성 도중 사규가 바뀐 답변이 새 버전 키로 저장되지 않습니다.</p>
+     */
+    Key key(String question, String domain, String embeddingModel, String llmModel) {
+        if (!enabled) {
+            return null;
+        }
+        String normalized = normalize(question);
+        if (normalized.isEmpty() || normalized.length() > maxQuestionChars) {
+            return null;
+        }
+        String normalizedDomain = normalizeDomain(domain);
+        AtomicLong version = policyVersions.get(normalizedDomain);
+        String model = (embeddingModel != null ? embeddingModel : "default") + "|" + (llmModel != null ? llmModel : "default");
+        return new Key(normalized, normalizedDomain, model, epoch.get(), version != null ? version.get() : 0L);
+    }
+
+    /**
+     * 캐시된 답변을 조회합니다. 적중/미적중 및 절약된 지연 시간을 메트릭으로 기록합니다.
+     */
+    Optional<CachedAnswer> get(Key key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        CachedAnswer cached = cache.getIfPresent(key);
+        if (cached == null) {
+            customMetrics.recordAnswerCacheMiss();
+            return Optional.empty();
+        }
+
+        customMetrics.recordAnswerCacheHit(cached.responseTimeMs());
+        log.debug("Answer cache hit: domain={}, model={}", key.domain(), key.model());
+        return Optional.of(cached);
+    }
+
+    /**
+     * 답변을 저장합니다. 저장 가능 여부는 {@link #isCacheable}로 먼저 확인해야 합니다.
+     */
+    void put(Key key, CachedAnswer answer) {
+        if (key == null || answer.answer() == null || answer.answer().isBlank()) {
+            return;
+        }
+        cache.put(key, answer);
+    }
+
+    /**
+     * AI 응답이 캐시 대상인지 확인합니다. 제외 사유는 메트릭으로 기록합니다.
+     *
+     * @param cacheable AI가 사용자와 무관한 공용 답변으로 표시했는지 여부 (null이면 제외)
+     * @param masked AI가 PII를 감지해 마스킹했는지 여부
+     * @param personalized AI가 사용자별(개인화) 답변으로 표시했는지 여부
+     * @param hasAction 프론트엔드 액션(영상 재생, 퀴즈 시작 등) 포함 여부
+     */
+    public boolean isCacheable(Boolean cacheable, Boolean masked, Boolean personalized, boolean hasAction) {
+        if (!enabled) {
+            return false;
+        }
+        String reason = null;
+        if (!Boolean.TRUE.equals(cacheable)) {
+            reason = "not_cacheable";
+        } else if (Boolean.TRUE.equals(masked)) {
+            reason = "pii";
+        } else if (Boolean.TRUE.equals(personalized)) {
+            reason = "personalized";
+        } else if (hasAction) {
+            reason = "action";
+        }
+        if (reason != null) {
+            customMetrics.incrementAnswerCacheSkipped(reason);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 사규 버전 변경을 반영합니다. 해당 도메인의 캐시 항목을 모두 무효화합니다.
+     *
+     * @param domain 변경된 사규의 도메인 (null이면 전체 무효화)
+     * @return 무효화된 항목 수
+     */
+    public int onPolicyChanged(String domain) {
+        int before = (int) cache.estimatedSize();
+        if (domain == null || domain.isBlank()) {
+            epoch.incrementAndGet();
+            cache.invalidateAll();
+            log.info("Answer cache invalidated for all domains: entries={}", before);
+            return before;
+        }
+
+        String normalizedDomain = normalizeDomain(domain);
+        policyVersions.computeIfAbsent(normalizedDomain, d -> new AtomicLong()).incrementAndGet();
+        int removed = 0;
+        for (Key key : cache.asMap().keySet()) {
+            if (key.domain().equals(normalizedDomain) && cache.asMap().remove(key) != null) {
+                removed++;
+            }
+        }
+        log.info("Answer cache invalidated: domain={}, entries={}", normalizedDomain, removed);
+        return removed;
+    }
+
+    /**
+     * 질문 정규화: 유니코드 NFKC, 소문자, 연속 공백 축약, 끝의 물음표/마침표 등 제거
+     */
+    static String normalize(String question) {
+        if (question == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = WHITESPACE.matcher(normalized.trim()).replaceAll(" ");
+        return TRAILING_PUNCTUATION.matcher(normalized).replaceAll("");
+    }
+
+    private static String normalizeDomain(String domain) {
+        return (domain == null || domain.isBlank()) ? NO_DOMAIN : domain.trim().toUpperCase(Locale.ROOT);
+    }
+}
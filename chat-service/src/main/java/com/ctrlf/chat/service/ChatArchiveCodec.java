@@ -0,0 +1,40 @@
+package com.ctrlf.chat.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 아카이브 payload 인코딩 (메시지 JSON 배열 텍스트 ↔ gzip)
+ *
+ * <p>채팅 메시지 JSON은 키 이름이 반복되므로 gzip으로 보통 1/5 이하로 줄어듭니다.</p>
+ */
+final class ChatArchiveCodec {
+
+    private ChatArchiveCodec() {
+    }
+
+    static byte[] compress(String json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length() / 4));
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static String decompress(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
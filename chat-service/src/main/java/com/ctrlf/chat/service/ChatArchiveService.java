@@ -0,0 +1,165 @@
+package com.ctrlf.chat.service;
+
+import com.ctrlf.chat.entity.ChatSession;
+import com.ctrlf.chat.entity.ChatSessionArchive;
+import com.ctrlf.chat.repository.ChatMessageRepository;
+import com.ctrlf.chat.repository.ChatMessageRepository.ExtractedMessages;
+import com.ctrlf.chat.repository.ChatSessionArchiveRepository;
+import com.ctrlf.chat.repository.ChatSessionRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비활성 세션 아카이브 서비스
+ *
+ * <p>마지막 활동이 inactive-days 이전인 세션의 메시지를 chat_message에서 빼내
+ * chat_session_archive 한 행(gzip 압축 JSON)으로 옮깁니다. 최근 파티션에는 활성 세션 메시지만 남습니다.</p>
+ * <ul>
+ *   <li>아카이브: 매일 배치로 실행하며, 세션 하나를 한 트랜잭션으로 처리합니다.</li>
+ *   <li>복원: 아카이브된 세션을 다시 열면(메시지 조회/전송/재시도) 그 자리에서 chat_message로 되돌립니다.
+ *       복원된 세션은 다시 inactive-days 동안 아카이브 대상에서 빠집니다.</li>
+ * </ul>
+ * <p>복원은 호출자의 트랜잭션(읽기 전용일 수 있음)과 별도의 새 트랜잭션에서 커밋합니다.</p>
+ * <p>아카이브된 세션의 메시지는 chat_message를 읽는 집계(관리자 질문 로그 조회 등)에서 빠집니다.
+ * 대시보드 통계는 텔레메트리 이벤트 기준이라 영향이 없습니다.</p>
+ */
+@Slf4j
+@Service
+public class ChatArchiveService {
+
+    private static final String EMPTY_MESSAGES = "[]";
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatSessionRepository chatSessionRepository;
+    private final ChatSessionArchiveRepository chatSessionArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration inactivePeriod;
+    private final int batchSize;
+
+    public ChatArchiveService(
+        ChatMessageRepository chatMessageRepository,
+        ChatSessionRepository chatSessionRepository,
+        ChatSessionArchiveRepository chatSessionArchiveRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.chat.archive.enabled:true}") boolean enabled,
+        @Value("${app.chat.archive.inactive-days:90}") long inactiveDays,
+        @Value("${app.chat.archive.batch-size:200}") int batchSize
+    ) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatSessionRepository = chatSessionRepository;
+        this.chatSessionArchiveRepository = chatSessionArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.inactivePeriod = Duration.ofDays(Math.max(1, inactiveDays));
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 비활성 세션 아카이브 배치
+     * - 한 번에 batch-size개 세션까지 처리하고, 남은 세션은 다음 실행에서 처리합니다.
+     */
+    @Scheduled(cron = "${app.chat.archive.cron:0 30 3 * * *}")
+    public void archiveInactiveSessions() {
+        if (!enabled) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(inactivePeriod);
+        List<String> candidates = chatSessionRepository.findArchiveCandidateIds(cutoff, batchSize);
+
+        int archived = 0;
+        long messages = 0;
+        for (String candidate : candidates) {
+            UUID sessionId = UUID.fromString(candidate);
+            try {
+                Integer count = transactionTemplate.execute(status -> {
+                    Integer moved = archiveSession(sessionId, cutoff);
+                    if (moved == null) {
+                        status.setRollbackOnly();
+                    }
+                    return moved;
+                });
+                if (count != null) {
+                    archived++;
+                    messages += count;
+                }
+            } catch (RuntimeException e) {
+                log.warn("[세션 아카이브] 실패 (다음 배치에서 재시도): sessionId={}, error={}", sessionId, e.getMessage());
+            }
+        }
+        if (!candidates.isEmpty()) {
+            log.info("[세션 아카이브] 완료: candidates={}, archived={}, messages={}", candidates.size(), archived, messages);
+        }
+    }
+
+    /**
+     * 세션 하나 아카이브 (트랜잭션 내부)
+     *
+     * @return 옮긴 메시지 수, 대상이 아니게 되었으면 null (롤백)
+     */
+    private Integer archiveSession(UUID sessionId, Instant cutoff) {
+        Instant now = Instant.now();
+        // 세션 행을 먼저 잠가 두면 그 사이 활동(recordMessage)은 커밋 이후로 밀림
+        if (chatSessionRepository.markArchived(sessionId, cutoff, now) == 0) {
+            return null;
+        }
+        ExtractedMessages extracted = chatMessageRepository.extractSessionMessagesAsJson(sessionId);
+        if (extracted == null || extracted.getMessageCount() == 0 || EMPTY_MESSAGES.equals(extracted.getMessages())) {
+            return null;
+        }
+        int messageCount = Math.toIntExact(extracted.getMessageCount());
+        chatSessionArchiveRepository.save(new ChatSessionArchive(
+            sessionId,
+            messageCount,
+            ChatArchiveCodec.compress(extracted.getMessages()),
+            now
+        ));
+        return messageCount;
+    }
+
+    /**
+     * 세션이 아카이브 상태면 복원 (이미 조회한 세션 기준, 아카이브가 아니면 추가 조회 없음)
+     */
+    public void restoreIfArchived(ChatSession session) {
+        if (session != null && session.getArchivedAt() != null) {
+            restore(session.getId());
+        }
+    }
+
+    /**
+     * 세션이 아카이브 상태면 복원 (세션을 조회하지 않은 경로용)
+     */
+    public void restoreIfArchived(UUID sessionId) {
+        if (sessionId != null && chatSessionArchiveRepository.existsById(sessionId)) {
+            restore(sessionId);
+        }
+    }
+
+    private void restore(UUID sessionId) {
+        Integer restored = transactionTemplate.execute(status ->
+            // 동시에 같은 세션을 열어도 아카이브 행 잠금으로 한 번만 복원
+            chatSessionArchiveRepository.findForUpdate(sessionId)
+                .map(archive -> {
+                    int count = chatMessageRepository.importMessagesFromJson(
+                        ChatArchiveCodec.decompress(archive.getPayload()));
+                    chatSessionArchiveRepository.delete(archive);
+                    chatSessionRepository.markRestored(sessionId, Instant.now());
+                    return count;
+                })
+                .orElse(null)
+        );
+        if (restored != null) {
+            log.info("[세션 아카이브] 복원: sessionId={}, messages={}", sessionId, restored);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.ctrlf.chat.service;
+
+import com.ctrlf.chat.repository.ChatMessageRepository;
+import java.time.YearMonth;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * chat_message 월 파티션 관리 서비스
+ *
+ * <p>매일 한 번(그리고 기동 시) 이번 달부터 향후 N개월 파티션을 미리 만듭니다.
+ * 메시지는 항상 현재 시각으로 저장되므로 수집 경로에서 따로 확인하지 않습니다.</p>
+ * <p>created_at은 타임존 없는 timestamp에 JVM 기본 타임존 기준 로컬 시각으로 저장되므로 월도 같은 기준으로 계산합니다.
+ * 오래된 메시지는 파티션 DROP 대신 비활성 세션 단위로 {@link ChatArchiveService}가 아카이브합니다.</p>
+ */
+@Slf4j
+@Service
+public class ChatMessagePartitionService {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final int monthsAhead;
+
+    public ChatMessagePartitionService(
+        ChatMessageRepository chatMessageRepository,
+        @Value("${app.chat.partition.months-ahead:3}") int monthsAhead
+    ) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.chat.partition.maintenance-cron:0 10 3 * * *}")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void maintainPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            String partition = chatMessageRepository.createMonthlyPartition(current.plusMonths(i).atDay(1));
+            log.debug("[채팅 메시지 파티션] 파티션 확인: partition={}", partition);
+        }
+    }
+}
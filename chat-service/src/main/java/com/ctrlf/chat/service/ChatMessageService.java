@@ -63,10 +63,14 @@ public interface ChatMessageService {
      * 
      * @param domain 도메인 필터 (선택, null이면 모든 도메인)
      * @param daysBack 최근 N일간의 데이터 (기본값: 30)
-     * @return 질문 로그 목록
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (null이면 기본값)
+     * @return 질문 로그 목록 (nextCursor가 있으면 다음 페이지 존재)
      */
     com.ctrlf.chat.dto.response.AdminMessageLogResponse getAdminMessages(
         String domain,
-        Integer daysBack
+        Integer daysBack,
+        String cursor,
+        Integer size
     );
 }
@@ -1,12 +1,16 @@
 package com.ctrlf.chat.service;
 
+import com.ctrlf.chat.abtest.AbTestModelAssigner;
 import com.ctrlf.chat.ai.search.client.ChatAiClient;
 import com.ctrlf.chat.ai.search.dto.ChatAiResponse;
 import com.ctrlf.chat.dto.request.ChatMessageSendRequest;
 import com.ctrlf.chat.dto.response.ChatMessageCursorResponse;
 import com.ctrlf.chat.dto.response.ChatMessageSendResponse;
 import com.ctrlf.chat.entity.ChatMessage;
+import com.ctrlf.chat.entity.ChatMessageStatus;
 import com.ctrlf.chat.entity.ChatSession;
+import com.ctrlf.chat.faq.cluster.QuestionClusterStore;
+import com.ctrlf.chat.keyword.KoreanKeywordExtractor;
 import com.ctrlf.chat.repository.ChatMessageRepository;
 import com.ctrlf.chat.repository.ChatSessionRepository;
 import java.time.Instant;
@@ -16,14 +20,24 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import com.ctrlf.chat.config.metrics.CustomMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -37,35 +51,168 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     private final com.ctrlf.chat.elasticsearch.service.ChatLogElasticsearchService chatLogElasticsearchService;
     private final ChatAiClient chatAiClient;
     private final CustomMetrics customMetrics;
+    private final ChatAnswerCache chatAnswerCache;
+    private final KoreanKeywordExtractor keywordExtractor;
+    private final QuestionClusterStore questionClusterStore;
+    private final AbTestModelAssigner abTestModelAssigner;
+    private final ChatArchiveService chatArchiveService;
+    private final TransactionTemplate transactionTemplate;
 
+    /** 같은 requestId의 중복 요청이 첫 요청 결과를 기다리는 최대 시간 (AI 최대 지연 + 여유) */
+    @Value("${app.chat.send.duplicate-wait-ms:90000}")
+    private long duplicateWaitMs;
+
+    /**
+     * single-flight 키. requestId는 클라이언트가 정하므로 사용자/세션까지 같아야 같은 요청으로 봅니다.
+     */
+    private record InFlightKey(UUID userId, UUID sessionId, String requestId) {}
+
+    /** AI 응답을 기다리는 중인 전송 요청 (사용자, 세션, requestId → 응답) */
+    private final Map<InFlightKey, CompletableFuture<ChatMessageSendResponse>> inFlightSends = new ConcurrentHashMap<>();
+
+    /**
+     * 메시지 전송 (사용자, 세션, requestId 기준 single-flight)
+     *
+     * <p>같은 사용자가 같은 세션/requestId로 동시에 보낸 요청은 첫 요청의 AI 호출 결과를 기다렸다가 같은 응답을 받고,
+     * 이미 처리가 끝난 뒤 들어온 요청은 저장된 답변을 받습니다. 어느 쪽이든 AI는 다시 호출하지 않습니다.
+     * 저장된 답변은 세션 소유자에게만 반환합니다.</p>
+     * <p>대기 중인 요청이 DB 커넥션을 붙잡지 않도록 트랜잭션 없이 실행하며, 각 저장은 저장소 단위로 커밋됩니다.</p>
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChatMessageSendResponse sendMessage(
         ChatMessageSendRequest request,
         UUID userId,
         String domain,
         String department
+    ) {
+        String requestId = request.requestId();
+        if (requestId == null || requestId.isBlank()) {
+            return processMessage(request, userId, domain, department);
+        }
+        if (requestId.length() > 100) {
+            throw new IllegalArgumentException("requestId는 100자 이하여야 합니다.");
+        }
+
+        Optional<ChatMessageSendResponse> stored = findStoredResponse(requestId, request.sessionId(), userId);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        InFlightKey key = new InFlightKey(userId, request.sessionId(), requestId);
+        CompletableFuture<ChatMessageSendResponse> mine = new CompletableFuture<>();
+        CompletableFuture<ChatMessageSendResponse> inFlight = inFlightSends.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            customMetrics.incrementDuplicateSends("in_flight");
+            return awaitInFlight(inFlight, requestId);
+        }
+
+        try {
+            ChatMessageSendResponse response = processOnce(request, userId, domain, department);
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 답변 저장 후 제거하므로, 이후 요청은 findStoredResponse에서 처리됨
+            inFlightSends.remove(key, mine);
+        }
+    }
+
+    /**
+     * single-flight 소유자로서 요청을 한 번 처리합니다.
+     */
+    private ChatMessageSendResponse processOnce(
+        ChatMessageSendRequest request,
+        UUID userId,
+        String domain,
+        String department
+    ) {
+        // 첫 조회 직후 앞선 요청이 완료되어 map에서 빠진 경우
+        Optional<ChatMessageSendResponse> stored = findStoredResponse(request.requestId(), request.sessionId(), userId);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+        try {
+            return processMessage(request, userId, domain, department);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 requestId를 먼저 저장한 경우 (request_id 유니크 인덱스)
+            // USER/ASSISTANT 메시지는 같은 트랜잭션이므로 이번 요청의 질문 행도 함께 롤백됨
+            return findStoredResponse(request.requestId(), request.sessionId(), userId).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * requestId로 저장된 답변을 조회합니다.
+     *
+     * <p>sources/action은 저장하지 않으므로 본문만 반환합니다.
+     * 다른 세션이나 다른 사용자의 세션에서 저장된 requestId면 답변을 돌려주지 않고 거부합니다.</p>
+     */
+    private Optional<ChatMessageSendResponse> findStoredResponse(String requestId, UUID sessionId, UUID userId) {
+        return chatMessageRepository.findByRequestId(requestId)
+            .map(message -> {
+                if (!message.getSessionId().equals(sessionId)) {
+                    throw new IllegalArgumentException("다른 세션에서 이미 사용된 requestId입니다: " + requestId);
+                }
+                boolean owner = chatSessionRepository.findById(sessionId)
+                    .map(session -> userId.equals(session.getUserUuid()))
+                    .orElse(false);
+                if (!owner) {
+                    throw new IllegalArgumentException("다른 사용자의 세션에서 사용된 requestId입니다: " + requestId);
+                }
+                customMetrics.incrementDuplicateSends("stored");
+                return new ChatMessageSendResponse(
+                    message.getId(),
+                    message.getRole(),
+                    message.getContent(),
+                    message.getCreatedAt()
+                );
+            });
+    }
+
+    private ChatMessageSendResponse awaitInFlight(CompletableFuture<ChatMessageSendResponse> inFlight, String requestId) {
+        try {
+            return inFlight.get(duplicateWaitMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("중복 요청의 원본 처리 실패: " + requestId, e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("중복 요청의 원본 처리 대기 시간 초과: " + requestId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("중복 요청 대기 중 인터럽트: " + requestId, e);
+        }
+    }
+
+    private ChatMessageSendResponse processMessage(
+        ChatMessageSendRequest request,
+        UUID userId,
+        String domain,
+        String department
     ) {
         // 0️⃣ 세션 존재 여부 검증
         ChatSession session = chatSessionRepository.findActiveById(request.sessionId());
         if (session == null) {
             throw new IllegalArgumentException("세션을 찾을 수 없습니다: " + request.sessionId());
         }
+        // 아카이브된 세션이면 이전 대화(히스토리)를 먼저 복원
+        chatArchiveService.restoreIfArchived(session);
 
-        // 1️⃣ USER 메시지 저장
+        // 1️⃣ USER 메시지 생성 (저장은 답변과 같은 트랜잭션에서, 시각은 질문 수신 시점)
         ChatMessage userMessage =
             ChatMessage.userMessage(
                 request.sessionId(),
                 request.content()
             );
+        userMessage.setCreatedAt(Instant.now());
         // 키워드 추출 및 설정
-        String keyword = extractKeyword(request.content());
+        String keyword = keywordExtractor.extract(request.content());
         userMessage.setKeyword(keyword);
         // department 설정
         userMessage.setDepartment(department);
-        chatMessageRepository.save(userMessage);
-        
-        // Elasticsearch chat_log 인덱스에 실시간 저장
-        chatLogElasticsearchService.saveChatLog(userMessage, session, userId.toString(), domain, department);
 
         // 2️⃣ AI Gateway 호출 (응답 시간 측정)
         // Backend는 Frontend로부터 전달받은 model 값을 그대로 전달 (해석하지 않음)
@@ -74,10 +221,11 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             // 요청에 model이 없으면 세션에 저장된 모델 사용 (하위 호환성)
             embeddingModel = session.getEmbeddingModel();
             if (embeddingModel == null) {
-                // 세션에도 없으면 기본값 사용
-                embeddingModel = "openai";
+                // 세션에도 없으면 A/B 테스트 arm 할당 (사용자 기준 고정)
+                embeddingModel = abTestModelAssigner.assignModel(userId, domain);
                 log.warn(
-                    "모델이 지정되지 않음. 기본값(openai) 사용: sessionId={}",
+                    "모델이 지정되지 않음. A/B 테스트 할당 모델({}) 사용: sessionId={}",
+                    embeddingModel,
                     request.sessionId()
                 );
             }
@@ -87,6 +235,14 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         String llmModel = session.getLlmModel();
 
         long startTime = System.currentTimeMillis();
+
+        // 반복 질문이면 캐시된 답변으로 응답 (AI Gateway 호출 생략)
+        ChatAnswerCache.Key cacheKey = chatAnswerCache.key(request.content(), domain, embeddingModel, llmModel);
+        var cached = chatAnswerCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return respondFromCache(cached.get(), request, userMessage, session, userId, domain, department, startTime);
+        }
+
         ChatAiResponse aiResponse;
         try {
             aiResponse =
@@ -104,6 +260,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         } catch (Exception e) {
             log.error("[AI] call failed: {}", e.getMessage(), e);
             long responseTime = System.currentTimeMillis() - startTime;
+            abTestModelAssigner.recordTurn(embeddingModel, responseTime, null, true);
 
             ChatMessage fallbackMessage =
                 ChatMessage.assistantMessage(
@@ -118,7 +275,8 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             fallbackMessage.setDepartment(department);
             fallbackMessage.setResponseTimeMs(responseTime);
             fallbackMessage.setIsError(true);
-            chatMessageRepository.save(fallbackMessage);
+            fallbackMessage.setStatus(ChatMessageStatus.ERROR);
+            saveTurn(userMessage, fallbackMessage, session, userId, domain, department);
 
             // 메트릭 기록
             customMetrics.incrementChatMessagesSent();
@@ -131,6 +289,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             );
         }
         long responseTime = System.currentTimeMillis() - startTime;
+        abTestModelAssigner.recordTurn(embeddingModel, responseTime, aiResponse.getCompletionTokens(), false);
 
         // 3️⃣ ASSISTANT 메시지 저장
         ChatMessage assistantMessage =
@@ -151,23 +310,46 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         assistantMessage.setDepartment(department);
         assistantMessage.setResponseTimeMs(responseTime);
         assistantMessage.setIsError(false);
-        chatMessageRepository.save(assistantMessage);
-        
-        // Elasticsearch chat_log 인덱스에 실시간 저장
-        chatLogElasticsearchService.saveChatLog(assistantMessage, session, userId.toString(), domain, department);
+        assistantMessage.setStatus(ChatMessageStatus.DONE);
+        assistantMessage.setRequestId(request.requestId());
 
-        // 4️⃣ USER 메시지에 PII 감지 정보 업데이트
+        // USER 메시지에 PII 감지 정보 반영
         // AI Gateway 응답의 meta.masked 정보를 user 메시지의 piiDetected에 반영
         if (aiResponse.getMeta() != null && aiResponse.getMeta().getMasked() != null) {
             userMessage.setPiiDetected(aiResponse.getMeta().getMasked());
-            chatMessageRepository.save(userMessage);
         }
 
+        // 4️⃣ USER/ASSISTANT 메시지 저장
+        saveTurn(userMessage, assistantMessage, session, userId, domain, department);
+
+        // Elasticsearch chat_log 인덱스에 실시간 저장
+        chatLogElasticsearchService.saveChatLog(assistantMessage, session, userId.toString(), domain, department);
+
         // 4️⃣ 응답 반환 (sources, action 포함)
         var action = (aiResponse.getMeta() != null) ? aiResponse.getMeta().getAction() : null;
         log.info("[AI Response Debug] meta={}, action={}",
             aiResponse.getMeta() != null ? "present" : "null",
             action != null ? action.getType() : "null");
+
+        // 5️⃣ AI가 공용 답변으로 표시했고 개인화/PII/액션이 없는 답변만 캐시에 저장
+        ChatAiResponse.Meta meta = aiResponse.getMeta();
+        if (chatAnswerCache.isCacheable(
+            meta != null ? meta.getCacheable() : null,
+            meta != null ? meta.getMasked() : null,
+            meta != null ? meta.getPersonalized() : null,
+            action != null
+        )) {
+            chatAnswerCache.put(cacheKey, new ChatAnswerCache.CachedAnswer(
+                aiResponse.getAnswer(),
+                aiResponse.getModel(),
+                aiResponse.getPromptTokens(),
+                aiResponse.getCompletionTokens(),
+                routingType,
+                aiResponse.getSources(),
+                responseTime
+            ));
+        }
+
         return new ChatMessageSendResponse(
             assistantMessage.getId(),
             assistantMessage.getRole(),
@@ -178,6 +360,47 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         );
     }
 
+    /**
+     * 캐시된 답변으로 ASSISTANT 메시지를 저장하고 응답합니다.
+     */
+    private ChatMessageSendResponse respondFromCache(
+        ChatAnswerCache.CachedAnswer cached,
+        ChatMessageSendRequest request,
+        ChatMessage userMessage,
+        ChatSession session,
+        UUID userId,
+        String domain,
+        String department,
+        long startTime
+    ) {
+        ChatMessage assistantMessage =
+            ChatMessage.assistantMessage(
+                request.sessionId(),
+                cached.answer(),
+                cached.promptTokens(),
+                cached.completionTokens(),
+                cached.llmModel()
+            );
+        assistantMessage.setRoutingType(cached.routingType());
+        assistantMessage.setDepartment(department);
+        assistantMessage.setResponseTimeMs(System.currentTimeMillis() - startTime);
+        assistantMessage.setIsError(false);
+        assistantMessage.setStatus(ChatMessageStatus.DONE);
+        assistantMessage.setRequestId(request.requestId());
+        saveTurn(userMessage, assistantMessage, session, userId, domain, department);
+
+        chatLogElasticsearchService.saveChatLog(assistantMessage, session, userId.toString(), domain, department);
+
+        return new ChatMessageSendResponse(
+            assistantMessage.getId(),
+            assistantMessage.getRole(),
+            assistantMessage.getContent(),
+            assistantMessage.getCreatedAt(),
+            cached.sources(),
+            null
+        );
+    }
+
     // ===============================
     // Cursor Pagination (변경 없음)
     // ===============================
@@ -192,17 +415,18 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         int safeSize = Math.max(1, Math.min(size, 100));
         int limit = safeSize + 1;
 
+        // 아카이브된 세션은 조회 시점에 복원 (별도 트랜잭션에서 커밋)
+        chatArchiveService.restoreIfArchived(sessionId);
+
         List<ChatMessage> rows;
         
         if (cursor != null && !cursor.isBlank()) {
-            ParsedCursor parsed = ParsedCursor.parse(cursor);
-            Instant cursorCreatedAt = parsed.createdAt();
-            UUID cursorId = parsed.id();
-            
+            KeysetCursor parsed = KeysetCursor.parse(cursor);
+
             rows = chatMessageRepository.findNextPageBySessionId(
                 sessionId,
-                cursorCreatedAt,
-                cursorId,
+                parsed.at(),
+                parsed.id(),
                 limit
             );
         } else {
@@ -222,7 +446,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             ChatMessage oldest =
                 pageDesc.get(pageDesc.size() - 1);
             nextCursor =
-                ParsedCursor.encode(
+                KeysetCursor.encode(
                     oldest.getCreatedAt(),
                     oldest.getId()
                 );
@@ -241,6 +465,9 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
     @Override
     public ChatMessage retryMessage(UUID sessionId, UUID messageId, String department) {
+        // 0️⃣ 아카이브된 세션이면 대상 메시지가 chat_message에 없으므로 먼저 복원
+        chatArchiveService.restoreIfArchived(sessionId);
+
         // 1️⃣ 재시도할 메시지 조회 (assistant 메시지여야 함)
         ChatMessage targetMessage = chatMessageRepository.findById(messageId)
             .orElseThrow(() -> new IllegalArgumentException("메시지를 찾을 수 없습니다: " + messageId));
@@ -285,10 +512,11 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         // 재시도 시에는 세션에 저장된 모델 사용
         String embeddingModel = session.getEmbeddingModel();
         if (embeddingModel == null) {
-            // 세션에 모델이 없으면 기본값 사용
-            embeddingModel = "openai";
+            // 세션에 모델이 없으면 A/B 테스트 arm 할당 (사용자 기준 고정)
+            embeddingModel = abTestModelAssigner.assignModel(session.getUserUuid(), session.getDomain());
             log.warn(
-                "세션에 모델이 할당되지 않음. 기본값(openai) 사용: sessionId={}",
+                "세션에 모델이 할당되지 않음. A/B 테스트 할당 모델({}) 사용: sessionId={}",
+                embeddingModel,
                 sessionId
             );
         }
@@ -313,13 +541,16 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         } catch (Exception e) {
             log.error("[AI] retry failed", e);
             long responseTime = System.currentTimeMillis() - startTime;
+            abTestModelAssigner.recordTurn(embeddingModel, responseTime, null, true);
             // 에러 상태로 업데이트
             targetMessage.setIsError(true);
+            targetMessage.setStatus(ChatMessageStatus.ERROR);
             targetMessage.setResponseTimeMs(responseTime);
             chatMessageRepository.save(targetMessage);
             throw new RuntimeException("AI 재시도 요청 실패: " + e.getMessage(), e);
         }
         long responseTime = System.currentTimeMillis() - startTime;
+        abTestModelAssigner.recordTurn(embeddingModel, responseTime, aiResponse.getCompletionTokens(), false);
         
         // 5️⃣ 기존 메시지 업데이트
         targetMessage.updateContent(aiResponse.getAnswer());
@@ -338,8 +569,13 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         targetMessage.setDepartment(department);
         targetMessage.setResponseTimeMs(responseTime);
         targetMessage.setIsError(false);
+        targetMessage.setStatus(ChatMessageStatus.DONE);
         
         ChatMessage savedMessage = chatMessageRepository.save(targetMessage);
+        // 세션의 마지막 메시지였다면 목록 미리보기도 새 답변으로 갱신
+        if (allMessages.get(allMessages.size() - 1).getId().equals(messageId)) {
+            chatSessionRepository.updateLastMessagePreview(sessionId, ChatSession.preview(savedMessage.getContent()));
+        }
 
         // 6️⃣ USER 메시지에 PII 감지 정보 업데이트
         // AI Gateway 응답의 meta.masked 정보를 user 메시지의 piiDetected에 반영
@@ -352,88 +588,52 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     }
 
     /**
-     * 메시지 내용에서 키워드 추출
-     * 
-     * <p>간단한 키워드 추출 로직: 불필요한 조사, 어미 제거 후 주요 단어 추출</p>
-     * 
-     * @param content 메시지 내용
-     * @return 추출된 키워드 (최대 200자)
+     * USER/ASSISTANT 메시지를 한 트랜잭션으로 저장하고, 커밋 후 질문을 로그/FAQ 클러스터에 반영합니다.
+     *
+     * <p>다른 인스턴스가 같은 requestId를 먼저 저장해 유니크 위반이 나면 두 행과 세션 카운트 갱신이 함께 롤백되므로
+     * 질문만 남는 중복 행이 생기지 않습니다.</p>
      */
-    private String extractKeyword(String content) {
-        if (content == null || content.isBlank()) {
-            return null;
-        }
-        
-        // 공백 제거 및 정리
-        String cleaned = content.trim();
-        
-        // 너무 짧은 경우 그대로 반환
-        if (cleaned.length() <= 10) {
-            return cleaned.length() > 200 ? cleaned.substring(0, 200) : cleaned;
-        }
-        
-        // 불필요한 조사, 어미 제거 (간단한 패턴)
-        // "은", "는", "이", "가", "을", "를", "의", "에", "에서", "로", "으로" 등 제거
-        String[] stopWords = {
-            "은 ", "는 ", "이 ", "가 ", "을 ", "를 ", "의 ", "에 ", "에서 ", "로 ", "으로 ",
-            "에게 ", "께 ", "한테 ", "에게서 ", "한테서 ", "와 ", "과 ", "하고 ", "도 ", "만 ",
-            "부터 ", "까지 ", "에서부터 ", "조차 ", "마저 ", "뿐 ", "따라 ", "마다 "
-        };
-        
-        String keyword = cleaned;
-        for (String stopWord : stopWords) {
-            keyword = keyword.replace(stopWord, " ");
-        }
-        
-        // 연속된 공백 제거
-        keyword = keyword.replaceAll("\\s+", " ").trim();
-        
-        // 최대 200자로 제한
-        if (keyword.length() > 200) {
-            keyword = keyword.substring(0, 200).trim();
-            // 마지막 단어가 잘릴 수 있으므로 마지막 공백 기준으로 자르기
-            int lastSpace = keyword.lastIndexOf(' ');
-            if (lastSpace > 0) {
-                keyword = keyword.substring(0, lastSpace);
-            }
-        }
-        
-        return keyword.isBlank() ? cleaned.substring(0, Math.min(200, cleaned.length())) : keyword;
-    }
-
-    /* ===============================
-       Cursor Helper
-       =============================== */
-    private record ParsedCursor(
-        Instant createdAt,
-        UUID id
+    private void saveTurn(
+        ChatMessage userMessage,
+        ChatMessage assistantMessage,
+        ChatSession session,
+        UUID userId,
+        String domain,
+        String department
     ) {
-        static ParsedCursor parse(String cursor) {
-            String[] parts = cursor.split("_", 2);
-            long millis = Long.parseLong(parts[0]);
-            UUID id = UUID.fromString(parts[1]);
-            return new ParsedCursor(
-                Instant.ofEpochMilli(millis),
-                id
-            );
-        }
+        transactionTemplate.executeWithoutResult(status -> {
+            chatMessageRepository.save(userMessage);
+            recordSessionActivity(userMessage);
+            chatMessageRepository.save(assistantMessage);
+            recordSessionActivity(assistantMessage);
+        });
+        // Elasticsearch chat_log 인덱스에 실시간 저장
+        chatLogElasticsearchService.saveChatLog(userMessage, session, userId.toString(), domain, department);
+        // FAQ 후보용 질문 클러스터에 증분 반영
+        questionClusterStore.record(userMessage.getContent(), userMessage.getKeyword(), domain, userMessage.getCreatedAt());
+    }
 
-        static String encode(
-            Instant createdAt,
-            UUID id
-        ) {
-            return createdAt.toEpochMilli() + "_" + id;
-        }
+    /**
+     * 새 메시지를 세션 목록용 비정규화 컬럼(메시지 수, 마지막 활동 시각, 미리보기)에 반영합니다.
+     */
+    private void recordSessionActivity(ChatMessage message) {
+        chatSessionRepository.recordMessage(
+            message.getSessionId(),
+            ChatSession.preview(message.getContent()),
+            message.getCreatedAt()
+        );
     }
 
     @Override
     @Transactional(readOnly = true)
     public com.ctrlf.chat.dto.response.AdminMessageLogResponse getAdminMessages(
         String domain,
-        Integer daysBack
+        Integer daysBack,
+        String cursor,
+        Integer size
     ) {
-        // Elasticsearch에서 FAQ 로그 조회 (faq_log 인덱스)
-        return faqLogElasticsearchService.getFaqLogs(domain, daysBack);
+        // Elasticsearch에서 FAQ 로그 조회 (chat_log 인덱스, PIT 커서 페이지)
+        return faqLogElasticsearchService.getFaqLogs(domain, daysBack, cursor, size);
     }
 
     /**
@@ -2,9 +2,9 @@ package com.ctrlf.chat.service;
 
 import com.ctrlf.chat.dto.request.ChatSessionCreateRequest;
 import com.ctrlf.chat.dto.request.ChatSessionUpdateRequest;
+import com.ctrlf.chat.dto.response.ChatSessionCursorResponse;
 import com.ctrlf.chat.dto.response.ChatSessionHistoryResponse;
 import com.ctrlf.chat.dto.response.ChatSessionResponse;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -34,11 +34,14 @@ public interface ChatSessionService {
     ChatSessionResponse getSession(UUID sessionId);
 
     /**
-     * 세션 목록 조회
-     * 
-     * @return 세션 목록
+     * 사용자 세션 목록 조회 (최근 활동순, 커서 기반 페이지네이션)
+     *
+     * @param userUuid 사용자 UUID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 세션 목록 (마지막 메시지 미리보기/메시지 수 포함) 및 페이지네이션 정보
      */
-    List<ChatSessionResponse> getSessionList();
+    ChatSessionCursorResponse getSessionList(UUID userUuid, String cursor, int size);
 
     /**
      * 세션 수정
@@ -57,12 +60,14 @@ public interface ChatSessionService {
     void deleteSession(UUID sessionId);
 
     /**
-     * 세션 히스토리 조회
+     * 세션 히스토리 조회 (최신 메시지부터 커서 기반 페이지네이션)
      * 
      * @param sessionId 세션 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
      * @return 세션 정보 및 메시지 목록
      */
-    ChatSessionHistoryResponse getSessionHistory(UUID sessionId);
+    ChatSessionHistoryResponse getSessionHistory(UUID sessionId, String cursor, int size);
 
     /**
      * 세션/컨텍스트 모델 설정
@@ -1,9 +1,13 @@
 package com.ctrlf.chat.service;
 
 // import com.ctrlf.chat.ai.search.client.ChatAiClient; // ⚠️ session-summary 기능 주석 처리로 인해 사용 안 함
+import com.ctrlf.chat.abtest.AbTestModelAssigner;
 import com.ctrlf.chat.dto.request.ChatSessionCreateRequest;
 import com.ctrlf.chat.dto.request.ChatSessionUpdateRequest;
+import com.ctrlf.chat.dto.response.ChatMessageCursorResponse;
+import com.ctrlf.chat.dto.response.ChatSessionCursorResponse;
 import com.ctrlf.chat.dto.response.ChatSessionHistoryResponse;
+import com.ctrlf.chat.dto.response.ChatSessionListItem;
 import com.ctrlf.chat.dto.response.ChatSessionResponse;
 // import com.ctrlf.chat.dto.summary.ChatSessionSummaryResponse; // ⚠️ session-summary 기능 주석 처리로 인해 사용 안 함
 import com.ctrlf.chat.config.metrics.CustomMetrics;
@@ -27,7 +31,9 @@ public class ChatSessionServiceImpl implements ChatSessionService {
 
     private final ChatSessionRepository chatSessionRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageService chatMessageService;
     private final CustomMetrics customMetrics;
+    private final AbTestModelAssigner abTestModelAssigner;
 
     // ⚠️ AI 요약용 Client (현재 사용 안 함 - session-summary 기능 주석 처리)
     // private final ChatAiClient chatAiClient;
@@ -38,7 +44,10 @@ public class ChatSessionServiceImpl implements ChatSessionService {
         session.setTitle(request.title());
         session.setDomain(request.domain());
         session.setUserUuid(request.userUuid());
-        // 모델은 Frontend에서 POST /api/chat/sessions/{sessionId}/model로 설정
+        // A/B 테스트 arm 할당 (실험을 켠 경우만, 사용자 기준 고정, Frontend에서 POST /api/chat/sessions/{sessionId}/model로 변경 가능)
+        if (request.userUuid() != null && abTestModelAssigner.isEnabled()) {
+            session.setEmbeddingModel(abTestModelAssigner.assignModel(request.userUuid(), request.domain()));
+        }
 
         ChatSession saved = chatSessionRepository.save(session);
 
@@ -72,19 +81,39 @@ public class ChatSessionServiceImpl implements ChatSessionService {
         );
     }
 
+    /**
+     * 사용자 세션 목록 (최근 활동순 키셋 페이지)
+     *
+     * <p>미리보기/메시지 수는 메시지 저장 시 세션 행에 갱신된 값이므로 chat_message를 읽지 않습니다.</p>
+     */
     @Override
-    public List<ChatSessionResponse> getSessionList() {
-        return chatSessionRepository.findAllActive()
-            .stream()
-            .map(session -> new ChatSessionResponse(
-                session.getId(),
-                session.getTitle(),
-                session.getDomain(),
-                session.getUserUuid(),
-                session.getCreatedAt(),
-                session.getUpdatedAt()
-            ))
-            .toList();
+    @Transactional(readOnly = true)
+    public ChatSessionCursorResponse getSessionList(UUID userUuid, String cursor, int size) {
+        int safeSize = Math.max(1, Math.min(size, 100));
+        int limit = safeSize + 1;
+
+        List<ChatSession> rows;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor parsed = KeysetCursor.parse(cursor);
+            rows = chatSessionRepository.findNextPageByUserUuid(userUuid, parsed.at(), parsed.id(), limit);
+        } else {
+            rows = chatSessionRepository.findFirstPageByUserUuid(userUuid, limit);
+        }
+
+        boolean hasNext = rows.size() > safeSize;
+        List<ChatSession> page = hasNext ? rows.subList(0, safeSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext && !page.isEmpty()) {
+            ChatSession last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getLastActivityAt(), last.getId());
+        }
+
+        return new ChatSessionCursorResponse(
+            page.stream().map(ChatSessionListItem::from).toList(),
+            nextCursor,
+            hasNext
+        );
     }
 
     @Override
@@ -146,21 +175,24 @@ public class ChatSessionServiceImpl implements ChatSessionService {
         session.softDelete();
     }
 
-    // ✅ 세션 히스토리(전체) 조회 유지
+    // ✅ 세션 히스토리 조회 (최신 메시지부터 페이지 단위)
     @Override
-    public ChatSessionHistoryResponse getSessionHistory(UUID sessionId) {
+    @Transactional(readOnly = true)
+    public ChatSessionHistoryResponse getSessionHistory(UUID sessionId, String cursor, int size) {
         ChatSession session = chatSessionRepository.findActiveById(sessionId);
         if (session == null) {
             throw new ChatSessionNotFoundException();
         }
 
-        List<ChatMessage> messages =
-            chatMessageRepository.findAllBySessionIdOrderByCreatedAtAsc(sessionId);
+        ChatMessageCursorResponse page =
+            chatMessageService.getMessagesBySession(sessionId, cursor, size);
 
         return new ChatSessionHistoryResponse(
             session.getId(),
             session.getTitle(),
-            messages
+            page.messages(),
+            page.nextCursor(),
+            page.hasNext()
         );
     }
 
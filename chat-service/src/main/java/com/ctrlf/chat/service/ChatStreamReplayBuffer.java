@@ -0,0 +1,198 @@
+package com.ctrlf.chat.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 메시지별 스트림 재전송(replay) 버퍼
+ *
+ * <p>AI 서버 스트림 1개를 구독해 이벤트마다 순번(SSE id)을 붙여 보관하고,
+ * 여러 클라이언트 연결이 이 버퍼를 구독합니다. 연결이 끊겼다가 Last-Event-ID로 재연결하면
+ * 보관된 이벤트 중 놓친 것부터 재전송한 뒤 실시간 스트림에 이어 붙으므로, AI 서버를 다시 호출하지 않습니다.</p>
+ * <p>구독 중인 클라이언트가 없는 상태가 유예 시간(resume-grace) 동안 이어지면 AI 서버 스트림을 취소합니다.</p>
+ * <p>보관 개수(historySize)를 넘어 앞부분이 밀려난 뒤 연결하면 일부가 빠진 답변을 보내지 않고
+ * {@link ReplayGapException}으로 종료합니다. (새 연결도 동일)</p>
+ */
+@Slf4j
+class ChatStreamReplayBuffer {
+
+    /**
+     * 순번이 붙은 스트림 이벤트
+     *
+     * @param id 이벤트 순번 (1부터 시작, 순번 없는 이벤트는 0)
+     * @param tokens 이 이벤트까지 생성된 token 이벤트 수
+     * @param event 클라이언트로 전송할 SSE 이벤트 (id 포함)
+     */
+    record ReplayEvent(long id, int tokens, ServerSentEvent<String> event) {
+
+        /** 재전송 대상이 아닌 이벤트 (연결별 에러 등) */
+        static ReplayEvent unsequenced(ServerSentEvent<String> event) {
+            return new ReplayEvent(0, 0, event);
+        }
+    }
+
+    private final int historySize;
+    private final Duration resumeGrace;
+    private final Function<ChatStreamReplayBuffer, Disposable> generator;
+    private final Sinks.Many<ReplayEvent> sink;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger tokens = new AtomicInteger();
+    /** 클라이언트 전달 구간으로 넘어간 token 이벤트 수 (여러 연결 중 최댓값) */
+    private final AtomicInteger tokensDelivered = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    /** subscribers, pendingCancel 변경과 취소 판단을 한 번에 처리하기 위한 lock */
+    private final Object lock = new Object();
+    private int subscribers;
+    private Disposable pendingCancel;
+    /** 예약된 취소 작업 구분용. 이미 실행이 시작된 예전 작업이 새 유예 시간을 무시하지 않도록 합니다. */
+    private long cancelGeneration;
+
+    private volatile Disposable upstream;
+    private volatile boolean completed;
+
+    /**
+     * @param historySize 재전송용으로 보관할 최대 이벤트 수
+     * @param resumeGrace 구독자가 모두 끊긴 뒤 AI 서버 스트림을 취소하기까지의 유예 시간
+     * @param generator AI 서버 스트림을 구독해 이 버퍼로 이벤트를 넣는 함수 (첫 구독 시 1회 실행)
+     */
+    ChatStreamReplayBuffer(int historySize, Duration resumeGrace, Function<ChatStreamReplayBuffer, Disposable> generator) {
+        this.historySize = historySize;
+        this.resumeGrace = resumeGrace;
+        this.generator = generator;
+        this.sink = Sinks.many().replay().limit(historySize);
+    }
+
+    /**
+     * 이벤트에 순번을 붙여 보관하고 구독자에게 전달합니다. (생성 스트림 1곳에서만 호출)
+     */
+    void append(ServerSentEvent<String> event) {
+        long id = sequence.incrementAndGet();
+        int tokenCount = "token".equals(event.event()) ? tokens.incrementAndGet() : tokens.get();
+        ServerSentEvent<String> sequenced = ServerSentEvent.<String>builder()
+            .id(String.valueOf(id))
+            .event(event.event())
+            .data(event.data())
+            .build();
+        Sinks.EmitResult result = sink.tryEmitNext(new ReplayEvent(id, tokenCount, sequenced));
+        if (result.isFailure()) {
+            log.warn("Replay buffer emit failed: id={}, result={}", id, result);
+        }
+    }
+
+    void complete() {
+        completed = true;
+        sink.tryEmitComplete();
+    }
+
+    boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * lastEventId 다음 이벤트부터 재전송할 수 있는지 확인합니다.
+     * 보관 개수를 넘어 이미 밀려난 이벤트가 있으면 false를 반환합니다.
+     */
+    boolean canResumeFrom(long lastEventId) {
+        long oldestRetained = Math.max(1, sequence.get() - historySize + 1);
+        return lastEventId + 1 >= oldestRetained;
+    }
+
+    /**
+     * 버퍼를 구독합니다.
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 순번 (처음 연결이면 0)
+     * @return 놓친 이벤트 재전송 후 실시간 이벤트로 이어지는 스트림.
+     *         lastEventId 다음 이벤트가 이미 밀려났으면 {@link ReplayGapException}으로 종료
+     */
+    Flux<ReplayEvent> attach(long lastEventId) {
+        return Flux.defer(() -> {
+            AtomicLong expected = new AtomicLong(lastEventId + 1);
+            return sink.asFlux()
+                .skipWhile(event -> event.id() <= lastEventId)
+                .<ReplayEvent>handle((event, output) -> {
+                    // 순번은 1씩 증가하므로 첫 이벤트가 기대 순번보다 크면 앞부분이 밀려난 것
+                    if (event.id() > expected.get()) {
+                        output.error(new ReplayGapException(expected.get(), event.id()));
+                        return;
+                    }
+                    expected.set(event.id() + 1);
+                    output.next(event);
+                });
+        })
+            .doOnSubscribe(s -> {
+                synchronized (lock) {
+                    subscribers++;
+                    cancelGeneration++;
+                    if (pendingCancel != null) {
+                        pendingCancel.dispose();
+                        pendingCancel = null;
+                    }
+                }
+                // 첫 구독 시 AI 서버 스트림 시작 (시작 전 이벤트는 replay 보관분으로 전달됨)
+                if (started.compareAndSet(false, true)) {
+                    upstream = generator.apply(this);
+                }
+            })
+            .doFinally(signal -> {
+                synchronized (lock) {
+                    subscribers--;
+                    if (subscribers == 0 && !completed) {
+                        long generation = ++cancelGeneration;
+                        if (resumeGrace.isZero()) {
+                            cancelIfIdle(generation);
+                        } else {
+                            pendingCancel = Schedulers.parallel().schedule(
+                                () -> cancelIfIdle(generation), resumeGrace.toMillis(), TimeUnit.MILLISECONDS);
+                        }
+                    }
+                }
+            });
+    }
+
+    void markDelivered(int tokenCount) {
+        tokensDelivered.accumulateAndGet(tokenCount, Math::max);
+    }
+
+    int tokensDelivered() {
+        return tokensDelivered.get();
+    }
+
+    /**
+     * 구독자가 여전히 없으면 AI 서버 스트림을 취소합니다.
+     * 취소하는 동안 새 구독이 끼어들지 않도록 판단과 취소를 같은 lock 안에서 처리합니다.
+     */
+    private void cancelIfIdle(long generation) {
+        synchronized (lock) {
+            if (generation != cancelGeneration) {
+                return;
+            }
+            pendingCancel = null;
+            Disposable current = upstream;
+            if (subscribers == 0 && !completed && current != null) {
+                current.dispose();
+            }
+        }
+    }
+
+    /**
+     * 재전송할 구간의 앞부분이 보관 개수를 넘어 이미 밀려난 경우
+     */
+    static final class ReplayGapException extends RuntimeException {
+
+        ReplayGapException(long expectedId, long oldestRetainedId) {
+            super("Replay history truncated: expected id " + expectedId + ", oldest retained id " + oldestRetainedId);
+        }
+    }
+}
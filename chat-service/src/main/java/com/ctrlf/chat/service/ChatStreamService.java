@@ -1,24 +1,47 @@
 package com.ctrlf.chat.service;
 
+import com.ctrlf.chat.abtest.AbTestModelAssigner;
 import com.ctrlf.chat.ai.search.dto.ChatCompletionRequest;
 import com.ctrlf.chat.ai.search.dto.ChatCompletionRequest.Message;
 import com.ctrlf.chat.ai.search.facade.ChatAiFacade;
+import com.ctrlf.chat.config.metrics.CustomMetrics;
+import com.ctrlf.chat.dto.response.ChatSourceDto;
 import com.ctrlf.chat.entity.ChatMessage;
+import com.ctrlf.chat.entity.ChatMessageStatus;
 import com.ctrlf.chat.entity.ChatSession;
 import com.ctrlf.chat.repository.ChatMessageRepository;
 import com.ctrlf.chat.repository.ChatSessionRepository;
+import com.ctrlf.chat.service.ChatStreamReplayBuffer.ReplayEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
@@ -29,129 +52,356 @@ public class ChatStreamService {
     private final ChatMessageRepository chatMessageRepository;
     private final ChatSessionRepository chatSessionRepository;
     private final com.ctrlf.chat.elasticsearch.service.ChatLogElasticsearchService chatLogElasticsearchService;
+    private final CustomMetrics customMetrics;
+    private final ChatAnswerCache chatAnswerCache;
+    private final AbTestModelAssigner abTestModelAssigner;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    /** 캐시된 답변을 스트림으로 재생할 때 token 이벤트 1개당 글자 수 (코드 포인트 기준) */
+    private static final int CACHED_TOKEN_CHUNK = 20;
+
     // AI 최대 지연 시간(61초) + 여유 시간을 고려하여 180초로 설정
     private static final long SSE_TIMEOUT_MS = 180_000L;
 
-    public SseEmitter stream(UUID messageId) {
+    /**
+     * 느린 소비자 정책 (리액티브 스트림 전용)
+     *
+     * <p>클라이언트가 버퍼 크기만큼 이벤트를 소비하지 못했을 때의 동작입니다.
+     * 어느 정책이든 답변 누적/저장은 버퍼 앞단에서 처리되므로 저장 결과에는 영향이 없습니다.</p>
+     */
+    public enum SlowConsumerPolicy {
+        /** slow_consumer error 이벤트를 보내고 스트림 종료 */
+        DISCONNECT,
+        /** 가장 오래된 미전송 이벤트부터 버리고 계속 전송 (done 이벤트는 유지됨) */
+        DROP_OLDEST
+    }
+
+    /** 스트림별 미전송 이벤트 버퍼 크기 */
+    @Value("${app.chat.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.chat.stream.slow-consumer-policy:DISCONNECT}")
+    private SlowConsumerPolicy slowConsumerPolicy;
+
+    /** 재연결(Last-Event-ID) 재전송용으로 메시지별 보관할 최대 이벤트 수 */
+    @Value("${app.chat.stream.replay.max-events:2048}")
+    private int replayMaxEvents;
+
+    /** done 이후 재전송 버퍼 보관 시간 */
+    @Value("${app.chat.stream.replay.ttl-ms:30000}")
+    private long replayTtlMs;
+
+    /** 모든 연결이 끊긴 뒤 AI 서버 스트림을 취소하기 전까지 재연결을 기다리는 시간 (0이면 즉시 취소) */
+    @Value("${app.chat.stream.replay.resume-grace-ms:5000}")
+    private long resumeGraceMs;
+
+    /** 진행 중이거나 최근 완료된 스트림의 재전송 버퍼 (messageId → 버퍼) */
+    private final Map<UUID, ChatStreamReplayBuffer> replays = new ConcurrentHashMap<>();
+
+    /**
+     * 메시지 스트림 (SseEmitter 기반, 기존 엔드포인트)
+     *
+     * <p>{@link #events}를 구독해 SseEmitter로 전달합니다.
+     * emitter는 전송 속도와 무관하게 이벤트를 받으므로 느린 클라이언트에서는 버퍼가 제한 없이 커질 수 있습니다.</p>
+     *
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 받은 이벤트 id (Last-Event-ID, 없으면 null)
+     */
+    public SseEmitter stream(UUID messageId, Long lastEventId) {
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
 
-        try {
-            ChatMessage assistant =
-                chatMessageRepository.findById(messageId).orElseThrow();
+        // 전송 실패(클라이언트 연결 끊김) 시 구독 해제 → 재연결 유예 시간 후 AI 서버 요청 취소
+        Disposable.Swap subscription = Disposables.swap();
+        subscription.update(events(messageId, lastEventId, Function.identity())
+            .doOnSubscribe(s -> customMetrics.incrementActiveStreams("emitter"))
+            .doFinally(signal -> customMetrics.decrementActiveStreams("emitter"))
+            .subscribe(
+                event -> {
+                    if (!safeSend(emitter, toEmitterEvent(event))) {
+                        subscription.dispose();
+                    }
+                },
+                error -> safeComplete(emitter),
+                () -> safeComplete(emitter)
+            ));
 
-            UUID sessionId = assistant.getSessionId();
-            ChatSession session =
-                chatSessionRepository.findActiveById(sessionId);
+        emitter.onCompletion(() -> {
+            subscription.dispose();
+            log.debug("SSE emitter completed for messageId={}", messageId);
+        });
+        emitter.onTimeout(() -> {
+            subscription.dispose();
+            log.warn("SSE emitter timeout for messageId={}", messageId);
+        });
+        emitter.onError(error -> {
+            subscription.dispose();
+            log.debug("SSE emitter error for messageId={}: {}", messageId, error.getMessage());
+        });
 
-            if (session == null) {
-                throw new IllegalArgumentException("세션 없음: " + sessionId);
-            }
+        return emitter;
+    }
 
-            ChatMessage lastUser =
-                chatMessageRepository
-                    .findTopBySessionIdAndRoleOrderByCreatedAtDesc(
-                        sessionId, "user")
-                    .orElseThrow();
-
-            // 스트리밍 시에는 세션에 저장된 모델 사용
-            String embeddingModel = session.getEmbeddingModel();
-            if (embeddingModel == null) {
-                // 세션에 모델이 없으면 기본값 사용
-                embeddingModel = "openai";
-                log.warn(
-                    "세션에 모델이 할당되지 않음. 기본값(openai) 사용: sessionId={}",
-                    sessionId
-                );
+    /**
+     * 메시지 스트림 (Flux 기반, 백프레셔 적용)
+     *
+     * <p>{@link NonBlockingSseWriter}가 소켓이 쓰기 가능할 때만 다음 이벤트를 요청하므로, 클라이언트 전송 속도가
+     * 그대로 수요(demand)로 전달됩니다. 미전송 이벤트는 스트림별로 최대 buffer-size개까지만 보관하고,
+     * 초과 시 {@link SlowConsumerPolicy}에 따라 처리합니다.</p>
+     *
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 받은 이벤트 id (Last-Event-ID, 없으면 null)
+     */
+    public Flux<ServerSentEvent<String>> streamFlux(UUID messageId, Long lastEventId) {
+        return events(messageId, lastEventId, events -> applyBackpressure(events, messageId))
+            .doOnSubscribe(s -> customMetrics.incrementActiveStreams("flux"))
+            .doFinally(signal -> customMetrics.decrementActiveStreams("flux"));
+    }
+
+    private Flux<ReplayEvent> applyBackpressure(Flux<ReplayEvent> events, UUID messageId) {
+        if (slowConsumerPolicy == SlowConsumerPolicy.DROP_OLDEST) {
+            return events.onBackpressureBuffer(
+                bufferSize,
+                dropped -> customMetrics.incrementStreamEventsDropped(),
+                BufferOverflowStrategy.DROP_OLDEST
+            );
+        }
+        return events
+            .onBackpressureBuffer(
+                bufferSize,
+                dropped -> customMetrics.incrementSlowConsumerDisconnects(),
+                BufferOverflowStrategy.ERROR
+            )
+            .onErrorResume(Exceptions::isOverflow, e -> {
+                log.warn("Slow consumer disconnected: messageId={}, bufferSize={}", messageId, bufferSize);
+                return Mono.just(ReplayEvent.unsequenced(
+                    errorEvent("SLOW_CONSUMER", "Client is not consuming the stream fast enough")));
+            });
+    }
+
+    /**
+     * 클라이언트 연결 1개에 전달할 이벤트 스트림을 만듭니다.
+     *
+     * <p>메시지별 재전송 버퍼를 구독하므로, 같은 메시지에 대한 재연결/중복 연결이 AI 서버를 다시 호출하지 않습니다.
+     * lastEventId가 있으면 그 다음 이벤트부터 재전송 후 실시간 스트림에 이어 붙습니다.
+     * 버퍼가 만료되었거나 이미 밀려난 구간이면 STREAM_EXPIRED error 이벤트를 보내고 종료합니다.
+     * 처음 연결(두 번째 탭 등)이라도 답변 앞부분이 보관 개수를 넘어 밀려났으면 잘린 답변 대신 같은 이벤트를 보내므로,
+     * 클라이언트는 저장된 메시지를 조회해야 합니다.</p>
+     *
+     * @param delivery 클라이언트 전달 구간 변환 (버퍼/느린 소비자 정책). 이 뒤에서 전달된 토큰 수를 기록합니다.
+     */
+    Flux<ServerSentEvent<String>> events(
+        UUID messageId,
+        Long lastEventId,
+        Function<Flux<ReplayEvent>, Flux<ReplayEvent>> delivery
+    ) {
+        return Flux.defer(() -> {
+            ChatStreamReplayBuffer replay;
+            if (lastEventId != null) {
+                replay = replays.get(messageId);
+                if (replay == null || !replay.canResumeFrom(lastEventId)) {
+                    log.info("Stream resume unavailable: messageId={}, lastEventId={}", messageId, lastEventId);
+                    return Flux.just(errorEvent("STREAM_EXPIRED", "Stream can no longer be resumed. Retry the message."));
+                }
+            } else {
+                replay = replays.computeIfAbsent(messageId, this::newReplayBuffer);
             }
 
-            // 세션에 저장된 LLM 모델 사용 (관리자 대시보드에서 설정)
-            String llmModel = session.getLlmModel();
-
-            ChatCompletionRequest req =
-                new ChatCompletionRequest(
-                    "stream-" + messageId,
-                    sessionId,
-                    session.getUserUuid(),
-                    "EMPLOYEE",
-                    session.getDomain(),
-                    session.getDomain(),
-                    "WEB",
-                    List.of(new Message("user", lastUser.getContent())),
-                    embeddingModel,  // 세션에 할당된 임베딩 모델
-                    llmModel         // 관리자 대시보드에서 선택한 LLM 모델
-                );
+            return replay.attach(lastEventId != null ? lastEventId : 0L)
+                .onErrorResume(ChatStreamReplayBuffer.ReplayGapException.class, e -> {
+                    log.info("Stream replay truncated: messageId={}, {}", messageId, e.getMessage());
+                    return Mono.just(ReplayEvent.unsequenced(errorEvent(
+                        "STREAM_EXPIRED", "Stream history is no longer available. Load the stored message.")));
+                })
+                .transform(delivery)
+                .doOnNext(event -> replay.markDelivered(event.tokens()))
+                .map(ReplayEvent::event);
+        });
+    }
 
-            StringBuilder answerBuf = new StringBuilder();
-            StreamContext context = new StreamContext(emitter, assistant, answerBuf, session, lastUser);
-
-            Disposable subscription =
-                chatAiFacade.streamChat(req).subscribe(
-                    line -> handleLine(line, context),
-                    error -> handleStreamError(error, context),
-                    () -> {
-                        // AI 서버가 done 이벤트를 보내지 않고 스트림이 완료된 경우
-                        // (비정상 종료 등)에만 호출됨
-                        if (!context.isDoneReceived) {
-                            handleComplete(context);
-                        }
+    /**
+     * 재전송 버퍼를 만듭니다. AI 서버 스트림은 첫 구독 시 시작됩니다.
+     * 정상 종료된 버퍼는 replay ttl 동안 재연결을 위해 유지하고, 취소된 버퍼는 즉시 제거합니다.
+     */
+    private ChatStreamReplayBuffer newReplayBuffer(UUID messageId) {
+        return new ChatStreamReplayBuffer(replayMaxEvents, Duration.ofMillis(resumeGraceMs), replay ->
+            generate(messageId, replay)
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        replays.remove(messageId, replay);
+                        replay.complete();
+                    } else {
+                        Schedulers.parallel().schedule(
+                            () -> replays.remove(messageId, replay), replayTtlMs, TimeUnit.MILLISECONDS);
                     }
+                })
+                .subscribe(replay::append, error -> replay.complete(), replay::complete)
+        );
+    }
+
+    /**
+     * AI 서버 스트림을 SSE 이벤트로 변환합니다.
+     *
+     * <p>토큰 누적과 메시지/로그 저장은 이 단계에서 처리되며, done/error 이벤트를 내보낸 뒤 완료됩니다.
+     * 저장(JPA)이 WebClient 네트워크 스레드를 막지 않도록 boundedElastic 스케줄러에서 처리합니다.</p>
+     * <p>모든 클라이언트 연결이 끊긴 채 재연결 유예 시간이 지나 구독이 취소되면 AI 서버 요청을 취소(연결 종료)하고,
+     * 그때까지의 부분 답변을 CANCELLED 상태로 저장합니다.</p>
+     */
+    private Flux<ServerSentEvent<String>> generate(UUID messageId, ChatStreamReplayBuffer replay) {
+        return Flux.defer(() -> {
+            StreamContext context;
+            try {
+                context = prepare(messageId);
+            } catch (Exception e) {
+                // 초기화 중 에러 발생 시 context가 없으므로 임시 생성
+                ChatMessage tempAssistant = null;
+                try {
+                    tempAssistant = chatMessageRepository.findById(messageId).orElse(null);
+                } catch (Exception ignored) {}
+
+                StreamContext errorContext = new StreamContext(
+                    null,
+                    tempAssistant != null ? tempAssistant : new ChatMessage(),
+                    new StringBuffer(),
+                    null,  // 에러 발생 시 세션 정보 없음
+                    null   // 에러 발생 시 lastUser 정보 없음
                 );
+                return Flux.just(handleStreamError(e, errorContext));
+            }
 
-            emitter.onCompletion(() -> {
-                subscription.dispose();
-                log.debug("SSE emitter completed for messageId={}", messageId);
-            });
-            emitter.onTimeout(() -> {
-                subscription.dispose();
-                log.warn("SSE emitter timeout for messageId={}", messageId);
-            });
+            // 캐시된 답변이 있으면 AI 서버 대신 NDJSON으로 재생 (이후 처리 경로는 동일)
+            Flux<String> source = chatAnswerCache.get(context.cacheKey)
+                .map(cached -> {
+                    context.fromCache = true;
+                    return cachedLines(cached, context);
+                })
+                .orElseGet(() -> chatAiFacade.streamChat(context.request));
 
-        } catch (Exception e) {
-            // 초기화 중 에러 발생 시 context가 없으므로 임시 생성
-            ChatMessage tempAssistant = null;
-            try {
-                tempAssistant = chatMessageRepository.findById(messageId).orElse(null);
-            } catch (Exception ignored) {}
-            
-            StreamContext errorContext = new StreamContext(
-                emitter,
-                tempAssistant != null ? tempAssistant : new ChatMessage(),
-                new StringBuilder(),
-                null,  // 에러 발생 시 세션 정보 없음
-                null   // 에러 발생 시 lastUser 정보 없음
+            return source
+                .publishOn(Schedulers.boundedElastic())
+                .concatMap(line -> Mono.justOrEmpty(handleLine(line, context)))
+                // done/error 이벤트를 내보낸 뒤 완료
+                .takeUntil(event -> context.isDoneReceived)
+                // AI 서버가 done 이벤트를 보내지 않고 스트림이 완료된 경우 (비정상 종료 등)
+                .concatWith(Mono.fromRunnable(() -> handleComplete(context)))
+                .onErrorResume(error -> Mono.just(handleStreamError(error, context)))
+                // 취소 신호는 상위로 전파되어 WebClient 구독 해제 → AI 서버 HTTP 연결 종료
+                .doOnCancel(() -> handleCancel(context, replay.tokensDelivered()));
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private StreamContext prepare(UUID messageId) {
+        ChatMessage assistant =
+            chatMessageRepository.findById(messageId).orElseThrow();
+
+        UUID sessionId = assistant.getSessionId();
+        ChatSession session =
+            chatSessionRepository.findActiveById(sessionId);
+
+        if (session == null) {
+            throw new IllegalArgumentException("세션 없음: " + sessionId);
+        }
+
+        ChatMessage lastUser =
+            chatMessageRepository
+                .findTopBySessionIdAndRoleOrderByCreatedAtDesc(
+                    sessionId, "user")
+                .orElseThrow();
+
+        // 스트리밍 시에는 세션에 저장된 모델 사용
+        String embeddingModel = session.getEmbeddingModel();
+        if (embeddingModel == null) {
+            // 세션에 모델이 없으면 A/B 테스트 arm 할당 (사용자 기준 고정)
+            embeddingModel = abTestModelAssigner.assignModel(session.getUserUuid(), session.getDomain());
+            log.warn(
+                "세션에 모델이 할당되지 않음. A/B 테스트 할당 모델({}) 사용: sessionId={}",
+                embeddingModel,
+                sessionId
             );
-            handleStreamError(e, errorContext);
         }
 
-        return emitter;
+        // 세션에 저장된 LLM 모델 사용 (관리자 대시보드에서 설정)
+        String llmModel = session.getLlmModel();
+
+        ChatCompletionRequest req =
+            new ChatCompletionRequest(
+                "stream-" + messageId,
+                sessionId,
+                session.getUserUuid(),
+                "EMPLOYEE",
+                session.getDomain(),
+                session.getDomain(),
+                "WEB",
+                List.of(new Message("user", lastUser.getContent())),
+                embeddingModel,  // 세션에 할당된 임베딩 모델
+                llmModel         // 관리자 대시보드에서 선택한 LLM 모델
+            );
+
+        StreamContext context = new StreamContext(req, assistant, new StringBuffer(), session, lastUser);
+        context.cacheKey = chatAnswerCache.key(lastUser.getContent(), session.getDomain(), embeddingModel, llmModel);
+        return context;
     }
 
-    private void handleLine(String line, StreamContext context) {
+    /**
+     * 캐시된 답변을 AI 서버 스트림과 같은 형식(meta → token... → done)의 NDJSON 줄로 만듭니다.
+     */
+    private Flux<String> cachedLines(ChatAnswerCache.CachedAnswer cached, StreamContext context) {
+        List<String> lines = new ArrayList<>();
+        ObjectNode meta = objectMapper.createObjectNode()
+            .put("type", "meta")
+            .put("model", cached.llmModel())
+            .put("cached", true);
+        if (cached.sources() != null) {
+            meta.set("sources", objectMapper.valueToTree(cached.sources()));
+        }
+        lines.add(meta.toString());
+
+        String answer = cached.answer();
+        int chunks = 0;
+        for (int start = 0; start < answer.length(); chunks++) {
+            int end = answer.offsetByCodePoints(start, Math.min(CACHED_TOKEN_CHUNK, answer.codePointCount(start, answer.length())));
+            lines.add(objectMapper.createObjectNode()
+                .put("type", "token")
+                .put("text", answer.substring(start, end))
+                .toString());
+            start = end;
+        }
+
+        int totalTokens = cached.completionTokens() != null ? cached.completionTokens() : chunks;
+        // elapsed_ms는 재생 완료 시점 기준으로 계산
+        return Flux.fromIterable(lines)
+            .concatWith(Mono.fromCallable(() -> objectMapper.createObjectNode()
+                .put("type", "done")
+                .put("total_tokens", totalTokens)
+                .put("elapsed_ms", System.currentTimeMillis() - context.startedAt)
+                .put("cached", true)
+                .toString()));
+    }
+
+    /**
+     * NDJSON 한 줄을 처리하고 클라이언트로 보낼 SSE 이벤트를 반환합니다.
+     *
+     * @return 전송할 이벤트 (전송할 것이 없으면 null)
+     */
+    private ServerSentEvent<String> handleLine(String line, StreamContext context) {
         try {
             JsonNode json = objectMapper.readTree(line);
             String type = json.path("type").asText();
 
             switch (type) {
                 case "meta":
-                    handleMetaEvent(json, context);
-                    break;
+                    return handleMetaEvent(json, context);
                 case "token":
-                    handleTokenEvent(json, context);
-                    break;
+                    return handleTokenEvent(json, context);
                 case "done":
-                    handleDoneEvent(json, context);
-                    break;
+                    return handleDoneEvent(json, context);
                 case "error":
-                    handleErrorEvent(json, context);
-                    break;
+                    return handleErrorEvent(json, context);
                 default:
                     log.debug("Unknown event type: {}", type);
+                    return null;
             }
         } catch (Exception e) {
             // JSON 파싱 실패 → 무시 (NDJSON chunk 경계 보호)
             log.debug("skip non-json line: {}", line);
+            return null;
         }
     }
 
@@ -159,22 +409,40 @@ public class ChatStreamService {
      * meta 이벤트 처리
      * AI 서버의 model 정보를 SSE로 전달합니다.
      */
-    private void handleMetaEvent(JsonNode json, StreamContext context) {
+    private ServerSentEvent<String> handleMetaEvent(JsonNode json, StreamContext context) {
         try {
-            // AI 서버의 meta 이벤트를 그대로 SSE로 전달
-            String metaJson = objectMapper.writeValueAsString(json);
-            safeSend(context.emitter, SseEmitter.event()
-                .name("meta")
-                .data(metaJson));
-            
             // model 정보를 컨텍스트에 저장 (나중에 메시지 저장 시 사용)
             if (json.has("model")) {
                 context.model = json.path("model").asText();
             }
+            // 답변 캐시 저장 여부 판단용
+            if (json.has("cacheable")) {
+                context.cacheable = json.path("cacheable").asBoolean();
+            }
+            if (json.has("masked")) {
+                context.masked = json.path("masked").asBoolean();
+            }
+            if (json.has("personalized")) {
+                context.personalized = json.path("personalized").asBoolean();
+            }
+            if (json.hasNonNull("action")) {
+                context.hasAction = true;
+            }
+            if (json.has("sources")) {
+                try {
+                    context.sources = objectMapper.convertValue(json.path("sources"), new TypeReference<List<ChatSourceDto>>() {});
+                } catch (IllegalArgumentException e) {
+                    log.debug("skip unparsable meta sources: {}", e.getMessage());
+                }
+            }
             
             log.debug("Received meta event: model={}", context.model);
+
+            // AI 서버의 meta 이벤트를 그대로 SSE로 전달
+            return sseEvent("meta", objectMapper.writeValueAsString(json));
         } catch (Exception e) {
             log.warn("Failed to process meta event", e);
+            return null;
         }
     }
 
@@ -182,67 +450,65 @@ public class ChatStreamService {
      * token 이벤트 처리
      * 토큰 텍스트를 누적하고 SSE로 전달합니다.
      */
-    private void handleTokenEvent(JsonNode json, StreamContext context) {
-        try {
-            String text = json.path("text").asText();
-            context.answerBuf.append(text);
-            safeSend(context.emitter, SseEmitter.event()
-                .name("token")
-                .data(text));
-        } catch (Exception e) {
-            log.warn("Failed to process token event", e);
-        }
+    private ServerSentEvent<String> handleTokenEvent(JsonNode json, StreamContext context) {
+        String text = json.path("text").asText();
+        context.answerBuf.append(text);
+        context.tokensGenerated.incrementAndGet();
+        return sseEvent("token", text);
     }
 
     /**
      * done 이벤트 처리
      * AI 서버의 메트릭 정보를 SSE로 전달하고 메시지를 저장합니다.
      */
-    private void handleDoneEvent(JsonNode json, StreamContext context) {
+    private ServerSentEvent<String> handleDoneEvent(JsonNode json, StreamContext context) {
+        context.isDoneReceived = true;
+        ServerSentEvent<String> event = null;
         try {
             // AI 서버의 done 이벤트를 그대로 SSE로 전달
-            String doneJson = objectMapper.writeValueAsString(json);
-            safeSend(context.emitter, SseEmitter.event()
-                .name("done")
-                .data(doneJson));
-            
-            context.isDoneReceived = true;
+            event = sseEvent("done", objectMapper.writeValueAsString(json));
             
-            // 메시지 저장 (메트릭 정보 포함)
-            saveMessageWithMetrics(json, context);
+            // 메시지 저장 (메트릭 정보 포함, 이미 취소된 스트림은 저장하지 않음)
+            if (context.finish()) {
+                saveMessageWithMetrics(json, context);
+                cacheAnswer(json, context);
+                recordTurn(context, json.path("elapsed_ms").asLong(System.currentTimeMillis() - context.startedAt),
+                    json.has("total_tokens") ? json.path("total_tokens").asInt(0) : null, false);
+            }
             
             log.debug("Received done event: total_tokens={}, elapsed_ms={}",
                 json.path("total_tokens").asInt(-1),
                 json.path("elapsed_ms").asInt(-1));
         } catch (Exception e) {
             log.error("Failed to process done event", e);
-        } finally {
-            safeComplete(context.emitter);
         }
+        return event;
     }
 
     /**
      * error 이벤트 처리
      * AI 서버의 에러 정보를 SSE로 전달합니다.
      */
-    private void handleErrorEvent(JsonNode json, StreamContext context) {
+    private ServerSentEvent<String> handleErrorEvent(JsonNode json, StreamContext context) {
+        context.isDoneReceived = true;
+        ServerSentEvent<String> event = null;
         try {
             // AI 서버의 error 이벤트를 그대로 SSE로 전달
-            String errorJson = objectMapper.writeValueAsString(json);
-            safeSend(context.emitter, SseEmitter.event()
-                .name("error")
-                .data(errorJson));
-            
-            context.isDoneReceived = true;
+            event = sseEvent("error", objectMapper.writeValueAsString(json));
             
             // 에러 메시지 저장
             String errorCode = json.path("code").asText("UNKNOWN");
             String errorMessage = json.path("message").asText("An error occurred");
-            
-            context.assistant.updateContent(context.answerBuf.toString());
-            context.assistant.setIsError(true);
             // 에러 정보는 로그에만 기록
             log.error("AI server error: code={}, message={}", errorCode, errorMessage);
+            if (!context.finish()) {
+                return event;
+            }
+            recordTurn(context, System.currentTimeMillis() - context.startedAt, null, true);
+
+            context.assistant.updateContent(context.answerBuf.toString());
+            context.assistant.setIsError(true);
+            context.assistant.setStatus(ChatMessageStatus.ERROR);
 
             chatMessageRepository.save(context.assistant);
             
@@ -259,9 +525,8 @@ public class ChatStreamService {
             }
         } catch (Exception e) {
             log.error("Failed to process error event", e);
-        } finally {
-            safeComplete(context.emitter);
         }
+        return event;
     }
 
     /**
@@ -288,7 +553,13 @@ public class ChatStreamService {
             }
             
             context.assistant.setIsError(false);
+            context.assistant.setStatus(ChatMessageStatus.DONE);
             chatMessageRepository.save(context.assistant);
+            // 세션 목록 미리보기를 완성된 답변으로 갱신
+            chatSessionRepository.updateLastMessagePreview(
+                context.assistant.getSessionId(),
+                ChatSession.preview(context.assistant.getContent())
+            );
             
             // Elasticsearch chat_log 인덱스에 실시간 저장
             if (context.session != null) {
@@ -311,6 +582,34 @@ public class ChatStreamService {
         }
     }
 
+    /**
+     * 정상 완료된 스트림 답변을 캐시에 저장합니다. (캐시에서 재생한 답변은 제외)
+     */
+    private void cacheAnswer(JsonNode doneJson, StreamContext context) {
+        if (context.fromCache || !chatAnswerCache.isCacheable(
+            context.cacheable, context.masked, context.personalized, context.hasAction)) {
+            return;
+        }
+        chatAnswerCache.put(context.cacheKey, new ChatAnswerCache.CachedAnswer(
+            context.answerBuf.toString(),
+            context.model,
+            null,
+            doneJson.has("total_tokens") ? doneJson.path("total_tokens").asInt(0) : null,
+            null,
+            context.sources,
+            doneJson.path("elapsed_ms").asLong(System.currentTimeMillis() - context.startedAt)
+        ));
+    }
+
+    /**
+     * A/B 테스트 arm별 턴 결과를 기록합니다. (캐시에서 재생한 답변은 모델 성능과 무관하므로 제외)
+     */
+    private void recordTurn(StreamContext context, long latencyMs, Integer completionTokens, boolean error) {
+        if (!context.fromCache) {
+            abTestModelAssigner.recordTurn(context.request.getModel(), latencyMs, completionTokens, error);
+        }
+    }
+
     /**
      * 스트림 완료 처리 (AI 서버가 done 이벤트를 보내지 않고 완료된 경우)
      * 정상적인 경우에는 handleDoneEvent에서 처리됩니다.
@@ -318,9 +617,10 @@ public class ChatStreamService {
     private void handleComplete(StreamContext context) {
         try {
             // AI 서버의 done 이벤트를 받지 못한 경우에만 실행
-            if (!context.isDoneReceived) {
+            if (!context.isDoneReceived && context.finish()) {
                 context.assistant.updateContent(context.answerBuf.toString());
                 context.assistant.setIsError(false);
+                context.assistant.setStatus(ChatMessageStatus.DONE);
                 chatMessageRepository.save(context.assistant);
                 
                 // Elasticsearch chat_log 인덱스에 실시간 저장
@@ -339,8 +639,6 @@ public class ChatStreamService {
             }
         } catch (Exception e) {
             log.error("final save error", e);
-        } finally {
-            safeComplete(context.emitter);
         }
     }
 
@@ -348,28 +646,24 @@ public class ChatStreamService {
      * 스트림 에러 처리 (네트워크 에러 등)
      * AI 서버의 error 이벤트가 아닌 백엔드 레벨 에러입니다.
      */
-    private void handleStreamError(Throwable error, StreamContext context) {
+    private ServerSentEvent<String> handleStreamError(Throwable error, StreamContext context) {
         log.error("Stream error occurred", error);
+
+        // 백엔드 레벨 에러를 SSE error 이벤트로 전달
+        String errorMessage = error.getMessage() != null 
+            ? error.getMessage() 
+            : "An error occurred during streaming";
+        ServerSentEvent<String> event = errorEvent("INTERNAL_ERROR", errorMessage);
+        if (!context.finish()) {
+            return event;
+        }
+        recordTurn(context, System.currentTimeMillis() - context.startedAt, null, true);
+
         try {
-            // 백엔드 레벨 에러를 SSE error 이벤트로 전달
-            String errorMessage = error.getMessage() != null 
-                ? error.getMessage() 
-                : "An error occurred during streaming";
-            
-            // AI 서버 형식과 유사하게 에러 이벤트 생성
-            Map<String, String> errorEvent = new HashMap<>();
-            errorEvent.put("type", "error");
-            errorEvent.put("code", "INTERNAL_ERROR");
-            errorEvent.put("message", errorMessage);
-            
-            String errorJson = objectMapper.writeValueAsString(errorEvent);
-            safeSend(context.emitter, SseEmitter.event()
-                .name("error")
-                .data(errorJson));
-            
             // 에러 상태로 메시지 저장
             context.assistant.updateContent(context.answerBuf.toString());
             context.assistant.setIsError(true);
+            context.assistant.setStatus(ChatMessageStatus.ERROR);
             chatMessageRepository.save(context.assistant);
             
             // Elasticsearch chat_log 인덱스에 실시간 저장 (에러 포함)
@@ -384,10 +678,72 @@ public class ChatStreamService {
                 );
             }
         } catch (Exception e) {
-            log.warn("Failed to send error event to SSE emitter", e);
-        } finally {
-            safeComplete(context.emitter);
+            log.warn("Failed to save errored stream message", e);
+        }
+        return event;
+    }
+
+    /**
+     * 스트림 취소 처리 (클라이언트 연결 끊김, 타임아웃, 느린 소비자 종료)
+     *
+     * <p>이미 done/error로 종료된 스트림이면 아무것도 하지 않습니다.
+     * 생성됐지만 클라이언트에 전달되지 못한 토큰 수를 메트릭으로 기록하고,
+     * 부분 답변을 CANCELLED 상태로 저장합니다. 완결되지 않은 답변이므로 chat_log 인덱스에는 저장하지 않습니다.</p>
+     */
+    private void handleCancel(StreamContext context, int tokensDelivered) {
+        if (!context.finish()) {
+            return;
+        }
+
+        int tokensAfterDisconnect = Math.max(0, context.tokensGenerated.get() - tokensDelivered);
+        customMetrics.recordStreamCancelled(tokensAfterDisconnect);
+        log.info("Stream cancelled by client: messageId={}, tokensGenerated={}, tokensAfterDisconnect={}",
+            context.assistant.getId(), context.tokensGenerated.get(), tokensAfterDisconnect);
+
+        // 취소 신호는 서블릿/네트워크 스레드에서 올 수 있으므로 저장은 별도 스레드에서 처리
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                context.assistant.updateContent(context.answerBuf.toString());
+                context.assistant.setIsError(false);
+                context.assistant.setStatus(ChatMessageStatus.CANCELLED);
+                if (context.model != null) {
+                    context.assistant.setLlmModel(context.model);
+                }
+                chatMessageRepository.save(context.assistant);
+            } catch (Exception e) {
+                log.error("Failed to save cancelled stream message", e);
+            }
+        });
+    }
+
+    /**
+     * AI 서버 형식과 유사한 error 이벤트를 생성합니다.
+     */
+    private ServerSentEvent<String> errorEvent(String code, String message) {
+        Map<String, String> errorEvent = new HashMap<>();
+        errorEvent.put("type", "error");
+        errorEvent.put("code", code);
+        errorEvent.put("message", message);
+        try {
+            return sseEvent("error", objectMapper.writeValueAsString(errorEvent));
+        } catch (Exception e) {
+            return sseEvent("error", "{\"type\":\"error\",\"code\":\"" + code + "\"}");
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toEmitterEvent(ServerSentEvent<String> event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.id() != null) {
+            builder.id(event.id());
         }
+        return builder.name(event.event()).data(event.data());
+    }
+
+    private ServerSentEvent<String> sseEvent(String name, String data) {
+        return ServerSentEvent.<String>builder()
+            .event(name)
+            .data(data)
+            .build();
     }
 
     /**
@@ -396,18 +752,22 @@ public class ChatStreamService {
      *
      * @param emitter SseEmitter 인스턴스
      * @param event 전송할 SSE 이벤트
+     * @return 전송 성공 여부 (false면 클라이언트 연결이 끊겼거나 emitter가 완료됨)
      */
-    private void safeSend(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+    private boolean safeSend(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
         try {
             emitter.send(event);
+            return true;
         } catch (IllegalStateException e) {
             // 이미 완료된 emitter에 대한 send 시도
             log.debug("SSE emitter already completed, skipping send: {}", e.getMessage());
         } catch (IOException e) {
-            log.warn("IO error while sending SSE event", e);
+            // 클라이언트 연결 끊김 (탭 닫기 등)
+            log.debug("IO error while sending SSE event: {}", e.getMessage());
         } catch (Exception e) {
             log.warn("Unexpected error while sending SSE event", e);
         }
+        return false;
     }
 
     /**
@@ -432,20 +792,38 @@ public class ChatStreamService {
      * 여러 메서드 간 상태를 공유하기 위한 내부 클래스
      */
     private static class StreamContext {
-        final SseEmitter emitter;
+        final ChatCompletionRequest request;
         final ChatMessage assistant;
-        final StringBuilder answerBuf;
+        final StringBuffer answerBuf;  // 취소 시 다른 스레드에서 읽으므로 동기화 버퍼 사용
         final ChatSession session;  // Elasticsearch 저장용 세션 정보
         final ChatMessage lastUser;  // 마지막 사용자 메시지 (department 정보 포함)
-        String model;
-        boolean isDoneReceived = false;
+        volatile String model;
+        volatile boolean isDoneReceived = false;
+        /** AI 서버에서 받은 token 이벤트 수 */
+        final AtomicInteger tokensGenerated = new AtomicInteger();
+        /** 최종 저장(done/error/완료/취소) 중 하나만 실행되도록 보장 */
+        private final AtomicBoolean finished = new AtomicBoolean(false);
+        final long startedAt = System.currentTimeMillis();
+        /** 답변 캐시 (AI 호출 전 사규 버전 기준 키) */
+        ChatAnswerCache.Key cacheKey;
+        volatile boolean fromCache;
+        volatile Boolean cacheable;
+        volatile Boolean masked;
+        volatile Boolean personalized;
+        volatile boolean hasAction;
+        volatile List<ChatSourceDto> sources;
 
-        StreamContext(SseEmitter emitter, ChatMessage assistant, StringBuilder answerBuf, ChatSession session, ChatMessage lastUser) {
-            this.emitter = emitter;
+        StreamContext(ChatCompletionRequest request, ChatMessage assistant, StringBuffer answerBuf, ChatSession session, ChatMessage lastUser) {
+            this.request = request;
             this.assistant = assistant;
             this.answerBuf = answerBuf;
             this.session = session;
             this.lastUser = lastUser;
         }
+
+        /** 최초 1회만 true 반환 */
+        boolean finish() {
+            return finished.compareAndSet(false, true);
+        }
     }
 }
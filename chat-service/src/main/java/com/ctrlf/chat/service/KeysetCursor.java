@@ -0,0 +1,34 @@
+package com.ctrlf.chat.service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * 키셋 페이지네이션 커서 ("{epoch 마이크로초}_{id}")
+ *
+ * <p>정렬 키(시각, id) 중 마지막 행 값을 담습니다. DB timestamp 정밀도(마이크로초)를 그대로 보존해야
+ * 같은 밀리초 안의 행을 건너뛰지 않습니다. 이전에 발급된 밀리초 커서(13자리 이하)도 그대로 받습니다.</p>
+ */
+record KeysetCursor(Instant at, UUID id) {
+
+    /** 이 자릿수 이하면 밀리초 커서로 간주 (epoch 밀리초는 2286년까지 13자리) */
+    private static final int LEGACY_MILLIS_DIGITS = 13;
+
+    static KeysetCursor parse(String cursor) {
+        try {
+            String[] parts = cursor.split("_", 2);
+            long value = Long.parseLong(parts[0]);
+            Instant at = parts[0].length() <= LEGACY_MILLIS_DIGITS
+                ? Instant.ofEpochMilli(value)
+                : Instant.EPOCH.plus(value, ChronoUnit.MICROS);
+            return new KeysetCursor(at, UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    static String encode(Instant at, UUID id) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, at) + "_" + id;
+    }
+}
@@ -0,0 +1,261 @@
+package com.ctrlf.chat.service;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+
+/**
+ * 논블로킹 SSE 쓰기 (Flux 스트림 엔드포인트 전용)
+ *
+ * <p>Servlet 비동기 I/O(WriteListener)로 이벤트를 씁니다. 소켓이 쓰기 가능할 때(isReady)만
+ * 다음 이벤트를 하나 요청하므로 느린 클라이언트도 스레드를 붙잡지 않습니다. 쓰기를 기다리는 동안
+ * 쌓이는 이벤트는 스트림의 버퍼(app.chat.stream.buffer-size)에 머물고, 가득 차면 느린 소비자 정책이 적용됩니다.</p>
+ * <p>전용 스레드 풀을 두지 않으므로 다른 MVC 비동기 요청과 자원을 나눠 쓰지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class NonBlockingSseWriter {
+
+    private final long timeoutMs;
+
+    public NonBlockingSseWriter(@Value("${app.chat.stream.timeout-ms:180000}") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 요청을 비동기 모드로 전환하고 이벤트 스트림 구독을 시작합니다. 즉시 반환합니다.
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, Flux<ServerSentEvent<String>> events)
+        throws IOException {
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Cache-Control", "no-cache");
+
+        AsyncContext async = request.startAsync(request, response);
+        async.setTimeout(timeoutMs);
+        EventWriter writer = new EventWriter(async, response.getOutputStream());
+        async.addListener(writer);
+        response.getOutputStream().setWriteListener(writer.writeListener());
+        events.subscribe(writer);
+    }
+
+    /**
+     * SSE 이벤트 직렬화 (Spring MVC의 ServerSentEvent 출력 형식과 동일)
+     */
+    static byte[] encode(ServerSentEvent<String> event) {
+        StringBuilder sb = new StringBuilder();
+        if (event.id() != null) {
+            sb.append("id:").append(event.id()).append('\n');
+        }
+        if (event.event() != null) {
+            sb.append("event:").append(event.event()).append('\n');
+        }
+        if (event.retry() != null) {
+            sb.append("retry:").append(event.retry().toMillis()).append('\n');
+        }
+        if (event.comment() != null) {
+            sb.append(':').append(event.comment().replace("\n", "\n:")).append('\n');
+        }
+        if (event.data() != null) {
+            for (String line : event.data().split("\n", -1)) {
+                sb.append("data:").append(line).append('\n');
+            }
+        }
+        sb.append('\n');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 연결 1개의 쓰기 상태
+     *
+     * <p>이벤트는 한 번에 하나만 요청합니다. 요청/쓰기/완료 판단은 모두 lock 안에서 drain()이 처리하며,
+     * 컨테이너 스레드(onWritePossible)와 스트림 스레드(onNext/onComplete)가 번갈아 호출합니다.</p>
+     */
+    static final class EventWriter implements CoreSubscriber<ServerSentEvent<String>>, AsyncListener {
+
+        private final AsyncContext async;
+        private final ServletOutputStream out;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Subscription subscription;
+        /** 아직 컨테이너에 넘기지 못한 이벤트 */
+        private byte[] pending;
+        private boolean requested;
+        private boolean needsFlush;
+        private boolean upstreamDone;
+        private boolean closed;
+        private boolean draining;
+
+        EventWriter(AsyncContext async, ServletOutputStream out) {
+            this.async = async;
+            this.out = out;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            lock.lock();
+            try {
+                this.subscription = subscription;
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        @Override
+        public void onNext(ServerSentEvent<String> event) {
+            lock.lock();
+            try {
+                pending = encode(event);
+                requested = false;
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            log.debug("SSE stream error: {}", error.getMessage());
+            onComplete();
+        }
+
+        @Override
+        public void onComplete() {
+            lock.lock();
+            try {
+                upstreamDone = true;
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        /** 컨테이너 쓰기 콜백 (쓰기 가능해지면 drain, I/O 오류면 구독 해제) */
+        WriteListener writeListener() {
+            return new WriteListener() {
+                @Override
+                public void onWritePossible() {
+                    drain();
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    log.debug("SSE write error: {}", error.getMessage());
+                    cancel();
+                }
+            };
+        }
+
+        /**
+         * 쓰기 가능한 동안 대기 중인 이벤트를 쓰고, 다 쓰면 다음 이벤트를 요청하거나 응답을 완료합니다.
+         * isReady()가 false를 반환하면 컨테이너가 쓰기 가능해질 때 onWritePossible()을 다시 호출합니다.
+         */
+        private void drain() {
+            lock.lock();
+            try {
+                // request(1)이 같은 스레드에서 onNext를 호출하는 경우 재진입하지 않고 바깥 루프가 이어서 처리
+                if (draining || closed || subscription == null) {
+                    return;
+                }
+                draining = true;
+                try {
+                    while (!closed && out.isReady()) {
+                        if (pending != null) {
+                            byte[] bytes = pending;
+                            pending = null;
+                            out.write(bytes);
+                            needsFlush = true;
+                        } else if (needsFlush) {
+                            needsFlush = false;
+                            out.flush();
+                        } else if (upstreamDone) {
+                            close();
+                        } else if (!requested) {
+                            requested = true;
+                            subscription.request(1);
+                        } else {
+                            break;
+                        }
+                    }
+                } finally {
+                    draining = false;
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE write failed: {}", e.getMessage());
+                cancel();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            cancel();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            log.warn("SSE stream timeout");
+            cancel();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            lock.lock();
+            try {
+                if (!closed) {
+                    closed = true;
+                    if (subscription != null) {
+                        subscription.cancel();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        /** 클라이언트 연결 끊김/쓰기 실패/타임아웃: 구독 해제 (재연결 유예 후 AI 서버 요청 취소) */
+        private void cancel() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+                async.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 완료된 비동기 요청
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            async.complete();
+        }
+    }
+}
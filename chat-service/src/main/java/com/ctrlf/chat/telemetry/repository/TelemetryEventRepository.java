@@ -46,5 +46,134 @@ public interface TelemetryEventRepository extends JpaRepository<TelemetryEvent,
         @Param("endDate") Instant endDate,
         @Param("deptId") String deptId
     );
-}
 
+    /**
+     * FEEDBACK 이벤트 like/dislike 수 (기간/부서)
+     *
+     * @return [likeCount, dislikeCount]
+     */
+    @Query(
+        value = """
+            SELECT
+                COUNT(*) FILTER (WHERE e.payload ->> 'feedback' = 'like'),
+                COUNT(*) FILTER (WHERE e.payload ->> 'feedback' = 'dislike')
+            FROM telemetry.telemetry_event e
+            WHERE e.event_type = 'FEEDBACK'
+              AND e.occurred_at >= :startDate AND e.occurred_at < :endDate
+              AND (CAST(:deptId AS varchar) IS NULL OR e.dept_id = :deptId OR :deptId = 'all')
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> countFeedbackByValue(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    // ========================
+    // CHAT_TURN 집계 (telemetry.chat_turn_fact, infra-service V22)
+    // - payload 파싱 없이 정형 컬럼으로 집계, 기간 조건은 반열림 구간 [startDate, endDate)
+    // ========================
+
+    /**
+     * CHAT_TURN 요약 (대시보드 요약 카드)
+     *
+     * @return [questionCount, activeUsers, avgLatencyMsTotal, piiDetectedCount, errorCount, ragUsedCount]
+     */
+    @Query(
+        value = """
+            SELECT
+                COUNT(*),
+                COUNT(DISTINCT f.user_id),
+                AVG(f.latency_ms_total),
+                COUNT(*) FILTER (WHERE f.pii_detected_input OR f.pii_detected_output),
+                COUNT(f.error_code),
+                COUNT(*) FILTER (WHERE f.rag_used)
+            FROM telemetry.chat_turn_fact f
+            WHERE f.occurred_at >= :startDate AND f.occurred_at < :endDate
+              AND (CAST(:deptId AS varchar) IS NULL OR f.dept_id = :deptId OR :deptId = 'all')
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> summarizeChatTurns(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * CHAT_TURN 수 (기간/부서)
+     */
+    @Query(
+        value = """
+            SELECT COUNT(*)
+            FROM telemetry.chat_turn_fact f
+            WHERE f.occurred_at >= :startDate AND f.occurred_at < :endDate
+              AND (CAST(:deptId AS varchar) IS NULL OR f.dept_id = :deptId OR :deptId = 'all')
+            """,
+        nativeQuery = true
+    )
+    long countChatTurns(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 버킷(일/주)별 질문 수와 에러 수
+     *
+     * @param bucket day | week (week는 월요일 시작)
+     * @param zone 버킷 경계를 계산할 타임존 ID
+     * @return [bucketStart(YYYY-MM-DD), questionCount, errorCount] (bucketStart 오름차순)
+     */
+    @Query(
+        value = """
+            SELECT
+                to_char(date_trunc(CAST(:bucket AS text), f.occurred_at AT TIME ZONE CAST(:zone AS text)), 'YYYY-MM-DD')
+                    AS bucket_start,
+                COUNT(*),
+                COUNT(f.error_code)
+            FROM telemetry.chat_turn_fact f
+            WHERE f.occurred_at >= :startDate AND f.occurred_at < :endDate
+              AND (CAST(:deptId AS varchar) IS NULL OR f.dept_id = :deptId OR :deptId = 'all')
+            GROUP BY bucket_start
+            ORDER BY bucket_start
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> countChatTurnsByBucket(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId,
+        @Param("bucket") String bucket,
+        @Param("zone") String zone
+    );
+
+    /**
+     * 도메인별 질문 수
+     * - 도메인이 없으면 ETC, SECURITY/SEC_POLICY는 POLICY로 묶음 (domain은 수집 시 대문자/공백 제거)
+     *
+     * @return [domain, questionCount]
+     */
+    @Query(
+        value = """
+            SELECT
+                CASE
+                    WHEN f.domain IS NULL THEN 'ETC'
+                    WHEN f.domain IN ('SECURITY', 'SEC_POLICY') THEN 'POLICY'
+                    ELSE f.domain
+                END AS domain_key,
+                COUNT(*)
+            FROM telemetry.chat_turn_fact f
+            WHERE f.occurred_at >= :startDate AND f.occurred_at < :endDate
+              AND (CAST(:deptId AS varchar) IS NULL OR f.dept_id = :deptId OR :deptId = 'all')
+            GROUP BY domain_key
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> countChatTurnsByDomain(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+}
@@ -0,0 +1,43 @@
+-- V20: 세션 목록 키셋 페이지네이션 + 마지막 메시지 미리보기 비정규화
+-- 목적: 사이드바 세션 목록을 chat_message 조인 없이 사용자별/최근 활동순으로 페이지 조회
+
+-- 1. 활동 시각 / 미리보기 / 메시지 수 컬럼 추가 (메시지 저장 시 함께 갱신)
+ALTER TABLE chat.chat_session
+ADD COLUMN IF NOT EXISTS last_activity_at TIMESTAMP,
+ADD COLUMN IF NOT EXISTS last_message_preview VARCHAR(200),
+ADD COLUMN IF NOT EXISTS message_count INT NOT NULL DEFAULT 0;
+
+-- 2. 세션 히스토리/메시지 키셋 조회용 복합 인덱스 (아래 백필의 마지막 메시지 조회에도 사용)
+CREATE INDEX IF NOT EXISTS idx_chat_message_session_created
+ON chat.chat_message (session_id, created_at DESC, id DESC);
+
+-- 3. 기존 세션 백필 (마지막 메시지 기준, 메시지가 없으면 세션 생성 시각)
+UPDATE chat.chat_session s
+SET message_count = agg.message_count,
+    last_activity_at = agg.last_created_at,
+    last_message_preview = LEFT(REGEXP_REPLACE(TRIM(last_message.content), '\s+', ' ', 'g'), 100)
+FROM (
+    SELECT session_id, COUNT(*) AS message_count, MAX(created_at) AS last_created_at
+    FROM chat.chat_message
+    GROUP BY session_id
+) agg
+LEFT JOIN LATERAL (
+    SELECT m.content
+    FROM chat.chat_message m
+    WHERE m.session_id = agg.session_id
+    ORDER BY m.created_at DESC, m.id DESC
+    LIMIT 1
+) last_message ON true
+WHERE s.id = agg.session_id;
+
+UPDATE chat.chat_session
+SET last_activity_at = COALESCE(updated_at, created_at, NOW())
+WHERE last_activity_at IS NULL;
+
+ALTER TABLE chat.chat_session
+ALTER COLUMN last_activity_at SET NOT NULL;
+
+-- 4. 사용자별 최근 활동순 키셋 조회용 복합 인덱스 (삭제되지 않은 세션만)
+CREATE INDEX IF NOT EXISTS idx_chat_session_user_activity
+ON chat.chat_session (user_uuid, last_activity_at DESC, id DESC)
+WHERE deleted = false;
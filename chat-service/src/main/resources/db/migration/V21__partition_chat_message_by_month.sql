@@ -0,0 +1,150 @@
+-- V21: chat_message 월 단위 범위 파티셔닝 + 비활성 세션 아카이브 테이블
+-- - created_at 기준 RANGE 파티션 (chat_message_YYYYMM)
+--   created_at은 timestamp(타임존 없음) 컬럼이므로 저장된 로컬 시각 기준 월 경계를 사용
+-- - 파티션 키가 PK에 포함되어야 하므로 PK는 (id, created_at)으로 변경됩니다.
+--   id만 참조하던 chat_feedback.message_id FK는 제거합니다. (메시지 아카이브 시에도 피드백은 유지)
+-- - request_id 전역 유니크(중복 전송 방지)는 파티션 테이블에서 유지할 수 없으므로
+--   chat_message_request_id 테이블 + 트리거로 대신 보장합니다. (기존과 같이 INSERT 시 유니크 위반 발생)
+SET search_path = chat;
+
+-- 1. 기존 테이블을 legacy로 이름 변경 (인덱스/제약 이름 충돌 방지)
+ALTER TABLE "chat_feedback" DROP CONSTRAINT IF EXISTS "chat_feedback_message_id_fkey";
+ALTER TABLE "chat_message" RENAME TO "chat_message_legacy";
+ALTER TABLE "chat_message_legacy" RENAME CONSTRAINT "chat_message_pkey" TO "chat_message_legacy_pkey";
+DROP INDEX IF EXISTS "ux_chat_message_request_id";
+DROP INDEX IF EXISTS "idx_chat_message_routing_type";
+DROP INDEX IF EXISTS "idx_chat_message_created_at";
+DROP INDEX IF EXISTS "idx_chat_message_department";
+DROP INDEX IF EXISTS "idx_chat_message_keyword";
+DROP INDEX IF EXISTS "idx_chat_message_session_created";
+
+-- 2. 파티션 부모 테이블
+CREATE TABLE "chat_message" (
+  "id" uuid NOT NULL DEFAULT gen_random_uuid(),
+  "session_id" uuid REFERENCES "chat_session" ("id"),
+  "section_id" uuid REFERENCES "chat_section" ("id"),
+  "role" varchar(20),
+  "content" text,
+  "tokens_in" int,
+  "tokens_out" int,
+  "llm_model" varchar(50),
+  "created_at" timestamp NOT NULL,
+  "request_id" varchar(100),
+  "status" varchar(20) NOT NULL DEFAULT 'PENDING',
+  "routing_type" varchar(50),
+  "pii_detected" boolean DEFAULT false,
+  "response_time_ms" bigint,
+  "is_error" boolean DEFAULT false,
+  "department" varchar(100),
+  "keyword" varchar(200),
+  PRIMARY KEY ("id", "created_at")
+) PARTITION BY RANGE ("created_at");
+
+-- 부모에 만든 인덱스는 이후 생성되는 파티션에도 자동으로 만들어짐
+CREATE INDEX "idx_chat_message_session_created" ON "chat_message" ("session_id", "created_at" DESC, "id" DESC);
+CREATE INDEX "idx_chat_message_created_at" ON "chat_message" ("created_at");
+CREATE INDEX "idx_chat_message_request_id" ON "chat_message" ("request_id") WHERE "request_id" IS NOT NULL;
+CREATE INDEX "idx_chat_message_department" ON "chat_message" ("department");
+CREATE INDEX "idx_chat_message_keyword" ON "chat_message" ("keyword");
+
+COMMENT ON TABLE "chat_message" IS '채팅 메시지 (created_at 월 단위 파티션, 비활성 세션 메시지는 chat_session_archive로 이동)';
+
+-- 3. request_id 전역 유니크 보장
+CREATE TABLE "chat_message_request_id" (
+  "request_id" varchar(100) PRIMARY KEY,
+  "message_id" uuid NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION chat.sync_chat_message_request_id()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+  IF TG_OP = 'UPDATE' AND NEW.request_id IS NOT DISTINCT FROM OLD.request_id THEN
+    RETURN NEW;
+  END IF;
+  IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.request_id IS NOT NULL THEN
+    DELETE FROM chat.chat_message_request_id WHERE request_id = OLD.request_id AND message_id = OLD.id;
+  END IF;
+  IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.request_id IS NOT NULL THEN
+    -- 이미 있으면 unique_violation → 애플리케이션에서는 기존과 같이 DataIntegrityViolationException
+    INSERT INTO chat.chat_message_request_id (request_id, message_id) VALUES (NEW.request_id, NEW.id);
+  END IF;
+  IF TG_OP = 'DELETE' THEN
+    RETURN OLD;
+  END IF;
+  RETURN NEW;
+END;
+$$;
+
+-- 4. 월 파티션 생성 함수 (이미 있으면 건너뜀). 애플리케이션 스케줄러에서 호출
+CREATE OR REPLACE FUNCTION chat.create_chat_message_partition(p_month date)
+RETURNS text
+LANGUAGE plpgsql
+AS $$
+DECLARE
+  v_month date := date_trunc('month', p_month)::date;
+  v_name text := 'chat_message_' || to_char(v_month, 'YYYYMM');
+BEGIN
+  EXECUTE format(
+    'CREATE TABLE IF NOT EXISTS chat.%I PARTITION OF chat.chat_message FOR VALUES FROM (%L) TO (%L)',
+    v_name, v_month::timestamp, (v_month + interval '1 month')::timestamp
+  );
+  RETURN v_name;
+END;
+$$;
+
+-- 5. 기존 데이터 범위 + 향후 3개월 파티션 생성
+UPDATE "chat_message_legacy" SET "created_at" = now() WHERE "created_at" IS NULL;
+
+SELECT chat.create_chat_message_partition(m::date)
+FROM generate_series(
+  date_trunc('month', COALESCE((SELECT min("created_at") FROM "chat_message_legacy"), now()::timestamp)),
+  GREATEST(
+    date_trunc('month', COALESCE((SELECT max("created_at") FROM "chat_message_legacy"), now()::timestamp)),
+    date_trunc('month', now()::timestamp) + interval '3 months'
+  ),
+  interval '1 month'
+) AS m;
+
+-- 6. 기존 데이터 이관 후 legacy 테이블 삭제 (트리거 생성 전에 이관하고 request_id는 따로 채움)
+INSERT INTO "chat_message" (
+  "id", "session_id", "section_id", "role", "content", "tokens_in", "tokens_out", "llm_model", "created_at",
+  "request_id", "status", "routing_type", "pii_detected", "response_time_ms", "is_error", "department", "keyword"
+)
+SELECT
+  "id", "session_id", "section_id", "role", "content", "tokens_in", "tokens_out", "llm_model", "created_at",
+  "request_id", "status", "routing_type", "pii_detected", "response_time_ms", "is_error", "department", "keyword"
+FROM "chat_message_legacy";
+
+INSERT INTO "chat_message_request_id" ("request_id", "message_id")
+SELECT "request_id", "id" FROM "chat_message_legacy" WHERE "request_id" IS NOT NULL;
+
+DROP TABLE "chat_message_legacy";
+
+CREATE TRIGGER "trg_chat_message_request_id"
+AFTER INSERT OR UPDATE OF "request_id" OR DELETE ON "chat_message"
+FOR EACH ROW EXECUTE FUNCTION chat.sync_chat_message_request_id();
+
+-- 7. 비활성 세션 아카이브 (세션 메시지 전체를 gzip JSON 한 건으로 보관)
+--    payload는 이미 압축되어 있으므로 TOAST 재압축을 끔 (EXTERNAL)
+CREATE TABLE "chat_session_archive" (
+  "session_id" uuid PRIMARY KEY REFERENCES "chat_session" ("id"),
+  "message_count" int NOT NULL,
+  "payload" bytea NOT NULL,
+  "archived_at" timestamp NOT NULL
+);
+ALTER TABLE "chat_session_archive" ALTER COLUMN "payload" SET STORAGE EXTERNAL;
+
+COMMENT ON TABLE "chat_session_archive" IS '비활성 세션 메시지 아카이브 (jsonb_agg(chat_message) gzip)';
+
+ALTER TABLE "chat_session"
+ADD COLUMN IF NOT EXISTS "archived_at" timestamp,
+ADD COLUMN IF NOT EXISTS "restored_at" timestamp;
+
+-- 아카이브 대상 조회용 (아직 아카이브되지 않은 세션의 마지막 활동 시각)
+CREATE INDEX IF NOT EXISTS "idx_chat_session_archive_candidate"
+ON "chat_session" ("last_activity_at")
+WHERE "archived_at" IS NULL;
+
+ANALYZE "chat_message";
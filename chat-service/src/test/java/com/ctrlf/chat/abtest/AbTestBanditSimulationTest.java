@@ -0,0 +1,133 @@
+package com.ctrlf.chat.abtest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 밴딧 모드 시뮬레이션 테스트
+ *
+ * <p>arm별 지연시간 분포를 흉내 내는 가짜 AI 서버로 라운드마다 신규 사용자 턴을 흘려 보내고,
+ * 라운드가 끝날 때 재조정합니다. (재조정 주기는 테스트에서 직접 호출하도록 무한대로 둠)</p>
+ */
+@DisplayName("A/B 테스트 밴딧 시뮬레이션")
+class AbTestBanditSimulationTest {
+
+    private static final double MIN_WEIGHT = 0.1;
+    private static final int USERS_PER_ROUND = 1000;
+
+    /** arm별 기본 지연시간 ±20%, 2% 확률로 3배 꼬리 지연, 1% 확률로 에러를 내는 가짜 AI 서버 */
+    private static final class StubAiServer {
+        private final Map<String, Long> baseLatencyMs = new HashMap<>();
+        private final SplittableRandom random = new SplittableRandom(42);
+
+        void setLatency(String arm, long latencyMs) {
+            baseLatencyMs.put(arm, latencyMs);
+        }
+
+        void chat(AbTestModelAssigner assigner, String arm) {
+            long latency = (long) (baseLatencyMs.get(arm) * (0.8 + 0.4 * random.nextDouble()));
+            if (random.nextInt(100) < 2) {
+                latency *= 3;
+            }
+            boolean error = random.nextInt(100) < 1;
+            assigner.recordTurn(arm, latency, error ? null : 200, error);
+        }
+    }
+
+    private AbTestModelAssigner assigner;
+    private StubAiServer server;
+    private SplittableRandom userRandom;
+
+    @BeforeEach
+    void setUp() {
+        assigner = new AbTestModelAssigner(true, "", 0.5, true, MIN_WEIGHT, 0.1, 50, 30_000, Long.MAX_VALUE, 1000);
+        server = new StubAiServer();
+        server.setLatency("openai", 800);
+        server.setLatency("sroberta", 800);
+        userRandom = new SplittableRandom(7);
+    }
+
+    /** 신규 사용자 한 라운드를 흘려 보내고 sroberta에 할당된 비율을 반환합니다. */
+    private double runRound() {
+        int sroberta = 0;
+        for (int i = 0; i < USERS_PER_ROUND; i++) {
+            String arm = assigner.assignModel(new UUID(userRandom.nextLong(), userRandom.nextLong()), null);
+            if (arm.equals("sroberta")) {
+                sroberta++;
+            }
+            server.chat(assigner, arm);
+        }
+        assigner.rebalance();
+        return sroberta / (double) USERS_PER_ROUND;
+    }
+
+    private double weight(String arm) {
+        return assigner.report().arms().stream()
+            .filter(report -> report.arm().equals(arm))
+            .findFirst()
+            .orElseThrow()
+            .weight();
+    }
+
+    @Test
+    @DisplayName("지연시간이 같으면 비율이 크게 움직이지 않음")
+    void equalLatency_WeightsStayBalanced() {
+        for (int round = 0; round < 10; round++) {
+            runRound();
+        }
+
+        assertThat(weight("sroberta")).isCloseTo(0.5, within(0.15));
+    }
+
+    @Test
+    @DisplayName("sroberta가 느려지면 트래픽이 openai로 옮겨가고, 최소 비율은 유지")
+    void slowedArm_TrafficMovesAway() {
+        // given - 안정 상태
+        for (int round = 0; round < 5; round++) {
+            runRound();
+        }
+        double before = weight("sroberta");
+
+        // when - sroberta 지연시간 3배
+        server.setLatency("sroberta", 2400);
+        double lastShare = 0;
+        for (int round = 0; round < 10; round++) {
+            lastShare = runRound();
+        }
+
+        // then
+        assertThat(before).isGreaterThan(0.35);
+        assertThat(weight("sroberta")).isCloseTo(MIN_WEIGHT, within(0.01));
+        assertThat(lastShare).isCloseTo(MIN_WEIGHT, within(0.05));
+        assertThat(assigner.report().arms().get(1).p95LatencyMs())
+            .isGreaterThan(assigner.report().arms().get(0).p95LatencyMs());
+    }
+
+    @Test
+    @DisplayName("느려졌던 arm이 회복되면 최소 비율로 수집한 샘플로 비율을 되찾음")
+    void recoveredArm_RegainsTraffic() {
+        // given
+        server.setLatency("sroberta", 2400);
+        for (int round = 0; round < 10; round++) {
+            runRound();
+        }
+        assertThat(weight("sroberta")).isCloseTo(MIN_WEIGHT, within(0.01));
+
+        // when - 회복 후 최소 비율 트래픽으로 윈도우가 새 샘플로 채워질 때까지
+        server.setLatency("sroberta", 800);
+        for (int round = 0; round < 30; round++) {
+            runRound();
+        }
+
+        // then
+        assertThat(weight("sroberta")).isGreaterThan(0.35);
+    }
+}
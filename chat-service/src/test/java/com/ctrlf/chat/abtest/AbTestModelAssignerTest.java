@@ -0,0 +1,137 @@
+package com.ctrlf.chat.abtest;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * AbTestModelAssigner 단위 테스트
+ */
+@DisplayName("AbTestModelAssigner 테스트")
+class AbTestModelAssignerTest {
+
+    private static AbTestModelAssigner assigner(String arms) {
+        return new AbTestModelAssigner(true, arms, 0.5, false, 0.1, 0.1, 50, 30_000, Long.MAX_VALUE, 1000);
+    }
+
+    @Test
+    @DisplayName("arm 설정이 없으면 openai-ratio로 openai/sroberta 할당, 같은 사용자는 항상 같은 모델")
+    void assignModel_DefaultArms_Sticky() {
+        // given
+        AbTestModelAssigner assigner = assigner("");
+        UUID userId = UUID.randomUUID();
+
+        // when
+        String first = assigner.assignModel(userId, "POLICY");
+        String second = assigner.assignModel(userId, "EDU");
+
+        // then
+        assertThat(first).isIn("openai", "sroberta");
+        assertThat(second).isEqualTo(first);
+        assertThat(assigner.getOpenaiRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("실험 비활성화(기본값) - 비율과 무관하게 모든 사용자에게 기본 모델(openai) 할당")
+    void assignModel_Disabled_ReturnsBaseline() {
+        // given
+        AbTestModelAssigner assigner = new AbTestModelAssigner(false, "", 0.5, false, 0.1, 0.1, 50, 30_000, Long.MAX_VALUE, 1000);
+        SplittableRandom random = new SplittableRandom(7);
+
+        // when & then
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(assigner.assignModel(new UUID(random.nextLong(), random.nextLong()), "POLICY")).isEqualTo("openai");
+        }
+        assertThat(assigner.isEnabled()).isFalse();
+        assertThat(assigner.report().enabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 arm을 비율대로 나누고, 런타임 비율 변경 시 경계 근처 사용자만 이동")
+    void setWeights_MovesOnlyBoundaryUsers() {
+        // given
+        AbTestModelAssigner assigner = assigner("a:0.5,b:0.25,c:0.25");
+        SplittableRandom random = new SplittableRandom(7);
+        UUID[] users = new UUID[10_000];
+        String[] before = new String[users.length];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = new UUID(random.nextLong(), random.nextLong());
+            before[i] = assigner.assignModel(users[i], null);
+        }
+
+        // when
+        assigner.setWeights(Map.of("a", 0.25, "b", 0.5, "c", 0.25));
+
+        // then
+        int moved = 0;
+        int countA = 0;
+        for (int i = 0; i < users.length; i++) {
+            String after = assigner.assignModel(users[i], null);
+            if (!after.equals(before[i])) {
+                moved++;
+                assertThat(before[i]).isEqualTo("a");
+                assertThat(after).isEqualTo("b");
+            }
+            if (after.equals("a")) {
+                countA++;
+            }
+        }
+        assertThat(moved / (double) users.length).isCloseTo(0.25, within(0.02));
+        assertThat(countA / (double) users.length).isCloseTo(0.25, within(0.02));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 arm이나 음수 비율은 IllegalArgumentException")
+    void setWeights_Invalid_Throws() {
+        AbTestModelAssigner assigner = assigner("");
+
+        assertThatThrownBy(() -> assigner.setWeights(Map.of("unknown", 1.0)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> assigner.setWeights(Map.of("openai", -0.1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> assigner.setWeights(Map.of("openai", 0.0)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("arm별 지연시간/에러율/토큰 처리량 집계, 실험 arm이 아닌 모델은 무시")
+    void recordTurn_ReportsPerArmStats() {
+        // given
+        AbTestModelAssigner assigner = assigner("");
+        for (int i = 1; i <= 19; i++) {
+            assigner.recordTurn("openai", i * 100L, 100, false);
+        }
+        assigner.recordTurn("openai", 500, null, true);
+        assigner.recordTurn("exaone", 100, 10, false);
+
+        // when
+        AbTestModelAssigner.ArmReport openai = assigner.report().arms().get(0);
+
+        // then
+        assertThat(openai.arm()).isEqualTo("openai");
+        assertThat(openai.samples()).isEqualTo(20);
+        assertThat(openai.errorRate()).isEqualTo(0.05);
+        assertThat(openai.p50LatencyMs()).isEqualTo(1000);
+        // 에러 턴은 error-latency-ms(30초)로 간주
+        assertThat(openai.p95LatencyMs()).isEqualTo(1900);
+        assertThat(openai.tokensPerSecond()).isGreaterThan(0);
+        assertThat(assigner.report().arms().get(1).samples()).isZero();
+    }
+
+    @Test
+    @DisplayName("최소 비율 보정 - floor 미만 arm을 올리고 합은 1 유지")
+    void applyFloor_KeepsMinimumWeight() {
+        // when
+        double[] result = AbTestModelAssigner.applyFloor(new double[]{0.95, 0.05}, 0.1);
+
+        // then
+        assertThat(result[0]).isCloseTo(0.9, within(1e-9));
+        assertThat(result[1]).isCloseTo(0.1, within(1e-9));
+    }
+}
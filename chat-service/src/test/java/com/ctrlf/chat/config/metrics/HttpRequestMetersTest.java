@@ -0,0 +1,84 @@
+package com.ctrlf.chat.config.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HttpRequestMeters 단위 테스트 (미터 캐시 / path 한도 / SLO bucket).
+ */
+@DisplayName("HttpRequestMeters 테스트")
+class HttpRequestMetersTest {
+
+    private SimpleMeterRegistry registry;
+    private HttpRequestMeters meters;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        meters = new HttpRequestMeters(registry, 2, List.of(Duration.ofMillis(100), Duration.ofSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("같은 핸들러 패턴 - 하나의 미터에 누적")
+    void record_SamePattern_SameMeter() {
+        // when
+        meters.record("GET", "/chat/sessions/{sessionId}/messages", 200, meters.start());
+        meters.record("GET", "/chat/sessions/{sessionId}/messages", 200, meters.start());
+
+        // then
+        assertThat(registry.get("chat.http.requests.total")
+            .tag("path", "/chat/sessions/{sessionId}/messages").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("chat.http.request.duration").timer().count()).isEqualTo(2);
+        assertThat(registry.find("chat.http.errors.total").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("4xx/5xx - 에러 카운터도 증가")
+    void record_ErrorStatus_IncrementsErrors() {
+        // when
+        meters.record("POST", "/chat/messages", 500, meters.start());
+
+        // then
+        assertThat(registry.get("chat.http.errors.total")
+            .tags("path", "/chat/messages", "status", "500").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("핸들러 패턴 없음 / 한도 초과 / 알 수 없는 메서드 - UNMATCHED, OTHER로 집계")
+    void record_UnknownPathsAndMethods_Folded() {
+        // when
+        meters.record("GET", "/a", 200, null);
+        meters.record("GET", "/b", 200, null);
+        meters.record("GET", "/c", 200, null);
+        meters.record("GET", null, 404, null);
+        meters.record("PROPFIND", "/a", 200, null);
+
+        // then
+        assertThat(registry.find("chat.http.requests.total").tag("path", "/c").counter()).isNull();
+        assertThat(registry.get("chat.http.requests.total").tag("path", HttpRequestMeters.UNMATCHED)
+            .counters()).hasSize(2);
+        assertThat(registry.get("chat.http.requests.total").tag("method", "OTHER").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리 시간 Timer - SLO 구간 bucket 노출")
+    void record_Timer_PublishesSloBuckets() {
+        // when
+        meters.record("GET", "/a", 200, meters.start());
+
+        // then
+        Timer timer = registry.get("chat.http.request.duration").tag("path", "/a").timer();
+        assertThat(Arrays.stream(timer.takeSnapshot().histogramCounts()).map(CountAtBucket::bucket))
+            .containsExactly((double) Duration.ofMillis(100).toNanos(), (double) Duration.ofSeconds(1).toNanos());
+    }
+}
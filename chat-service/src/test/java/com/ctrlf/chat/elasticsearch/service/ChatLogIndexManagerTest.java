@@ -0,0 +1,131 @@
+package com.ctrlf.chat.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ChatLogIndexManager 단위 테스트 (stub 클라이언트, 인덱스 선택).
+ */
+@DisplayName("ChatLogIndexManager 테스트")
+class ChatLogIndexManagerTest {
+
+    private ChatLogIndexManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ChatLogIndexManager(mock(ElasticsearchClient.class), "chat_log", "chat_log_read", "", "", 24);
+    }
+
+    @Test
+    @DisplayName("저장 인덱스 - createdAt의 UTC 월 (KST 자정 직후도 UTC 기준)")
+    void writeIndexFor_UsesUtcMonth() {
+        assertThat(manager.writeIndexFor(Instant.parse("2025-03-15T10:00:00Z"))).isEqualTo("chat_log-2025.03");
+        // KST 2025-04-01 08:00 = UTC 2025-03-31 23:00
+        assertThat(manager.writeIndexFor(Instant.parse("2025-03-31T23:00:00Z"))).isEqualTo("chat_log-2025.03");
+        assertThat(manager.writeIndexFor(Instant.parse("2025-04-01T00:00:00Z"))).isEqualTo("chat_log-2025.04");
+    }
+
+    @Test
+    @DisplayName("하루 조회 - 해당 월 인덱스 하나만")
+    void searchIndicesFor_OneDay_SingleMonth() {
+        // when
+        var indices = manager.searchIndicesFor(
+            Instant.parse("2025-03-14T00:00:00Z"), Instant.parse("2025-03-15T00:00:00Z"));
+
+        // then
+        assertThat(indices).containsExactly("chat_log-2025.03");
+    }
+
+    @Test
+    @DisplayName("월 경계에 걸친 7일 조회 - 두 달 인덱스")
+    void searchIndicesFor_AcrossMonthBoundary() {
+        // when
+        var indices = manager.searchIndicesFor(
+            Instant.parse("2025-02-27T00:00:00Z"), Instant.parse("2025-03-06T00:00:00Z"));
+
+        // then
+        assertThat(indices).containsExactly("chat_log-2025.02", "chat_log-2025.03");
+    }
+
+    @Test
+    @DisplayName("연도 경계에 걸친 90일 조회 - 겹치는 네 달 인덱스")
+    void searchIndicesFor_AcrossYearBoundary() {
+        // when
+        var indices = manager.searchIndicesFor(
+            Instant.parse("2024-11-20T00:00:00Z"), Instant.parse("2025-02-18T00:00:00Z"));
+
+        // then
+        assertThat(indices).containsExactly(
+            "chat_log-2024.11", "chat_log-2024.12", "chat_log-2025.01", "chat_log-2025.02");
+    }
+
+    @Test
+    @DisplayName("종료 시각이 정확히 월 시작 - 다음 달 인덱스도 포함 (lte 범위)")
+    void searchIndicesFor_EndAtMonthStart_IncludesNextMonth() {
+        // when
+        var indices = manager.searchIndicesFor(
+            Instant.parse("2025-03-25T00:00:00Z"), Instant.parse("2025-04-01T00:00:00Z"));
+
+        // then
+        assertThat(indices).containsExactly("chat_log-2025.03", "chat_log-2025.04");
+    }
+
+    @Test
+    @DisplayName("종료가 시작보다 앞선 조회 - 빈 목록 대신 시작 월 인덱스 (전체 검색 방지)")
+    void searchIndicesFor_InvertedRange_NeverEmpty() {
+        // when
+        var indices = manager.searchIndicesFor(
+            Instant.parse("2025-03-10T00:00:00Z"), Instant.parse("2025-01-10T00:00:00Z"));
+
+        // then
+        assertThat(indices).containsExactly("chat_log-2025.03");
+    }
+
+    @Test
+    @DisplayName("최대 인덱스 수를 넘는 기간 - 읽기 alias로 조회")
+    void searchIndicesFor_TooManyMonths_UsesReadAlias() {
+        // when
+        var indices = manager.searchIndicesFor(
+            Instant.parse("2022-01-01T00:00:00Z"), Instant.parse("2025-03-01T00:00:00Z"));
+
+        // then
+        assertThat(indices).containsExactly("chat_log_read");
+    }
+
+    @Test
+    @DisplayName("레거시 단일 인덱스 설정, cutover 없음 - 월 인덱스와 함께 조회")
+    void searchIndicesFor_WithLegacyIndex() {
+        // given
+        ChatLogIndexManager withLegacy =
+            new ChatLogIndexManager(mock(ElasticsearchClient.class), "chat_log", "chat_log_read", "chat_log", "", 24);
+
+        // when
+        var indices = withLegacy.searchIndicesFor(
+            Instant.parse("2025-03-14T00:00:00Z"), Instant.parse("2025-03-15T00:00:00Z"));
+
+        // then
+        assertThat(indices).containsExactly("chat_log-2025.03", "chat_log");
+    }
+
+    @Test
+    @DisplayName("레거시 cutover 설정 - 조회 시작이 cutover 이전일 때만 레거시 인덱스 포함")
+    void searchIndicesFor_LegacyCutover_OnlyForOlderRanges() {
+        // given
+        ChatLogIndexManager withCutover = new ChatLogIndexManager(
+            mock(ElasticsearchClient.class), "chat_log", "chat_log_read", "chat_log", "2025-03-10", 24);
+
+        // when & then
+        assertThat(withCutover.searchIndicesFor(
+            Instant.parse("2025-03-10T00:00:00Z"), Instant.parse("2025-03-15T00:00:00Z")))
+            .containsExactly("chat_log-2025.03");
+        assertThat(withCutover.searchIndicesFor(
+            Instant.parse("2025-03-09T23:59:59Z"), Instant.parse("2025-03-15T00:00:00Z")))
+            .containsExactly("chat_log-2025.03", "chat_log");
+    }
+}
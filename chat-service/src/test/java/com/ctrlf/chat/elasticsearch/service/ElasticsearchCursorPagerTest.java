@@ -0,0 +1,203 @@
+package com.ctrlf.chat.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import com.ctrlf.chat.exception.GlobalExceptionHandler;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ElasticsearchCursorPager 단위 테스트 (커서 인코딩/복원, 조건 불일치, PIT 정리).
+ */
+@DisplayName("ElasticsearchCursorPager 테스트")
+@SuppressWarnings({"unchecked", "rawtypes"})
+class ElasticsearchCursorPagerTest {
+
+    private static final Instant ANCHOR = Instant.parse("2025-03-14T00:00:00Z");
+
+    private ElasticsearchClient client;
+    private ElasticsearchCursorPager pager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        client = mock(ElasticsearchClient.class);
+        pager = new ElasticsearchCursorPager(client);
+        ReflectionTestUtils.setField(pager, "keepAlive", "1m");
+        when(client.openPointInTime(any(Function.class)))
+            .thenReturn(OpenPointInTimeResponse.of(o -> o.id("pit-1")));
+        when(client.closePointInTime(any(Function.class)))
+            .thenReturn(ClosePointInTimeResponse.of(c -> c.succeeded(true).numFreed(1)));
+    }
+
+    @Test
+    @DisplayName("다음 페이지 커서 - PIT, 마지막 정렬 값, 기준 시각을 담고 그대로 복원")
+    void fetch_CursorRoundTrip() throws Exception {
+        // given: 페이지 크기 2, 3건 조회 → 다음 페이지 있음
+        when(client.search(any(SearchRequest.class), eq(Map.class)))
+            .thenReturn(response(5, hit(1), hit(2), hit(3)))
+            .thenReturn(response(5, hit(3)));
+
+        // when
+        ElasticsearchCursorPager.CursorPage<String> first = pager.fetch(query("faq|30", 2), null, Hit::id);
+        ElasticsearchCursorPager.CursorPage<String> second = pager.fetch(query("faq|30", 2), first.nextCursor(), Hit::id);
+
+        // then
+        assertThat(first.items()).containsExactly("doc-1", "doc-2");
+        assertThat(first.hasMore()).isTrue();
+        assertThat(pager.anchorOf(first.nextCursor())).isEqualTo(ANCHOR);
+
+        ArgumentCaptor<SearchRequest> requests = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(requests.capture(), eq(Map.class));
+        SearchRequest next = requests.getAllValues().get(1);
+        assertThat(next.pit().id()).isEqualTo("pit-1");
+        assertThat(next.searchAfter()).extracting(FieldValue::_get).containsExactly(1_000_002L, 2L);
+
+        // 마지막 페이지: 전체 건수는 첫 페이지 값 유지, PIT 닫기
+        assertThat(second.items()).containsExactly("doc-3");
+        assertThat(second.total()).isEqualTo(5);
+        assertThat(second.hasMore()).isFalse();
+        verify(client).closePointInTime(any(Function.class));
+    }
+
+    @Test
+    @DisplayName("다른 조회 조건의 커서 - IllegalArgumentException (400 응답)")
+    void fetch_KeyMismatch_BadRequest() throws Exception {
+        // given
+        when(client.search(any(SearchRequest.class), eq(Map.class)))
+            .thenReturn(response(5, hit(1), hit(2), hit(3)));
+        String cursor = pager.fetch(query("faq|30", 2), null, Hit::id).nextCursor();
+
+        // when & then
+        assertThatThrownBy(() -> pager.fetch(query("faq|7", 2), cursor, Hit::id))
+            .isInstanceOf(IllegalArgumentException.class)
+            .satisfies(e -> assertThat(new GlobalExceptionHandler()
+                .handleIllegalArgument((IllegalArgumentException) e).getStatusCode().value()).isEqualTo(400));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 문자열 - IllegalArgumentException")
+    void fetch_MalformedCursor_BadRequest() {
+        assertThatThrownBy(() -> pager.fetch(query("faq|30", 2), "not-a-cursor", Hit::id))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pager.anchorOf("not-a-cursor"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("첫 페이지 검색 실패 - 새로 연 PIT를 닫고 예외 전파")
+    void fetch_FirstPageError_ClosesPit() throws Exception {
+        // given
+        when(client.search(any(SearchRequest.class), eq(Map.class))).thenThrow(searchError(500));
+
+        // when & then
+        assertThatThrownBy(() -> pager.fetch(query("faq|30", 2), null, Hit::id))
+            .isInstanceOf(ElasticsearchException.class);
+        verify(client).closePointInTime(any(Function.class));
+    }
+
+    @Test
+    @DisplayName("만료된 PIT - 400으로 처음부터 다시 조회하도록 안내")
+    void fetch_ExpiredPit_BadRequest() throws Exception {
+        // given
+        when(client.search(any(SearchRequest.class), eq(Map.class)))
+            .thenReturn(response(5, hit(1), hit(2), hit(3)))
+            .thenThrow(searchError(404));
+        String cursor = pager.fetch(query("faq|30", 2), null, Hit::id).nextCursor();
+
+        // when & then
+        assertThatThrownBy(() -> pager.fetch(query("faq|30", 2), cursor, Hit::id))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("만료");
+        verify(client, never()).closePointInTime(any(Function.class));
+    }
+
+    @Test
+    @DisplayName("max_result_window 크기 페이지 - size + 1 대신 10000건 조회, 꽉 차면 다음 커서 발급")
+    void fetch_MaxWindowPage_NoLookahead() throws Exception {
+        // given
+        int size = ElasticsearchCursorPager.MAX_RESULT_WINDOW;
+        List<Hit<Map>> hits = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            hits.add(hit(i));
+        }
+        when(client.search(any(SearchRequest.class), eq(Map.class)))
+            .thenReturn(response(size + 1, hits.toArray(Hit[]::new)));
+
+        // when
+        ElasticsearchCursorPager.CursorPage<String> page = pager.fetch(query("faq|30", size), null, Hit::id);
+
+        // then
+        ArgumentCaptor<SearchRequest> request = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(request.capture(), eq(Map.class));
+        assertThat(request.getValue().size()).isEqualTo(size);
+        assertThat(page.items()).hasSize(size);
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    private static ElasticsearchCursorPager.CursorQuery query(String key, int size) {
+        return new ElasticsearchCursorPager.CursorQuery(
+            List.of("chat_log-2025.03"),
+            Query.of(q -> q.matchAll(m -> m)),
+            List.of(SortOptions.of(so -> so.field(f -> f.field("createdAt").order(SortOrder.Desc)))),
+            List.of("content"),
+            size,
+            key,
+            ANCHOR
+        );
+    }
+
+    private static Hit<Map> hit(int i) {
+        return Hit.of(h -> h
+            .index("chat_log-2025.03")
+            .id("doc-" + i)
+            .source(Map.of("content", "질문 " + i))
+            .sort(List.of(FieldValue.of(1_000_000L + i), FieldValue.of((long) i))));
+    }
+
+    private static SearchResponse<Map> response(long total, Hit<Map>... hits) {
+        return SearchResponse.of(r -> r
+            .took(1)
+            .timedOut(false)
+            .shards(s -> s.total(1).successful(1).failed(0))
+            .pitId("pit-1")
+            .hits(h -> h
+                .total(t -> t.value(total).relation(TotalHitsRelation.Eq))
+                .hits(List.of(hits))));
+    }
+
+    private static ElasticsearchException searchError(int status) {
+        return new ElasticsearchException("search", ErrorResponse.of(e -> e
+            .error(c -> c.type(status == 404 ? "search_context_missing_exception" : "search_phase_execution_exception")
+                .reason("test"))
+            .status(status)));
+    }
+}
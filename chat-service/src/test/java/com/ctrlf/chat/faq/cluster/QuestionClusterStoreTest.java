@@ -0,0 +1,143 @@
+package com.ctrlf.chat.faq.cluster;
+
+import com.ctrlf.chat.keyword.KoreanKeywordExtractor;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QuestionClusterStore 단위 테스트 (기본 사전 + 기본 LSH 설정).
+ */
+@DisplayName("QuestionClusterStore 테스트")
+class QuestionClusterStoreTest {
+
+    private static final String FIXTURE = "faq/cluster/labeled-questions.tsv";
+
+    private QuestionClusterStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        KoreanKeywordExtractor extractor = new KoreanKeywordExtractor(new ClassPathResource("keyword/ko-dictionary.txt"));
+        store = new QuestionClusterStore(extractor, 16, 4, 2, 0.6, 500_000);
+    }
+
+    /** 라벨 데이터 한 줄 (그룹, 도메인, 질문) */
+    private record Labeled(String group, String domain, String question) {}
+
+    private static List<Labeled> loadFixture() throws IOException {
+        List<Labeled> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new ClassPathResource(FIXTURE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                rows.add(new Labeled(columns[0], columns[1], columns[2]));
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("라벨 데이터 - 같은 그룹 질문 쌍 기준 정밀도 0.95, 재현율 0.9 이상")
+    void record_LabeledFixture_MeetsPrecisionAndRecall() throws IOException {
+        // given
+        List<Labeled> rows = loadFixture();
+
+        // when
+        int[] clusters = new int[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Labeled row = rows.get(i);
+            clusters[i] = store.record(row.question(), null, row.domain(), null);
+        }
+
+        // then
+        long truePositives = 0;
+        long falsePositives = 0;
+        long falseNegatives = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            for (int j = i + 1; j < rows.size(); j++) {
+                boolean sameGroup = rows.get(i).group().equals(rows.get(j).group());
+                boolean sameCluster = clusters[i] == clusters[j];
+                if (sameGroup && sameCluster) {
+                    truePositives++;
+                } else if (sameCluster) {
+                    falsePositives++;
+                } else if (sameGroup) {
+                    falseNegatives++;
+                }
+            }
+        }
+        double precision = (double) truePositives / (truePositives + falsePositives);
+        double recall = (double) truePositives / (truePositives + falseNegatives);
+        assertThat(precision).isGreaterThanOrEqualTo(0.95);
+        assertThat(recall).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기/문장부호만 다른 질문은 같은 클러스터, 도메인이 다르면 다른 클러스터")
+    void record_SpacingVariants_SameClusterPerDomain() {
+        // when
+        int first = store.record("재택근무 신청 절차가 궁금합니다", null, "POLICY", null);
+        int second = store.record("재택 근무 신청절차가 궁금합니다!!", null, "POLICY", null);
+        int otherDomain = store.record("재택근무 신청 절차가 궁금합니다", null, "IT", null);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(otherDomain).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("스냅샷 - 최근 7일/30일 질문 수 집계, 30일 이전 질문은 제외, 최소 질문 수 미만 클러스터 제외")
+    void snapshot_CountsByWindow() {
+        // given
+        Instant now = Instant.now();
+        store.record("보안 교육 마감일이 언제예요?", null, "EDU", now);
+        store.record("보안교육 마감일이 언제예요", null, "EDU", now.minus(Duration.ofDays(10)));
+        store.record("보안 교육 마감일은 언제예요?", null, "EDU", now.minus(Duration.ofDays(40)));
+        store.record("메일함 용량을 늘릴 수 있나요?", null, "IT", now);
+
+        // when
+        List<QuestionClusterStore.ClusterSnapshot> snapshots = store.snapshot("EDU", 2);
+
+        // then
+        assertThat(snapshots).hasSize(1);
+        QuestionClusterStore.ClusterSnapshot snapshot = snapshots.get(0);
+        assertThat(snapshot.representative()).isEqualTo("보안 교육 마감일이 언제예요?");
+        assertThat(snapshot.count7d()).isEqualTo(1);
+        assertThat(snapshot.count30d()).isEqualTo(2);
+        assertThat(snapshot.candidateId()).isNull();
+    }
+
+    @Test
+    @DisplayName("기존 FAQ 후보 등록 - 유사 질문이 후보 클러스터로 집계되고 질문 수가 적어도 스냅샷에 포함")
+    void seed_LinksSimilarQuestionsToCandidate() {
+        // given
+        UUID candidateId = UUID.randomUUID();
+        int seeded = store.seed(candidateId, "비밀번호 초기화는 어떻게 하나요?", "IT");
+
+        // when
+        int recorded = store.record("비밀번호초기화 어떻게 하나요", null, "IT", null);
+        List<QuestionClusterStore.ClusterSnapshot> snapshots = store.snapshot("IT", 3);
+
+        // then
+        assertThat(recorded).isEqualTo(seeded);
+        assertThat(snapshots).hasSize(1);
+        assertThat(snapshots.get(0).candidateId()).isEqualTo(candidateId);
+        assertThat(snapshots.get(0).count30d()).isEqualTo(1);
+    }
+}
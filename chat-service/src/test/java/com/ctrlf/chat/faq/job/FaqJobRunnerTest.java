@@ -0,0 +1,212 @@
+package com.ctrlf.chat.faq.job;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * FaqJobRunner 단위 테스트
+ */
+@DisplayName("FaqJobRunner 테스트")
+class FaqJobRunnerTest {
+
+    private FaqJobRunner runner;
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    private FaqJobRunner runner(double ratePerSecond, int batchSize) {
+        return new FaqJobRunner(mock(PlatformTransactionManager.class), 4, ratePerSecond, 1, 3, batchSize, 60);
+    }
+
+    private static void awaitFinished(FaqJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (job.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(job.isRunning()).isFalse();
+    }
+
+    /** 항목 번호를 그대로 결과로 돌려주는 테스트 작업 */
+    private static class RecordingTask implements FaqJobTask<Integer, Integer> {
+
+        private final List<Integer> items;
+        private final Map<Integer, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingTask(int count) {
+            this.items = IntStream.range(0, count).boxed().toList();
+        }
+
+        @Override
+        public String type() {
+            return "TEST";
+        }
+
+        @Override
+        public List<Integer> items() {
+            return items;
+        }
+
+        @Override
+        public String itemKey(Integer item) {
+            return String.valueOf(item);
+        }
+
+        @Override
+        public Integer process(Integer item) throws Exception {
+            attempts.computeIfAbsent(item, i -> new AtomicInteger()).incrementAndGet();
+            return item;
+        }
+
+        @Override
+        public void saveBatch(List<Integer> results) {
+            batches.add(List.copyOf(results));
+        }
+    }
+
+    @Test
+    @DisplayName("모든 항목을 처리하고 결과를 batch-size 단위로 저장")
+    void submit_SavesResultsInBatches() throws InterruptedException {
+        // given
+        runner = runner(10_000, 10);
+        RecordingTask task = new RecordingTask(45);
+
+        // when
+        FaqJob job = runner.submit(task);
+        awaitFinished(job);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(FaqJob.Status.COMPLETED);
+        assertThat(job.getSuccessCount()).isEqualTo(45);
+        assertThat(job.getFailCount()).isZero();
+        assertThat(task.batches).hasSize(5);
+        assertThat(task.batches.stream().flatMap(List::stream).sorted().toList())
+            .isEqualTo(task.items);
+    }
+
+    @Test
+    @DisplayName("예외가 난 항목은 max-attempts까지 재시도하고, 끝내 실패하면 실패 목록에 기록")
+    void submit_RetriesFailedItems() throws InterruptedException {
+        // given
+        runner = runner(10_000, 5);
+        RecordingTask task = new RecordingTask(10) {
+            @Override
+            public Integer process(Integer item) throws Exception {
+                super.process(item);
+                if (item == 3 && attempts.get(item).get() < 2) {
+                    throw new IllegalStateException("temporary");
+                }
+                if (item == 7) {
+                    throw new IllegalStateException("permanent");
+                }
+                return item;
+            }
+        };
+
+        // when
+        FaqJob job = runner.submit(task);
+        awaitFinished(job);
+
+        // then
+        assertThat(task.attempts.get(3).get()).isEqualTo(2);
+        assertThat(task.attempts.get(7).get()).isEqualTo(3);
+        assertThat(job.getSuccessCount()).isEqualTo(9);
+        assertThat(job.getFailCount()).isEqualTo(1);
+        assertThat(job.getRetryCount()).isEqualTo(3);
+        assertThat(job.getErrors()).singleElement()
+            .satisfies(error -> {
+                assertThat(error.itemKey()).isEqualTo("7");
+                assertThat(error.attempts()).isEqualTo(3);
+                assertThat(error.message()).isEqualTo("permanent");
+            });
+    }
+
+    @Test
+    @DisplayName("취소하면 남은 항목을 꺼내지 않고, 이미 받은 결과는 저장")
+    void cancel_StopsRemainingItems() throws InterruptedException {
+        // given
+        runner = runner(10_000, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingTask task = new RecordingTask(100) {
+            @Override
+            public Integer process(Integer item) throws Exception {
+                started.countDown();
+                release.await();
+                return super.process(item);
+            }
+        };
+        FaqJob job = runner.submit(task);
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        runner.cancel(job.getId());
+        release.countDown();
+        awaitFinished(job);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(FaqJob.Status.CANCELLED);
+        assertThat(job.getProcessedCount()).isLessThanOrEqualTo(4);
+        assertThat(job.getSuccessCount()).isEqualTo(job.getProcessedCount());
+    }
+
+    @Test
+    @DisplayName("같은 종류의 작업이 실행 중이면 새로 시작하지 않고 기존 작업 반환")
+    void submit_SameTypeRunning_ReturnsExistingJob() throws InterruptedException {
+        // given
+        runner = runner(10_000, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingTask blocking = new RecordingTask(1) {
+            @Override
+            public Integer process(Integer item) throws Exception {
+                release.await();
+                return item;
+            }
+        };
+        FaqJob first = runner.submit(blocking);
+
+        // when
+        FaqJob second = runner.submit(new RecordingTask(5));
+        release.countDown();
+        awaitFinished(first);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(runner.list()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전체 시간은 워커 수가 아니라 속도 제한으로 결정")
+    void submit_TotalTime_BoundedByRateLimit() throws InterruptedException {
+        // given
+        runner = runner(50, 100);
+        RecordingTask task = new RecordingTask(26);
+
+        // when
+        long startedAt = System.nanoTime();
+        FaqJob job = runner.submit(task);
+        awaitFinished(job);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // then (burst 1개 + 나머지 25개를 초당 50개 → 약 0.5초)
+        assertThat(job.getSuccessCount()).isEqualTo(26);
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(450));
+    }
+}
@@ -0,0 +1,72 @@
+package com.ctrlf.chat.faq.job;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TokenBucket 단위 테스트 (가짜 시계 사용)
+ */
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("burst만큼은 바로 통과하고, 이후에는 토큰 간격만큼 순서대로 대기")
+    void reserve_AfterBurst_WaitsByRate() {
+        // given
+        TokenBucket bucket = new TokenBucket(2.0, 2, clock::get);
+
+        // when & then
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isEqualTo(SECOND / 2);
+        assertThat(bucket.reserve()).isEqualTo(SECOND);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 채워지지만 burst를 넘지 않음")
+    void reserve_Refill_CappedByBurst() {
+        // given
+        TokenBucket bucket = new TokenBucket(2.0, 2, clock::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        // when
+        clock.addAndGet(10 * SECOND);
+
+        // then
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    @DisplayName("N개 호출의 총 대기 시간은 (N - burst) / rate")
+    void reserve_TotalTime_BoundedByRate() {
+        // given
+        TokenBucket bucket = new TokenBucket(4.0, 1, clock::get);
+
+        // when
+        long lastWait = 0;
+        for (int i = 0; i < 21; i++) {
+            lastWait = bucket.reserve();
+        }
+
+        // then
+        assertThat(lastWait).isEqualTo(5 * SECOND);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 IllegalArgumentException")
+    void constructor_InvalidRate_Throws() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ctrlf.chat.faq.service;
+
+import com.ctrlf.chat.faq.cluster.QuestionClusterStore;
+import com.ctrlf.chat.faq.entity.FaqCandidate;
+import com.ctrlf.chat.faq.repository.FaqCandidateRepository;
+import com.ctrlf.chat.faq.repository.FaqRevisionRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * FaqCandidateServiceImpl 단위 테스트 (목록 조회와 클러스터 반영 분리).
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FaqCandidateServiceImpl 테스트")
+class FaqCandidateServiceImplTest {
+
+    @Mock
+    private FaqCandidateRepository faqCandidateRepository;
+
+    @Mock
+    private FaqRevisionRepository faqRevisionRepository;
+
+    @Mock
+    private QuestionClusterStore questionClusterStore;
+
+    @InjectMocks
+    private FaqCandidateServiceImpl faqCandidateService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(faqCandidateService, "minQuestions", 3);
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 클러스터를 반영하지 않고 조회만 수행")
+    void getCandidates_DoesNotSyncClusters() {
+        // given
+        when(faqCandidateRepository.findByDomain("SECURITY")).thenReturn(List.of());
+
+        // when
+        faqCandidateService.getCandidates("SECURITY", null);
+
+        // then
+        verify(questionClusterStore, never()).snapshot(any(), anyInt());
+        verify(faqCandidateRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("클러스터 반영 - 기준 이상인 새 클러스터만 NEW 후보로 생성하고 클러스터에 연결")
+    void syncClusterCandidates_CreatesNewCandidates() {
+        // given
+        UUID createdId = UUID.randomUUID();
+        when(questionClusterStore.snapshot(null, 3)).thenReturn(List.of(
+            new QuestionClusterStore.ClusterSnapshot(1, "SECURITY", "비밀번호 변경 방법", 2, 5, Instant.now(), null),
+            new QuestionClusterStore.ClusterSnapshot(2, "SECURITY", "VPN 접속 오류", 1, 2, Instant.now(), null)
+        ));
+        when(faqCandidateRepository.findAllById(List.of())).thenReturn(List.of());
+        when(faqCandidateRepository.save(any(FaqCandidate.class))).thenAnswer(invocation -> {
+            FaqCandidate candidate = invocation.getArgument(0);
+            candidate.setId(createdId);
+            return candidate;
+        });
+
+        // when
+        faqCandidateService.syncClusterCandidates();
+
+        // then
+        ArgumentCaptor<FaqCandidate> saved = ArgumentCaptor.forClass(FaqCandidate.class);
+        verify(faqCandidateRepository, times(1)).save(saved.capture());
+        assertThat(saved.getValue().getCanonicalQuestion()).isEqualTo("비밀번호 변경 방법");
+        assertThat(saved.getValue().getStatus()).isEqualTo(FaqCandidate.CandidateStatus.NEW);
+        assertThat(saved.getValue().getQuestionCount30d()).isEqualTo(5);
+        verify(questionClusterStore).linkCandidate(1, createdId);
+    }
+}
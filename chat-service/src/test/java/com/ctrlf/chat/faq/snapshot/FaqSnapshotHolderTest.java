@@ -0,0 +1,127 @@
+package com.ctrlf.chat.faq.snapshot;
+
+import com.ctrlf.chat.faq.entity.Faq;
+import com.ctrlf.chat.faq.entity.FaqUiCategory;
+import com.ctrlf.chat.faq.repository.FaqRepository;
+import com.ctrlf.chat.faq.repository.FaqUiCategoryRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * FaqSnapshotHolder 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FaqSnapshotHolder 테스트")
+class FaqSnapshotHolderTest {
+
+    @Mock
+    private FaqRepository faqRepository;
+
+    @Mock
+    private FaqUiCategoryRepository faqUiCategoryRepository;
+
+    private FaqSnapshotHolder holder;
+
+    @BeforeEach
+    void setUp() {
+        holder = new FaqSnapshotHolder(faqRepository, faqUiCategoryRepository);
+    }
+
+    private static Faq faq(String domain, String question, int priority) {
+        Faq faq = new Faq();
+        faq.setId(UUID.randomUUID());
+        faq.setDomain(domain);
+        faq.setQuestion(question);
+        faq.setAnswer(question + " 답변");
+        faq.setPriority(priority);
+        faq.setIsActive(true);
+        faq.setPublishedAt(Instant.now());
+        return faq;
+    }
+
+    private static FaqUiCategory category(String slug, int sortOrder) {
+        FaqUiCategory category = new FaqUiCategory();
+        category.setId(UUID.randomUUID());
+        category.setSlug(slug);
+        category.setDisplayName(slug);
+        category.setSortOrder(sortOrder);
+        category.setIsActive(true);
+        return category;
+    }
+
+    private void givenFaqs(List<Faq> faqs) {
+        when(faqRepository.findAllActiveOrderedByDomainAndPublishedAt()).thenReturn(faqs);
+        when(faqRepository.findAllActiveOrderedByPriorityAndPublishedAt()).thenReturn(faqs);
+        when(faqUiCategoryRepository.findByIsActiveTrueOrderBySortOrderAsc())
+            .thenReturn(List.of(category("SECURITY", 1), category("IT", 2)));
+    }
+
+    @Test
+    @DisplayName("스냅샷 빌드 - 도메인별 첫 FAQ는 홈, 앞의 2개는 도메인 목록")
+    void current_GroupsHomeAndDomainFaqs() {
+        // given
+        givenFaqs(List.of(
+            faq("IT", "IT 1", 1), faq("IT", "IT 2", 2), faq("IT", "IT 3", 3),
+            faq("SECURITY", "보안 1", 1)
+        ));
+
+        // when
+        FaqSnapshot snapshot = holder.current();
+
+        // then
+        assertThat(snapshot.homeFaqs()).extracting("question").containsExactly("IT 1", "보안 1");
+        assertThat(snapshot.domainFaqs("IT")).extracting("question").containsExactly("IT 1", "IT 2");
+        assertThat(snapshot.domainFaqs("EDU")).isEmpty();
+        assertThat(snapshot.activeFaqs()).hasSize(4);
+        assertThat(snapshot.activeCategories()).extracting("slug").containsExactly("SECURITY", "IT");
+    }
+
+    @Test
+    @DisplayName("빌드 후 반복 조회는 DB를 다시 읽지 않고, 변경 이벤트 후 버전과 ETag가 바뀜")
+    void onFaqChanged_RebuildsWithNewVersion() {
+        // given
+        givenFaqs(List.of(faq("IT", "IT 1", 1)));
+        FaqSnapshot before = holder.current();
+        holder.current();
+        holder.current();
+
+        // when
+        holder.onFaqChanged(new FaqChangedEvent("faq.update"));
+        FaqSnapshot after = holder.current();
+
+        // then
+        verify(faqRepository, times(2)).findAllActiveOrderedByDomainAndPublishedAt();
+        assertThat(after.version()).isGreaterThan(before.version());
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+    }
+
+    @Test
+    @DisplayName("재빌드 실패 시 이전 스냅샷을 계속 제공하고 다음 조회 때 다시 시도")
+    void onFaqChanged_RebuildFails_KeepsPreviousSnapshot() {
+        // given
+        givenFaqs(List.of(faq("IT", "IT 1", 1)));
+        FaqSnapshot before = holder.current();
+        when(faqRepository.findAllActiveOrderedByDomainAndPublishedAt())
+            .thenThrow(new IllegalStateException("db down"));
+
+        // when
+        holder.onFaqChanged(new FaqChangedEvent("faq.delete"));
+        FaqSnapshot served = holder.current();
+
+        // then
+        assertThat(served).isSameAs(before);
+        verify(faqRepository, times(3)).findAllActiveOrderedByDomainAndPublishedAt();
+    }
+}
@@ -0,0 +1,69 @@
+package com.ctrlf.chat.keyword;
+
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KoreanKeywordExtractor 단위 테스트 (기본 사전 사용).
+ */
+@DisplayName("KoreanKeywordExtractor 테스트")
+class KoreanKeywordExtractorTest {
+
+    private KoreanKeywordExtractor extractor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        extractor = new KoreanKeywordExtractor(new ClassPathResource("keyword/ko-dictionary.txt"));
+    }
+
+    @Test
+    @DisplayName("토큰 끝 조사와 요청 표현 제거")
+    void extract_StripsParticlesAndStopwords() {
+        assertThat(extractor.extract("연차휴가는 입사 첫해에 며칠까지 쓸 수 있는지 알려주세요?"))
+            .isEqualTo("연차휴가 입사 첫해 며칠 쓸 수 있는지");
+        assertThat(extractor.extract("보안 교육을 언제까지 들어야 하나요?"))
+            .isEqualTo("보안 교육 들어야");
+    }
+
+    @Test
+    @DisplayName("조사처럼 끝나는 명사(휴가, 평가)와 1음절 어간은 그대로 유지")
+    void extract_KeepsNounsEndingLikeParticles() {
+        assertThat(extractor.extract("인사평가 결과 이의신청 방법이 궁금해요"))
+            .isEqualTo("인사평가 결과 이의신청 방법");
+        assertThat(extractor.extract("출산 휴가 신청 절차를 알려줘"))
+            .isEqualTo("출산 휴가 신청 절차");
+        assertThat(extractor.extract("법이 바뀌면 사규도 바뀌나요"))
+            .isEqualTo("법이 바뀌면 사규 바뀌나요");
+    }
+
+    @Test
+    @DisplayName("영문/숫자 뒤 조사 제거")
+    void extract_StripsParticleAfterLatin() {
+        assertThat(extractor.extract("재택근무 중 VPN을 연결하는 방법"))
+            .isEqualTo("재택근무 중 VPN 연결하는 방법");
+    }
+
+    @Test
+    @DisplayName("짧은 질문은 그대로, 빈 질문은 null")
+    void extract_ShortOrBlank() {
+        assertThat(extractor.extract("  연차 며칠?  ")).isEqualTo("연차 며칠?");
+        assertThat(extractor.extract("   ")).isNull();
+        assertThat(extractor.extract(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("200자 초과 시 단어 경계에서 자름")
+    void extract_TruncatesAtWordBoundary() {
+        String content = "정보보안 ".repeat(60);
+
+        String keyword = extractor.extract(content);
+
+        assertThat(keyword.length()).isLessThanOrEqualTo(KoreanKeywordExtractor.MAX_LENGTH);
+        assertThat(keyword).doesNotEndWith(" ").endsWith("정보보안");
+    }
+}
@@ -0,0 +1,185 @@
+package com.ctrlf.chat.repository;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * chat_message 월 파티션 EXPLAIN / 아카이브 왕복 테스트.
+ *
+ * <p>ChatMessageRepository의 기간 조건 쿼리가 Hibernate 바인딩 타입(Instant → timestamptz) 그대로
+ * 해당 월 이후 파티션만 읽는지, 세션 아카이브(삭제+직렬화)와 복원이 행을 그대로 되돌리는지 실제 PostgreSQL에서 확인합니다.
+ * SQL은 {@link RepositoryQueries}로 @Query에서 직접 읽습니다. Docker가 없는 환경에서는 건너뜁니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("chat_message 파티션 프루닝 / 아카이브 테스트")
+class ChatMessagePartitionPruningTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final List<String> MIGRATIONS = List.of(
+        "V2__chat_tables.sql",
+        "V3__alter_faq_candidate_add_columns.sql",
+        "V4__create_faq_drafts.sql",
+        "V5__create_faq_revisions.sql",
+        "V6__add_published_at_to_faq.sql",
+        "V7__create_faq_ui_categories.sql",
+        "V8__alter_faq_add_category_and_published.sql",
+        "V9__chat_message_add_request_id_status.sql",
+        "V10__add_intent_to_chat_session.sql",
+        "V11__add_summary_to_chat_session.sql",
+        "V12__add_dashboard_fields_to_chat_message.sql",
+        "V13__chat_message_extend.sql",
+        "V15__insert_initial_faq_data.sql",
+        "V16__add_embedding_model_to_chat_session.sql",
+        "V17__add_llm_model_to_chat_session.sql",
+        "V18__insert_missing_initial_faq_data.sql",
+        "V19__chat_feedback_unique_constraint.sql",
+        "V20__chat_session_activity_preview.sql",
+        "V21__partition_chat_message_by_month.sql"
+    );
+
+    private static final UUID SESSION_ID = UUID.randomUUID();
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            for (String fileName : MIGRATIONS) {
+                st.execute(migration(fileName));
+            }
+            st.execute("SET search_path = public");
+            st.execute("SELECT chat.create_chat_message_partition(DATE '2025-01-01')");
+            st.execute("SELECT chat.create_chat_message_partition(DATE '2025-02-01')");
+            st.execute("SELECT chat.create_chat_message_partition(DATE '2025-03-01')");
+            st.execute("""
+                INSERT INTO chat.chat_session (id, user_uuid, created_at, updated_at, deleted, last_activity_at)
+                VALUES ('%s', gen_random_uuid(), TIMESTAMP '2025-01-01', TIMESTAMP '2025-03-15', false, TIMESTAMP '2025-03-15')
+                """.formatted(SESSION_ID));
+            for (String day : List.of("2025-01-15", "2025-02-15", "2025-03-15")) {
+                st.execute("""
+                    INSERT INTO chat.chat_message
+                      (session_id, role, content, created_at, request_id, status, department)
+                    SELECT '%s', CASE WHEN g %% 2 = 0 THEN 'user' ELSE 'assistant' END, '메시지 ' || g,
+                           TIMESTAMP '%sT00:00:00' + (g * interval '1 minute'),
+                           CASE WHEN g %% 2 = 1 THEN '%s-' || g END, 'COMPLETED', '인사팀'
+                    FROM generate_series(1, 100) g
+                    """.formatted(SESSION_ID, day, day));
+            }
+            st.execute("ANALYZE chat.chat_message");
+        }
+    }
+
+    @Test
+    @DisplayName("관리자 질문 로그 조회 - timestamptz 바인딩에서도 시작 월 이전 파티션은 계획에서 제외")
+    void faqQuestionLog_PrunesPartitionsBeforeStartDate() throws Exception {
+        List<String> plan = explainFaqQuestionLog(null);
+
+        assertThat(String.join("\n", plan))
+            .contains("chat_message_202503")
+            .doesNotContain("chat_message_202501")
+            .doesNotContain("chat_message_202502");
+    }
+
+    @Test
+    @DisplayName("관리자 질문 로그 조회 - 일반 계획(generic plan)에서도 실행 시 프루닝")
+    void faqQuestionLog_GenericPlanPrunesAtExecutorStartup() throws Exception {
+        List<String> plan = explainFaqQuestionLog("force_generic_plan");
+
+        assertThat(String.join("\n", plan)).contains("Subplans Removed");
+    }
+
+    @Test
+    @DisplayName("세션 아카이브 후 복원 - 모든 행과 request_id 유니크 정보가 그대로 돌아옴")
+    void archiveAndRestore_RoundTripsRows() throws Exception {
+        try (Connection conn = connect()) {
+            String before = sessionSnapshot(conn);
+
+            String messages;
+            try (Statement st = conn.createStatement()) {
+                st.execute(RepositoryQueries.prepare(
+                    "extract_session", ChatMessageRepository.class, "extractSessionMessagesAsJson"));
+                try (ResultSet rs = st.executeQuery("EXECUTE extract_session('" + SESSION_ID + "')")) {
+                    rs.next();
+                    messages = rs.getString("messages");
+                    assertThat(rs.getInt("messageCount")).isEqualTo(300);
+                }
+            }
+            assertThat(count(conn, "SELECT COUNT(*) FROM chat.chat_message WHERE session_id = '" + SESSION_ID + "'"))
+                .isZero();
+            assertThat(count(conn, "SELECT COUNT(*) FROM chat.chat_message_request_id")).isZero();
+
+            try (Statement st = conn.createStatement()) {
+                st.execute(RepositoryQueries.prepare(
+                    "import_messages", ChatMessageRepository.class, "importMessagesFromJson"));
+                assertThat(st.executeUpdate("EXECUTE import_messages('" + messages.replace("'", "''") + "')"))
+                    .isEqualTo(300);
+            }
+
+            assertThat(sessionSnapshot(conn)).isEqualTo(before);
+            assertThat(count(conn, "SELECT COUNT(*) FROM chat.chat_message_request_id")).isEqualTo(150);
+        }
+    }
+
+    private static List<String> explainFaqQuestionLog(String planCacheMode) throws Exception {
+        List<String> plan = new ArrayList<>();
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            if (planCacheMode != null) {
+                st.execute("SET plan_cache_mode = " + planCacheMode);
+            }
+            st.execute(RepositoryQueries.prepare(
+                "faq_questions", ChatMessageRepository.class, "findUserMessagesForFaqGeneration"));
+            try (ResultSet rs = st.executeQuery(
+                "EXPLAIN EXECUTE faq_questions('2025-03-01T00:00:00Z', NULL)")) {
+                while (rs.next()) {
+                    plan.add(rs.getString(1));
+                }
+            }
+        }
+        return plan;
+    }
+
+    private static String sessionSnapshot(Connection conn) throws Exception {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("""
+                 SELECT md5(COALESCE(string_agg(to_jsonb(m)::text, ',' ORDER BY m.created_at, m.id), ''))
+                 FROM chat.chat_message m
+                 WHERE m.session_id = '%s'
+                 """.formatted(SESSION_ID))) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private static long count(Connection conn, String sql) throws Exception {
+        try (Statement st = conn.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static Connection connect() throws Exception {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    private static String migration(String fileName) throws Exception {
+        try (InputStream in = ChatMessagePartitionPruningTest.class
+                .getResourceAsStream("/db/migration/" + fileName)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ctrlf.chat.service;
+
+import com.ctrlf.chat.config.metrics.CustomMetrics;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ChatAnswerCache 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatAnswerCache 테스트")
+class ChatAnswerCacheTest {
+
+    @Mock
+    private CustomMetrics customMetrics;
+
+    private ChatAnswerCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ChatAnswerCache(customMetrics, true, 100, 60, 500);
+    }
+
+    private static ChatAnswerCache.CachedAnswer answer(String text) {
+        return new ChatAnswerCache.CachedAnswer(text, "gpt-4o", 10, 5, "RAG", List.of(), 1_200L);
+    }
+
+    @Test
+    @DisplayName("질문 정규화 - 공백/대소문자/끝 문장부호 차이는 같은 키")
+    void key_NormalizedQuestion_SameKey() {
+        // when
+        ChatAnswerCache.Key a = cache.key("  연차   규정 알려줘?? ", "policy", "openai", null);
+        ChatAnswerCache.Key b = cache.key("연차 규정 알려줘", "POLICY", "openai", null);
+
+        // then
+        assertThat(a).isEqualTo(b);
+        assertThat(ChatAnswerCache.normalize("VPN  접속 방법！")).isEqualTo("vpn 접속 방법");
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - 절약된 지연 시간을 메트릭으로 기록")
+    void get_Hit_RecordsSavedLatency() {
+        // given
+        ChatAnswerCache.Key key = cache.key("연차 규정 알려줘", "POLICY", "openai", "gpt-4o");
+        cache.put(key, answer("연차는 15일입니다."));
+
+        // when & then
+        assertThat(cache.get(cache.key("연차 규정 알려줘?", "POLICY", "openai", "gpt-4o")))
+            .hasValueSatisfying(cached -> assertThat(cached.answer()).isEqualTo("연차는 15일입니다."));
+        verify(customMetrics).recordAnswerCacheHit(1_200L);
+    }
+
+    @Test
+    @DisplayName("모델이 다르면 별도 항목")
+    void get_DifferentModel_Miss() {
+        // given
+        cache.put(cache.key("연차 규정 알려줘", "POLICY", "openai", "gpt-4o"), answer("A"));
+
+        // when & then
+        assertThat(cache.get(cache.key("연차 규정 알려줘", "POLICY", "sroberta", "gpt-4o"))).isEmpty();
+        verify(customMetrics).recordAnswerCacheMiss();
+    }
+
+    @Test
+    @DisplayName("사규 변경 - 해당 도메인만 무효화, 변경 전 키로는 저장해도 조회되지 않음")
+    void onPolicyChanged_InvalidatesDomainOnly() {
+        // given
+        ChatAnswerCache.Key staleKey = cache.key("연차 규정 알려줘", "POLICY", "openai", null);
+        cache.put(staleKey, answer("A"));
+        cache.put(cache.key("교육 마감일", "EDU", "openai", null), answer("B"));
+
+        // when
+        int removed = cache.onPolicyChanged("policy");
+        // 변경 전에 시작된 생성 결과가 늦게 저장되는 경우
+        cache.put(staleKey, answer("A"));
+
+        // then
+        assertThat(removed).isEqualTo(1);
+        assertThat(cache.get(cache.key("연차 규정 알려줘", "POLICY", "openai", null))).isEmpty();
+        assertThat(cache.get(cache.key("교육 마감일", "EDU", "openai", null))).isPresent();
+    }
+
+    @Test
+    @DisplayName("개인화/PII/액션 답변은 캐시 제외 사유를 기록")
+    void isCacheable_SkipsPersonalizedAndPii() {
+        // when & then
+        assertThat(cache.isCacheable(true, true, false, false)).isFalse();
+        assertThat(cache.isCacheable(true, false, true, false)).isFalse();
+        assertThat(cache.isCacheable(true, null, null, true)).isFalse();
+        assertThat(cache.isCacheable(true, null, null, false)).isTrue();
+        verify(customMetrics).incrementAnswerCacheSkipped("pii");
+        verify(customMetrics).incrementAnswerCacheSkipped("personalized");
+        verify(customMetrics).incrementAnswerCacheSkipped("action");
+    }
+
+    @Test
+    @DisplayName("AI가 cacheable로 표시하지 않은 답변 - 다른 표시가 없어도 저장하지 않음 (fail closed)")
+    void isCacheable_NotMarked_Skipped() {
+        // when & then
+        assertThat(cache.isCacheable(null, null, null, false)).isFalse();
+        assertThat(cache.isCacheable(false, false, false, false)).isFalse();
+        verify(customMetrics, times(2)).incrementAnswerCacheSkipped("not_cacheable");
+    }
+}
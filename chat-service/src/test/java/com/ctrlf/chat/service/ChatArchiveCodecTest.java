@@ -0,0 +1,35 @@
+package com.ctrlf.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChatArchiveCodec 단위 테스트.
+ */
+@DisplayName("ChatArchiveCodec 테스트")
+class ChatArchiveCodecTest {
+
+    @Test
+    @DisplayName("압축 후 해제 - 한글 포함 JSON이 그대로 복원되고 크기는 줄어듦")
+    void compress_RoundTrip() {
+        // given
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 200; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"").append(i).append("\",\"role\":\"user\",\"content\":\"연차 며칠이야? ")
+                .append(i).append("\",\"status\":\"COMPLETED\"}");
+        }
+        json.append(']');
+
+        // when
+        byte[] payload = ChatArchiveCodec.compress(json.toString());
+
+        // then
+        assertThat(ChatArchiveCodec.decompress(payload)).isEqualTo(json.toString());
+        assertThat(payload.length).isLessThan(json.length() / 3);
+    }
+}
@@ -0,0 +1,299 @@
+package com.ctrlf.chat.service;
+
+import com.ctrlf.chat.abtest.AbTestModelAssigner;
+import com.ctrlf.chat.ai.search.client.ChatAiClient;
+import com.ctrlf.chat.ai.search.dto.ChatAiResponse;
+import com.ctrlf.chat.config.metrics.CustomMetrics;
+import com.ctrlf.chat.dto.request.ChatMessageSendRequest;
+import com.ctrlf.chat.dto.response.ChatMessageSendResponse;
+import com.ctrlf.chat.elasticsearch.service.ChatLogElasticsearchService;
+import com.ctrlf.chat.elasticsearch.service.FaqLogElasticsearchService;
+import com.ctrlf.chat.entity.ChatMessage;
+import com.ctrlf.chat.entity.ChatSession;
+import com.ctrlf.chat.faq.cluster.QuestionClusterStore;
+import com.ctrlf.chat.keyword.KoreanKeywordExtractor;
+import com.ctrlf.chat.repository.ChatMessageRepository;
+import com.ctrlf.chat.repository.ChatSessionRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChatMessageServiceImpl 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageServiceImpl 테스트")
+class ChatMessageServiceImplTest {
+
+    private static final int CONCURRENT_REQUESTS = 50;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatSessionRepository chatSessionRepository;
+
+    @Mock
+    private FaqLogElasticsearchService faqLogElasticsearchService;
+
+    @Mock
+    private ChatLogElasticsearchService chatLogElasticsearchService;
+
+    @Mock
+    private ChatAiClient chatAiClient;
+
+    @Mock
+    private CustomMetrics customMetrics;
+
+    @Mock
+    private ChatAnswerCache chatAnswerCache;
+
+    @Mock
+    private KoreanKeywordExtractor keywordExtractor;
+
+    @Mock
+    private QuestionClusterStore questionClusterStore;
+
+    @Mock
+    private AbTestModelAssigner abTestModelAssigner;
+
+    @Mock
+    private ChatArchiveService chatArchiveService;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    @InjectMocks
+    private ChatMessageServiceImpl chatMessageService;
+
+    private UUID sessionId;
+    private UUID userId;
+    private ChatSession session;
+    /** 저장된 assistant 메시지 (request_id 조회 결과) */
+    private final AtomicReference<ChatMessage> storedAnswer = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chatMessageService, "duplicateWaitMs", 10_000L);
+        sessionId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        session = new ChatSession();
+        session.setId(sessionId);
+        session.setUserUuid(userId);
+        session.setEmbeddingModel("openai");
+    }
+
+    private void givenSessionAndRepository() {
+
+        when(chatSessionRepository.findActiveById(sessionId)).thenReturn(session);
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> {
+            ChatMessage message = invocation.getArgument(0);
+            if (message.getId() == null) {
+                message.setId(UUID.randomUUID());
+            }
+            if (message.getRequestId() != null) {
+                storedAnswer.set(message);
+            }
+            return message;
+        });
+    }
+
+    private static ChatAiResponse aiResponse(String answer) {
+        ChatAiResponse response = new ChatAiResponse();
+        ReflectionTestUtils.setField(response, "answer", answer);
+        return response;
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 같은 requestId 동시 요청 50건 - AI 호출 1회, 모두 같은 응답")
+    void sendMessage_ConcurrentDuplicates_SingleAiCall() throws Exception {
+        // given
+        givenSessionAndRepository();
+        when(chatSessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+        when(chatMessageRepository.findByRequestId("req-1"))
+            .thenAnswer(invocation -> Optional.ofNullable(storedAnswer.get()));
+
+        CountDownLatch allSubmitted = new CountDownLatch(CONCURRENT_REQUESTS);
+        when(chatAiClient.ask(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenAnswer(invocation -> {
+                // 나머지 요청이 모두 들어올 때까지 AI 응답 지연
+                allSubmitted.await(5, TimeUnit.SECONDS);
+                Thread.sleep(100);
+                return aiResponse("연차는 15일입니다.");
+            });
+
+        ChatMessageSendRequest request = new ChatMessageSendRequest(sessionId, "연차 며칠이야?", null, "req-1");
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<ChatMessageSendResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    allSubmitted.countDown();
+                    return chatMessageService.sendMessage(request, userId, "POLICY", null);
+                }));
+            }
+            start.countDown();
+
+            List<ChatMessageSendResponse> responses = new ArrayList<>();
+            for (Future<ChatMessageSendResponse> future : futures) {
+                responses.add(future.get(10, TimeUnit.SECONDS));
+            }
+
+            // then
+            verify(chatAiClient, times(1)).ask(any(), any(), any(), any(), any(), any(), any(), any(), any());
+            assertThat(responses).extracting(ChatMessageSendResponse::messageId)
+                .containsOnly(storedAnswer.get().getId());
+            assertThat(responses).extracting(ChatMessageSendResponse::content)
+                .containsOnly("연차는 15일입니다.");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("처리 완료 후 같은 requestId 재요청 - 저장된 답변 반환, AI 미호출")
+    void sendMessage_LateDuplicate_ReturnsStoredAnswer() {
+        // given
+        ChatMessage stored = ChatMessage.assistantMessage(sessionId, "저장된 답변", null, null, null);
+        stored.setId(UUID.randomUUID());
+        stored.setRequestId("req-2");
+        when(chatMessageRepository.findByRequestId("req-2")).thenReturn(Optional.of(stored));
+        when(chatSessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+
+        // when
+        ChatMessageSendResponse response = chatMessageService.sendMessage(
+            new ChatMessageSendRequest(sessionId, "연차 며칠이야?", null, "req-2"), userId, "POLICY", null);
+
+        // then
+        assertThat(response.messageId()).isEqualTo(stored.getId());
+        assertThat(response.content()).isEqualTo("저장된 답변");
+        verify(chatAiClient, never()).ask(any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verify(customMetrics).incrementDuplicateSends("stored");
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 같은 세션/requestId로 재요청 - 저장된 답변을 돌려주지 않고 거부")
+    void sendMessage_OtherUserDuplicate_Rejected() {
+        // given
+        ChatMessage stored = ChatMessage.assistantMessage(sessionId, "저장된 답변", null, null, null);
+        stored.setId(UUID.randomUUID());
+        stored.setRequestId("req-5");
+        when(chatMessageRepository.findByRequestId("req-5")).thenReturn(Optional.of(stored));
+        when(chatSessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+
+        // when & then
+        assertThatThrownBy(() -> chatMessageService.sendMessage(
+            new ChatMessageSendRequest(sessionId, "연차 며칠이야?", null, "req-5"), UUID.randomUUID(), "POLICY", null))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(chatAiClient, never()).ask(any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 같은 requestId를 먼저 저장 - 질문/답변 함께 롤백, 저장된 답변 반환")
+    void sendMessage_RequestIdConflict_RollsBackUserMessage() {
+        // given
+        when(chatSessionRepository.findActiveById(sessionId)).thenReturn(session);
+        ChatMessage winner = ChatMessage.assistantMessage(sessionId, "먼저 저장된 답변", null, null, null);
+        winner.setId(UUID.randomUUID());
+        winner.setRequestId("req-6");
+        when(chatMessageRepository.findByRequestId("req-6"))
+            .thenReturn(Optional.empty(), Optional.empty(), Optional.of(winner));
+        when(chatSessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+        when(chatAiClient.ask(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(aiResponse("늦게 만든 답변"));
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> {
+            ChatMessage message = invocation.getArgument(0);
+            if (message.getRequestId() != null) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+            }
+            return message;
+        });
+
+        // when
+        ChatMessageSendResponse response = chatMessageService.sendMessage(
+            new ChatMessageSendRequest(sessionId, "연차 며칠이야?", null, "req-6"), userId, "POLICY", null);
+
+        // then: 트랜잭션 롤백, 질문 로그/클러스터 미반영
+        assertThat(response.messageId()).isEqualTo(winner.getId());
+        verify(transactionManager).rollback(any());
+        verify(chatLogElasticsearchService, never()).saveChatLog(any(), any(), any(), any(), any());
+        verify(questionClusterStore, never()).record(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("메시지 전송 - 사용자/답변 메시지 저장마다 세션 목록 컬럼 갱신, 마지막 미리보기는 답변")
+    void sendMessage_RecordsSessionActivity() {
+        // given
+        givenSessionAndRepository();
+        when(chatAiClient.ask(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(aiResponse("연차는\n  15일입니다."));
+
+        // when
+        chatMessageService.sendMessage(
+            new ChatMessageSendRequest(sessionId, "연차 며칠이야?", null, "req-3"),
+            userId, "POLICY", null
+        );
+
+        // then
+        InOrder inOrder = inOrder(chatSessionRepository);
+        inOrder.verify(chatSessionRepository).recordMessage(eq(sessionId), eq("연차 며칠이야?"), any());
+        inOrder.verify(chatSessionRepository).recordMessage(eq(sessionId), eq("연차는 15일입니다."), any());
+    }
+
+    @Test
+    @DisplayName("메시지 전송 - 세션 아카이브 복원이 메시지 저장보다 먼저 실행")
+    void sendMessage_RestoresArchivedSessionBeforeSave() {
+        // given
+        givenSessionAndRepository();
+        when(chatAiClient.ask(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(aiResponse("답변"));
+
+        // when
+        chatMessageService.sendMessage(
+            new ChatMessageSendRequest(sessionId, "연차 며칠이야?", null, "req-4"),
+            userId, "POLICY", null
+        );
+
+        // then
+        InOrder inOrder = inOrder(chatArchiveService, chatMessageRepository);
+        inOrder.verify(chatArchiveService).restoreIfArchived(any(ChatSession.class));
+        inOrder.verify(chatMessageRepository).save(any(ChatMessage.class));
+    }
+}
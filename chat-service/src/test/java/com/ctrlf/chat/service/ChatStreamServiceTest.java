@@ -0,0 +1,246 @@
+package com.ctrlf.chat.service;
+
+import com.ctrlf.chat.abtest.AbTestModelAssigner;
+import com.ctrlf.chat.ai.search.facade.ChatAiFacade;
+import com.ctrlf.chat.config.metrics.CustomMetrics;
+import com.ctrlf.chat.elasticsearch.service.ChatLogElasticsearchService;
+import com.ctrlf.chat.entity.ChatMessage;
+import com.ctrlf.chat.entity.ChatMessageStatus;
+import com.ctrlf.chat.entity.ChatSession;
+import com.ctrlf.chat.repository.ChatMessageRepository;
+import com.ctrlf.chat.repository.ChatSessionRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChatStreamService 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatStreamService 테스트")
+class ChatStreamServiceTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    @Mock
+    private ChatAiFacade chatAiFacade;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatSessionRepository chatSessionRepository;
+
+    @Mock
+    private ChatLogElasticsearchService chatLogElasticsearchService;
+
+    @Mock
+    private CustomMetrics customMetrics;
+
+    @Mock
+    private ChatAnswerCache chatAnswerCache;
+
+    @Mock
+    private AbTestModelAssigner abTestModelAssigner;
+
+    @InjectMocks
+    private ChatStreamService chatStreamService;
+
+    private UUID messageId;
+    private Sinks.Many<String> aiStream;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chatStreamService, "bufferSize", 256);
+        ReflectionTestUtils.setField(chatStreamService, "slowConsumerPolicy", ChatStreamService.SlowConsumerPolicy.DISCONNECT);
+        ReflectionTestUtils.setField(chatStreamService, "replayMaxEvents", 2048);
+        ReflectionTestUtils.setField(chatStreamService, "replayTtlMs", 30_000L);
+        ReflectionTestUtils.setField(chatStreamService, "resumeGraceMs", 5_000L);
+
+        messageId = UUID.randomUUID();
+        aiStream = Sinks.many().unicast().onBackpressureBuffer();
+    }
+
+    private void givenStreamableMessage() {
+        givenMessageContext();
+        when(chatAiFacade.streamChat(any())).thenReturn(aiStream.asFlux());
+    }
+
+    private void givenMessageContext() {
+        UUID sessionId = UUID.randomUUID();
+
+        ChatMessage assistant = ChatMessage.assistantMessage(sessionId, "", null, null, null);
+        assistant.setId(messageId);
+
+        ChatSession session = new ChatSession();
+        session.setId(sessionId);
+        session.setUserUuid(UUID.randomUUID());
+        session.setDomain("POLICY");
+
+        when(chatMessageRepository.findById(messageId)).thenReturn(Optional.of(assistant));
+        when(chatSessionRepository.findActiveById(sessionId)).thenReturn(session);
+        when(chatMessageRepository.findTopBySessionIdAndRoleOrderByCreatedAtDesc(sessionId, "user"))
+            .thenReturn(Optional.of(ChatMessage.userMessage(sessionId, "연차 규정 알려줘")));
+    }
+
+    private static List<String> ids(List<ServerSentEvent<String>> events) {
+        return events.stream().map(ServerSentEvent::id).toList();
+    }
+
+    private static List<String> names(List<ServerSentEvent<String>> events) {
+        return events.stream().map(ServerSentEvent::event).toList();
+    }
+
+    @Test
+    @DisplayName("생성 중 Last-Event-ID로 재연결 - 놓친 이벤트부터 이어받고 AI 서버는 다시 호출하지 않음")
+    void resume_DuringGeneration_ReplaysMissedEventsWithoutSecondAiCall() {
+        // given
+        givenStreamableMessage();
+        aiStream.tryEmitNext("{\"type\":\"meta\",\"model\":\"gpt-4o\"}");
+        aiStream.tryEmitNext("{\"type\":\"token\",\"text\":\"연차는 \"}");
+        aiStream.tryEmitNext("{\"type\":\"token\",\"text\":\"15일\"}");
+
+        // 첫 연결: 3개 이벤트 수신 후 연결 끊김
+        List<ServerSentEvent<String>> first =
+            chatStreamService.streamFlux(messageId, null).take(3).collectList().block(WAIT);
+
+        aiStream.tryEmitNext("{\"type\":\"token\",\"text\":\"입니다.\"}");
+        aiStream.tryEmitNext("{\"type\":\"done\",\"total_tokens\":3,\"elapsed_ms\":120}");
+
+        // when
+        List<ServerSentEvent<String>> resumed =
+            chatStreamService.streamFlux(messageId, 3L).collectList().block(WAIT);
+
+        // then
+        assertThat(ids(first)).containsExactly("1", "2", "3");
+        assertThat(ids(resumed)).containsExactly("4", "5");
+        assertThat(names(resumed)).containsExactly("token", "done");
+        assertThat(resumed.get(0).data()).isEqualTo("입니다.");
+        verify(chatAiFacade, times(1)).streamChat(any());
+        verify(chatMessageRepository, timeout(1_000)).save(argThat((ChatMessage m) ->
+            m.getStatus() == ChatMessageStatus.DONE && "연차는 15일입니다.".equals(m.getContent())));
+    }
+
+    @Test
+    @DisplayName("완료 직후 새 연결 - 보관된 전체 이벤트를 재전송하고 AI 서버는 다시 호출하지 않음")
+    void reconnect_AfterDone_ReplaysWholeAnswer() {
+        // given
+        givenStreamableMessage();
+        aiStream.tryEmitNext("{\"type\":\"token\",\"text\":\"안녕하세요\"}");
+        aiStream.tryEmitNext("{\"type\":\"done\",\"total_tokens\":1,\"elapsed_ms\":50}");
+        List<ServerSentEvent<String>> first =
+            chatStreamService.streamFlux(messageId, null).collectList().block(WAIT);
+
+        // when
+        List<ServerSentEvent<String>> again =
+            chatStreamService.streamFlux(messageId, null).collectList().block(WAIT);
+
+        // then
+        assertThat(names(first)).containsExactly("token", "done");
+        assertThat(ids(again)).isEqualTo(ids(first));
+        verify(chatAiFacade, times(1)).streamChat(any());
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘긴 답변에 새 연결 - 잘린 답변 대신 STREAM_EXPIRED 에러 이벤트")
+    void attach_AfterHistoryOverflow_ReturnsExpiredError() {
+        // given: 보관 3개, 이벤트 5개
+        ReflectionTestUtils.setField(chatStreamService, "replayMaxEvents", 3);
+        givenStreamableMessage();
+        for (String text : List.of("연차는 ", "15일", "입니다", ".")) {
+            aiStream.tryEmitNext("{\"type\":\"token\",\"text\":\"" + text + "\"}");
+        }
+        aiStream.tryEmitNext("{\"type\":\"done\",\"total_tokens\":4,\"elapsed_ms\":80}");
+        List<ServerSentEvent<String>> first =
+            chatStreamService.streamFlux(messageId, null).collectList().block(WAIT);
+
+        // when: 두 번째 탭
+        List<ServerSentEvent<String>> second =
+            chatStreamService.streamFlux(messageId, null).collectList().block(WAIT);
+
+        // then
+        assertThat(ids(first)).containsExactly("1", "2", "3", "4", "5");
+        assertThat(second).singleElement().satisfies(event -> {
+            assertThat(event.event()).isEqualTo("error");
+            assertThat(event.data()).contains("STREAM_EXPIRED");
+        });
+        verify(chatAiFacade, times(1)).streamChat(any());
+    }
+
+    @Test
+    @DisplayName("재전송 버퍼가 없는 메시지에 Last-Event-ID로 재연결 - STREAM_EXPIRED 에러 이벤트")
+    void resume_UnknownStream_ReturnsExpiredError() {
+        // when
+        List<ServerSentEvent<String>> events =
+            chatStreamService.streamFlux(messageId, 10L).collectList().block(WAIT);
+
+        // then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).event()).isEqualTo("error");
+        assertThat(events.get(0).data()).contains("STREAM_EXPIRED");
+        verifyNoInteractions(chatAiFacade);
+    }
+
+    @Test
+    @DisplayName("클라이언트 연결 끊김 (재연결 유예 0) - AI 스트림 취소 후 부분 답변을 CANCELLED로 저장")
+    void disconnect_WithoutResumeGrace_CancelsAndSavesPartialAnswer() {
+        // given
+        ReflectionTestUtils.setField(chatStreamService, "resumeGraceMs", 0L);
+        givenStreamableMessage();
+        aiStream.tryEmitNext("{\"type\":\"meta\",\"model\":\"gpt-4o\"}");
+        aiStream.tryEmitNext("{\"type\":\"token\",\"text\":\"부분 \"}");
+
+        // when
+        chatStreamService.streamFlux(messageId, null).take(2).collectList().block(WAIT);
+
+        // then
+        verify(chatMessageRepository, timeout(1_000)).save(argThat((ChatMessage m) ->
+            m.getStatus() == ChatMessageStatus.CANCELLED && "부분 ".equals(m.getContent())));
+        verify(customMetrics, timeout(1_000)).recordStreamCancelled(anyInt());
+        assertThat(aiStream.currentSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시된 답변 - AI 서버 호출 없이 meta/token/done 스트림으로 재생하고 DONE 저장")
+    void stream_CachedAnswer_ReplaysWithoutAiCall() {
+        // given
+        givenMessageContext();
+        ChatAnswerCache.Key key = new ChatAnswerCache.Key("연차 규정 알려줘", "POLICY", "openai|default", 0L, 0L);
+        when(chatAnswerCache.key(any(), any(), any(), any())).thenReturn(key);
+        when(chatAnswerCache.get(key)).thenReturn(Optional.of(new ChatAnswerCache.CachedAnswer(
+            "연차는 15일입니다.", "gpt-4o", 10, 3, "RAG", List.of(), 1_500L)));
+
+        // when
+        List<ServerSentEvent<String>> events =
+            chatStreamService.streamFlux(messageId, null).collectList().block(WAIT);
+
+        // then
+        assertThat(names(events)).containsExactly("meta", "token", "done");
+        assertThat(events.get(0).data()).contains("\"cached\":true");
+        assertThat(events.get(1).data()).isEqualTo("연차는 15일입니다.");
+        verifyNoInteractions(chatAiFacade);
+        verify(chatMessageRepository, timeout(1_000)).save(argThat((ChatMessage m) ->
+            m.getStatus() == ChatMessageStatus.DONE && "연차는 15일입니다.".equals(m.getContent())));
+    }
+}
@@ -0,0 +1,54 @@
+package com.ctrlf.chat.service;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KeysetCursor 단위 테스트.
+ */
+@DisplayName("KeysetCursor 테스트")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("마이크로초 정밀도 유지 - 같은 밀리초 안의 행도 구분")
+    void encodeParse_KeepsMicros() {
+        // given
+        Instant at = Instant.parse("2026-03-02T09:15:30.123456Z");
+        UUID id = UUID.randomUUID();
+
+        // when
+        KeysetCursor parsed = KeysetCursor.parse(KeysetCursor.encode(at, id));
+
+        // then
+        assertThat(parsed.at()).isEqualTo(at);
+        assertThat(parsed.id()).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("이전에 발급된 밀리초 커서도 해석")
+    void parse_LegacyMillisCursor() {
+        // given
+        UUID id = UUID.randomUUID();
+
+        // when
+        KeysetCursor parsed = KeysetCursor.parse("1772442930123_" + id);
+
+        // then
+        assertThat(parsed.at()).isEqualTo(Instant.ofEpochMilli(1772442930123L));
+        assertThat(parsed.id()).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException")
+    void parse_Invalid_Throws() {
+        assertThatThrownBy(() -> KeysetCursor.parse("abc"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.parse("1772442930123_not-a-uuid"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
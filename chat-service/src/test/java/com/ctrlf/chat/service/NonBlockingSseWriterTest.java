@@ -0,0 +1,177 @@
+package com.ctrlf.chat.service;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * NonBlockingSseWriter 단위 테스트 (직렬화 형식, 소켓 준비 상태에 따른 수요 전달).
+ */
+@DisplayName("NonBlockingSseWriter 테스트")
+class NonBlockingSseWriterTest {
+
+    private static final int BUFFER_SIZE = 16;
+    private static final int TOKENS = 100;
+
+    @Test
+    @DisplayName("이벤트 직렬화 - id/event/data 순서, 여러 줄 data는 줄마다 data: 접두사")
+    void encode_Format() {
+        // given
+        ServerSentEvent<String> event = ServerSentEvent.<String>builder()
+            .id("3")
+            .event("token")
+            .data("첫 줄\n둘째 줄")
+            .build();
+
+        // when
+        String encoded = new String(NonBlockingSseWriter.encode(event), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(encoded).isEqualTo("id:3\nevent:token\ndata:첫 줄\ndata:둘째 줄\n\n");
+    }
+
+    @Test
+    @DisplayName("쓰기 불가 상태 - 이벤트를 요청하지 않고, 쓰기 가능해지면 이어서 쓰고 완료")
+    void write_WaitsForWritePossible() {
+        // given
+        FakeOutputStream out = new FakeOutputStream(false);
+        AsyncContext async = mock(AsyncContext.class);
+        subscribe(async, out, Flux.range(1, 3).map(NonBlockingSseWriterTest::token));
+
+        // then: 소켓이 막혀 있는 동안 아무것도 쓰지 않음
+        assertThat(out.text()).isEmpty();
+        verify(async, never()).complete();
+
+        // when: 쓰기 가능
+        out.ready = true;
+        out.listener.onWritePossible();
+
+        // then
+        assertThat(out.text()).contains("data:t1", "data:t2", "data:t3");
+        verify(async).complete();
+    }
+
+    @Test
+    @DisplayName("2,000개 스트림 (절반은 멈춘 클라이언트) - 추가 스레드 없이 빠른 스트림은 완료, 멈춘 스트림은 SLOW_CONSUMER로 종료")
+    void write_TwoThousandStreams_SlowConsumersDisconnected() {
+        // given: 빠른 클라이언트 1,000개, 소켓이 막힌 클라이언트 1,000개
+        int streams = 2_000;
+        List<FakeOutputStream> outputs = new ArrayList<>();
+        List<FluxSink<ServerSentEvent<String>>> sinks = new ArrayList<>();
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < streams; i++) {
+            FakeOutputStream out = new FakeOutputStream(i % 2 == 0);
+            AsyncContext async = mock(AsyncContext.class);
+            doAnswer(invocation -> completed.incrementAndGet()).when(async).complete();
+            Flux<ServerSentEvent<String>> events = Flux.<ServerSentEvent<String>>create(sinks::add)
+                .onBackpressureBuffer(BUFFER_SIZE, dropped -> { }, BufferOverflowStrategy.ERROR)
+                .onErrorResume(Exceptions::isOverflow, e -> Mono.just(ServerSentEvent.<String>builder()
+                    .event("error")
+                    .data("{\"code\":\"SLOW_CONSUMER\"}")
+                    .build()));
+            subscribe(async, out, events);
+            outputs.add(out);
+        }
+
+        // when: AI 토큰을 수요와 무관하게 모든 스트림에 발행
+        for (int t = 1; t <= TOKENS; t++) {
+            for (FluxSink<ServerSentEvent<String>> sink : sinks) {
+                sink.next(token(t));
+            }
+        }
+        sinks.forEach(FluxSink::complete);
+
+        // then: 빠른 스트림은 전부 받고 완료, 멈춘 스트림은 아직 아무것도 쓰지 않음
+        for (int i = 0; i < streams; i += 2) {
+            assertThat(outputs.get(i).text()).contains("data:t" + TOKENS);
+        }
+        assertThat(completed.get()).isEqualTo(streams / 2);
+
+        // when: 멈췄던 소켓이 쓰기 가능해짐
+        for (int i = 1; i < streams; i += 2) {
+            outputs.get(i).ready = true;
+            outputs.get(i).listener.onWritePossible();
+        }
+
+        // then: 버퍼만큼만 받은 뒤 SLOW_CONSUMER로 종료, 모든 쓰기는 호출 스레드에서 수행
+        for (int i = 1; i < streams; i += 2) {
+            String text = outputs.get(i).text();
+            assertThat(text).endsWith("event:error\ndata:{\"code\":\"SLOW_CONSUMER\"}\n\n");
+            assertThat(text).doesNotContain("data:t" + TOKENS + "\n");
+        }
+        assertThat(completed.get()).isEqualTo(streams);
+        Set<String> threads = new HashSet<>();
+        outputs.forEach(out -> threads.addAll(out.threads));
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    private static void subscribe(
+        AsyncContext async,
+        FakeOutputStream out,
+        Flux<ServerSentEvent<String>> events
+    ) {
+        NonBlockingSseWriter.EventWriter writer = new NonBlockingSseWriter.EventWriter(async, out);
+        out.setWriteListener(writer.writeListener());
+        events.subscribe(writer);
+    }
+
+    private static ServerSentEvent<String> token(int i) {
+        return ServerSentEvent.<String>builder().id(String.valueOf(i)).event("token").data("t" + i).build();
+    }
+
+    /**
+     * ready 값으로 소켓 쓰기 가능 여부를 흉내 내는 출력 스트림
+     */
+    private static final class FakeOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Set<String> threads = new HashSet<>();
+        private boolean ready;
+        private WriteListener listener;
+
+        FakeOutputStream(boolean ready) {
+            this.ready = ready;
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.listener = writeListener;
+        }
+
+        @Override
+        public void write(int b) {
+            threads.add(Thread.currentThread().getName());
+            bytes.write(b);
+        }
+
+        String text() {
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
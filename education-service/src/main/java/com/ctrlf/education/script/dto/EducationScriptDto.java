@@ -69,7 +69,7 @@ public final class EducationScriptDto {
   public record ScriptUpdateRequest(
       @Schema(description = "수정할 스크립트 원본 JSON(rawPayload). 제공 시 rawPayload를 업데이트합니다.")
       String script,
-      @Schema(description = "챕터/씬 목록. 제공 시 기존 챕터/씬을 삭제하고 전부 교체합니다.")
+      @Schema(description = "챕터/씬 목록. 제공 시 이 목록으로 전부 교체합니다. (챕터 index, 씬 index 기준으로 변경분만 반영)")
       java.util.List<ChapterUpsert> chapters) {}
 
   @Schema(description = "챕터 업서트")
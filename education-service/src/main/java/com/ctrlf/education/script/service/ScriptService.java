@@ -24,7 +24,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -67,12 +69,14 @@ public class ScriptService {
           .orElse(null);
     }
 
+    // 챕터/씬은 스크립트 단위로 한 번씩만 조회 (챕터별 씬 조회 N+1 방지)
     List<EducationScriptChapter> chapters =
         chapterRepository.findByScriptIdOrderByChapterIndexAsc(scriptId);
+    Map<UUID, List<EducationScriptScene>> scenesByChapter = loadScenesByChapter(scriptId);
     List<ChapterItem> chapterItems = new ArrayList<>();
     for (EducationScriptChapter ch : chapters) {
       List<EducationScriptScene> scenes =
-          sceneRepository.findByChapterIdOrderBySceneIndexAsc(ch.getId());
+          scenesByChapter.getOrDefault(ch.getId(), List.of());
       List<SceneItem> sceneItems = new ArrayList<>();
       for (EducationScriptScene sc : scenes) {
         sceneItems.add(
@@ -205,16 +209,17 @@ public class ScriptService {
         .map(v -> v.getId().toString())
         .orElse("");
 
-    // 챕터/씬 조회 및 렌더 스펙으로 변환
+    // 챕터/씬 조회 및 렌더 스펙으로 변환 (스크립트 단위 일괄 조회)
     List<EducationScriptChapter> chapters = 
         chapterRepository.findByScriptIdOrderByChapterIndexAsc(scriptId);
+    Map<UUID, List<EducationScriptScene>> scenesByChapter = loadScenesByChapter(scriptId);
     
     List<com.ctrlf.education.script.dto.EducationScriptDto.RenderSceneItem> scenes = new ArrayList<>();
     int sceneOrder = 1;
     
     for (EducationScriptChapter chapter : chapters) {
       List<EducationScriptScene> chapterScenes = 
-          sceneRepository.findByChapterIdOrderBySceneIndexAsc(chapter.getId());
+          scenesByChapter.getOrDefault(chapter.getId(), List.of());
       
       for (EducationScriptScene scene : chapterScenes) {
         // visual 필드를 VisualSpec으로 변환
@@ -293,42 +298,7 @@ public class ScriptService {
     }
 
     if (request.chapters() != null) {
-      List<EducationScriptScene> oldScenes =
-          sceneRepository.findByScriptIdOrderByChapterIdAscSceneIndexAsc(scriptId);
-      if (!oldScenes.isEmpty()) {
-        sceneRepository.deleteAll(oldScenes);
-      }
-      List<EducationScriptChapter> oldChapters =
-          chapterRepository.findByScriptIdOrderByChapterIndexAsc(scriptId);
-      if (!oldChapters.isEmpty()) {
-        chapterRepository.deleteAll(oldChapters);
-      }
-
-      for (ChapterUpsert cu : request.chapters()) {
-        EducationScriptChapter ch = new EducationScriptChapter();
-        ch.setScriptId(scriptId);
-        ch.setChapterIndex(cu.index());
-        ch.setTitle(cu.title());
-        ch.setDurationSec(cu.durationSec());
-        chapterRepository.save(ch);
-
-        if (cu.scenes() != null) {
-          for (SceneUpsert su : cu.scenes()) {
-            EducationScriptScene sc = new EducationScriptScene();
-            sc.setScriptId(scriptId);
-            sc.setChapterId(ch.getId());
-            sc.setSceneIndex(su.index());
-            sc.setPurpose(su.purpose());
-            sc.setNarration(su.narration());
-            sc.setCaption(su.caption());
-            sc.setVisual(su.visual());
-            sc.setDurationSec(su.durationSec());
-            sc.setSourceChunkIndexes(su.sourceChunkIndexes());
-            sc.setConfidenceScore(su.confidenceScore());
-            sceneRepository.save(sc);
-          }
-        }
-      }
+      applyChapterDiff(scriptId, request.chapters());
     }
 
     log.info("스크립트 수정 완료. scriptId={}, newVersion={}", scriptId, script.getVersion());
@@ -446,22 +416,29 @@ public class ScriptService {
     }
     scriptEntity = scriptRepository.save(scriptEntity);
 
-    // 챕터 및 씬 저장
+    // 챕터 및 씬 저장 (saveAll + JDBC 배치로 테이블별 INSERT를 묶어서 실행)
     try {
       if (script.chapters() != null) {
         log.debug("챕터 저장 시작: chapterCount={}", script.chapters().size());
+        List<EducationScriptChapter> chapters = new ArrayList<>();
         for (var chapterData : script.chapters()) {
           EducationScriptChapter chapter = new EducationScriptChapter();
           chapter.setScriptId(scriptEntity.getId());
           chapter.setChapterIndex(chapterData.chapterIndex());
           chapter.setTitle(chapterData.title());
           chapter.setDurationSec(chapterData.durationSec());
-          chapter = chapterRepository.save(chapter);
-          log.debug("챕터 저장 완료: chapterId={}, chapterIndex={}", chapter.getId(), chapter.getChapterIndex());
+          chapters.add(chapter);
+        }
+        // persist 시점에 UUID가 할당되므로 씬의 chapterId로 바로 사용 가능 (INSERT는 flush 시 배치 실행)
+        chapters = chapterRepository.saveAll(chapters);
+
+        List<EducationScriptScene> scenes = new ArrayList<>();
+        for (int i = 0; i < chapters.size(); i++) {
+          EducationScriptChapter chapter = chapters.get(i);
+          var chapterData = script.chapters().get(i);
 
           // 씬 저장
           if (chapterData.scenes() != null) {
-            log.debug("씬 저장 시작: sceneCount={}", chapterData.scenes().size());
             for (var sceneData : chapterData.scenes()) {
               EducationScriptScene scene = new EducationScriptScene();
               scene.setScriptId(scriptEntity.getId());
@@ -484,12 +461,13 @@ public class ScriptService {
                 }
               }
               
-              sceneRepository.save(scene);
-              log.debug("씬 저장 완료: sceneIndex={}", sceneData.sceneIndex());
+              scenes.add(scene);
             }
           }
         }
-        log.info("챕터 및 씬 저장 완료: scriptId={}", scriptEntity.getId());
+        sceneRepository.saveAll(scenes);
+        log.info("챕터 및 씬 저장 완료: scriptId={}, chapterCount={}, sceneCount={}",
+            scriptEntity.getId(), chapters.size(), scenes.size());
       }
     } catch (Exception e) {
       log.error("챕터/씬 저장 중 예외 발생: scriptId={}, error={}", scriptEntity.getId(), e.getMessage(), e);
@@ -502,6 +480,112 @@ public class ScriptService {
     return scriptEntity.getId();
   }
 
+  /**
+   * 스크립트의 전체 씬을 한 번에 조회해 챕터별로 묶음.
+   * 씬은 (chapterId, sceneIndex) 순으로 조회되므로 챕터 내 순서가 유지됩니다.
+   */
+  private Map<UUID, List<EducationScriptScene>> loadScenesByChapter(UUID scriptId) {
+    Map<UUID, List<EducationScriptScene>> scenesByChapter = new HashMap<>();
+    for (EducationScriptScene sc :
+        sceneRepository.findByScriptIdOrderByChapterIdAscSceneIndexAsc(scriptId)) {
+      scenesByChapter.computeIfAbsent(sc.getChapterId(), k -> new ArrayList<>()).add(sc);
+    }
+    return scenesByChapter;
+  }
+
+  /**
+   * 요청된 챕터/씬 목록을 저장된 트리와 비교해 변경분만 반영.
+   * 챕터는 chapterIndex, 씬은 챕터 내 sceneIndex로 매칭합니다.
+   * 매칭된 행은 값을 덮어쓰고 dirty checking에 맡기므로 값이 같으면 UPDATE가 발생하지 않고,
+   * 추가/수정은 flush 시 JDBC 배치로, 삭제는 테이블별 DELETE 한 번으로 실행됩니다.
+   */
+  private void applyChapterDiff(UUID scriptId, List<ChapterUpsert> requested) {
+    List<EducationScriptChapter> oldChapters =
+        chapterRepository.findByScriptIdOrderByChapterIndexAsc(scriptId);
+    Map<UUID, List<EducationScriptScene>> oldScenesByChapter = loadScenesByChapter(scriptId);
+
+    // 같은 index가 중복 저장된 경우 첫 번째만 매칭 대상으로 두고 나머지는 삭제
+    Map<Integer, EducationScriptChapter> oldChapterByIndex = new HashMap<>();
+    List<EducationScriptChapter> removedChapters = new ArrayList<>();
+    for (EducationScriptChapter ch : oldChapters) {
+      if (oldChapterByIndex.putIfAbsent(ch.getChapterIndex(), ch) != null) {
+        removedChapters.add(ch);
+      }
+    }
+
+    // 1. 챕터 매칭 (신규 챕터는 persist로 ID만 할당, INSERT는 flush 시 배치 실행)
+    List<EducationScriptChapter> targetChapters = new ArrayList<>();
+    List<EducationScriptChapter> newChapters = new ArrayList<>();
+    for (ChapterUpsert cu : requested) {
+      EducationScriptChapter ch = oldChapterByIndex.remove(cu.index());
+      if (ch == null) {
+        ch = new EducationScriptChapter();
+        ch.setScriptId(scriptId);
+        ch.setChapterIndex(cu.index());
+        newChapters.add(ch);
+      }
+      ch.setTitle(cu.title());
+      ch.setDurationSec(cu.durationSec());
+      targetChapters.add(ch);
+    }
+    removedChapters.addAll(oldChapterByIndex.values());
+    chapterRepository.saveAll(newChapters);
+
+    // 2. 씬 매칭
+    List<EducationScriptScene> newScenes = new ArrayList<>();
+    List<EducationScriptScene> removedScenes = new ArrayList<>();
+    for (int i = 0; i < requested.size(); i++) {
+      EducationScriptChapter ch = targetChapters.get(i);
+      Map<Integer, EducationScriptScene> oldSceneByIndex = new HashMap<>();
+      for (EducationScriptScene sc :
+          oldScenesByChapter.getOrDefault(ch.getId(), List.of())) {
+        if (oldSceneByIndex.putIfAbsent(sc.getSceneIndex(), sc) != null) {
+          removedScenes.add(sc);
+        }
+      }
+      oldScenesByChapter.remove(ch.getId());
+
+      List<SceneUpsert> sceneUpserts = requested.get(i).scenes();
+      if (sceneUpserts != null) {
+        for (SceneUpsert su : sceneUpserts) {
+          EducationScriptScene sc = oldSceneByIndex.remove(su.index());
+          if (sc == null) {
+            sc = new EducationScriptScene();
+            sc.setScriptId(scriptId);
+            sc.setChapterId(ch.getId());
+            sc.setSceneIndex(su.index());
+            newScenes.add(sc);
+          }
+          sc.setPurpose(su.purpose());
+          sc.setNarration(su.narration());
+          sc.setCaption(su.caption());
+          sc.setVisual(su.visual());
+          sc.setDurationSec(su.durationSec());
+          sc.setSourceChunkIndexes(su.sourceChunkIndexes());
+          sc.setConfidenceScore(su.confidenceScore());
+        }
+      }
+      removedScenes.addAll(oldSceneByIndex.values());
+    }
+    // 요청에서 빠진 챕터의 씬
+    for (List<EducationScriptScene> scenes : oldScenesByChapter.values()) {
+      removedScenes.addAll(scenes);
+    }
+    sceneRepository.saveAll(newScenes);
+
+    // 3. 삭제 (씬이 챕터를 참조하므로 씬 먼저)
+    if (!removedScenes.isEmpty()) {
+      sceneRepository.deleteAllInBatch(removedScenes);
+    }
+    if (!removedChapters.isEmpty()) {
+      chapterRepository.deleteAllInBatch(removedChapters);
+    }
+
+    log.info(
+        "스크립트 챕터/씬 변경 반영. scriptId={}, chapters(+{} -{}), scenes(+{} -{})",
+        scriptId, newChapters.size(), removedChapters.size(), newScenes.size(), removedScenes.size());
+  }
+
   /**
    * SourceSet 완료 콜백에서 받은 스크립트 패치를 병합 저장 (씬 단위 업서트).
    *
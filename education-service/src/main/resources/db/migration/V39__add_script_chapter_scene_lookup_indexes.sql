@@ -0,0 +1,7 @@
+-- V39: 스크립트 단위 챕터/씬 일괄 조회용 인덱스
+-- getScript/getRenderSpec/updateScript가 script_id 기준으로 챕터와 씬을 각각 한 번에 조회합니다.
+CREATE INDEX IF NOT EXISTS idx_education_script_chapter_script_index
+    ON education.education_script_chapter (script_id, chapter_index);
+
+CREATE INDEX IF NOT EXISTS idx_education_script_scene_script_chapter_index
+    ON education.education_script_scene (script_id, chapter_id, scene_index);
@@ -1,5 +1,7 @@
 package com.ctrlf.education.script.service;
 
+import com.ctrlf.education.script.dto.EducationScriptDto.ChapterUpsert;
+import com.ctrlf.education.script.dto.EducationScriptDto.SceneUpsert;
 import com.ctrlf.education.script.dto.EducationScriptDto.ScriptDetailResponse;
 import com.ctrlf.education.script.dto.EducationScriptDto.ScriptLookupResponse;
 import com.ctrlf.education.script.dto.EducationScriptDto.ScriptResponse;
@@ -11,6 +13,9 @@ import com.ctrlf.education.script.entity.EducationScriptScene;
 import com.ctrlf.education.script.repository.EducationScriptChapterRepository;
 import com.ctrlf.education.script.repository.EducationScriptRepository;
 import com.ctrlf.education.script.repository.EducationScriptSceneRepository;
+import com.ctrlf.education.video.dto.VideoDtos.SourceSetCompleteCallback.SourceSetScript;
+import com.ctrlf.education.video.dto.VideoDtos.SourceSetCompleteCallback.SourceSetScript.SourceSetChapter;
+import com.ctrlf.education.video.dto.VideoDtos.SourceSetCompleteCallback.SourceSetScript.SourceSetScene;
 import com.ctrlf.education.video.entity.EducationVideo;
 import com.ctrlf.education.video.entity.SourceSet;
 import com.ctrlf.education.video.repository.EducationVideoRepository;
@@ -24,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -36,7 +42,11 @@ import org.springframework.web.server.ResponseStatusException;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -147,7 +157,7 @@ class ScriptServiceTest {
         when(sourceSetRepository.findById(testSourceSetId)).thenReturn(Optional.of(testSourceSet));
         when(chapterRepository.findByScriptIdOrderByChapterIndexAsc(testScriptId))
             .thenReturn(List.of(testChapter));
-        when(sceneRepository.findByChapterIdOrderBySceneIndexAsc(testChapterId))
+        when(sceneRepository.findByScriptIdOrderByChapterIdAscSceneIndexAsc(testScriptId))
             .thenReturn(List.of(testScene));
 
         // when
@@ -274,7 +284,7 @@ class ScriptServiceTest {
         when(videoRepository.findByScriptId(testScriptId)).thenReturn(List.of(testVideo));
         when(chapterRepository.findByScriptIdOrderByChapterIndexAsc(testScriptId))
             .thenReturn(List.of(testChapter));
-        when(sceneRepository.findByChapterIdOrderBySceneIndexAsc(testChapterId))
+        when(sceneRepository.findByScriptIdOrderByChapterIdAscSceneIndexAsc(testScriptId))
             .thenReturn(List.of(testScene));
 
         // when
@@ -370,4 +380,154 @@ class ScriptServiceTest {
             .extracting("statusCode.value")
             .isEqualTo(404);
     }
+
+    @Test
+    @DisplayName("스크립트 상세 조회 - 챕터 수와 무관하게 챕터/씬을 각각 한 번씩만 조회")
+    void getScript_LoadsChaptersAndScenesOnce() {
+        // given
+        EducationScriptChapter secondChapter = chapter(1, "두 번째 챕터");
+        EducationScriptChapter thirdChapter = chapter(2, "세 번째 챕터");
+        EducationScriptScene secondScene = scene(secondChapter, 0, "두 번째 챕터 씬");
+        EducationScriptScene thirdScene = scene(secondChapter, 1, "두 번째 챕터 씬2");
+        when(scriptRepository.findById(testScriptId)).thenReturn(Optional.of(testScript));
+        when(sourceSetRepository.findById(testSourceSetId)).thenReturn(Optional.of(testSourceSet));
+        when(chapterRepository.findByScriptIdOrderByChapterIndexAsc(testScriptId))
+            .thenReturn(List.of(testChapter, secondChapter, thirdChapter));
+        when(sceneRepository.findByScriptIdOrderByChapterIdAscSceneIndexAsc(testScriptId))
+            .thenReturn(List.of(testScene, secondScene, thirdScene));
+
+        // when
+        ScriptDetailResponse result = scriptService.getScript(testScriptId);
+
+        // then
+        assertThat(result.chapters()).hasSize(3);
+        assertThat(result.chapters().get(0).scenes()).hasSize(1);
+        assertThat(result.chapters().get(1).scenes()).extracting("narration")
+            .containsExactly("두 번째 챕터 씬", "두 번째 챕터 씬2");
+        assertThat(result.chapters().get(2).scenes()).isEmpty();
+        verify(chapterRepository, times(1)).findByScriptIdOrderByChapterIndexAsc(testScriptId);
+        verify(sceneRepository, times(1)).findByScriptIdOrderByChapterIdAscSceneIndexAsc(testScriptId);
+        verifyNoMoreInteractions(chapterRepository, sceneRepository);
+    }
+
+    @Test
+    @DisplayName("스크립트 수정 - 변경된 씬만 갱신하고 신규 챕터/씬은 saveAll 한 번으로 저장")
+    void updateScript_AppliesDiffOnly() {
+        // given
+        ScriptUpdateRequest request = new ScriptUpdateRequest(
+            null,
+            List.of(
+                new ChapterUpsert(0, "테스트 챕터", 300, List.of(
+                    new SceneUpsert(0, "소개", "수정된 나레이션", "테스트 캡션", "테스트 비주얼", 60, null, 0.95f),
+                    new SceneUpsert(1, "본론", "새 나레이션", null, null, 30, null, null))),
+                new ChapterUpsert(1, "새 챕터", 120, List.of(
+                    new SceneUpsert(0, "정리", "새 챕터 나레이션", null, null, 20, null, null)))
+            )
+        );
+        when(scriptRepository.findById(testScriptId)).thenReturn(Optional.of(testScript));
+        when(chapterRepository.findByScriptIdOrderByChapterIndexAsc(testScriptId))
+            .thenReturn(List.of(testChapter));
+        when(sceneRepository.findByScriptIdOrderByChapterIdAscSceneIndexAsc(testScriptId))
+            .thenReturn(List.of(testScene));
+
+        // when
+        scriptService.updateScript(testScriptId, request);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EducationScriptChapter>> chapterCaptor = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EducationScriptScene>> sceneCaptor = ArgumentCaptor.forClass(List.class);
+        verify(chapterRepository, times(1)).findByScriptIdOrderByChapterIndexAsc(testScriptId);
+        verify(sceneRepository, times(1)).findByScriptIdOrderByChapterIdAscSceneIndexAsc(testScriptId);
+        verify(chapterRepository, times(1)).saveAll(chapterCaptor.capture());
+        verify(sceneRepository, times(1)).saveAll(sceneCaptor.capture());
+        verifyNoMoreInteractions(chapterRepository, sceneRepository);
+
+        assertThat(chapterCaptor.getValue()).extracting("title").containsExactly("새 챕터");
+        assertThat(sceneCaptor.getValue()).extracting("narration")
+            .containsExactly("새 나레이션", "새 챕터 나레이션");
+        // 기존 씬은 같은 엔티티를 수정 (dirty checking으로 UPDATE)
+        assertThat(testScene.getId()).isEqualTo(testSceneId);
+        assertThat(testScene.getNarration()).isEqualTo("수정된 나레이션");
+    }
+
+    @Test
+    @DisplayName("스크립트 수정 - 요청에서 빠진 챕터/씬은 테이블별 한 번의 배치 삭제")
+    void updateScript_DeletesRemovedInBatch() {
+        // given
+        ScriptUpdateRequest request = new ScriptUpdateRequest(null, List.of());
+        when(scriptRepository.findById(testScriptId)).thenReturn(Optional.of(testScript));
+        when(chapterRepository.findByScriptIdOrderByChapterIndexAsc(testScriptId))
+            .thenReturn(List.of(testChapter));
+        when(sceneRepository.findByScriptIdOrderByChapterIdAscSceneIndexAsc(testScriptId))
+            .thenReturn(List.of(testScene));
+
+        // when
+        scriptService.updateScript(testScriptId, request);
+
+        // then
+        verify(sceneRepository, times(1)).deleteAllInBatch(List.of(testScene));
+        verify(chapterRepository, times(1)).deleteAllInBatch(List.of(testChapter));
+        verify(sceneRepository, never()).delete(any(EducationScriptScene.class));
+        verify(chapterRepository, never()).delete(any(EducationScriptChapter.class));
+    }
+
+    @Test
+    @DisplayName("소스셋 스크립트 저장 - 챕터/씬을 각각 saveAll 한 번으로 저장")
+    void saveScriptFromSourceSet_BatchesChapterAndSceneWrites() {
+        // given
+        SourceSetScript script = new SourceSetScript(
+            testScriptId.toString(),
+            testEducationId.toString(),
+            testSourceSetId.toString(),
+            "소스셋 스크립트",
+            200,
+            1,
+            "gpt-4",
+            List.of(
+                new SourceSetChapter(0, "챕터1", 100, List.of(
+                    new SourceSetScene(0, "hook", "n1", null, null, 50, 0.9f, null),
+                    new SourceSetScene(1, "body", "n2", null, null, 50, 0.9f, null))),
+                new SourceSetChapter(1, "챕터2", 100, List.of(
+                    new SourceSetScene(0, "body", "n3", null, null, 50, 0.9f, null),
+                    new SourceSetScene(1, "wrap", "n4", null, null, 50, 0.9f, null)))
+            )
+        );
+        when(sourceSetRepository.findByIdAndNotDeleted(testSourceSetId)).thenReturn(Optional.of(testSourceSet));
+        when(scriptRepository.save(any(EducationScript.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(chapterRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        UUID result = scriptService.saveScriptFromSourceSet(testSourceSetId, script);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EducationScriptScene>> sceneCaptor = ArgumentCaptor.forClass(List.class);
+        assertThat(result).isEqualTo(testScriptId);
+        verify(chapterRepository, times(1)).saveAll(anyList());
+        verify(sceneRepository, times(1)).saveAll(sceneCaptor.capture());
+        verifyNoMoreInteractions(chapterRepository, sceneRepository);
+        assertThat(sceneCaptor.getValue()).extracting("narration")
+            .containsExactly("n1", "n2", "n3", "n4");
+    }
+
+    private EducationScriptChapter chapter(int index, String title) {
+        EducationScriptChapter chapter = new EducationScriptChapter();
+        chapter.setId(UUID.randomUUID());
+        chapter.setScriptId(testScriptId);
+        chapter.setChapterIndex(index);
+        chapter.setTitle(title);
+        return chapter;
+    }
+
+    private EducationScriptScene scene(EducationScriptChapter chapter, int index, String narration) {
+        EducationScriptScene scene = new EducationScriptScene();
+        scene.setId(UUID.randomUUID());
+        scene.setScriptId(testScriptId);
+        scene.setChapterId(chapter.getId());
+        scene.setSceneIndex(index);
+        scene.setNarration(narration);
+        return scene;
+    }
 }
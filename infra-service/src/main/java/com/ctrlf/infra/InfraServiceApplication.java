@@ -9,6 +9,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.io.File;
 import java.nio.file.Paths;
@@ -16,6 +17,7 @@ import java.nio.file.Paths;
 @SpringBootApplication
 @EnableConfigurationProperties({KeycloakAdminProperties.class})
 @Import(SecurityConfig.class)
+@EnableScheduling
 public class InfraServiceApplication {
 
     private static final Logger log = LoggerFactory.getLogger(InfraServiceApplication.class);
@@ -69,6 +69,8 @@ public final class AiLogDtos {
         private Integer received;
         private Integer saved;
         private Integer failed;
+        /** PostgreSQL에는 저장됐지만 Elasticsearch 색인에 실패한 개수 (errors에 INDEX_ERROR로 포함) */
+        private Integer indexFailed;
         private List<ErrorItem> errors;
     }
 
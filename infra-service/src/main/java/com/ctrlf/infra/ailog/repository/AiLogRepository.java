@@ -2,7 +2,6 @@ package com.ctrlf.infra.ailog.repository;
 
 import com.ctrlf.infra.ailog.entity.AiLog;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,25 +18,51 @@ import org.springframework.stereotype.Repository;
 public interface AiLogRepository extends JpaRepository<AiLog, UUID>, JpaSpecificationExecutor<AiLog> {
 
     /**
-     * traceId, conversationId, turnId 조합으로 중복 체크
-     * 
-     * @param traceId 트레이스 ID
-     * @param conversationId 대화 ID
-     * @param turnId 턴 ID
-     * @return 존재하는 로그 (있으면 중복)
+     * AI 로그 일괄 INSERT (중복은 유니크 인덱스로 건너뜀)
+     *
+     * <p>rows는 각 로그를 snake_case 키로 담은 JSON 배열입니다.
+     * 배치 크기와 관계없이 한 번의 문장으로 처리하며,
+     * traceId + conversationId + turnId가 이미 있는 행은 ON CONFLICT DO NOTHING으로 무시합니다.</p>
+     *
+     * @param rowsJson 삽입할 행들의 JSON 배열 (id는 호출 측에서 생성)
+     * @return 실제로 삽입된 행의 id
      */
-    @Query("""
-        SELECT a
-        FROM AiLog a
-        WHERE a.traceId = :traceId
-          AND a.conversationId = :conversationId
-          AND a.turnId = :turnId
-        """)
-    Optional<AiLog> findByTraceIdAndConversationIdAndTurnId(
-        @Param("traceId") String traceId,
-        @Param("conversationId") String conversationId,
-        @Param("turnId") Integer turnId
-    );
+    @Query(
+        value = """
+            INSERT INTO infra.ai_log (
+                id, created_at, user_id, user_role, department, domain, route, model_name,
+                has_pii_input, has_pii_output, rag_used, rag_source_count, latency_ms_total,
+                error_code, trace_id, conversation_id, turn_id, received_at
+            )
+            SELECT r.id, r.created_at, r.user_id, r.user_role, r.department, r.domain, r.route, r.model_name,
+                   r.has_pii_input, r.has_pii_output, r.rag_used, r.rag_source_count, r.latency_ms_total,
+                   r.error_code, r.trace_id, r.conversation_id, r.turn_id, r.received_at
+            FROM jsonb_to_recordset(CAST(:rows AS jsonb)) AS r(
+                id uuid,
+                created_at timestamptz,
+                user_id varchar(64),
+                user_role varchar(50),
+                department varchar(100),
+                domain varchar(50),
+                route varchar(50),
+                model_name varchar(100),
+                has_pii_input boolean,
+                has_pii_output boolean,
+                rag_used boolean,
+                rag_source_count integer,
+                latency_ms_total bigint,
+                error_code varchar(50),
+                trace_id varchar(200),
+                conversation_id varchar(100),
+                turn_id integer,
+                received_at timestamptz
+            )
+            ON CONFLICT (trace_id, conversation_id, turn_id) DO NOTHING
+            RETURNING id
+            """,
+        nativeQuery = true
+    )
+    List<UUID> insertAllIgnoringDuplicates(@Param("rows") String rowsJson);
 
 }
 
@@ -3,247 +3,210 @@ package com.ctrlf.infra.ailog.service;
 import com.ctrlf.infra.ailog.dto.AiLogDtos;
 import com.ctrlf.infra.ailog.entity.AiLog;
 import com.ctrlf.infra.ailog.repository.AiLogRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.criteria.Predicate;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * AI 로그 서비스
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class AiLogService {
 
     private final AiLogRepository aiLogRepository;
     private final com.ctrlf.infra.elasticsearch.service.ChatLogElasticsearchService chatLogElasticsearchService;
+    private final ObjectMapper objectMapper;
+    /** Bulk insert를 savepoint 안에서 실행 (실패해도 바깥 트랜잭션은 계속 사용 가능) */
+    private final TransactionTemplate savepoint;
     private static final DateTimeFormatter DATE_TIME_FORMATTER = 
         DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    /** 식별 컬럼 길이 (AiLog 엔티티와 동일). 초과하면 잘라 저장하지 않고 항목을 거부 */
+    private static final int USER_ID_MAX_LENGTH = 64;
+    private static final int TRACE_ID_MAX_LENGTH = 200;
+    private static final int CONVERSATION_ID_MAX_LENGTH = 100;
+
+    public AiLogService(
+        AiLogRepository aiLogRepository,
+        com.ctrlf.infra.elasticsearch.service.ChatLogElasticsearchService chatLogElasticsearchService,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.aiLogRepository = aiLogRepository;
+        this.chatLogElasticsearchService = chatLogElasticsearchService;
+        this.objectMapper = objectMapper;
+        this.savepoint = new TransactionTemplate(transactionManager);
+        this.savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
     /**
      * AI 로그 Bulk 저장
      * 
      * <p>AI 서버의 LogSyncService에서 주기적으로 전송하는 로그를 저장합니다.</p>
-     * <p>중복 방지: traceId + conversationId + turnId 조합으로 중복 체크</p>
-     * <p>성능 최적화: Bulk insert 사용</p>
+     * <p>중복 방지: traceId + conversationId + turnId 유니크 인덱스 + ON CONFLICT DO NOTHING</p>
+     * <p>성능 최적화: 배치 크기와 관계없이 PostgreSQL INSERT 1회 + Elasticsearch _bulk 1회</p>
+     * <p>식별 컬럼이 너무 긴 항목은 미리 거부하고 나머지 문자열 컬럼은 컬럼 길이에 맞춰 자릅니다.
+     * 그래도 Bulk INSERT가 실패하면 행 단위로 다시 넣어 문제 행만 실패 처리합니다.
+     * Elasticsearch 색인 실패는 indexFailed와 errors(INDEX_ERROR)로 알려줍니다.</p>
      */
     public AiLogDtos.BulkResponse saveBulkLogs(AiLogDtos.BulkRequest request) {
         int received = request.getLogs() != null ? request.getLogs().size() : 0;
-        int saved = 0;
         int failed = 0;
         int skipped = 0;  // 중복으로 건너뛴 개수
         List<AiLogDtos.ErrorItem> errors = new ArrayList<>();
 
         if (request.getLogs() == null || request.getLogs().isEmpty()) {
             log.warn("[AI 로그 Bulk 저장] 빈 요청 수신: logs가 null이거나 비어있음");
-            return new AiLogDtos.BulkResponse(0, 0, 0, errors);
+            return new AiLogDtos.BulkResponse(0, 0, 0, 0, errors);
         }
 
         log.info("[AI 로그 Bulk 저장] 시작: received={}", received);
 
-        // 중복 체크를 위한 Set (traceId + conversationId + turnId 조합)
-        java.util.Set<String> duplicateKeys = new java.util.HashSet<>();
-        List<AiLog> logsToSave = new ArrayList<>();
-        // Elasticsearch 저장을 위한 원본 LogItem 매핑 (traceId+conversationId+turnId -> LogItem)
-        java.util.Map<String, AiLogDtos.LogItem> logItemMap = new java.util.HashMap<>();
+        // 요청 내 중복 체크를 위한 Set (traceId + conversationId + turnId 조합)
+        Set<String> duplicateKeys = new HashSet<>();
+        // 삽입 후보 (미리 생성한 id → 원본 LogItem). 요청 순서 유지
+        Map<String, AiLogDtos.LogItem> candidates = new LinkedHashMap<>();
+        // 항목별 에러 매핑을 위한 id → 요청 index
+        Map<String, Integer> requestIndexById = new HashMap<>();
+        List<Map<String, Object>> rows = new ArrayList<>();
         Instant receivedAt = Instant.now();
 
         for (int i = 0; i < request.getLogs().size(); i++) {
             AiLogDtos.LogItem logItem = request.getLogs().get(i);
-            try {
-                // 로그 항목 상세 정보 로깅 (첫 번째 항목만)
-                if (i == 0) {
-                    log.debug("[AI 로그 Bulk 저장] 첫 번째 로그 항목: createdAt={}, userId={}, domain={}, route={}, traceId={}, conversationId={}, turnId={}",
-                        logItem.getCreatedAt(), logItem.getUserId(), logItem.getDomain(), 
-                        logItem.getRoute(), logItem.getTraceId(), logItem.getConversationId(), logItem.getTurnId());
-                }
-
-                // 필수 필드 검증
-                if (logItem.getCreatedAt() == null || logItem.getUserId() == null) {
-                    failed++;
-                    errors.add(new AiLogDtos.ErrorItem(
-                        i,
-                        "VALIDATION_ERROR",
-                        "createdAt 또는 userId가 null입니다."
-                    ));
-                    log.warn("[AI 로그 Bulk 저장] 필수 필드 누락: index={}, createdAt={}, userId={}", 
-                        i, logItem.getCreatedAt(), logItem.getUserId());
-                    continue;
-                }
-
-                // 중복 체크: traceId, conversationId, turnId 조합
-                String duplicateKey = buildDuplicateKey(
-                    logItem.getTraceId(), 
-                    logItem.getConversationId(), 
-                    logItem.getTurnId()
-                );
-                
-                if (duplicateKey != null) {
-                    if (duplicateKeys.contains(duplicateKey)) {
-                        // 같은 요청 내에서 중복
-                        skipped++;
-                        log.debug("[AI 로그 Bulk 저장] 요청 내 중복 건너뜀: index={}, key={}", i, duplicateKey);
-                        continue;
-                    }
-                    
-                    // DB에서 중복 체크
-                    Optional<AiLog> existing = aiLogRepository.findByTraceIdAndConversationIdAndTurnId(
-                        logItem.getTraceId(),
-                        logItem.getConversationId(),
-                        logItem.getTurnId()
-                    );
-                    
-                    if (existing.isPresent()) {
-                        skipped++;
-                        duplicateKeys.add(duplicateKey);
-                        log.debug("[AI 로그 Bulk 저장] DB 중복 건너뜀: index={}, key={}, existingId={}", 
-                            i, duplicateKey, existing.get().getId());
-                        continue;
-                    }
-                    
-                    duplicateKeys.add(duplicateKey);
-                }
 
-                // AiLog 엔티티 생성
-                AiLog aiLog = new AiLog();
-                aiLog.setCreatedAt(logItem.getCreatedAt());
-                aiLog.setUserId(logItem.getUserId());
-                aiLog.setUserRole(logItem.getUserRole());
-                aiLog.setDepartment(logItem.getDepartment());
-                aiLog.setDomain(logItem.getDomain());
-                aiLog.setRoute(logItem.getRoute());
-                aiLog.setModelName(logItem.getModelName());
-                aiLog.setHasPiiInput(logItem.getHasPiiInput());
-                aiLog.setHasPiiOutput(logItem.getHasPiiOutput());
-                aiLog.setRagUsed(logItem.getRagUsed());
-                aiLog.setRagSourceCount(logItem.getRagSourceCount());
-                aiLog.setLatencyMsTotal(logItem.getLatencyMsTotal());
-                aiLog.setErrorCode(logItem.getErrorCode());
-                aiLog.setTraceId(logItem.getTraceId());
-                aiLog.setConversationId(logItem.getConversationId());
-                aiLog.setTurnId(logItem.getTurnId());
-                aiLog.setReceivedAt(receivedAt);
-
-                logsToSave.add(aiLog);
-                
-                // Elasticsearch 저장을 위한 원본 LogItem 매핑 (traceId+conversationId+turnId -> LogItem)
-                String mapKey = buildDuplicateKey(
-                    logItem.getTraceId(),
-                    logItem.getConversationId(),
-                    logItem.getTurnId()
-                );
-                if (mapKey == null) {
-                    // 키를 생성할 수 없으면 임시로 UUID 사용 (실제로는 거의 발생하지 않음)
-                    mapKey = UUID.randomUUID().toString();
-                }
-                logItemMap.put(mapKey, logItem);
+            // 로그 항목 상세 정보 로깅 (첫 번째 항목만)
+            if (i == 0) {
+                log.debug("[AI 로그 Bulk 저장] 첫 번째 로그 항목: createdAt={}, userId={}, domain={}, route={}, traceId={}, conversationId={}, turnId={}",
+                    logItem.getCreatedAt(), logItem.getUserId(), logItem.getDomain(), 
+                    logItem.getRoute(), logItem.getTraceId(), logItem.getConversationId(), logItem.getTurnId());
+            }
 
-            } catch (Exception e) {
+            // 필수 필드 검증
+            if (logItem.getCreatedAt() == null || logItem.getUserId() == null) {
                 failed++;
                 errors.add(new AiLogDtos.ErrorItem(
                     i,
-                    "PROCESSING_ERROR",
-                    e.getMessage()
+                    "VALIDATION_ERROR",
+                    "createdAt 또는 userId가 null입니다."
                 ));
-                log.error("[AI 로그 Bulk 저장] 처리 실패: index={}, createdAt={}, userId={}, domain={}, route={}, traceId={}, error={}",
-                    i, logItem.getCreatedAt(), logItem.getUserId(), logItem.getDomain(), 
-                    logItem.getRoute(), logItem.getTraceId(), e.getMessage(), e);
+                log.warn("[AI 로그 Bulk 저장] 필수 필드 누락: index={}, createdAt={}, userId={}", 
+                    i, logItem.getCreatedAt(), logItem.getUserId());
+                continue;
+            }
+
+            // 식별 컬럼 길이 검증 (잘라서 저장하면 다른 로그와 중복 키가 될 수 있음)
+            String lengthError = validateKeyLengths(logItem);
+            if (lengthError != null) {
+                failed++;
+                errors.add(new AiLogDtos.ErrorItem(i, "VALIDATION_ERROR", lengthError));
+                log.warn("[AI 로그 Bulk 저장] 컬럼 길이 초과: index={}, error={}", i, lengthError);
+                continue;
+            }
+
+            // 같은 요청 내 중복은 DB까지 보내지 않음 (DB 중복은 ON CONFLICT가 처리)
+            String duplicateKey = buildDuplicateKey(
+                logItem.getTraceId(), 
+                logItem.getConversationId(), 
+                logItem.getTurnId()
+            );
+            if (duplicateKey != null && !duplicateKeys.add(duplicateKey)) {
+                skipped++;
+                log.debug("[AI 로그 Bulk 저장] 요청 내 중복 건너뜀: index={}, key={}", i, duplicateKey);
+                continue;
             }
+
+            String id = UUID.randomUUID().toString();
+            candidates.put(id, logItem);
+            requestIndexById.put(id, i);
+            rows.add(toInsertRow(id, logItem, receivedAt));
         }
 
-        // Bulk insert (성능 최적화)
-        if (!logsToSave.isEmpty()) {
+        // Bulk insert (한 문장, 이미 있는 행은 건너뜀)
+        Map<String, AiLogDtos.LogItem> inserted = new LinkedHashMap<>();
+        if (!rows.isEmpty()) {
+            List<UUID> insertedIds;
             try {
-                aiLogRepository.saveAll(logsToSave);
-                saved = logsToSave.size();
-                log.info("[AI 로그 Bulk 저장] PostgreSQL Bulk insert 완료: saved={}", saved);
-                
-                // Elasticsearch에도 저장 (실패해도 PostgreSQL 저장은 성공으로 처리)
-                int esSaved = 0;
-                for (AiLog aiLog : logsToSave) {
-                    try {
-                        // 원본 LogItem 찾기 (traceId+conversationId+turnId로 매칭)
-                        String mapKey = buildDuplicateKey(
-                            aiLog.getTraceId(),
-                            aiLog.getConversationId(),
-                            aiLog.getTurnId()
-                        );
-                        
-                        if (mapKey != null && logItemMap.containsKey(mapKey)) {
-                            AiLogDtos.LogItem logItem = logItemMap.get(mapKey);
-                            chatLogElasticsearchService.saveChatLog(
-                                logItem,
-                                aiLog.getId().toString()
-                            );
-                            esSaved++;
-                        } else {
-                            log.warn("[AI 로그 Bulk 저장] Elasticsearch 저장: 원본 LogItem을 찾을 수 없음: id={}, traceId={}, conversationId={}, turnId={}",
-                                aiLog.getId(), aiLog.getTraceId(), aiLog.getConversationId(), aiLog.getTurnId());
-                        }
-                    } catch (Exception e) {
-                        // Elasticsearch 저장 실패는 로그만 남기고 계속 진행
-                        log.warn("[AI 로그 Bulk 저장] Elasticsearch 저장 실패: id={}, traceId={}, error={}",
-                            aiLog.getId(), aiLog.getTraceId(), e.getMessage());
-                    }
-                }
-                log.info("[AI 로그 Bulk 저장] Elasticsearch 저장 완료: esSaved={}, total={}", esSaved, saved);
-            } catch (Exception e) {
-                log.error("[AI 로그 Bulk 저장] Bulk insert 실패: count={}, error={}", 
-                    logsToSave.size(), e.getMessage(), e);
-                // 개별 저장 시도
-                for (AiLog aiLogItem : logsToSave) {
+                insertedIds = insertInSavepoint(rows);
+            } catch (DataAccessException e) {
+                // 한 행 때문에 배치 전체가 계속 실패하지 않도록 행 단위로 다시 시도
+                log.warn("[AI 로그 Bulk 저장] Bulk insert 실패, 행 단위로 재시도: count={}, error={}",
+                    rows.size(), e.getMessage());
+                insertedIds = new ArrayList<>();
+                for (Map<String, Object> row : rows) {
+                    String id = (String) row.get("id");
                     try {
-                        aiLogRepository.save(aiLogItem);
-                        saved++;
-                        
-                        // Elasticsearch에도 저장 시도
-                        try {
-                            String mapKey = buildDuplicateKey(
-                                aiLogItem.getTraceId(),
-                                aiLogItem.getConversationId(),
-                                aiLogItem.getTurnId()
-                            );
-                            
-                            if (mapKey != null && logItemMap.containsKey(mapKey)) {
-                                AiLogDtos.LogItem logItem = logItemMap.get(mapKey);
-                                chatLogElasticsearchService.saveChatLog(
-                                    logItem,
-                                    aiLogItem.getId().toString()
-                                );
-                            }
-                        } catch (Exception ex) {
-                            log.warn("[AI 로그 Bulk 저장] Elasticsearch 저장 실패: id={}, error={}",
-                                aiLogItem.getId(), ex.getMessage());
-                        }
-                    } catch (Exception ex) {
+                        insertedIds.addAll(insertInSavepoint(List.of(row)));
+                    } catch (DataAccessException rowError) {
                         failed++;
-                        log.error("[AI 로그 Bulk 저장] 개별 저장 실패: traceId={}, error={}", 
-                            aiLogItem.getTraceId(), ex.getMessage());
+                        candidates.remove(id);
+                        errors.add(new AiLogDtos.ErrorItem(
+                            requestIndexById.get(id),
+                            "DB_ERROR",
+                            rowError.getMostSpecificCause().getMessage()
+                        ));
+                        log.warn("[AI 로그 Bulk 저장] 행 저장 실패: index={}, error={}",
+                            requestIndexById.get(id), rowError.getMostSpecificCause().getMessage());
                     }
                 }
             }
+            for (UUID insertedId : insertedIds) {
+                String id = insertedId.toString();
+                inserted.put(id, candidates.get(id));
+            }
+            skipped += candidates.size() - inserted.size();
+            log.info("[AI 로그 Bulk 저장] PostgreSQL Bulk insert 완료: saved={}, duplicates={}",
+                inserted.size(), candidates.size() - inserted.size());
         }
 
-        log.info("[AI 로그 Bulk 저장] 완료: received={}, saved={}, skipped={}, failed={}", 
-            received, saved, skipped, failed);
+        // Elasticsearch _bulk 저장 (실패해도 PostgreSQL 저장은 성공으로 처리)
+        int indexFailed = 0;
+        if (!inserted.isEmpty()) {
+            Map<String, String> esFailures = chatLogElasticsearchService.saveChatLogs(inserted);
+            for (Map.Entry<String, String> failure : esFailures.entrySet()) {
+                errors.add(new AiLogDtos.ErrorItem(
+                    requestIndexById.get(failure.getKey()),
+                    "INDEX_ERROR",
+                    failure.getValue()
+                ));
+                log.warn("[AI 로그 Bulk 저장] Elasticsearch 저장 실패: index={}, id={}, error={}",
+                    requestIndexById.get(failure.getKey()), failure.getKey(), failure.getValue());
+            }
+            indexFailed = esFailures.size();
+            log.info("[AI 로그 Bulk 저장] Elasticsearch 저장 완료: esSaved={}, total={}",
+                inserted.size() - esFailures.size(), inserted.size());
+        }
+
+        int saved = inserted.size();
+        log.info("[AI 로그 Bulk 저장] 완료: received={}, saved={}, skipped={}, failed={}, indexFailed={}", 
+            received, saved, skipped, failed, indexFailed);
 
-        if (failed > 0) {
+        if (failed > 0 || indexFailed > 0) {
             log.warn("[AI 로그 Bulk 저장] 일부 실패: errors={}", errors);
         }
         
@@ -251,7 +214,69 @@ public class AiLogService {
             log.info("[AI 로그 Bulk 저장] 중복 건너뜀: skipped={}", skipped);
         }
 
-        return new AiLogDtos.BulkResponse(received, saved, failed, errors);
+        return new AiLogDtos.BulkResponse(received, saved, failed, indexFailed, errors);
+    }
+
+    private List<UUID> insertInSavepoint(List<Map<String, Object>> rows) {
+        List<UUID> ids = savepoint.execute(status -> aiLogRepository.insertAllIgnoringDuplicates(toJson(rows)));
+        return ids != null ? ids : List.of();
+    }
+
+    /**
+     * 식별 컬럼 길이 검증
+     *
+     * @return 에러 메시지 (문제 없으면 null)
+     */
+    private String validateKeyLengths(AiLogDtos.LogItem logItem) {
+        if (logItem.getUserId().length() > USER_ID_MAX_LENGTH) {
+            return "userId는 " + USER_ID_MAX_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        if (logItem.getTraceId() != null && logItem.getTraceId().length() > TRACE_ID_MAX_LENGTH) {
+            return "traceId는 " + TRACE_ID_MAX_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        if (logItem.getConversationId() != null && logItem.getConversationId().length() > CONVERSATION_ID_MAX_LENGTH) {
+            return "conversationId는 " + CONVERSATION_ID_MAX_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        return null;
+    }
+
+    /** 설명용 문자열 컬럼은 컬럼 길이에 맞춰 자름 */
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    /**
+     * Bulk INSERT용 행 생성 (컬럼명을 키로 사용)
+     */
+    private Map<String, Object> toInsertRow(String id, AiLogDtos.LogItem logItem, Instant receivedAt) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("created_at", logItem.getCreatedAt().toString());
+        row.put("user_id", logItem.getUserId());
+        row.put("user_role", truncate(logItem.getUserRole(), 50));
+        row.put("department", truncate(logItem.getDepartment(), 100));
+        row.put("domain", truncate(logItem.getDomain(), 50));
+        row.put("route", truncate(logItem.getRoute(), 50));
+        row.put("model_name", truncate(logItem.getModelName(), 100));
+        row.put("has_pii_input", logItem.getHasPiiInput());
+        row.put("has_pii_output", logItem.getHasPiiOutput());
+        row.put("rag_used", logItem.getRagUsed());
+        row.put("rag_source_count", logItem.getRagSourceCount());
+        row.put("latency_ms_total", logItem.getLatencyMsTotal());
+        row.put("error_code", truncate(logItem.getErrorCode(), 50));
+        row.put("trace_id", logItem.getTraceId());
+        row.put("conversation_id", logItem.getConversationId());
+        row.put("turn_id", logItem.getTurnId());
+        row.put("received_at", receivedAt.toString());
+        return row;
+    }
+
+    private String toJson(List<Map<String, Object>> rows) {
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AI 로그 직렬화 실패: " + e.getMessage(), e);
+        }
     }
 
     /**
@@ -2,7 +2,6 @@ package com.ctrlf.infra.config.metrics;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,42 +33,7 @@ public class CustomMetrics {
         log.info("Custom metrics initialized");
     }
 
-    // API 메트릭
-    public void incrementHttpRequest(String method, String path, int statusCode) {
-        Counter.builder("infra.http.requests.total")
-            .description("Total HTTP requests")
-            .tag("application", "infra-service")
-            .tag("method", method)
-            .tag("path", path)
-            .tag("status", String.valueOf(statusCode))
-            .register(meterRegistry)
-            .increment();
-    }
-
-    public void incrementHttpError(String method, String path, int statusCode) {
-        Counter.builder("infra.http.errors.total")
-            .description("Total HTTP errors")
-            .tag("application", "infra-service")
-            .tag("method", method)
-            .tag("path", path)
-            .tag("status", String.valueOf(statusCode))
-            .register(meterRegistry)
-            .increment();
-    }
-
-    public Timer.Sample startHttpRequestTimer() {
-        return Timer.start(meterRegistry);
-    }
-
-    public void recordHttpRequestDuration(Timer.Sample sample, String method, String path) {
-        Timer timer = Timer.builder("infra.http.request.duration")
-            .description("HTTP request duration")
-            .tag("application", "infra-service")
-            .tag("method", method)
-            .tag("path", path)
-            .register(meterRegistry);
-        sample.stop(timer);
-    }
+    // API 메트릭 (요청 수 / 에러 수 / 처리 시간)은 HttpRequestMeters에서 기록
 
     // 비즈니스 메트릭
     public void incrementTelemetryEventsCollected(int count) {
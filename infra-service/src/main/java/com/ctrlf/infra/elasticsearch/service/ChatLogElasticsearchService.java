@@ -6,9 +6,12 @@ import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.json.JsonData;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import com.ctrlf.infra.ailog.dto.AiLogDtos;
 import java.time.Instant;
@@ -20,13 +23,12 @@ import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * Elasticsearch 채팅 로그 저장 및 조회 서비스
  * 
- * <p>AI 서버에서 전송된 로그를 Elasticsearch chat_log 인덱스에 저장하고, 관리자 대시보드에서 조회합니다.</p>
+ * <p>AI 서버에서 전송된 로그를 Elasticsearch chat_log 월 인덱스(createdAt 기준)에 저장하고, 관리자 대시보드에서 조회합니다.</p>
  */
 @Slf4j
 @Service
@@ -34,9 +36,7 @@ import org.springframework.stereotype.Service;
 public class ChatLogElasticsearchService {
 
     private final ElasticsearchClient elasticsearchClient;
-
-    @Value("${app.elasticsearch.chat-log-index:chat_log}")
-    private String chatLogIndex;
+    private final ChatLogIndexManager chatLogIndexManager;
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_INSTANT;
 
@@ -51,47 +51,11 @@ public class ChatLogElasticsearchService {
      */
     public void saveChatLog(AiLogDtos.LogItem logItem, String id) {
         try {
-            Map<String, Object> logData = new HashMap<>();
-            
-            // 기본 필드
-            logData.put("id", id);
-            logData.put("createdAt", logItem.getCreatedAt().toString());
-            logData.put("userId", logItem.getUserId());
-            logData.put("userRole", logItem.getUserRole());
-            logData.put("domain", logItem.getDomain() != null ? logItem.getDomain() : "ETC");
-            logData.put("department", logItem.getDepartment());
-            logData.put("route", logItem.getRoute());
-            logData.put("modelName", logItem.getModelName());
-            
-            // 질문/답변 필드 (AI 서버에서 전송하는 경우)
-            // AI 서버가 보내는 로그에 question, answer가 포함되어 있으면 사용
-            // 없으면 null로 저장 (chat-service에서 저장한 로그와 병합 가능)
-            logData.put("question", null);  // AI 서버 로그에는 질문/답변 원문이 없을 수 있음
-            logData.put("answer", null);
-            logData.put("role", "assistant");  // AI 서버 로그는 주로 assistant 응답
-            
-            // PII 필드
-            logData.put("hasPiiInput", logItem.getHasPiiInput() != null ? logItem.getHasPiiInput() : false);
-            logData.put("hasPiiOutput", logItem.getHasPiiOutput() != null ? logItem.getHasPiiOutput() : false);
-            
-            // RAG 필드
-            logData.put("ragUsed", logItem.getRagUsed() != null ? logItem.getRagUsed() : false);
-            logData.put("ragSourceCount", logItem.getRagSourceCount());
-            
-            // 성능/에러 필드
-            logData.put("latencyMsTotal", logItem.getLatencyMsTotal());
-            logData.put("errorCode", logItem.getErrorCode());
-            
-            // 추적 필드
-            logData.put("traceId", logItem.getTraceId());
-            logData.put("conversationId", logItem.getConversationId());
-            logData.put("turnId", logItem.getTurnId());
-            
             // Elasticsearch에 저장
             IndexRequest<Map<String, Object>> request = IndexRequest.of(i -> i
-                .index(chatLogIndex)
+                .index(chatLogIndexManager.writeIndexFor(logItem.getCreatedAt()))
                 .id(id)
-                .document(logData)
+                .document(buildLogDocument(logItem, id))
             );
             
             elasticsearchClient.index(request);
@@ -106,15 +70,112 @@ public class ChatLogElasticsearchService {
         }
     }
 
+    /**
+     * AI 로그를 Elasticsearch에 일괄 저장 (_bulk)
+     *
+     * <p>배치 전체를 한 번의 _bulk 요청으로 보내고, 항목별 실패는 문서 ID 기준으로 돌려줍니다.</p>
+     * <p>실패해도 예외를 던지지 않아 PostgreSQL 저장은 계속 진행됩니다.</p>
+     *
+     * @param logsById Elasticsearch 문서 ID(UUID 문자열) → AI 로그 항목
+     * @return 실패한 문서 ID → 실패 사유 (요청 자체가 실패하면 모든 ID 포함)
+     */
+    public Map<String, String> saveChatLogs(Map<String, AiLogDtos.LogItem> logsById) {
+        Map<String, String> failures = new HashMap<>();
+        if (logsById.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            BulkRequest.Builder bulk = new BulkRequest.Builder();
+            for (Map.Entry<String, AiLogDtos.LogItem> entry : logsById.entrySet()) {
+                String id = entry.getKey();
+                Map<String, Object> logData = buildLogDocument(entry.getValue(), id);
+                String index = chatLogIndexManager.writeIndexFor(entry.getValue().getCreatedAt());
+                bulk.operations(op -> op
+                    .index(i -> i
+                        .index(index)
+                        .id(id)
+                        .document(logData)
+                    )
+                );
+            }
+
+            BulkResponse response = elasticsearchClient.bulk(bulk.build());
+
+            if (response.errors()) {
+                for (BulkResponseItem item : response.items()) {
+                    if (item.error() != null) {
+                        failures.put(item.id(), item.error().type() + ": " + item.error().reason());
+                    }
+                }
+            }
+
+            log.debug("[Elasticsearch AI 로그 Bulk 저장] 완료: total={}, failed={}, took={}ms",
+                logsById.size(), failures.size(), response.took());
+
+        } catch (Exception e) {
+            log.error("[Elasticsearch AI 로그 Bulk 저장] 요청 실패: count={}, error={}",
+                logsById.size(), e.getMessage(), e);
+            for (String id : logsById.keySet()) {
+                failures.put(id, e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * AI 로그 항목을 chat_log 문서로 변환
+     */
+    private Map<String, Object> buildLogDocument(AiLogDtos.LogItem logItem, String id) {
+        Map<String, Object> logData = new HashMap<>();
+        
+        // 기본 필드
+        logData.put("id", id);
+        logData.put("createdAt", logItem.getCreatedAt().toString());
+        logData.put("userId", logItem.getUserId());
+        logData.put("userRole", logItem.getUserRole());
+        logData.put("domain", logItem.getDomain() != null ? logItem.getDomain() : "ETC");
+        logData.put("department", logItem.getDepartment());
+        logData.put("route", logItem.getRoute());
+        logData.put("modelName", logItem.getModelName());
+        
+        // 질문/답변 필드 (AI 서버에서 전송하는 경우)
+        // AI 서버가 보내는 로그에 question, answer가 포함되어 있으면 사용
+        // 없으면 null로 저장 (chat-service에서 저장한 로그와 병합 가능)
+        logData.put("question", null);  // AI 서버 로그에는 질문/답변 원문이 없을 수 있음
+        logData.put("answer", null);
+        logData.put("role", "assistant");  // AI 서버 로그는 주로 assistant 응답
+        
+        // PII 필드
+        logData.put("hasPiiInput", logItem.getHasPiiInput() != null ? logItem.getHasPiiInput() : false);
+        logData.put("hasPiiOutput", logItem.getHasPiiOutput() != null ? logItem.getHasPiiOutput() : false);
+        
+        // RAG 필드
+        logData.put("ragUsed", logItem.getRagUsed() != null ? logItem.getRagUsed() : false);
+        logData.put("ragSourceCount", logItem.getRagSourceCount());
+        
+        // 성능/에러 필드
+        logData.put("latencyMsTotal", logItem.getLatencyMsTotal());
+        logData.put("errorCode", logItem.getErrorCode());
+        
+        // 추적 필드
+        logData.put("traceId", logItem.getTraceId());
+        logData.put("conversationId", logItem.getConversationId());
+        logData.put("turnId", logItem.getTurnId());
+
+        return logData;
+    }
+
     /**
      * 관리자 대시보드 로그 목록 조회
      *
-     * <p>Elasticsearch chat_log 인덱스에서 채팅 로그를 조회합니다.</p>
+     * <p>Elasticsearch chat_log 월 인덱스 중 조회 기간과 겹치는 인덱스에서 채팅 로그를 조회합니다.</p>
      *
      * @param request 로그 조회 요청 DTO
      * @return AI 로그 페이지 응답
      */
     public AiLogDtos.PageResponse<AiLogDtos.LogListItem> getLogs(AiLogDtos.LogListRequest request) {
+        List<String> chatLogIndices = List.of();
         try {
             log.info("[Elasticsearch 로그 조회] 요청: period={}, startDate={}, endDate={}, department={}, domain={}, route={}, model={}, onlyError={}, hasPiiOnly={}, page={}, size={}, sort={}",
                 request.getPeriod(), request.getStartDate(), request.getEndDate(), request.getDepartment(), 
@@ -125,6 +186,9 @@ public class ChatLogElasticsearchService {
             Instant[] periodRange = calculatePeriodRange(request.getPeriod(), request.getStartDate(), request.getEndDate());
             Instant startDate = periodRange[0];
             Instant endDate = periodRange[1];
+            // 조회 기간과 겹치는 월 인덱스만 검색
+            chatLogIndices = chatLogIndexManager.searchIndicesFor(startDate, endDate);
+            List<String> searchIndices = chatLogIndices;
 
             // 페이징 설정
             int pageNumber = (request.getPage() != null && request.getPage() >= 0) ? request.getPage() : 0;
@@ -226,7 +290,8 @@ public class ChatLogElasticsearchService {
 
             // 검색 요청 생성
             SearchRequest searchRequest = SearchRequest.of(s -> s
-                .index(chatLogIndex)
+                .index(searchIndices)
+                .ignoreUnavailable(true)
                 .query(Query.of(q -> q.bool(boolQuery)))
                 .from(from)
                 .size(pageSize)
@@ -240,7 +305,7 @@ public class ChatLogElasticsearchService {
                 )
             );
 
-            log.info("[Elasticsearch 로그 조회] 검색 시작: index={}, from={}, size={}", chatLogIndex, from, pageSize);
+            log.info("[Elasticsearch 로그 조회] 검색 시작: indices={}, from={}, size={}", chatLogIndices, from, pageSize);
 
             // 검색 실행
             SearchResponse<Map> response = elasticsearchClient.search(searchRequest, Map.class);
@@ -317,8 +382,8 @@ public class ChatLogElasticsearchService {
 
         } catch (ElasticsearchException e) {
             if (e.getMessage() != null && e.getMessage().contains("index_not_found_exception")) {
-                log.warn("[Elasticsearch 로그 조회] 인덱스가 없습니다: index={}, message={}. 빈 결과를 반환합니다.",
-                    chatLogIndex, e.getMessage());
+                log.warn("[Elasticsearch 로그 조회] 인덱스가 없습니다: indices={}, message={}. 빈 결과를 반환합니다.",
+                    chatLogIndices, e.getMessage());
                 return new AiLogDtos.PageResponse<>(
                     new ArrayList<>(),
                     0L,
@@ -327,13 +392,13 @@ public class ChatLogElasticsearchService {
                     20
                 );
             } else {
-                log.error("[Elasticsearch 로그 조회] Elasticsearch 오류 발생: index={}, error={}",
-                    chatLogIndex, e.getMessage(), e);
+                log.error("[Elasticsearch 로그 조회] Elasticsearch 오류 발생: indices={}, error={}",
+                    chatLogIndices, e.getMessage(), e);
                 throw new RuntimeException("로그 조회 실패: " + e.getMessage(), e);
             }
         } catch (Exception e) {
-            log.error("[Elasticsearch 로그 조회] 오류 발생: index={}, error={}",
-                chatLogIndex, e.getMessage(), e);
+            log.error("[Elasticsearch 로그 조회] 오류 발생: indices={}, error={}",
+                chatLogIndices, e.getMessage(), e);
             throw new RuntimeException("로그 조회 실패: " + e.getMessage(), e);
         }
     }
@@ -0,0 +1,74 @@
+package com.ctrlf.infra.rag.client;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Chat Service 내부 API 호출 클라이언트.
+ *
+ * 사규 버전이 바뀌면 chat-service의 답변 캐시를 무효화합니다.
+ *
+ * 엔드포인트:
+ * - POST /internal/chat/answer-cache/invalidate (도메인별 답변 캐시 무효화, X-Internal-Token 필요)
+ */
+@Component
+@Slf4j
+public class ChatServiceClient {
+
+    private final RestClient restClient;
+
+    public ChatServiceClient(
+        @Value("${app.chat-service.base-url:http://localhost:9005}") String baseUrl,
+        @Value("${app.chat-service.timeout-seconds:3}") long timeoutSeconds,
+        @Value("${app.internal.token:}") String internalToken
+    ) {
+        String normalizedBaseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+
+        Duration timeout = Duration.ofSeconds(timeoutSeconds);
+        org.springframework.http.client.SimpleClientHttpRequestFactory requestFactory =
+            new org.springframework.http.client.SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+
+        this.restClient = RestClient.builder()
+            .baseUrl(normalizedBaseUrl)
+            .requestFactory(requestFactory)
+            .defaultRequest(request -> {
+                request.headers(headers -> {
+                    headers.setContentType(MediaType.APPLICATION_JSON);
+                    if (internalToken != null && !internalToken.isBlank()) {
+                        headers.set("X-Internal-Token", internalToken);
+                    }
+                });
+            })
+            .build();
+    }
+
+    /**
+     * 도메인의 답변 캐시를 무효화합니다.
+     *
+     * <p>실패해도 사규 상태 변경은 유지됩니다. (chat-service 캐시는 TTL 이후 자연 만료)</p>
+     *
+     * @param domain 사규 도메인 (null이면 전체 무효화)
+     */
+    public void invalidateAnswerCache(String domain) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("domain", domain);
+        try {
+            restClient.post()
+                .uri("/internal/chat/answer-cache/invalidate")
+                .body(body)
+                .retrieve()
+                .toBodilessEntity();
+        } catch (RestClientException e) {
+            log.warn("Failed to invalidate answer cache: domain={}, error={}", domain, e.getMessage());
+        }
+    }
+}
@@ -186,18 +186,23 @@ public class RagDocumentsController {
     @GetMapping("/{id}/text")
     @Operation(
         summary = "RAG 문서 원문 텍스트 조회",
-        description = "문서의 원문 텍스트를 조회합니다. S3에서 파일을 다운로드하여 텍스트를 추출합니다."
+        description = "문서의 원문 텍스트를 구간 단위로 조회합니다. S3 원본을 스트리밍으로 추출하며 txt, pdf, docx, hwpx를 지원합니다. "
+            + "응답의 nextOffset으로 다음 구간을 요청합니다."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "텍스트 조회 성공",
             content = @Content(schema = @Schema(implementation = DocumentTextResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 offset/limit"),
         @ApiResponse(responseCode = "404", description = "문서를 찾을 수 없음"),
+        @ApiResponse(responseCode = "415", description = "지원하지 않는 파일 형식"),
         @ApiResponse(responseCode = "500", description = "텍스트 추출 실패")
     })
     public ResponseEntity<DocumentTextResponse> getText(
-        @Parameter(description = "문서 ID") @PathVariable("id") String id
+        @Parameter(description = "문서 ID") @PathVariable("id") String id,
+        @Parameter(description = "시작 위치(문자 단위)") @RequestParam(value = "offset", defaultValue = "0") long offset,
+        @Parameter(description = "최대 문자 수 (미지정 시 기본 페이지 크기)") @RequestParam(value = "limit", required = false) Integer limit
     ) {
-        return ResponseEntity.ok(ragDocumentService.getText(id));
+        return ResponseEntity.ok(ragDocumentService.getText(id, offset, limit));
     }
 
     // ========================
@@ -168,7 +168,10 @@ public final class RagDtos {
     @AllArgsConstructor
     public static class DocumentTextResponse {
         private String documentId;
-        private String text;        // 추출된 원문 텍스트
+        private String text;        // 추출된 원문 텍스트 (요청 구간)
+        private long offset;        // 구간 시작 위치(문자 단위)
+        private boolean hasMore;    // 이후 텍스트 존재 여부
+        private Long nextOffset;    // 다음 페이지 offset (마지막이면 null)
     }
 
     // ---------- Document Info ----------
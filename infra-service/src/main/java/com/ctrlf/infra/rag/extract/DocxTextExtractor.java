@@ -0,0 +1,31 @@
+package com.ctrlf.infra.rag.extract;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * DOCX(Office Open XML) 추출기.
+ * 본문은 word/document.xml의 w:t 요소에, 문단은 w:p 요소에 있습니다.
+ */
+@Component
+public class DocxTextExtractor extends ZipXmlTextExtractor {
+
+    @Override
+    public boolean supports(String extension) {
+        return "docx".equals(extension);
+    }
+
+    @Override
+    protected boolean isContentEntry(String entryName) {
+        return "word/document.xml".equals(entryName);
+    }
+
+    @Override
+    protected String textElement() {
+        return "t";
+    }
+
+    @Override
+    protected String paragraphElement() {
+        return "p";
+    }
+}
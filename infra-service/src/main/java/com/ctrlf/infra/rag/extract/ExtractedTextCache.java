@@ -0,0 +1,67 @@
+package com.ctrlf.infra.rag.extract;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추출된 원문 텍스트 캐시.
+ *
+ * <p>키는 (sourceUrl, 콘텐츠 해시)이므로 같은 경로에 파일이 다시 올라오면 자연히 미스가 납니다.
+ * 전체 보관량은 문자 수 기준으로 제한하며, 초과 시 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * 한 항목이 {@code maxEntryChars}보다 크면 캐시하지 않습니다.
+ */
+@Component
+public class ExtractedTextCache {
+
+    /**
+     * 캐시 키.
+     */
+    public record Key(String sourceUrl, String contentHash) {}
+
+    private final long maxTotalChars;
+    private final int maxEntryChars;
+
+    private final LinkedHashMap<Key, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalChars;
+
+    public ExtractedTextCache(
+        @Value("${app.rag.text.cache.max-total-chars:20000000}") long maxTotalChars,
+        @Value("${app.rag.text.cache.max-entry-chars:2000000}") int maxEntryChars
+    ) {
+        this.maxTotalChars = maxTotalChars;
+        this.maxEntryChars = maxEntryChars;
+    }
+
+    public synchronized Optional<String> get(Key key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    public synchronized void put(Key key, String text) {
+        if (text.length() > maxEntryChars || text.length() > maxTotalChars) {
+            return;
+        }
+        String previous = entries.put(key, text);
+        if (previous != null) {
+            totalChars -= previous.length();
+        }
+        totalChars += text.length();
+
+        Iterator<Map.Entry<Key, String>> eldest = entries.entrySet().iterator();
+        while (totalChars > maxTotalChars && eldest.hasNext()) {
+            totalChars -= eldest.next().getValue().length();
+            eldest.remove();
+        }
+    }
+
+    public int maxEntryChars() {
+        return maxEntryChars;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,33 @@
+package com.ctrlf.infra.rag.extract;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * HWPX(한글 OWPML) 추출기.
+ * 본문은 Contents/section{n}.xml의 hp:t 요소에, 문단은 hp:p 요소에 있습니다.
+ *
+ * <p>바이너리(OLE) 형식인 구버전 .hwp는 지원하지 않습니다.
+ */
+@Component
+public class HwpxTextExtractor extends ZipXmlTextExtractor {
+
+    @Override
+    public boolean supports(String extension) {
+        return "hwpx".equals(extension);
+    }
+
+    @Override
+    protected boolean isContentEntry(String entryName) {
+        return entryName.startsWith("Contents/section") && entryName.endsWith(".xml");
+    }
+
+    @Override
+    protected String textElement() {
+        return "t";
+    }
+
+    @Override
+    protected String paragraphElement() {
+        return "p";
+    }
+}
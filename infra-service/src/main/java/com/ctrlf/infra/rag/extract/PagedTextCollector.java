@@ -0,0 +1,82 @@
+package com.ctrlf.infra.rag.extract;
+
+/**
+ * 추출 스트림에서 요청한 구간(offset, limit)만 잘라 담는 수집기.
+ *
+ * <p>캐시 적재를 위해 전체 텍스트도 함께 모으되, {@code cacheLimit}을 넘는 순간
+ * 버리고 페이지만 유지합니다. 페이지가 찼고 캐시도 포기한 상태라면 추출을 멈추게 하므로
+ * 문서 크기와 관계없이 메모리 사용량은 {@code limit + cacheLimit}으로 제한됩니다.
+ */
+final class PagedTextCollector implements TextSink {
+
+    private final long offset;
+    private final int limit;
+    private final int cacheLimit;
+
+    private final StringBuilder page = new StringBuilder();
+    private StringBuilder full = new StringBuilder();
+    private long position;
+    private boolean hasMore;
+    private boolean stopped;
+
+    PagedTextCollector(long offset, int limit, int cacheLimit) {
+        this.offset = offset;
+        this.limit = limit;
+        this.cacheLimit = cacheLimit;
+    }
+
+    @Override
+    public boolean append(CharSequence chunk) {
+        int length = chunk.length();
+        if (length == 0) {
+            return true;
+        }
+
+        if (full != null) {
+            if (full.length() + length <= cacheLimit) {
+                full.append(chunk);
+            } else {
+                full = null;
+            }
+        }
+
+        long end = position + length;
+        if (page.length() >= limit) {
+            hasMore = true;
+        } else if (end > offset) {
+            int from = (int) Math.max(0, offset - position);
+            int to = (int) Math.min(length, from + (long) (limit - page.length()));
+            page.append(chunk, from, to);
+            if (to < length) {
+                hasMore = true;
+            }
+        }
+        position = end;
+
+        if (hasMore && full == null) {
+            stopped = true;
+            return false;
+        }
+        return true;
+    }
+
+    String page() {
+        return page.toString();
+    }
+
+    boolean hasMore() {
+        return hasMore;
+    }
+
+    /** 수집기가 추출을 중간에 멈추게 했는지 여부 */
+    boolean stopped() {
+        return stopped;
+    }
+
+    /**
+     * 문서 끝까지 읽었고 전체 텍스트가 캐시 한도 안이면 전체 텍스트를, 아니면 null을 반환합니다.
+     */
+    String fullTextIfComplete() {
+        return stopped || full == null ? null : full.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.ctrlf.infra.rag.extract;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.stereotype.Component;
+
+/**
+ * PDF 추출기 (Apache PDFBox).
+ *
+ * <p>PDF는 xref 테이블 때문에 임의 접근이 필요하므로 원본을 힙이 아닌 임시 파일로
+ * 내려받은 뒤, 파싱 버퍼도 임시 파일 전용 캐시를 사용합니다.
+ * 텍스트는 페이지 단위로 추출해 전달하므로 메모리 사용량은 한 페이지 분량으로 제한됩니다.
+ */
+@Component
+public class PdfTextExtractor implements TextExtractor {
+
+    @Override
+    public boolean supports(String extension) {
+        return "pdf".equals(extension);
+    }
+
+    @Override
+    public void extract(InputStream in, TextSink sink) throws IOException {
+        Path spool = Files.createTempFile("rag-text-", ".pdf");
+        try {
+            Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING);
+            try (PDDocument document = Loader.loadPDF(spool.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+                PDFTextStripper stripper = new PDFTextStripper();
+                int pageCount = document.getNumberOfPages();
+                for (int page = 1; page <= pageCount; page++) {
+                    stripper.setStartPage(page);
+                    stripper.setEndPage(page);
+                    if (!sink.append(stripper.getText(document))) {
+                        return;
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(spool);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ctrlf.infra.rag.extract;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * 텍스트 파일(UTF-8) 추출기.
+ * 고정 크기 버퍼로 읽어 조각 단위로 전달합니다.
+ */
+@Component
+public class PlainTextExtractor implements TextExtractor {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final Set<String> EXTENSIONS = Set.of("txt", "text", "md", "csv");
+
+    @Override
+    public boolean supports(String extension) {
+        return EXTENSIONS.contains(extension);
+    }
+
+    @Override
+    public void extract(InputStream in, TextSink sink) throws IOException {
+        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        char[] buffer = new char[BUFFER_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            if (!sink.append(CharBuffer.wrap(buffer, 0, read))) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ctrlf.infra.rag.extract;
+
+import com.ctrlf.infra.s3.service.S3Service;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+/**
+ * S3 원본 파일의 텍스트를 페이지 단위로 추출하는 서비스.
+ *
+ * <p>처리 순서:
+ * <ol>
+ *   <li>HEAD 요청으로 ETag를 조회해 (sourceUrl, ETag) 캐시를 확인</li>
+ *   <li>미스이면 확장자에 맞는 {@link TextExtractor}로 스트리밍 추출</li>
+ *   <li>요청 구간만 잘라 반환하고, 문서 전체가 캐시 한도 안이면 캐시에 적재</li>
+ * </ol>
+ * 캐시 한도를 넘는 큰 문서는 요청 구간을 채우는 즉시 다운로드를 중단합니다.
+ */
+@Service
+public class TextExtractionService {
+
+    private static final Logger log = LoggerFactory.getLogger(TextExtractionService.class);
+
+    /** 형식은 알지만 추출기가 없는 바이너리 문서 */
+    private static final Set<String> UNSUPPORTED_EXTENSIONS = Set.of("hwp", "doc", "ppt", "xls");
+
+    private final List<TextExtractor> extractors;
+    private final PlainTextExtractor fallbackExtractor;
+    private final ExtractedTextCache cache;
+    private final S3Service s3Service;
+    private final int defaultPageChars;
+    private final int maxPageChars;
+
+    public TextExtractionService(
+        List<TextExtractor> extractors,
+        PlainTextExtractor fallbackExtractor,
+        ExtractedTextCache cache,
+        S3Service s3Service,
+        @Value("${app.rag.text.default-page-chars:200000}") int defaultPageChars,
+        @Value("${app.rag.text.max-page-chars:1000000}") int maxPageChars
+    ) {
+        this.extractors = extractors;
+        this.fallbackExtractor = fallbackExtractor;
+        this.cache = cache;
+        this.s3Service = s3Service;
+        this.defaultPageChars = defaultPageChars;
+        this.maxPageChars = maxPageChars;
+    }
+
+    /**
+     * 원본 파일에서 텍스트 한 페이지를 추출합니다.
+     *
+     * @param sourceUrl s3://bucket/key 형식의 원본 위치
+     * @param offset 시작 위치(문자 단위, 0 이상)
+     * @param limit 최대 문자 수 (null이면 기본 페이지 크기)
+     */
+    public TextPage extract(String sourceUrl, long offset, Integer limit) throws IOException {
+        int pageChars = limit != null ? limit : defaultPageChars;
+        if (offset < 0 || pageChars < 1 || pageChars > maxPageChars) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "offset must be >= 0 and limit must be between 1 and " + maxPageChars);
+        }
+
+        TextExtractor extractor = resolveExtractor(sourceUrl);
+        ExtractedTextCache.Key key = new ExtractedTextCache.Key(sourceUrl, s3Service.getObjectETag(sourceUrl));
+
+        Optional<String> cached = cache.get(key);
+        if (cached.isPresent()) {
+            log.debug("추출 텍스트 캐시 적중: sourceUrl={}", sourceUrl);
+            return TextPage.of(cached.get(), offset, pageChars);
+        }
+
+        PagedTextCollector collector = new PagedTextCollector(offset, pageChars, cache.maxEntryChars());
+        ResponseInputStream<GetObjectResponse> in = s3Service.openObject(sourceUrl);
+        boolean completed = false;
+        try {
+            extractor.extract(in, collector);
+            completed = !collector.stopped();
+        } finally {
+            if (!completed) {
+                // 남은 본문을 내려받지 않도록 연결 중단
+                in.abort();
+            }
+            in.close();
+        }
+
+        String fullText = collector.fullTextIfComplete();
+        if (fullText != null) {
+            cache.put(key, fullText);
+            return TextPage.of(fullText, offset, pageChars);
+        }
+        return new TextPage(collector.page(), offset, collector.hasMore());
+    }
+
+    private TextExtractor resolveExtractor(String sourceUrl) {
+        String extension = extensionOf(sourceUrl);
+        if (UNSUPPORTED_EXTENSIONS.contains(extension)) {
+            throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                "텍스트 추출을 지원하지 않는 형식입니다: ." + extension);
+        }
+        return extractors.stream()
+            .filter(e -> e.supports(extension))
+            .findFirst()
+            .orElseGet(() -> {
+                log.warn("알 수 없는 파일 형식. 텍스트로 시도합니다. sourceUrl={}", sourceUrl);
+                return fallbackExtractor;
+            });
+    }
+
+    private static String extensionOf(String sourceUrl) {
+        String path = sourceUrl;
+        int query = path.indexOf('?');
+        if (query > -1) {
+            path = path.substring(0, query);
+        }
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        if (dot < 0 || dot < slash) {
+            return "";
+        }
+        return path.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
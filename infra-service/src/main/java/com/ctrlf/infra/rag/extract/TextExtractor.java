@@ -0,0 +1,30 @@
+package com.ctrlf.infra.rag.extract;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 문서 형식별 텍스트 추출기.
+ *
+ * <p>원본 파일 전체를 메모리에 올리지 않고, 추출한 텍스트를 조각 단위로
+ * {@link TextSink}에 흘려보냅니다. 새 형식은 이 인터페이스를 구현한
+ * 빈을 추가하는 것으로 지원합니다.
+ */
+public interface TextExtractor {
+
+    /**
+     * 지원하는 확장자인지 확인합니다.
+     *
+     * @param extension 소문자 확장자 (점 제외, 예: "pdf")
+     */
+    boolean supports(String extension);
+
+    /**
+     * 스트림에서 텍스트를 추출합니다.
+     * sink가 false를 반환하면 남은 입력을 읽지 않고 반환합니다.
+     *
+     * @param in 원본 파일 스트림 (닫는 책임은 호출자에게 있음)
+     * @param sink 텍스트 조각 수신자
+     */
+    void extract(InputStream in, TextSink sink) throws IOException;
+}
@@ -0,0 +1,25 @@
+package com.ctrlf.infra.rag.extract;
+
+/**
+ * 추출된 텍스트의 한 페이지.
+ *
+ * @param text 페이지 텍스트
+ * @param offset 문서 전체 기준 시작 위치(문자 단위)
+ * @param hasMore 이후 텍스트가 더 있는지 여부
+ */
+public record TextPage(String text, long offset, boolean hasMore) {
+
+    static TextPage of(String fullText, long offset, int limit) {
+        int length = fullText.length();
+        int from = (int) Math.min(offset, length);
+        int to = (int) Math.min((long) from + limit, length);
+        return new TextPage(fullText.substring(from, to), offset, to < length);
+    }
+
+    /**
+     * 다음 페이지 시작 위치. 마지막 페이지이면 null.
+     */
+    public Long nextOffset() {
+        return hasMore ? offset + text.length() : null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ctrlf.infra.rag.extract;
+
+/**
+ * 추출기가 만들어 낸 텍스트 조각을 받는 콜백.
+ *
+ * <p>추출기는 내부 버퍼를 재사용할 수 있으므로, 구현체는 전달받은 조각을
+ * 호출 안에서 복사해야 합니다.
+ */
+@FunctionalInterface
+public interface TextSink {
+
+    /**
+     * 텍스트 조각을 전달합니다.
+     *
+     * @param chunk 추출된 텍스트 조각
+     * @return 계속 추출하려면 true, 더 필요 없으면 false (추출기는 즉시 중단)
+     */
+    boolean append(CharSequence chunk);
+}
@@ -0,0 +1,106 @@
+package com.ctrlf.infra.rag.extract;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * ZIP 컨테이너 안의 XML 본문에서 텍스트를 뽑는 추출기의 공통 구현 (DOCX, HWPX).
+ *
+ * <p>ZIP 엔트리를 순서대로 읽으면서 본문 XML만 StAX로 스트리밍 파싱하므로
+ * 압축 해제된 XML 전체를 메모리에 올리지 않습니다.
+ */
+abstract class ZipXmlTextExtractor implements TextExtractor {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    /** 텍스트를 담고 있는 본문 XML 엔트리인지 여부 */
+    protected abstract boolean isContentEntry(String entryName);
+
+    /** 텍스트 런 요소의 local name (예: DOCX "t") */
+    protected abstract String textElement();
+
+    /** 문단 요소의 local name (문단 끝마다 줄바꿈을 넣음) */
+    protected abstract String paragraphElement();
+
+    @Override
+    public void extract(InputStream in, TextSink sink) throws IOException {
+        ZipInputStream zip = new ZipInputStream(in);
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if (entry.isDirectory() || !isContentEntry(entry.getName())) {
+                continue;
+            }
+            if (!extractXml(new NonClosingInputStream(zip), sink)) {
+                return;
+            }
+        }
+    }
+
+    private boolean extractXml(InputStream xml, TextSink sink) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(xml);
+            boolean inText = false;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (textElement().equals(reader.getLocalName())) {
+                        inText = true;
+                    }
+                } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                    if (inText && !sink.append(reader.getText())) {
+                        return false;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (textElement().equals(name)) {
+                        inText = false;
+                    } else if (paragraphElement().equals(name) && !sink.append("\n")) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } catch (XMLStreamException e) {
+            throw new IOException("문서 XML 파싱 실패: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // 다음 엔트리 처리에는 영향 없음
+                }
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // 업로드 문서의 XXE 차단
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+
+    /**
+     * XML 파서가 닫더라도 ZipInputStream은 열어 두기 위한 래퍼.
+     */
+    private static final class NonClosingInputStream extends FilterInputStream {
+        NonClosingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // 다음 엔트리를 읽을 수 있도록 닫지 않음
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.ctrlf.infra.rag.entity.RagDocument;
 import com.ctrlf.infra.rag.entity.RagDocumentChunk;
 import com.ctrlf.infra.rag.entity.RagDocumentStatus;
 import com.ctrlf.infra.rag.entity.RagFailChunk;
+import com.ctrlf.infra.rag.client.ChatServiceClient;
 import com.ctrlf.infra.rag.client.RagAiClient;
 import com.ctrlf.infra.rag.repository.RagDocumentChunkRepository;
 import com.ctrlf.infra.rag.repository.RagFailChunkRepository;
@@ -13,19 +14,15 @@ import com.ctrlf.infra.rag.repository.RagDocumentRepository;
 import com.ctrlf.infra.rag.repository.RagDocumentHistoryRepository;
 import com.ctrlf.infra.rag.entity.RagDocumentHistory;
 import com.ctrlf.infra.config.metrics.CustomMetrics;
+import com.ctrlf.infra.rag.extract.TextExtractionService;
+import com.ctrlf.infra.rag.extract.TextPage;
 import com.ctrlf.infra.s3.service.S3Service;
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +31,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
@@ -54,7 +53,9 @@ public class RagDocumentService {
     private final RagFailChunkRepository failChunkRepository;
     private final RagDocumentHistoryRepository historyRepository;
     private final RagAiClient ragAiClient;
+    private final ChatServiceClient chatServiceClient;
     private final S3Service s3Service;
+    private final TextExtractionService textExtractionService;
     private final CustomMetrics customMetrics;
 
     /**
@@ -314,12 +315,15 @@ public class RagDocumentService {
 
     /**
      * 문서의 원문 텍스트를 조회합니다.
-     * S3에서 파일을 다운로드하여 텍스트를 추출합니다.
-     * 
-     * <p>참고: 현재는 텍스트 파일(.txt)만 지원합니다.
-     * PDF 등 다른 형식은 추후 확장 필요.
+     * S3 원본을 스트리밍으로 추출하여 요청한 구간만 반환합니다.
+     *
+     * <p>지원 형식: txt, pdf, docx, hwpx (알 수 없는 확장자는 텍스트로 시도)
+     *
+     * @param documentId 문서 ID
+     * @param offset 시작 위치(문자 단위)
+     * @param limit 최대 문자 수 (null이면 기본 페이지 크기)
      */
-    public DocumentTextResponse getText(String documentId) {
+    public DocumentTextResponse getText(String documentId, long offset, Integer limit) {
         UUID id = parseUuid(documentId);
         RagDocument doc = documentRepository.findById(id)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "document not found"));
@@ -329,14 +333,12 @@ public class RagDocumentService {
         }
 
         try {
-            // S3 Presigned URL 생성
-            URL downloadUrl = s3Service.presignDownload(doc.getSourceUrl());
-            
-            // 파일 다운로드 및 텍스트 추출
-            String text = extractTextFromUrl(downloadUrl, doc.getSourceUrl());
-            
-            return new DocumentTextResponse(doc.getId().toString(), text);
+            TextPage page = textExtractionService.extract(doc.getSourceUrl(), offset, limit);
+            return new DocumentTextResponse(
+                doc.getId().toString(), page.text(), page.offset(), page.hasMore(), page.nextOffset());
             
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             log.error("텍스트 추출 실패. documentId={}, sourceUrl={}, error={}", 
                 documentId, doc.getSourceUrl(), e.getMessage(), e);
@@ -346,38 +348,6 @@ public class RagDocumentService {
         }
     }
 
-    /**
-     * URL에서 텍스트를 추출합니다.
-     * 
-     * <p>현재는 텍스트 파일만 지원합니다.
-     * PDF 등 다른 형식은 추후 확장 필요 (Apache Tika, PDFBox 등 사용).
-     */
-    private String extractTextFromUrl(URL url, String sourceUrl) throws Exception {
-        // 파일 확장자 확인
-        String lowerUrl = sourceUrl.toLowerCase();
-        
-        if (lowerUrl.endsWith(".txt") || lowerUrl.endsWith(".text")) {
-            // 텍스트 파일: 직접 읽기
-            try (InputStream is = url.openStream();
-                 BufferedReader reader = new BufferedReader(
-                     new InputStreamReader(is, StandardCharsets.UTF_8))) {
-                return reader.lines().collect(Collectors.joining("\n"));
-            }
-        } else if (lowerUrl.endsWith(".pdf")) {
-            // PDF 파일: TODO - PDF 추출 라이브러리 필요 (Apache PDFBox 등)
-            throw new UnsupportedOperationException(
-                "PDF 텍스트 추출은 아직 지원되지 않습니다. 텍스트 파일(.txt)만 지원됩니다.");
-        } else {
-            // 기타: 텍스트로 시도
-            log.warn("알 수 없는 파일 형식. 텍스트로 시도합니다. sourceUrl={}", sourceUrl);
-            try (InputStream is = url.openStream();
-                 BufferedReader reader = new BufferedReader(
-                     new InputStreamReader(is, StandardCharsets.UTF_8))) {
-                return reader.lines().collect(Collectors.joining("\n"));
-            }
-        }
-    }
-
     /**
      * 문서 청크 Bulk Upsert (내부 API - FastAPI → Spring).
      * 
@@ -1005,6 +975,7 @@ public class RagDocumentService {
     /**
      * 상태 변경
      */
+    @org.springframework.transaction.annotation.Transactional
     public UpdateStatusResponse updateStatus(String documentId, Integer version, UpdateStatusRequest req) {
         RagDocument doc = documentRepository.findByDocumentIdAndVersion(documentId, version)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
@@ -1047,6 +1018,11 @@ public class RagDocumentService {
             oldStatus != null ? oldStatus.name() : "null", 
             newStatus.name());
         addHistory(documentId, version, action, null, message);
+
+        // 적용 중인 사규가 바뀌면 chat-service 답변 캐시 무효화
+        if (newStatus == RagDocumentStatus.ACTIVE || oldStatus == RagDocumentStatus.ACTIVE) {
+            invalidateAnswerCacheAfterCommit(doc.getDomain());
+        }
         
         return new UpdateStatusResponse(
             doc.getId().toString(),
@@ -1060,6 +1036,7 @@ public class RagDocumentService {
     /**
      * 검토 승인
      */
+    @org.springframework.transaction.annotation.Transactional
     public ReviewResponse approveReview(String documentId, Integer version, ApproveReviewRequest req) {
         RagDocument doc = documentRepository.findByDocumentIdAndVersion(documentId, version)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
@@ -1096,6 +1073,9 @@ public class RagDocumentService {
         addHistory(documentId, version, action, null, message);
         
         log.info("Review approved: documentId={}, version={}", documentId, version);
+
+        // 새 버전이 적용되므로 chat-service 답변 캐시 무효화
+        invalidateAnswerCacheAfterCommit(doc.getDomain());
         
         return new ReviewResponse(
             doc.getId().toString(),
@@ -1397,6 +1377,25 @@ public class RagDocumentService {
         return new HistoryResponse(documentId, version, items);
     }
 
+    /**
+     * 커밋 후 chat-service 답변 캐시를 무효화합니다.
+     *
+     * <p>커밋 전에 무효화하면 그 사이 들어온 질문이 이전 사규로 다시 캐시될 수 있고, 롤백되면 불필요한 무효화가 됩니다.
+     * 트랜잭션 밖에서 호출되면 바로 무효화합니다.</p>
+     */
+    private void invalidateAnswerCacheAfterCommit(String domain) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            chatServiceClient.invalidateAnswerCache(domain);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                chatServiceClient.invalidateAnswerCache(domain);
+            }
+        });
+    }
+
     /**
      * 히스토리 기록 헬퍼 메서드
      */
@@ -6,7 +6,11 @@ import java.time.Duration;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
@@ -21,6 +25,7 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 public class S3Service {
 
     private final S3Presigner presigner;
+    private final S3Client s3Client;
     private final CustomMetrics customMetrics;
     
     @Value("${app.s3.bucket:}")
@@ -31,11 +36,13 @@ public class S3Service {
 
     public S3Service(
         S3Presigner presigner,
+        S3Client s3Client,
         CustomMetrics customMetrics,
         @Value("${app.s3.ttlSeconds:36000}") long ttlSeconds,
         @Value("${app.s3.downloadTtlSeconds:43200}") long downloadTtlSeconds
     ) {
         this.presigner = presigner;
+        this.s3Client = s3Client;
         this.customMetrics = customMetrics;
         this.ttl = Duration.ofSeconds(ttlSeconds);
         this.downloadTtl = Duration.ofSeconds(downloadTtlSeconds);
@@ -137,6 +144,37 @@ public class S3Service {
         return url;
     }
 
+    /**
+     * 객체의 ETag(콘텐츠 해시)를 HEAD 요청으로 조회합니다.
+     * 본문을 내려받지 않으므로 캐시 유효성 확인에 사용합니다.
+     *
+     * @param fileUrl s3://bucket/key 또는 key 문자열
+     */
+    public String getObjectETag(String fileUrl) {
+        S3Path path = S3Path.fromUrl(fileUrl, defaultBucket);
+        HeadObjectRequest headReq = HeadObjectRequest.builder()
+            .bucket(path.bucket())
+            .key(path.key())
+            .build();
+        return s3Client.headObject(headReq).eTag();
+    }
+
+    /**
+     * 객체 본문을 스트림으로 엽니다.
+     * 끝까지 읽지 않고 중단할 때는 {@link ResponseInputStream#abort()}로 연결을 끊어야
+     * 남은 본문을 내려받지 않습니다.
+     *
+     * @param fileUrl s3://bucket/key 또는 key 문자열
+     */
+    public ResponseInputStream<GetObjectResponse> openObject(String fileUrl) {
+        S3Path path = S3Path.fromUrl(fileUrl, defaultBucket);
+        GetObjectRequest getReq = GetObjectRequest.builder()
+            .bucket(path.bucket())
+            .key(path.key())
+            .build();
+        return s3Client.getObject(getReq);
+    }
+
     /**
      * 업로드 완료 후 저장될 S3 파일 URL 문자열 생성.
      *
@@ -128,6 +128,20 @@ public final class TelemetryDtos {
         private Integer oosCount;
         private List<LatencyHistogramItem> latencyHistogram;
         private List<ModelLatencyItem> modelLatency;
+        private LatencyPercentiles latencyPercentiles;
+    }
+
+    /**
+     * 전체 응답 시간(latencyMsTotal) 퍼센타일 (분 단위 스케치 병합, 상대 오차 1% 이하)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class LatencyPercentiles {
+        private Long sampleCount;
+        private Long p50LatencyMs;
+        private Long p95LatencyMs;
+        private Long p99LatencyMs;
+        private Long maxLatencyMs;
     }
 
     /**
@@ -148,6 +162,9 @@ public final class TelemetryDtos {
     public static class ModelLatencyItem {
         private String model;
         private Double avgLatencyMs;
+        private Long p50LatencyMs;
+        private Long p95LatencyMs;
+        private Long p99LatencyMs;
     }
 
     /**
@@ -16,6 +16,8 @@ import org.hibernate.type.SqlTypes;
  * 텔레메트리 이벤트 엔티티
  * 
  * <p>AI에서 수집한 구조화 이벤트를 저장합니다.</p>
+ * <p>테이블은 occurred_at 월 단위로 파티셔닝되어 있으며 DB PK는 (event_id, occurred_at)입니다.
+ * 조회 시 occurred_at 범위 조건을 함께 주어야 파티션 프루닝이 적용됩니다.</p>
  */
 @Entity
 @Table(name = "telemetry_event", schema = "telemetry")
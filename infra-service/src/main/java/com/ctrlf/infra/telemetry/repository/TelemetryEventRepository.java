@@ -2,10 +2,11 @@ package com.ctrlf.infra.telemetry.repository;
 
 import com.ctrlf.infra.telemetry.entity.TelemetryEvent;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,9 +18,60 @@ import org.springframework.stereotype.Repository;
 public interface TelemetryEventRepository extends JpaRepository<TelemetryEvent, UUID> {
 
     /**
-     * eventId로 조회 (Idempotency 체크용)
+     * 이벤트 저장 (Idempotent)
+     *
+     * <p>PK가 (event_id, occurred_at)인 파티션 테이블이므로, 같은 이벤트 재전송은
+     * 해당 월 파티션 안에서만 충돌을 확인하고 무시합니다.</p>
+     *
+     * @return 삽입된 행 수 (중복이면 0)
      */
-    Optional<TelemetryEvent> findByEventId(UUID eventId);
+    @Modifying
+    @Query(
+        value = """
+            INSERT INTO telemetry.telemetry_event (
+                event_id, source, sent_at, event_type, trace_id, conversation_id, turn_id,
+                user_id, dept_id, occurred_at, payload, received_at
+            )
+            VALUES (
+                :eventId, :source, :sentAt, :eventType, :traceId, :conversationId, :turnId,
+                :userId, :deptId, :occurredAt, CAST(:payload AS jsonb), :receivedAt
+            )
+            ON CONFLICT (event_id, occurred_at) DO NOTHING
+            """,
+        nativeQuery = true
+    )
+    int insertIgnoringDuplicate(
+        @Param("eventId") UUID eventId,
+        @Param("source") String source,
+        @Param("sentAt") Instant sentAt,
+        @Param("eventType") String eventType,
+        @Param("traceId") String traceId,
+        @Param("conversationId") String conversationId,
+        @Param("turnId") Integer turnId,
+        @Param("userId") String userId,
+        @Param("deptId") String deptId,
+        @Param("occurredAt") Instant occurredAt,
+        @Param("payload") String payload,
+        @Param("receivedAt") Instant receivedAt
+    );
+
+    /**
+     * 월 파티션 생성 (이미 있으면 건너뜀)
+     *
+     * @param month 파티션 대상 월에 속한 날짜 (UTC 기준)
+     * @return 파티션 테이블 이름
+     */
+    @Query(value = "SELECT telemetry.create_telemetry_event_partition(CAST(:month AS date))", nativeQuery = true)
+    String createMonthlyPartition(@Param("month") LocalDate month);
+
+    /**
+     * 보존 기간이 지난 월 파티션 삭제
+     *
+     * @param cutoff 이 날짜가 속한 달보다 이전 달의 파티션을 삭제
+     * @return 삭제된 파티션 테이블 이름
+     */
+    @Query(value = "SELECT telemetry.drop_telemetry_event_partitions_before(CAST(:cutoff AS date))", nativeQuery = true)
+    List<String> dropPartitionsBefore(@Param("cutoff") LocalDate cutoff);
 
     /**
      * 기간 및 부서별 이벤트 조회
@@ -45,6 +97,186 @@ public interface TelemetryEventRepository extends JpaRepository<TelemetryEvent,
         @Param("deptId") String deptId
     );
 
+    /**
+     * FEEDBACK 이벤트 like/dislike 수 (기간/부서)
+     *
+     * @return [likeCount, dislikeCount]
+     */
+    @Query(
+        value = """
+            SELECT
+                COUNT(*) FILTER (WHERE e.payload ->> 'feedback' = 'like'),
+                COUNT(*) FILTER (WHERE e.payload ->> 'feedback' = 'dislike')
+            FROM telemetry.telemetry_event e
+            WHERE e.event_type = 'FEEDBACK'
+              AND e.occurred_at >= :startDate AND e.occurred_at < :endDate
+              AND (CAST(:deptId AS varchar) IS NULL OR e.dept_id = :deptId OR :deptId = 'all')
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> countFeedbackByValue(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    // ========================
+    // CHAT_TURN 집계 (chat_turn_fact, V22)
+    // - payload 파싱 없이 정형 컬럼으로 집계, 기간 조건은 반열림 구간 [startDate, endDate)
+    // ========================
+
+    /**
+     * OOS 수 + 전체 지연시간 히스토그램
+     *
+     * @return [oosCount, 0-500ms, 0.5-1s, 1-2s, 2s+]
+     */
+    @Query(
+        value = """
+            SELECT
+                COUNT(*) FILTER (WHERE f.oos),
+                COUNT(*) FILTER (WHERE f.latency_ms_total < 500),
+                COUNT(*) FILTER (WHERE f.latency_ms_total >= 500 AND f.latency_ms_total < 1000),
+                COUNT(*) FILTER (WHERE f.latency_ms_total >= 1000 AND f.latency_ms_total < 2000),
+                COUNT(*) FILTER (WHERE f.latency_ms_total >= 2000)
+            FROM telemetry.chat_turn_fact f
+            WHERE f.occurred_at >= :startDate AND f.occurred_at < :endDate
+              AND (CAST(:deptId AS varchar) IS NULL OR f.dept_id = :deptId OR :deptId = 'all')
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> aggregateChatTurnLatency(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 주간(월요일 시작) PII 감지율
+     * - 입력 PII 값이 있는 주만 반환, 비율은 값이 있는 턴 기준
+     *
+     * @param zone 주 경계를 계산할 타임존 ID
+     * @return [weekStart(YYYY-MM-DD), inputDetectRate, outputDetectRate]
+     */
+    @Query(
+        value = """
+            SELECT
+                to_char(date_trunc('week', f.occurred_at AT TIME ZONE CAST(:zone AS text)), 'YYYY-MM-DD') AS week_start,
+                AVG(CASE WHEN f.pii_detected_input THEN 1.0 ELSE 0.0 END)
+                    FILTER (WHERE f.pii_detected_input IS NOT NULL),
+                COALESCE(AVG(CASE WHEN f.pii_detected_output THEN 1.0 ELSE 0.0 END)
+                    FILTER (WHERE f.pii_detected_output IS NOT NULL), 0.0)
+            FROM telemetry.chat_turn_fact f
+            WHERE f.occurred_at >= :startDate AND f.occurred_at < :endDate
+              AND (CAST(:deptId AS varchar) IS NULL OR f.dept_id = :deptId OR :deptId = 'all')
+            GROUP BY week_start
+            HAVING COUNT(f.pii_detected_input) > 0
+            ORDER BY week_start
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> piiDetectRateByWeek(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId,
+        @Param("zone") String zone
+    );
+
+    /**
+     * 재질문 턴 수 (MVP: 동일 conversation, 직전 3턴 내 같은 intentMain)
+     *
+     * <p>재질문 여부는 수집 시 트리거가 chat_turn_fact.is_repeat에 저장합니다. (V24)</p>
+     *
+     * @return [totalTurns, repeatedTurns]
+     */
+    @Query(
+        value = """
+            SELECT COUNT(*), COUNT(*) FILTER (WHERE f.is_repeat)
+            FROM telemetry.chat_turn_fact f
+            WHERE f.occurred_at >= :startDate AND f.occurred_at < :endDate
+              AND (CAST(:deptId AS varchar) IS NULL OR f.dept_id = :deptId OR :deptId = 'all')
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> countRepeatedIntentTurns(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    // ========================
+    // 분 단위 지연시간 스케치 (chat_latency_sketch, V23 / V25)
+    // - 저장은 chat_turn_fact 트리거가 담당 (트랜잭션별 행, 주기적으로 압축)
+    // ========================
+
+    /**
+     * 기간 내 모델별 스케치 버킷 병합
+     *
+     * @return [model, bucketIndex, count]
+     */
+    @Query(
+        value = """
+            SELECT s.model, CAST(b.key AS int), SUM(CAST(b.value AS bigint))
+            FROM telemetry.chat_latency_sketch s
+            CROSS JOIN LATERAL jsonb_each_text(s.bins) b
+            WHERE s.metric = :metric
+              AND s.bucket_minute >= :startDate AND s.bucket_minute < :endDate
+              AND (CAST(:deptId AS varchar) IS NULL OR s.dept_id = :deptId OR :deptId = 'all')
+            GROUP BY s.model, b.key
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> mergeLatencySketchBins(
+        @Param("metric") String metric,
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 기간 내 모델별 스케치 합계
+     *
+     * @return [model, sampleCount, sumMs, maxMs]
+     */
+    @Query(
+        value = """
+            SELECT s.model, SUM(s.sample_count), SUM(s.sum_ms), MAX(s.max_ms)
+            FROM telemetry.chat_latency_sketch s
+            WHERE s.metric = :metric
+              AND s.bucket_minute >= :startDate AND s.bucket_minute < :endDate
+              AND (CAST(:deptId AS varchar) IS NULL OR s.dept_id = :deptId OR :deptId = 'all')
+            GROUP BY s.model
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> sumLatencySketchTotals(
+        @Param("metric") String metric,
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * before 이전 분의 트랜잭션별 스케치 행을 (분, 지표, 부서, 모델)당 한 행으로 압축
+     *
+     * @return 압축 후 저장(추가/병합)된 행 수
+     */
+    @Query(value = "SELECT telemetry.compact_chat_latency_sketch(:before)", nativeQuery = true)
+    Long compactLatencySketches(@Param("before") Instant before);
+
+    /**
+     * 보존 기간이 지난 스케치 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM telemetry.chat_latency_sketch WHERE bucket_minute < :cutoff", nativeQuery = true)
+    int deleteLatencySketchesBefore(@Param("cutoff") Instant cutoff);
+
+    /**
+     * 오래 갱신되지 않은 conversation의 재질문 판정 window 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM telemetry.conversation_intent_window WHERE updated_at < :cutoff", nativeQuery = true)
+    int deleteIdleIntentWindows(@Param("cutoff") Instant cutoff);
+
     /**
      * CHAT_TURN 이벤트 최신순 조회 (limit 적용)
      */
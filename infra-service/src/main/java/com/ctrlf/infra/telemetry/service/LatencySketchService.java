@@ -0,0 +1,68 @@
+package com.ctrlf.infra.telemetry.service;
+
+import com.ctrlf.infra.telemetry.repository.TelemetryEventRepository;
+import com.ctrlf.infra.telemetry.sketch.LatencySketch;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * CHAT_TURN 지연시간 스케치 서비스
+ *
+ * <p>chat_latency_sketch는 chat_turn_fact 트리거(V25)가 (분, 지표, 부서, 모델, 트랜잭션)별 행으로 채우고,
+ * 이 서비스는 지난 분의 행을 주기적으로 압축하며, 조회 시 기간 내 스케치 행을 병합해 퍼센타일을 계산합니다.
+ * 조회 비용은 이벤트 수가 아닌 스케치 행 수에 비례합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LatencySketchService {
+
+    /** payload.latencyMsTotal */
+    public static final String METRIC_TOTAL = "TOTAL";
+    /** payload.latencyMsLlm */
+    public static final String METRIC_LLM = "LLM";
+
+    /** 이 시간보다 오래된 분의 스케치 행만 압축 (아직 수집 중인 분은 건드리지 않음) */
+    private static final Duration COMPACT_LAG = Duration.ofMinutes(5);
+
+    private final TelemetryEventRepository telemetryEventRepository;
+
+    /**
+     * 트랜잭션별로 나뉘어 저장된 스케치 행을 (분, 지표, 부서, 모델)당 한 행으로 압축
+     * - 조회 시 병합할 행 수를 분당 키 수 수준으로 유지
+     */
+    @Scheduled(fixedDelayString = "${app.telemetry.latency-sketch.compact-delay-ms:600000}")
+    @Transactional
+    public void compact() {
+        Long rows = telemetryEventRepository.compactLatencySketches(Instant.now().minus(COMPACT_LAG));
+        log.debug("[지연시간 스케치] 압축 완료: rows={}", rows);
+    }
+
+    /**
+     * 기간 내 모델별 스케치 병합
+     *
+     * @param metric {@link #METRIC_TOTAL} | {@link #METRIC_LLM}
+     * @return 모델 → 병합된 스케치
+     */
+    public Map<String, LatencySketch> mergeByModel(String metric, Instant startDate, Instant endDate, String deptId) {
+        Map<String, LatencySketch> byModel = new HashMap<>();
+        for (Object[] row : telemetryEventRepository.mergeLatencySketchBins(metric, startDate, endDate, deptId)) {
+            byModel.computeIfAbsent((String) row[0], model -> new LatencySketch())
+                .addBin(((Number) row[1]).intValue(), ((Number) row[2]).longValue());
+        }
+        for (Object[] row : telemetryEventRepository.sumLatencySketchTotals(metric, startDate, endDate, deptId)) {
+            LatencySketch sketch = byModel.get((String) row[0]);
+            if (sketch != null) {
+                sketch.addSummary(((Number) row[2]).longValue(), ((Number) row[3]).longValue());
+            }
+        }
+        return byModel;
+    }
+}
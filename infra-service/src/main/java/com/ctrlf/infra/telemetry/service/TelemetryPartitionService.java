@@ -0,0 +1,109 @@
+package com.ctrlf.infra.telemetry.service;
+
+import com.ctrlf.infra.telemetry.repository.TelemetryEventRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * telemetry_event 월 파티션 및 텔레메트리 보존 관리 서비스
+ *
+ * <p>기동 시와 매일 한 번 이번 달부터 N개월 뒤까지의 월 파티션(telemetry_event, chat_turn_fact)을 미리 만들고,
+ * 보존 기간이 지난 파티션은 DROP합니다. 미리 만들어 두지 않은 달(지연 도착한 과거 이벤트 등)의 이벤트가 수집되면
+ * {@link #ensurePartitions}가 저장 전에 그 달 파티션을 만듭니다. 파티션 생성은 부모 테이블 잠금을 잡으므로
+ * 수집 트랜잭션과 분리하여(REQUIRES_NEW) 바로 커밋하고, 이미 확인한 달은 메모리에 기억해 다시 호출하지 않습니다.
+ * 이후 수집 트랜잭션(TelemetryService)은 이벤트를 (conversationId, turnId, eventId) 순으로 저장하므로,
+ * 동시에 들어온 배치끼리 재질문 window 행을 엇갈린 순서로 잠그지 않습니다.</p>
+ *
+ * <p>함께 정리하는 데이터: chat_latency_sketch는 chat_turn_fact 트리거가 채우고 LatencySketchService가
+ * 압축하며, 여기서는 파티션과 같은 보존 기간이 지난 행을 삭제합니다. 재질문 판정용 conversation window는
+ * 일정 기간 갱신이 없으면 삭제합니다.</p>
+ */
+@Slf4j
+@Service
+public class TelemetryPartitionService {
+
+    private final TelemetryEventRepository telemetryEventRepository;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final int intentWindowIdleDays;
+
+    private final Set<YearMonth> knownPartitions = ConcurrentHashMap.newKeySet();
+
+    public TelemetryPartitionService(
+        TelemetryEventRepository telemetryEventRepository,
+        @Value("${app.telemetry.partition.months-ahead:3}") int monthsAhead,
+        @Value("${app.telemetry.partition.retention-months:13}") int retentionMonths,
+        @Value("${app.telemetry.repeat-intent.window-idle-days:7}") int intentWindowIdleDays
+    ) {
+        this.telemetryEventRepository = telemetryEventRepository;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.intentWindowIdleDays = intentWindowIdleDays;
+    }
+
+    /**
+     * 향후 파티션 생성 + 보존 기간 경과 파티션 삭제
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.telemetry.partition.maintenance-cron:0 10 3 * * *}", zone = "UTC")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void maintainPartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        List<String> dropped = telemetryEventRepository.dropPartitionsBefore(oldestKept.atDay(1));
+        knownPartitions.removeIf(month -> month.isBefore(oldestKept));
+        // 지연시간 스케치도 같은 보존 기간 적용
+        telemetryEventRepository.deleteLatencySketchesBefore(oldestKept.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+        // 끝난 대화의 재질문 window 정리 (이후 같은 conversation 턴이 오면 빈 window부터 다시 시작)
+        telemetryEventRepository.deleteIdleIntentWindows(Instant.now().minus(Duration.ofDays(intentWindowIdleDays)));
+        if (!dropped.isEmpty()) {
+            log.info("[텔레메트리 파티션] 보존 기간 경과 파티션 삭제: dropped={}, retentionMonths={}",
+                dropped, retentionMonths);
+        }
+    }
+
+    /**
+     * 이벤트 발생 시각이 속한 달의 파티션이 있는지 확인하고, 없으면 생성
+     *
+     * @param occurredAts 수집할 이벤트들의 발생 시각
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void ensurePartitions(Collection<Instant> occurredAts) {
+        for (Instant occurredAt : occurredAts) {
+            if (occurredAt == null) {
+                continue;
+            }
+            YearMonth month = YearMonth.from(occurredAt.atZone(ZoneOffset.UTC));
+            if (!knownPartitions.contains(month)) {
+                createPartition(month);
+            }
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        LocalDate firstDay = month.atDay(1);
+        String partition = telemetryEventRepository.createMonthlyPartition(firstDay);
+        if (knownPartitions.add(month)) {
+            log.debug("[텔레메트리 파티션] 파티션 확인: partition={}", partition);
+        }
+    }
+}
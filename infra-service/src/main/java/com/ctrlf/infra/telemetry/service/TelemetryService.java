@@ -3,36 +3,78 @@ package com.ctrlf.infra.telemetry.service;
 import com.ctrlf.infra.telemetry.dto.TelemetryDtos;
 import com.ctrlf.infra.telemetry.entity.TelemetryEvent;
 import com.ctrlf.infra.telemetry.repository.TelemetryEventRepository;
+import com.ctrlf.infra.telemetry.sketch.LatencySketch;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import com.ctrlf.infra.config.metrics.CustomMetrics;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 텔레메트리 서비스
+ *
+ * <p>CHAT_TURN 지표(지연시간, PII, 재질문 등)는 수집 시 트리거로 채워지는 chat_turn_fact의
+ * 정형 컬럼을 SQL로 집계하며, 이벤트 목록을 애플리케이션으로 가져와 payload를 파싱하지 않습니다.</p>
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class TelemetryService {
 
+    /**
+     * 배치 내 저장 순서 (conversationId → turnId → eventId)
+     * - V24 트리거가 conversation window 행을, INSERT가 event_id 유니크 키를 트랜잭션 끝까지 잠그므로
+     *   모든 배치가 같은 순서로 잠가 배치 간 교착 상태를 막음 (같은 이벤트는 항상 같은 conversation/turn)
+     */
+    private static final Comparator<TelemetryDtos.EventItem> INSERT_ORDER = Comparator
+        .comparing(TelemetryDtos.EventItem::getConversationId, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(TelemetryDtos.EventItem::getTurnId, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(TelemetryDtos.EventItem::getEventId, Comparator.nullsLast(Comparator.naturalOrder()));
+
     private final TelemetryEventRepository telemetryEventRepository;
     private final ObjectMapper objectMapper;
     private final CustomMetrics customMetrics;
+    private final TelemetryPartitionService telemetryPartitionService;
+    private final LatencySketchService latencySketchService;
+    /** 이벤트별 savepoint (한 건이 실패해도 PostgreSQL 트랜잭션이 abort되지 않도록) */
+    private final TransactionTemplate savepoint;
+
+    public TelemetryService(
+        TelemetryEventRepository telemetryEventRepository,
+        ObjectMapper objectMapper,
+        CustomMetrics customMetrics,
+        TelemetryPartitionService telemetryPartitionService,
+        LatencySketchService latencySketchService,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.telemetryEventRepository = telemetryEventRepository;
+        this.objectMapper = objectMapper;
+        this.customMetrics = customMetrics;
+        this.telemetryPartitionService = telemetryPartitionService;
+        this.latencySketchService = latencySketchService;
+        this.savepoint = new TransactionTemplate(transactionManager);
+        this.savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
 
     /**
      * 텔레메트리 이벤트 수집 (배치 처리, Idempotent)
+     *
+     * <p>payload 직렬화는 INSERT 전에 검증하고, INSERT는 이벤트마다 savepoint 안에서 실행합니다.
+     * DB 오류가 난 이벤트만 그 savepoint까지 롤백되므로 나머지 이벤트는 같은 트랜잭션에서 계속 저장됩니다.</p>
      */
     public TelemetryDtos.TelemetryEventResponse collectEvents(
         TelemetryDtos.TelemetryEventRequest request
@@ -42,42 +84,55 @@ public class TelemetryService {
         int rejected = 0;
         List<TelemetryDtos.ErrorItem> errors = new ArrayList<>();
 
-        for (TelemetryDtos.EventItem eventItem : request.getEvents()) {
+        // 이벤트가 들어갈 월 파티션 확보 (미리 만들어 둔 달이면 DB 호출 없음)
+        telemetryPartitionService.ensurePartitions(
+            request.getEvents().stream().map(TelemetryDtos.EventItem::getOccurredAt).toList()
+        );
+        Instant receivedAt = Instant.now();
+
+        for (TelemetryDtos.EventItem eventItem : request.getEvents().stream().sorted(INSERT_ORDER).toList()) {
+            String payload;
             try {
-                // Idempotency 체크
-                if (telemetryEventRepository.findByEventId(eventItem.getEventId()).isPresent()) {
-                    // 이미 존재하는 이벤트는 무시 (Idempotent)
-                    accepted++;
-                    continue;
-                }
+                payload = objectMapper.writeValueAsString(eventItem.getPayload());
+            } catch (JsonProcessingException e) {
+                rejected++;
+                errors.add(new TelemetryDtos.ErrorItem(
+                    eventItem.getEventId(),
+                    "VALIDATION_ERROR",
+                    e.getOriginalMessage()
+                ));
+                log.warn("텔레메트리 이벤트 payload 직렬화 실패: eventId={}, error={}",
+                    eventItem.getEventId(), e.getOriginalMessage());
+                continue;
+            }
 
-                // 이벤트 저장
-                TelemetryEvent event = new TelemetryEvent();
-                event.setEventId(eventItem.getEventId());
-                event.setSource(request.getSource());
-                event.setSentAt(request.getSentAt());
-                event.setEventType(eventItem.getEventType());
-                event.setTraceId(eventItem.getTraceId());
-                event.setConversationId(eventItem.getConversationId());
-                event.setTurnId(eventItem.getTurnId());
-                event.setUserId(eventItem.getUserId());
-                event.setDeptId(eventItem.getDeptId());
-                event.setOccurredAt(eventItem.getOccurredAt());
-                event.setPayload(eventItem.getPayload());
-                event.setReceivedAt(Instant.now());
-
-                telemetryEventRepository.save(event);
+            try {
+                // 이벤트 저장 (이미 존재하는 이벤트는 ON CONFLICT로 무시, Idempotent)
+                savepoint.execute(status -> telemetryEventRepository.insertIgnoringDuplicate(
+                    eventItem.getEventId(),
+                    request.getSource(),
+                    request.getSentAt(),
+                    eventItem.getEventType(),
+                    eventItem.getTraceId(),
+                    eventItem.getConversationId(),
+                    eventItem.getTurnId(),
+                    eventItem.getUserId(),
+                    eventItem.getDeptId(),
+                    eventItem.getOccurredAt(),
+                    payload,
+                    receivedAt
+                ));
                 accepted++;
 
-            } catch (Exception e) {
+            } catch (DataAccessException e) {
                 rejected++;
                 errors.add(new TelemetryDtos.ErrorItem(
                     eventItem.getEventId(),
                     "PROCESSING_ERROR",
-                    e.getMessage()
+                    e.getMostSpecificCause().getMessage()
                 ));
                 log.warn("텔레메트리 이벤트 저장 실패: eventId={}, error={}", 
-                    eventItem.getEventId(), e.getMessage());
+                    eventItem.getEventId(), e.getMostSpecificCause().getMessage());
             }
         }
 
@@ -150,60 +205,53 @@ public class TelemetryService {
         Instant startDate = periodRange[0];
         Instant endDate = periodRange[1];
 
-        // CHAT_TURN 이벤트 조회
-        List<TelemetryEvent> chatTurnEvents = telemetryEventRepository
-            .findByEventTypeAndPeriodAndDept("CHAT_TURN", startDate, endDate, dept);
-
-        // FEEDBACK 이벤트 조회
-        List<TelemetryEvent> feedbackEvents = telemetryEventRepository
-            .findByEventTypeAndPeriodAndDept("FEEDBACK", startDate, endDate, dept);
-
-        // 불만족도 계산
-        long dislikeCount = 0;
-        long likeCount = 0;
-        for (TelemetryEvent event : feedbackEvents) {
-            try {
-                Map<String, Object> payload = parsePayload(event.getPayload());
-                String feedback = (String) payload.get("feedback");
-                if ("dislike".equals(feedback)) {
-                    dislikeCount++;
-                } else if ("like".equals(feedback)) {
-                    likeCount++;
-                }
-            } catch (Exception e) {
-                log.debug("[성능 지표] 피드백 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                    event.getEventId(), e.getMessage());
-            }
-        }
+        // 불만족도 계산 (FEEDBACK 이벤트)
+        Object[] feedbackCounts = firstRow(telemetryEventRepository.countFeedbackByValue(startDate, endDate, dept));
+        long likeCount = toLong(feedbackCounts[0]);
+        long dislikeCount = toLong(feedbackCounts[1]);
         double dislikeRate = (likeCount + dislikeCount > 0) 
             ? (double) dislikeCount / (likeCount + dislikeCount) 
             : 0.0;
 
         // 재질문률 계산 (MVP: 동일 conversation, 최근 3턴 내, 같은 intentMain 반복)
-        double repeatRate = calculateRepeatRate(chatTurnEvents);
-
-        // OOS 카운트
-        int oosCount = 0;
-        for (TelemetryEvent event : chatTurnEvents) {
-            try {
-                Map<String, Object> payload = parsePayload(event.getPayload());
-                Boolean oos = (Boolean) payload.get("oos");
-                if (Boolean.TRUE.equals(oos)) {
-                    oosCount++;
-                }
-            } catch (Exception e) {
-                log.debug("[성능 지표] 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                    event.getEventId(), e.getMessage());
-            }
-        }
-
-        // 지연시간 히스토그램
-        List<TelemetryDtos.LatencyHistogramItem> latencyHistogram = 
-            calculateLatencyHistogram(chatTurnEvents);
+        Object[] repeatCounts = firstRow(telemetryEventRepository.countRepeatedIntentTurns(startDate, endDate, dept));
+        long totalTurns = toLong(repeatCounts[0]);
+        double repeatRate = totalTurns > 0 ? (double) toLong(repeatCounts[1]) / totalTurns : 0.0;
+
+        // OOS 카운트 + 지연시간 히스토그램
+        Object[] latency = firstRow(telemetryEventRepository.aggregateChatTurnLatency(startDate, endDate, dept));
+        int oosCount = (int) toLong(latency[0]);
+        List<TelemetryDtos.LatencyHistogramItem> latencyHistogram = List.of(
+            new TelemetryDtos.LatencyHistogramItem("0-500ms", toLong(latency[1])),
+            new TelemetryDtos.LatencyHistogramItem("0.5-1s", toLong(latency[2])),
+            new TelemetryDtos.LatencyHistogramItem("1-2s", toLong(latency[3])),
+            new TelemetryDtos.LatencyHistogramItem("2s+", toLong(latency[4]))
+        );
 
-        // 모델별 평균 지연시간
-        List<TelemetryDtos.ModelLatencyItem> modelLatency = 
-            calculateModelLatency(chatTurnEvents);
+        // 모델별 LLM 지연시간 (평균 + 퍼센타일, 분 단위 스케치 병합)
+        List<TelemetryDtos.ModelLatencyItem> modelLatency = new ArrayList<>();
+        latencySketchService.mergeByModel(LatencySketchService.METRIC_LLM, startDate, endDate, dept)
+            .forEach((model, sketch) -> modelLatency.add(new TelemetryDtos.ModelLatencyItem(
+                model,
+                (double) sketch.sum() / sketch.count(),
+                Math.round(sketch.quantile(0.50)),
+                Math.round(sketch.quantile(0.95)),
+                Math.round(sketch.quantile(0.99))
+            )));
+        modelLatency.sort(Comparator.comparing(TelemetryDtos.ModelLatencyItem::getModel));
+
+        // 전체 응답 시간 퍼센타일 (모델 스케치를 모두 병합)
+        LatencySketch total = new LatencySketch();
+        latencySketchService.mergeByModel(LatencySketchService.METRIC_TOTAL, startDate, endDate, dept)
+            .values()
+            .forEach(total::merge);
+        TelemetryDtos.LatencyPercentiles latencyPercentiles = new TelemetryDtos.LatencyPercentiles(
+            total.count(),
+            Math.round(total.quantile(0.50)),
+            Math.round(total.quantile(0.95)),
+            Math.round(total.quantile(0.99)),
+            total.max()
+        );
 
         return new TelemetryDtos.PerformanceMetricsResponse(
             dislikeRate,
@@ -211,7 +259,8 @@ public class TelemetryService {
             "MVP: same conversation, within last 3 turns, same intentMain repeated",
             oosCount,
             latencyHistogram,
-            modelLatency
+            modelLatency,
+            latencyPercentiles
         );
     }
 
@@ -251,207 +300,15 @@ public class TelemetryService {
     private List<TelemetryDtos.PiiTrendItem> calculatePiiTrend(
         Instant startDate, Instant endDate, String dept
     ) {
-        // CHAT_TURN 이벤트에서 PII 감지 정보 추출
-        List<TelemetryEvent> chatTurnEvents = telemetryEventRepository
-            .findByEventTypeAndPeriodAndDept("CHAT_TURN", startDate, endDate, dept);
-
-        // 주간별 집계를 위한 맵
-        Map<String, List<Boolean>> weekInputPii = new java.util.HashMap<>();
-        Map<String, List<Boolean>> weekOutputPii = new java.util.HashMap<>();
-
-        for (TelemetryEvent event : chatTurnEvents) {
-            try {
-                Map<String, Object> payload = parsePayload(event.getPayload());
-                Boolean piiInput = (Boolean) payload.get("piiDetectedInput");
-                Boolean piiOutput = (Boolean) payload.get("piiDetectedOutput");
-
-                // 주간 버킷 계산 (ISO 주 기준)
-                String weekKey = getWeekKey(event.getOccurredAt());
-
-                if (piiInput != null) {
-                    weekInputPii.computeIfAbsent(weekKey, k -> new ArrayList<>()).add(piiInput);
-                }
-                if (piiOutput != null) {
-                    weekOutputPii.computeIfAbsent(weekKey, k -> new ArrayList<>()).add(piiOutput);
-                }
-            } catch (Exception e) {
-                log.debug("[PII 추이] 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                    event.getEventId(), e.getMessage());
-            }
-        }
-
-        // 주간별 비율 계산
         List<TelemetryDtos.PiiTrendItem> result = new ArrayList<>();
-        for (String weekKey : weekInputPii.keySet()) {
-            List<Boolean> inputList = weekInputPii.get(weekKey);
-            List<Boolean> outputList = weekOutputPii.getOrDefault(weekKey, new ArrayList<>());
-
-            double inputDetectRate = inputList.stream()
-                .mapToInt(b -> Boolean.TRUE.equals(b) ? 1 : 0)
-                .sum() / (double) inputList.size();
-
-            double outputDetectRate = outputList.isEmpty() ? 0.0 :
-                outputList.stream()
-                    .mapToInt(b -> Boolean.TRUE.equals(b) ? 1 : 0)
-                    .sum() / (double) outputList.size();
-
-            result.add(new TelemetryDtos.PiiTrendItem(weekKey, inputDetectRate, outputDetectRate));
+        for (Object[] row : telemetryEventRepository.piiDetectRateByWeek(
+                startDate, endDate, dept, ZoneId.systemDefault().getId())) {
+            result.add(new TelemetryDtos.PiiTrendItem(
+                (String) row[0],
+                ((Number) row[1]).doubleValue(),
+                ((Number) row[2]).doubleValue()
+            ));
         }
-
-        // 주간 키로 정렬
-        result.sort((a, b) -> a.getBucketStart().compareTo(b.getBucketStart()));
-
-        return result;
-    }
-
-    /**
-     * 주간 키 생성 (YYYY-MM-DD 형식, 주의 시작일)
-     */
-    private String getWeekKey(Instant instant) {
-        LocalDate date = instant.atZone(ZoneId.systemDefault()).toLocalDate();
-        LocalDate weekStart = date.minusDays(date.getDayOfWeek().getValue() - 1);
-        return weekStart.toString();
-    }
-
-    /**
-     * 재질문률 계산 (MVP: 동일 conversation, 최근 3턴 내, 같은 intentMain 반복)
-     */
-    private double calculateRepeatRate(List<TelemetryEvent> chatTurnEvents) {
-        if (chatTurnEvents.isEmpty()) {
-            return 0.0;
-        }
-
-        // conversationId별로 그룹화
-        Map<String, List<TelemetryEvent>> byConversation = new java.util.HashMap<>();
-        for (TelemetryEvent event : chatTurnEvents) {
-            if (event.getConversationId() != null) {
-                byConversation.computeIfAbsent(event.getConversationId(), k -> new ArrayList<>())
-                    .add(event);
-            }
-        }
-
-        int repeatCount = 0;
-        int totalTurns = chatTurnEvents.size();
-
-        for (List<TelemetryEvent> turns : byConversation.values()) {
-            // turnId로 정렬
-            turns.sort((a, b) -> {
-                if (a.getTurnId() == null && b.getTurnId() == null) return 0;
-                if (a.getTurnId() == null) return -1;
-                if (b.getTurnId() == null) return 1;
-                return a.getTurnId().compareTo(b.getTurnId());
-            });
-
-            // 최근 3턴 내에서 같은 intentMain 반복 체크
-            for (int i = 0; i < turns.size(); i++) {
-                TelemetryEvent current = turns.get(i);
-                try {
-                    Map<String, Object> currentPayload = parsePayload(current.getPayload());
-                    String currentIntent = (String) currentPayload.get("intentMain");
-
-                    if (currentIntent == null) continue;
-
-                    // 최근 3턴 내 확인
-                    for (int j = Math.max(0, i - 3); j < i; j++) {
-                        TelemetryEvent prev = turns.get(j);
-                        try {
-                            Map<String, Object> prevPayload = parsePayload(prev.getPayload());
-                            String prevIntent = (String) prevPayload.get("intentMain");
-
-                            if (currentIntent.equals(prevIntent)) {
-                                repeatCount++;
-                                break; // 한 턴당 한 번만 카운트
-                            }
-                        } catch (Exception e) {
-                            log.debug("[재질문률] 이전 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                                prev.getEventId(), e.getMessage());
-                        }
-                    }
-                } catch (Exception e) {
-                    log.debug("[재질문률] 현재 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                        current.getEventId(), e.getMessage());
-                }
-            }
-        }
-
-        return totalTurns > 0 ? (double) repeatCount / totalTurns : 0.0;
-    }
-
-    /**
-     * 지연시간 히스토그램 계산
-     */
-    private List<TelemetryDtos.LatencyHistogramItem> calculateLatencyHistogram(
-        List<TelemetryEvent> chatTurnEvents
-    ) {
-        long count0_500 = 0;
-        long count500_1000 = 0;
-        long count1000_2000 = 0;
-        long count2000Plus = 0;
-
-        for (TelemetryEvent event : chatTurnEvents) {
-            try {
-                Map<String, Object> payload = parsePayload(event.getPayload());
-                Object latencyObj = payload.get("latencyMsTotal");
-                if (latencyObj instanceof Number) {
-                    long latency = ((Number) latencyObj).longValue();
-                    if (latency < 500) {
-                        count0_500++;
-                    } else if (latency < 1000) {
-                        count500_1000++;
-                    } else if (latency < 2000) {
-                        count1000_2000++;
-                    } else {
-                        count2000Plus++;
-                    }
-                }
-            } catch (Exception e) {
-                log.debug("[지연시간 히스토그램] 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                    event.getEventId(), e.getMessage());
-            }
-        }
-
-        List<TelemetryDtos.LatencyHistogramItem> histogram = new ArrayList<>();
-        histogram.add(new TelemetryDtos.LatencyHistogramItem("0-500ms", count0_500));
-        histogram.add(new TelemetryDtos.LatencyHistogramItem("0.5-1s", count500_1000));
-        histogram.add(new TelemetryDtos.LatencyHistogramItem("1-2s", count1000_2000));
-        histogram.add(new TelemetryDtos.LatencyHistogramItem("2s+", count2000Plus));
-
-        return histogram;
-    }
-
-    /**
-     * 모델별 평균 지연시간 계산
-     */
-    private List<TelemetryDtos.ModelLatencyItem> calculateModelLatency(
-        List<TelemetryEvent> chatTurnEvents
-    ) {
-        Map<String, List<Long>> modelLatencies = new java.util.HashMap<>();
-
-        for (TelemetryEvent event : chatTurnEvents) {
-            try {
-                Map<String, Object> payload = parsePayload(event.getPayload());
-                String model = (String) payload.get("model");
-                Object latencyObj = payload.get("latencyMsLlm");
-                
-                if (model != null && latencyObj instanceof Number) {
-                    modelLatencies.computeIfAbsent(model, k -> new ArrayList<>())
-                        .add(((Number) latencyObj).longValue());
-                }
-            } catch (Exception e) {
-                log.debug("[모델별 지연시간] 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                    event.getEventId(), e.getMessage());
-            }
-        }
-
-        List<TelemetryDtos.ModelLatencyItem> result = new ArrayList<>();
-        for (Map.Entry<String, List<Long>> entry : modelLatencies.entrySet()) {
-            double avg = entry.getValue().stream()
-                .mapToLong(Long::longValue)
-                .average()
-                .orElse(0.0);
-            result.add(new TelemetryDtos.ModelLatencyItem(entry.getKey(), avg));
-        }
-
         return result;
     }
 
@@ -502,6 +359,17 @@ public class TelemetryService {
         );
     }
 
+    /**
+     * 집계 쿼리 결과 첫 행 (집계 함수만 있는 쿼리는 항상 한 행)
+     */
+    private static Object[] firstRow(List<Object[]> rows) {
+        return rows.get(0);
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
     /**
      * Payload 파싱 (JSON 문자열 또는 Map 지원)
      */
@@ -0,0 +1,133 @@
+package com.ctrlf.infra.telemetry.sketch;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 병합 가능한 지연시간 스케치 (로그 버킷, 상대 오차 보장)
+ *
+ * <p>값 x(ms)를 γ = (1+α)/(1-α) 밑의 로그 버킷에 세어 두고, 퍼센타일은 해당 버킷의 대표값으로 답합니다.
+ * 대표값과 실제 값의 상대 오차는 α({@link #RELATIVE_ACCURACY}) 이하입니다. (0ms는 별도 버킷으로 정확히 보관)</p>
+ * <p>버킷 인덱스는 모든 스케치에서 같으므로 두 스케치의 병합은 버킷별 카운트 합이며, 병합 결과는
+ * 모든 값을 한 스케치에 넣은 것과 같습니다. 1시간(3,600,000ms)까지의 값이 약 610개 버킷에 들어갑니다.</p>
+ * <p>α를 바꾸면 이미 저장된 스케치와 버킷 경계가 달라지므로 상수로 고정합니다.</p>
+ */
+public final class LatencySketch {
+
+    /** 퍼센타일 상대 오차 상한 (1%) */
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    /** 버킷 인덱스 → 카운트 (인덱스 오름차순 = 값 오름차순) */
+    private final NavigableMap<Integer, Long> bins = new TreeMap<>();
+    private long count;
+    private long sum;
+    private long max;
+
+    /**
+     * 값 기록
+     *
+     * @param latencyMs 지연시간 (음수는 0으로 간주)
+     */
+    public void add(long latencyMs) {
+        long value = Math.max(0, latencyMs);
+        bins.merge(indexOf(value), 1L, Long::sum);
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * 저장된 버킷 카운트 병합 (합계/최댓값은 갱신하지 않음)
+     */
+    public void addBin(int index, long binCount) {
+        if (binCount <= 0) {
+            return;
+        }
+        bins.merge(index, binCount, Long::sum);
+        count += binCount;
+    }
+
+    /**
+     * 저장된 합계/최댓값 병합 ({@link #addBin}과 함께 사용)
+     */
+    public void addSummary(long summarySum, long summaryMax) {
+        sum += summarySum;
+        max = Math.max(max, summaryMax);
+    }
+
+    /**
+     * 다른 스케치 병합
+     */
+    public void merge(LatencySketch other) {
+        other.bins.forEach(this::addBin);
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * nearest-rank 퍼센타일 근사값 (상대 오차 α 이하)
+     *
+     * @param quantile 0 초과 1 이하 (예: 0.95)
+     * @return 근사 지연시간 (ms), 값이 없으면 0
+     */
+    public double quantile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+            seen += bin.getValue();
+            if (seen >= rank) {
+                return valueOf(bin.getKey());
+            }
+        }
+        return valueOf(bins.lastKey());
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /** 기록한 값의 합 ({@link #addBin}으로 병합한 버킷은 {@link #addSummary}로 더한 값만 포함) */
+    public long sum() {
+        return sum;
+    }
+
+    /** 기록한 값의 최댓값 */
+    public long max() {
+        return max;
+    }
+
+    /** 버킷 인덱스 → 카운트 (읽기 전용) */
+    public Map<Integer, Long> bins() {
+        return Collections.unmodifiableMap(bins);
+    }
+
+    /**
+     * 값이 속한 버킷 인덱스
+     * - 0: 0ms, i ≥ 1: (γ^(i-2), γ^(i-1)] 구간
+     * - 저장은 DB 함수 telemetry.latency_sketch_index(V25)가 같은 계산으로 수행
+     */
+    static int indexOf(long latencyMs) {
+        if (latencyMs <= 0) {
+            return 0;
+        }
+        return 1 + (int) Math.ceil(Math.log(latencyMs) / LOG_GAMMA);
+    }
+
+    /**
+     * 버킷 대표값 (구간 양 끝과의 상대 오차가 같아지는 값)
+     */
+    static double valueOf(int index) {
+        if (index <= 0) {
+            return 0;
+        }
+        return 2 * Math.pow(GAMMA, index - 1) / (GAMMA + 1);
+    }
+}
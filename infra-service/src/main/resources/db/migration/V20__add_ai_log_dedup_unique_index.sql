@@ -0,0 +1,26 @@
+-- V20: ai_log 중복 방지 유니크 인덱스
+-- Bulk 저장 시 건별 SELECT 대신 INSERT ... ON CONFLICT DO NOTHING 으로 중복을 걸러내기 위함
+SET search_path = infra;
+
+-- 기존 중복 행 정리 (같은 trace_id + conversation_id + turn_id 중 가장 먼저 수신된 행만 유지)
+DELETE FROM "ai_log" a
+USING (
+  SELECT "id",
+         ROW_NUMBER() OVER (
+           PARTITION BY "trace_id", "conversation_id", "turn_id"
+           ORDER BY "received_at", "id"
+         ) AS rn
+  FROM "ai_log"
+  WHERE "trace_id" IS NOT NULL
+    AND "conversation_id" IS NOT NULL
+    AND "turn_id" IS NOT NULL
+) d
+WHERE a."id" = d."id"
+  AND d.rn > 1;
+
+-- NULL이 포함된 행은 서로 충돌하지 않으므로 기존 중복 체크 규칙(세 값 모두 있을 때만)과 동일
+CREATE UNIQUE INDEX IF NOT EXISTS "uk_ai_log_trace_conversation_turn"
+  ON "ai_log" ("trace_id", "conversation_id", "turn_id");
+
+-- 유니크 인덱스의 선두 컬럼과 겹치는 인덱스 제거
+DROP INDEX IF EXISTS "idx_ai_log_trace_id";
@@ -0,0 +1,121 @@
+-- V21: telemetry_event 월 단위 범위 파티셔닝
+-- - occurred_at 기준 RANGE 파티션 (telemetry_event_YYYYMM, UTC 월 경계)
+-- - 보존 기간이 지난 데이터는 DELETE 대신 파티션 DROP
+-- - 시간 컬럼은 BRIN 인덱스로 커버 (월 파티션 내에서는 occurred_at이 거의 단조 증가)
+-- 파티션 키가 PK에 포함되어야 하므로 PK는 (event_id, occurred_at)으로 변경됩니다.
+SET search_path = telemetry;
+
+-- 1. 기존 테이블을 legacy로 이름 변경 (인덱스/제약 이름 충돌 방지)
+ALTER TABLE "telemetry_event" RENAME TO "telemetry_event_legacy";
+ALTER TABLE "telemetry_event_legacy" RENAME CONSTRAINT "telemetry_event_pkey" TO "telemetry_event_legacy_pkey";
+DROP INDEX IF EXISTS "idx_telemetry_event_occurred_at";
+DROP INDEX IF EXISTS "idx_telemetry_event_dept_occurred";
+DROP INDEX IF EXISTS "idx_telemetry_event_type_occurred";
+DROP INDEX IF EXISTS "idx_telemetry_event_conversation_turn";
+
+-- 2. 파티션 부모 테이블
+CREATE TABLE "telemetry_event" (
+  "event_id" uuid NOT NULL,
+  "source" varchar(50) NOT NULL,
+  "sent_at" timestamptz NOT NULL,
+  "event_type" varchar(30) NOT NULL,
+  "trace_id" varchar(200) NOT NULL,
+  "conversation_id" varchar(100),
+  "turn_id" int,
+  "user_id" varchar(64) NOT NULL,
+  "dept_id" varchar(64) NOT NULL,
+  "occurred_at" timestamptz NOT NULL,
+  "payload" jsonb NOT NULL,
+  "received_at" timestamptz NOT NULL DEFAULT now(),
+  PRIMARY KEY ("event_id", "occurred_at")
+) PARTITION BY RANGE ("occurred_at");
+
+-- 부모에 만든 인덱스는 이후 생성되는 파티션에도 자동으로 만들어짐
+CREATE INDEX "idx_telemetry_event_occurred_at_brin" ON "telemetry_event" USING brin ("occurred_at");
+CREATE INDEX "idx_telemetry_event_dept_occurred" ON "telemetry_event" ("dept_id", "occurred_at");
+CREATE INDEX "idx_telemetry_event_type_occurred" ON "telemetry_event" ("event_type", "occurred_at");
+CREATE INDEX "idx_telemetry_event_conversation_turn" ON "telemetry_event" ("conversation_id", "turn_id");
+
+COMMENT ON TABLE "telemetry_event" IS 'AI에서 수집한 텔레메트리 이벤트 (occurred_at 월 단위 파티션)';
+COMMENT ON COLUMN "telemetry_event"."event_id" IS 'Idempotency key (AI eventId)';
+COMMENT ON COLUMN "telemetry_event"."source" IS 'ai-gateway 등';
+COMMENT ON COLUMN "telemetry_event"."sent_at" IS 'AI가 전송한 시각';
+COMMENT ON COLUMN "telemetry_event"."event_type" IS 'CHAT_TURN | FEEDBACK | SECURITY';
+COMMENT ON COLUMN "telemetry_event"."trace_id" IS 'X-Trace-Id (UUID 또는 문자열)';
+COMMENT ON COLUMN "telemetry_event"."conversation_id" IS 'X-Conversation-Id';
+COMMENT ON COLUMN "telemetry_event"."turn_id" IS 'X-Turn-Id';
+COMMENT ON COLUMN "telemetry_event"."user_id" IS 'X-User-Id (또는 user_uuid)';
+COMMENT ON COLUMN "telemetry_event"."dept_id" IS 'X-Dept-Id';
+COMMENT ON COLUMN "telemetry_event"."occurred_at" IS 'occurredAt (파티션 키)';
+COMMENT ON COLUMN "telemetry_event"."payload" IS 'eventType별 payload 원문';
+COMMENT ON COLUMN "telemetry_event"."received_at" IS '백엔드 수신 시각';
+
+-- 3. 월 파티션 생성 함수 (이미 있으면 건너뜀). 애플리케이션 스케줄러와 수집 경로에서 호출
+CREATE OR REPLACE FUNCTION telemetry.create_telemetry_event_partition(p_month date)
+RETURNS text
+LANGUAGE plpgsql
+AS $$
+DECLARE
+  v_month date := date_trunc('month', p_month)::date;
+  v_name text := 'telemetry_event_' || to_char(v_month, 'YYYYMM');
+  v_from timestamptz := v_month::timestamp AT TIME ZONE 'UTC';
+  v_to timestamptz := (v_month + interval '1 month')::timestamp AT TIME ZONE 'UTC';
+BEGIN
+  EXECUTE format(
+    'CREATE TABLE IF NOT EXISTS telemetry.%I PARTITION OF telemetry.telemetry_event FOR VALUES FROM (%L) TO (%L)',
+    v_name, v_from, v_to
+  );
+  RETURN v_name;
+END;
+$$;
+
+-- 4. 보존 기간 정리 함수: p_cutoff가 속한 달보다 이전 달의 파티션을 DROP하고 이름을 반환
+CREATE OR REPLACE FUNCTION telemetry.drop_telemetry_event_partitions_before(p_cutoff date)
+RETURNS SETOF text
+LANGUAGE plpgsql
+AS $$
+DECLARE
+  r record;
+BEGIN
+  FOR r IN
+    SELECT c.relname
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    JOIN pg_class p ON p.oid = i.inhparent
+    JOIN pg_namespace n ON n.oid = p.relnamespace
+    WHERE n.nspname = 'telemetry'
+      AND p.relname = 'telemetry_event'
+      AND c.relname ~ '^telemetry_event_[0-9]{6}$'
+      AND to_date(right(c.relname, 6), 'YYYYMM') < date_trunc('month', p_cutoff)::date
+    ORDER BY c.relname
+  LOOP
+    EXECUTE format('DROP TABLE telemetry.%I', r.relname);
+    RETURN NEXT r.relname;
+  END LOOP;
+END;
+$$;
+
+-- 5. 기존 데이터 범위 + 향후 3개월 파티션 생성
+SELECT telemetry.create_telemetry_event_partition(m::date)
+FROM generate_series(
+  date_trunc('month', COALESCE((SELECT min("occurred_at") FROM "telemetry_event_legacy"), now()) AT TIME ZONE 'UTC'),
+  GREATEST(
+    date_trunc('month', COALESCE((SELECT max("occurred_at") FROM "telemetry_event_legacy"), now()) AT TIME ZONE 'UTC'),
+    date_trunc('month', now() AT TIME ZONE 'UTC') + interval '3 months'
+  ),
+  interval '1 month'
+) AS m;
+
+-- 6. 기존 데이터 이관 후 legacy 테이블 삭제
+INSERT INTO "telemetry_event" (
+  "event_id", "source", "sent_at", "event_type", "trace_id", "conversation_id", "turn_id",
+  "user_id", "dept_id", "occurred_at", "payload", "received_at"
+)
+SELECT
+  "event_id", "source", "sent_at", "event_type", "trace_id", "conversation_id", "turn_id",
+  "user_id", "dept_id", "occurred_at", "payload", "received_at"
+FROM "telemetry_event_legacy";
+
+DROP TABLE "telemetry_event_legacy";
+
+ANALYZE "telemetry_event";
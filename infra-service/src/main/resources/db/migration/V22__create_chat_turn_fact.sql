@@ -0,0 +1,194 @@
+-- V22: CHAT_TURN 집계용 정형 팩트 테이블 (chat_turn_fact)
+-- - 대시보드/지표에서 쓰는 payload 필드만 타입이 있는 컬럼으로 보관 (payload 원문은 telemetry_event에 그대로 유지)
+-- - telemetry_event에 CHAT_TURN이 INSERT될 때 트리거로 함께 채움 (수집 API, 시드 등 모든 저장 경로 공통)
+-- - telemetry_event와 같은 occurred_at 월 파티션(UTC 경계)을 사용하며, 파티션 생성/DROP 함수가 두 테이블을 함께 관리
+SET search_path = telemetry;
+
+-- 1. 팩트 테이블
+CREATE TABLE "chat_turn_fact" (
+  "event_id" uuid NOT NULL,
+  "occurred_at" timestamptz NOT NULL,
+  "user_id" varchar(64) NOT NULL,
+  "dept_id" varchar(64) NOT NULL,
+  "conversation_id" varchar(100),
+  "turn_id" int,
+  "domain" varchar(50),
+  "intent_main" varchar(100),
+  "model" varchar(100),
+  "latency_ms_total" bigint,
+  "latency_ms_llm" bigint,
+  "error_code" varchar(100),
+  "pii_detected_input" boolean,
+  "pii_detected_output" boolean,
+  "rag_used" boolean,
+  "oos" boolean,
+  PRIMARY KEY ("event_id", "occurred_at")
+) PARTITION BY RANGE ("occurred_at");
+
+CREATE INDEX "idx_chat_turn_fact_occurred_at_brin" ON "chat_turn_fact" USING brin ("occurred_at");
+CREATE INDEX "idx_chat_turn_fact_dept_occurred" ON "chat_turn_fact" ("dept_id", "occurred_at");
+CREATE INDEX "idx_chat_turn_fact_conversation_turn" ON "chat_turn_fact" ("conversation_id", "turn_id");
+
+COMMENT ON TABLE "chat_turn_fact" IS 'CHAT_TURN 이벤트 집계용 정형 컬럼 (telemetry_event 트리거로 채움, occurred_at 월 단위 파티션)';
+COMMENT ON COLUMN "chat_turn_fact"."domain" IS 'payload.domain (대문자, 공백 제거)';
+COMMENT ON COLUMN "chat_turn_fact"."intent_main" IS 'payload.intentMain';
+COMMENT ON COLUMN "chat_turn_fact"."model" IS 'payload.model';
+COMMENT ON COLUMN "chat_turn_fact"."latency_ms_total" IS 'payload.latencyMsTotal (숫자가 아니면 NULL)';
+COMMENT ON COLUMN "chat_turn_fact"."latency_ms_llm" IS 'payload.latencyMsLlm (숫자가 아니면 NULL)';
+COMMENT ON COLUMN "chat_turn_fact"."error_code" IS 'payload.errorCode (없으면 NULL = 정상 턴)';
+COMMENT ON COLUMN "chat_turn_fact"."pii_detected_input" IS 'payload.piiDetectedInput (boolean이 아니면 NULL)';
+COMMENT ON COLUMN "chat_turn_fact"."pii_detected_output" IS 'payload.piiDetectedOutput (boolean이 아니면 NULL)';
+COMMENT ON COLUMN "chat_turn_fact"."rag_used" IS 'payload.ragUsed';
+COMMENT ON COLUMN "chat_turn_fact"."oos" IS 'payload.oos (Out-of-Scope)';
+
+-- 2. payload 값 변환 함수 (타입이 맞지 않는 값은 NULL, 이벤트 저장을 실패시키지 않음)
+CREATE OR REPLACE FUNCTION telemetry.jsonb_bigint_or_null(p_value jsonb)
+RETURNS bigint
+LANGUAGE sql
+IMMUTABLE
+AS $$
+  -- CASE 중첩: 숫자인지 먼저 확인한 뒤에만 numeric 변환 (AND는 평가 순서를 보장하지 않음)
+  SELECT CASE WHEN jsonb_typeof(p_value) = 'number' THEN
+    CASE WHEN abs((p_value #>> '{}')::numeric) < 9e18 THEN round((p_value #>> '{}')::numeric)::bigint END
+  END
+$$;
+
+CREATE OR REPLACE FUNCTION telemetry.jsonb_boolean_or_null(p_value jsonb)
+RETURNS boolean
+LANGUAGE sql
+IMMUTABLE
+AS $$
+  SELECT CASE WHEN jsonb_typeof(p_value) = 'boolean' THEN (p_value #>> '{}')::boolean END
+$$;
+
+CREATE OR REPLACE FUNCTION telemetry.jsonb_text_or_null(p_value jsonb, p_max_length int)
+RETURNS text
+LANGUAGE sql
+IMMUTABLE
+AS $$
+  SELECT CASE WHEN jsonb_typeof(p_value) <> 'null' THEN left(p_value #>> '{}', p_max_length) END
+$$;
+
+-- 3. telemetry_event → chat_turn_fact 트리거
+CREATE OR REPLACE FUNCTION telemetry.sync_chat_turn_fact()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+  IF NEW.event_type = 'CHAT_TURN' THEN
+    INSERT INTO telemetry.chat_turn_fact (
+      event_id, occurred_at, user_id, dept_id, conversation_id, turn_id,
+      domain, intent_main, model, latency_ms_total, latency_ms_llm, error_code,
+      pii_detected_input, pii_detected_output, rag_used, oos
+    )
+    VALUES (
+      NEW.event_id, NEW.occurred_at, NEW.user_id, NEW.dept_id, NEW.conversation_id, NEW.turn_id,
+      CASE WHEN jsonb_typeof(NEW.payload -> 'domain') = 'string'
+        THEN NULLIF(upper(btrim(left(NEW.payload ->> 'domain', 50))), '') END,
+      CASE WHEN jsonb_typeof(NEW.payload -> 'intentMain') = 'string'
+        THEN left(NEW.payload ->> 'intentMain', 100) END,
+      CASE WHEN jsonb_typeof(NEW.payload -> 'model') = 'string'
+        THEN left(NEW.payload ->> 'model', 100) END,
+      telemetry.jsonb_bigint_or_null(NEW.payload -> 'latencyMsTotal'),
+      telemetry.jsonb_bigint_or_null(NEW.payload -> 'latencyMsLlm'),
+      telemetry.jsonb_text_or_null(NEW.payload -> 'errorCode', 100),
+      telemetry.jsonb_boolean_or_null(NEW.payload -> 'piiDetectedInput'),
+      telemetry.jsonb_boolean_or_null(NEW.payload -> 'piiDetectedOutput'),
+      telemetry.jsonb_boolean_or_null(NEW.payload -> 'ragUsed'),
+      telemetry.jsonb_boolean_or_null(NEW.payload -> 'oos')
+    )
+    ON CONFLICT (event_id, occurred_at) DO NOTHING;
+  END IF;
+  RETURN NULL;
+END;
+$$;
+
+-- 4. 월 파티션 생성/삭제 함수가 chat_turn_fact 파티션도 함께 관리하도록 교체
+CREATE OR REPLACE FUNCTION telemetry.create_telemetry_event_partition(p_month date)
+RETURNS text
+LANGUAGE plpgsql
+AS $$
+DECLARE
+  v_month date := date_trunc('month', p_month)::date;
+  v_suffix text := to_char(v_month, 'YYYYMM');
+  v_from timestamptz := v_month::timestamp AT TIME ZONE 'UTC';
+  v_to timestamptz := (v_month + interval '1 month')::timestamp AT TIME ZONE 'UTC';
+BEGIN
+  EXECUTE format(
+    'CREATE TABLE IF NOT EXISTS telemetry.%I PARTITION OF telemetry.telemetry_event FOR VALUES FROM (%L) TO (%L)',
+    'telemetry_event_' || v_suffix, v_from, v_to
+  );
+  EXECUTE format(
+    'CREATE TABLE IF NOT EXISTS telemetry.%I PARTITION OF telemetry.chat_turn_fact FOR VALUES FROM (%L) TO (%L)',
+    'chat_turn_fact_' || v_suffix, v_from, v_to
+  );
+  RETURN 'telemetry_event_' || v_suffix;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION telemetry.drop_telemetry_event_partitions_before(p_cutoff date)
+RETURNS SETOF text
+LANGUAGE plpgsql
+AS $$
+DECLARE
+  r record;
+BEGIN
+  FOR r IN
+    SELECT c.relname
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    JOIN pg_class p ON p.oid = i.inhparent
+    JOIN pg_namespace n ON n.oid = p.relnamespace
+    WHERE n.nspname = 'telemetry'
+      AND p.relname = 'telemetry_event'
+      AND c.relname ~ '^telemetry_event_[0-9]{6}$'
+      AND to_date(right(c.relname, 6), 'YYYYMM') < date_trunc('month', p_cutoff)::date
+    ORDER BY c.relname
+  LOOP
+    EXECUTE format('DROP TABLE IF EXISTS telemetry.%I', 'chat_turn_fact_' || right(r.relname, 6));
+    EXECUTE format('DROP TABLE telemetry.%I', r.relname);
+    RETURN NEXT r.relname;
+  END LOOP;
+END;
+$$;
+
+-- 5. 기존 telemetry_event 파티션과 같은 달의 팩트 파티션 생성
+SELECT telemetry.create_telemetry_event_partition(to_date(right(c.relname, 6), 'YYYYMM'))
+FROM pg_inherits i
+JOIN pg_class c ON c.oid = i.inhrelid
+JOIN pg_class p ON p.oid = i.inhparent
+JOIN pg_namespace n ON n.oid = p.relnamespace
+WHERE n.nspname = 'telemetry'
+  AND p.relname = 'telemetry_event'
+  AND c.relname ~ '^telemetry_event_[0-9]{6}$';
+
+-- 6. 기존 CHAT_TURN 이벤트 backfill (트리거와 같은 변환)
+INSERT INTO "chat_turn_fact" (
+  "event_id", "occurred_at", "user_id", "dept_id", "conversation_id", "turn_id",
+  "domain", "intent_main", "model", "latency_ms_total", "latency_ms_llm", "error_code",
+  "pii_detected_input", "pii_detected_output", "rag_used", "oos"
+)
+SELECT
+  e."event_id", e."occurred_at", e."user_id", e."dept_id", e."conversation_id", e."turn_id",
+  CASE WHEN jsonb_typeof(e."payload" -> 'domain') = 'string'
+    THEN NULLIF(upper(btrim(left(e."payload" ->> 'domain', 50))), '') END,
+  CASE WHEN jsonb_typeof(e."payload" -> 'intentMain') = 'string'
+    THEN left(e."payload" ->> 'intentMain', 100) END,
+  CASE WHEN jsonb_typeof(e."payload" -> 'model') = 'string'
+    THEN left(e."payload" ->> 'model', 100) END,
+  telemetry.jsonb_bigint_or_null(e."payload" -> 'latencyMsTotal'),
+  telemetry.jsonb_bigint_or_null(e."payload" -> 'latencyMsLlm'),
+  telemetry.jsonb_text_or_null(e."payload" -> 'errorCode', 100),
+  telemetry.jsonb_boolean_or_null(e."payload" -> 'piiDetectedInput'),
+  telemetry.jsonb_boolean_or_null(e."payload" -> 'piiDetectedOutput'),
+  telemetry.jsonb_boolean_or_null(e."payload" -> 'ragUsed'),
+  telemetry.jsonb_boolean_or_null(e."payload" -> 'oos')
+FROM "telemetry_event" e
+WHERE e."event_type" = 'CHAT_TURN'
+ON CONFLICT ("event_id", "occurred_at") DO NOTHING;
+
+CREATE TRIGGER "trg_chat_turn_fact"
+AFTER INSERT ON "telemetry_event"
+FOR EACH ROW EXECUTE FUNCTION telemetry.sync_chat_turn_fact();
+
+ANALYZE "chat_turn_fact";
@@ -0,0 +1,41 @@
+-- V23: 분 단위 지연시간 스케치 (CHAT_TURN latencyMsTotal / latencyMsLlm)
+-- - (분, 지표, 부서, 모델)마다 로그 버킷 카운트(LatencySketch, 상대 오차 1%)를 한 행으로 보관
+-- - 같은 분에 다시 수집되면 버킷별 카운트를 더해 병합 (ON CONFLICT)
+-- - 임의 기간의 퍼센타일은 기간 내 스케치 행을 병합해 계산 (이벤트 수가 아닌 스케치 행 수에 비례)
+SET search_path = telemetry;
+
+CREATE TABLE "chat_latency_sketch" (
+  "bucket_minute" timestamptz NOT NULL,
+  "metric" varchar(10) NOT NULL,
+  "dept_id" varchar(64) NOT NULL,
+  "model" varchar(100) NOT NULL,
+  "sample_count" bigint NOT NULL,
+  "sum_ms" bigint NOT NULL,
+  "max_ms" bigint NOT NULL,
+  "bins" jsonb NOT NULL,
+  PRIMARY KEY ("bucket_minute", "metric", "dept_id", "model")
+);
+
+COMMENT ON TABLE "chat_latency_sketch" IS 'CHAT_TURN 지연시간 분 단위 병합 가능 스케치';
+COMMENT ON COLUMN "chat_latency_sketch"."bucket_minute" IS '이벤트 발생 분 (occurredAt을 분 단위로 내림)';
+COMMENT ON COLUMN "chat_latency_sketch"."metric" IS 'TOTAL(latencyMsTotal) | LLM(latencyMsLlm)';
+COMMENT ON COLUMN "chat_latency_sketch"."model" IS 'payload.model (없으면 unknown)';
+COMMENT ON COLUMN "chat_latency_sketch"."bins" IS '로그 버킷 인덱스 → 카운트 ({"123": 4, ...})';
+
+-- 버킷별 카운트 합 (두 스케치 병합)
+CREATE OR REPLACE FUNCTION telemetry.merge_latency_sketch_bins(p_left jsonb, p_right jsonb)
+RETURNS jsonb
+LANGUAGE sql
+IMMUTABLE
+AS $$
+  SELECT COALESCE(jsonb_object_agg(b.key, b.total), '{}'::jsonb)
+  FROM (
+    SELECT e.key, SUM(e.value::bigint) AS total
+    FROM (
+      SELECT key, value FROM jsonb_each_text(p_left)
+      UNION ALL
+      SELECT key, value FROM jsonb_each_text(p_right)
+    ) e
+    GROUP BY e.key
+  ) b
+$$;
@@ -0,0 +1,160 @@
+-- V24: 재질문(같은 intentMain 반복) 여부를 수집 시 한 번 계산해 chat_turn_fact.is_repeat에 저장
+-- - 정의(MVP): 같은 conversation에서 직전 3턴(turn_id 기준) 안에 같은 intentMain이 있으면 재질문
+-- - conversation별 최근 3턴의 (turn_id, intentMain)만 conversation_intent_window에 보관하고,
+--   같은 conversation 턴은 window 행 잠금으로 직렬화
+-- - conversationId 또는 turnId가 없는 턴은 재질문으로 보지 않으며 window에도 넣지 않음
+SET search_path = telemetry;
+
+-- 1. 재질문 플래그
+ALTER TABLE "chat_turn_fact" ADD COLUMN "is_repeat" boolean NOT NULL DEFAULT false;
+COMMENT ON COLUMN "chat_turn_fact"."is_repeat" IS '직전 3턴 안에 같은 intentMain이 있었는지 (수집 시 계산)';
+
+-- 2. conversation별 최근 턴 window
+CREATE TABLE "conversation_intent_window" (
+  "conversation_id" varchar(100) PRIMARY KEY,
+  "turn_ids" int[] NOT NULL DEFAULT '{}',
+  "intents" varchar(100)[] NOT NULL DEFAULT '{}',
+  "updated_at" timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE INDEX "idx_conversation_intent_window_updated_at" ON "conversation_intent_window" ("updated_at");
+
+COMMENT ON TABLE "conversation_intent_window" IS 'conversation별 최근 3턴 intentMain (재질문 판정용, turn_id 오름차순)';
+
+-- 3. 기존 팩트 backfill (조회 시 계산하던 방식과 같은 윈도우 계산)
+UPDATE "chat_turn_fact" f
+SET "is_repeat" = true
+FROM (
+  SELECT
+    w."event_id",
+    w."occurred_at",
+    w."intent_main" IN (w."prev1", w."prev2", w."prev3") AS repeated
+  FROM (
+    SELECT
+      "event_id", "occurred_at", "intent_main",
+      lag("intent_main", 1) OVER turns AS prev1,
+      lag("intent_main", 2) OVER turns AS prev2,
+      lag("intent_main", 3) OVER turns AS prev3
+    FROM "chat_turn_fact"
+    WHERE "conversation_id" IS NOT NULL AND "turn_id" IS NOT NULL
+    WINDOW turns AS (PARTITION BY "conversation_id" ORDER BY "turn_id")
+  ) w
+) r
+WHERE f."event_id" = r."event_id"
+  AND f."occurred_at" = r."occurred_at"
+  AND r.repeated;
+
+INSERT INTO "conversation_intent_window" ("conversation_id", "turn_ids", "intents", "updated_at")
+SELECT
+  r."conversation_id",
+  array_agg(r."turn_id" ORDER BY r."turn_id"),
+  array_agg(r."intent_main" ORDER BY r."turn_id"),
+  max(r."occurred_at")
+FROM (
+  SELECT
+    "conversation_id", "turn_id", "intent_main", "occurred_at",
+    row_number() OVER (PARTITION BY "conversation_id" ORDER BY "turn_id" DESC) AS rn
+  FROM "chat_turn_fact"
+  WHERE "conversation_id" IS NOT NULL AND "turn_id" IS NOT NULL
+) r
+WHERE r.rn <= 3
+GROUP BY r."conversation_id";
+
+-- 4. 트리거 함수 교체 (V22 변환 + 재질문 판정 + window 갱신)
+CREATE OR REPLACE FUNCTION telemetry.sync_chat_turn_fact()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+DECLARE
+  v_intent varchar(100);
+  v_turn_ids int[];
+  v_intents varchar(100)[];
+  v_repeat boolean := false;
+  v_windowed boolean := NEW.conversation_id IS NOT NULL AND NEW.turn_id IS NOT NULL;
+BEGIN
+  IF NEW.event_type <> 'CHAT_TURN' THEN
+    RETURN NULL;
+  END IF;
+
+  v_intent := CASE WHEN jsonb_typeof(NEW.payload -> 'intentMain') = 'string'
+    THEN left(NEW.payload ->> 'intentMain', 100) END;
+
+  IF v_windowed THEN
+    -- 첫 턴도 행 잠금을 잡을 수 있도록 빈 window를 먼저 만들어 둠
+    INSERT INTO telemetry.conversation_intent_window (conversation_id)
+    VALUES (NEW.conversation_id)
+    ON CONFLICT (conversation_id) DO NOTHING;
+
+    SELECT w.turn_ids, w.intents INTO v_turn_ids, v_intents
+    FROM telemetry.conversation_intent_window w
+    WHERE w.conversation_id = NEW.conversation_id
+    FOR UPDATE;
+
+    IF v_intent IS NOT NULL THEN
+      SELECT EXISTS (
+        SELECT 1
+        FROM (
+          SELECT t.intent
+          FROM unnest(v_turn_ids, v_intents) AS t(turn_id, intent)
+          WHERE t.turn_id < NEW.turn_id
+          ORDER BY t.turn_id DESC
+          LIMIT 3
+        ) prev
+        WHERE prev.intent = v_intent
+      ) INTO v_repeat;
+    END IF;
+  END IF;
+
+  INSERT INTO telemetry.chat_turn_fact (
+    event_id, occurred_at, user_id, dept_id, conversation_id, turn_id,
+    domain, intent_main, model, latency_ms_total, latency_ms_llm, error_code,
+    pii_detected_input, pii_detected_output, rag_used, oos, is_repeat
+  )
+  VALUES (
+    NEW.event_id, NEW.occurred_at, NEW.user_id, NEW.dept_id, NEW.conversation_id, NEW.turn_id,
+    CASE WHEN jsonb_typeof(NEW.payload -> 'domain') = 'string'
+      THEN NULLIF(upper(btrim(left(NEW.payload ->> 'domain', 50))), '') END,
+    v_intent,
+    CASE WHEN jsonb_typeof(NEW.payload -> 'model') = 'string'
+      THEN left(NEW.payload ->> 'model', 100) END,
+    telemetry.jsonb_bigint_or_null(NEW.payload -> 'latencyMsTotal'),
+    telemetry.jsonb_bigint_or_null(NEW.payload -> 'latencyMsLlm'),
+    telemetry.jsonb_text_or_null(NEW.payload -> 'errorCode', 100),
+    telemetry.jsonb_boolean_or_null(NEW.payload -> 'piiDetectedInput'),
+    telemetry.jsonb_boolean_or_null(NEW.payload -> 'piiDetectedOutput'),
+    telemetry.jsonb_boolean_or_null(NEW.payload -> 'ragUsed'),
+    telemetry.jsonb_boolean_or_null(NEW.payload -> 'oos'),
+    v_repeat
+  )
+  ON CONFLICT (event_id, occurred_at) DO NOTHING;
+
+  -- 새로 저장된 턴만 window에 반영 (turn_id가 큰 3개 유지)
+  IF FOUND AND v_windowed THEN
+    UPDATE telemetry.conversation_intent_window w
+    SET turn_ids = latest.turn_ids,
+        intents = latest.intents,
+        updated_at = now()
+    FROM (
+      SELECT
+        COALESCE(array_agg(t.turn_id ORDER BY t.turn_id), '{}') AS turn_ids,
+        COALESCE(array_agg(t.intent ORDER BY t.turn_id), '{}') AS intents
+      FROM (
+        SELECT u.turn_id, u.intent
+        FROM (
+          -- 같은 turn_id가 다시 들어오면(재전송) 새 값으로 교체
+          SELECT c.turn_id, c.intent
+          FROM unnest(v_turn_ids, v_intents) AS c(turn_id, intent)
+          WHERE c.turn_id <> NEW.turn_id
+          UNION ALL
+          SELECT NEW.turn_id, v_intent
+        ) u
+        ORDER BY u.turn_id DESC
+        LIMIT 3
+      ) t
+    ) latest
+    WHERE w.conversation_id = NEW.conversation_id;
+  END IF;
+
+  RETURN NULL;
+END;
+$$;
@@ -0,0 +1,161 @@
+-- V25: chat_latency_sketch를 chat_turn_fact 트리거로 유지 + 기존 CHAT_TURN backfill
+-- - chat_turn_fact에 행이 새로 들어올 때 트리거가 스케치에 병합 (수집 API, 시드 등 모든 저장 경로 공통)
+--   재전송된 중복 이벤트는 팩트 INSERT가 무시되므로 스케치에도 더해지지 않음
+-- - 스케치 행은 쓰는 트랜잭션별로 분리(writer_xid)하여 수집 트랜잭션끼리 같은 행을 잠그지 않음
+--   (같은 분/부서/모델 행을 서로 다른 순서로 갱신하는 배치 사이의 교착 상태 방지)
+-- - 지난 분의 트랜잭션별 행은 compact_chat_latency_sketch()가 writer_xid = 0 한 행으로 합침
+-- - 버킷 계산은 LatencySketch.indexOf와 같음 (γ = 1.01 / 0.99)
+SET search_path = telemetry;
+
+-- 1. 트랜잭션별 행 구분 (0 = 압축된 행)
+ALTER TABLE "chat_latency_sketch" ADD COLUMN "writer_xid" bigint NOT NULL DEFAULT 0;
+ALTER TABLE "chat_latency_sketch" DROP CONSTRAINT "chat_latency_sketch_pkey";
+ALTER TABLE "chat_latency_sketch" ADD PRIMARY KEY ("bucket_minute", "metric", "dept_id", "model", "writer_xid");
+
+COMMENT ON COLUMN "chat_latency_sketch"."writer_xid" IS '기록한 트랜잭션 ID (0이면 압축된 행)';
+
+-- 2. 값 → 버킷 인덱스 (0: 0ms 이하, i ≥ 1: (γ^(i-2), γ^(i-1)])
+CREATE OR REPLACE FUNCTION telemetry.latency_sketch_index(p_latency_ms bigint)
+RETURNS int
+LANGUAGE sql
+IMMUTABLE
+AS $$
+  SELECT CASE WHEN p_latency_ms <= 0 THEN 0
+    ELSE 1 + ceil(
+      ln(p_latency_ms::double precision)
+      / ln((1 + 0.01::double precision) / (1 - 0.01::double precision))
+    )::int
+  END
+$$;
+
+-- 3. 값 하나를 현재 트랜잭션의 스케치 행에 병합
+CREATE OR REPLACE FUNCTION telemetry.add_latency_sketch_sample(
+  p_bucket_minute timestamptz,
+  p_metric varchar,
+  p_dept_id varchar,
+  p_model varchar,
+  p_latency_ms bigint
+)
+RETURNS void
+LANGUAGE sql
+AS $$
+  INSERT INTO telemetry.chat_latency_sketch (
+    bucket_minute, metric, dept_id, model, writer_xid, sample_count, sum_ms, max_ms, bins
+  )
+  VALUES (
+    p_bucket_minute, p_metric, p_dept_id, p_model, txid_current(), 1,
+    GREATEST(p_latency_ms, 0), GREATEST(p_latency_ms, 0),
+    jsonb_build_object(telemetry.latency_sketch_index(p_latency_ms)::text, 1)
+  )
+  ON CONFLICT (bucket_minute, metric, dept_id, model, writer_xid) DO UPDATE SET
+    sample_count = chat_latency_sketch.sample_count + 1,
+    sum_ms = chat_latency_sketch.sum_ms + EXCLUDED.sum_ms,
+    max_ms = GREATEST(chat_latency_sketch.max_ms, EXCLUDED.max_ms),
+    bins = telemetry.merge_latency_sketch_bins(chat_latency_sketch.bins, EXCLUDED.bins)
+$$;
+
+-- 4. chat_turn_fact → chat_latency_sketch 트리거
+CREATE OR REPLACE FUNCTION telemetry.sync_chat_latency_sketch()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+DECLARE
+  v_minute timestamptz := date_trunc('minute', NEW.occurred_at);
+  v_model varchar(100) := CASE WHEN btrim(NEW.model) <> '' THEN NEW.model ELSE 'unknown' END;
+BEGIN
+  IF NEW.latency_ms_total IS NOT NULL THEN
+    PERFORM telemetry.add_latency_sketch_sample(v_minute, 'TOTAL', NEW.dept_id, v_model, NEW.latency_ms_total);
+  END IF;
+  IF NEW.latency_ms_llm IS NOT NULL THEN
+    PERFORM telemetry.add_latency_sketch_sample(v_minute, 'LLM', NEW.dept_id, v_model, NEW.latency_ms_llm);
+  END IF;
+  RETURN NULL;
+END;
+$$;
+
+-- 5. p_before 이전 분의 트랜잭션별 행을 (분, 지표, 부서, 모델)당 한 행으로 압축
+--    키 순서대로 갱신하므로 여러 인스턴스가 동시에 실행해도 교착 상태가 생기지 않음
+CREATE OR REPLACE FUNCTION telemetry.compact_chat_latency_sketch(p_before timestamptz)
+RETURNS bigint
+LANGUAGE plpgsql
+AS $$
+DECLARE
+  v_rows bigint;
+BEGIN
+  WITH moved AS (
+    DELETE FROM telemetry.chat_latency_sketch
+    WHERE bucket_minute < p_before
+      AND writer_xid <> 0
+    RETURNING *
+  ),
+  totals AS (
+    SELECT bucket_minute, metric, dept_id, model,
+           SUM(sample_count) AS sample_count, SUM(sum_ms) AS sum_ms, MAX(max_ms) AS max_ms
+    FROM moved
+    GROUP BY bucket_minute, metric, dept_id, model
+  ),
+  bins AS (
+    SELECT bucket_minute, metric, dept_id, model, jsonb_object_agg(bin, bin_count) AS bins
+    FROM (
+      SELECT m.bucket_minute, m.metric, m.dept_id, m.model, b.key AS bin, SUM(b.value::bigint) AS bin_count
+      FROM moved m
+      CROSS JOIN LATERAL jsonb_each_text(m.bins) b
+      GROUP BY m.bucket_minute, m.metric, m.dept_id, m.model, b.key
+    ) per_bin
+    GROUP BY bucket_minute, metric, dept_id, model
+  )
+  INSERT INTO telemetry.chat_latency_sketch (
+    bucket_minute, metric, dept_id, model, writer_xid, sample_count, sum_ms, max_ms, bins
+  )
+  SELECT t.bucket_minute, t.metric, t.dept_id, t.model, 0, t.sample_count, t.sum_ms, t.max_ms, b.bins
+  FROM totals t
+  JOIN bins b USING (bucket_minute, metric, dept_id, model)
+  ORDER BY t.bucket_minute, t.metric, t.dept_id, t.model
+  ON CONFLICT (bucket_minute, metric, dept_id, model, writer_xid) DO UPDATE SET
+    sample_count = chat_latency_sketch.sample_count + EXCLUDED.sample_count,
+    sum_ms = chat_latency_sketch.sum_ms + EXCLUDED.sum_ms,
+    max_ms = GREATEST(chat_latency_sketch.max_ms, EXCLUDED.max_ms),
+    bins = telemetry.merge_latency_sketch_bins(chat_latency_sketch.bins, EXCLUDED.bins);
+
+  GET DIAGNOSTICS v_rows = ROW_COUNT;
+  RETURN v_rows;
+END;
+$$;
+
+-- 6. 기존 스케치를 chat_turn_fact 전체로 다시 계산 (V23 이전 이벤트 포함, 압축된 행으로 저장)
+TRUNCATE "chat_latency_sketch";
+
+INSERT INTO "chat_latency_sketch" (
+  "bucket_minute", "metric", "dept_id", "model", "writer_xid", "sample_count", "sum_ms", "max_ms", "bins"
+)
+SELECT
+  p."bucket_minute", p."metric", p."dept_id", p."model", 0,
+  SUM(p."bin_count"), SUM(p."sum_ms"), MAX(p."max_ms"),
+  jsonb_object_agg(p."bin"::text, p."bin_count")
+FROM (
+  SELECT
+    s."bucket_minute", s."metric", s."dept_id", s."model",
+    telemetry.latency_sketch_index(s."latency_ms") AS "bin",
+    COUNT(*) AS "bin_count",
+    SUM(s."latency_ms") AS "sum_ms",
+    MAX(s."latency_ms") AS "max_ms"
+  FROM (
+    SELECT
+      date_trunc('minute', f."occurred_at") AS "bucket_minute",
+      m."metric",
+      f."dept_id",
+      CASE WHEN btrim(f."model") <> '' THEN f."model" ELSE 'unknown' END AS "model",
+      GREATEST(m."latency_ms", 0) AS "latency_ms"
+    FROM "chat_turn_fact" f
+    CROSS JOIN LATERAL (
+      VALUES ('TOTAL', f."latency_ms_total"), ('LLM', f."latency_ms_llm")
+    ) AS m("metric", "latency_ms")
+    WHERE m."latency_ms" IS NOT NULL
+  ) s
+  GROUP BY s."bucket_minute", s."metric", s."dept_id", s."model", telemetry.latency_sketch_index(s."latency_ms")
+) p
+GROUP BY p."bucket_minute", p."metric", p."dept_id", p."model";
+
+CREATE TRIGGER "trg_chat_latency_sketch"
+AFTER INSERT ON "chat_turn_fact"
+FOR EACH ROW EXECUTE FUNCTION telemetry.sync_chat_latency_sketch();
@@ -0,0 +1,231 @@
+package com.ctrlf.infra.ailog.service;
+
+import com.ctrlf.infra.ailog.dto.AiLogDtos;
+import com.ctrlf.infra.ailog.repository.AiLogRepository;
+import com.ctrlf.infra.elasticsearch.service.ChatLogElasticsearchService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AiLogService 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiLogService 테스트")
+class AiLogServiceTest {
+
+    @Mock
+    private AiLogRepository aiLogRepository;
+
+    @Mock
+    private ChatLogElasticsearchService chatLogElasticsearchService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AiLogService aiLogService;
+
+    @BeforeEach
+    void setUp() {
+        aiLogService = new AiLogService(aiLogRepository, chatLogElasticsearchService, objectMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Bulk 저장 - 1,000건도 INSERT 1회, _bulk 1회")
+    void saveBulkLogs_ConstantRoundTrips() throws Exception {
+        // given
+        List<AiLogDtos.LogItem> logs = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            logs.add(logItem("trace-" + i, "conv-1", i));
+        }
+        when(aiLogRepository.insertAllIgnoringDuplicates(anyString())).thenAnswer(invocation -> idsOf(invocation.getArgument(0)));
+        when(chatLogElasticsearchService.saveChatLogs(anyMap())).thenReturn(Map.of());
+
+        // when
+        AiLogDtos.BulkResponse response = aiLogService.saveBulkLogs(new AiLogDtos.BulkRequest(logs));
+
+        // then
+        assertThat(response.getReceived()).isEqualTo(1_000);
+        assertThat(response.getSaved()).isEqualTo(1_000);
+        assertThat(response.getFailed()).isZero();
+        verify(aiLogRepository, times(1)).insertAllIgnoringDuplicates(anyString());
+        verify(chatLogElasticsearchService, times(1)).saveChatLogs(anyMap());
+    }
+
+    @Test
+    @DisplayName("Bulk 저장 - 요청 내 중복과 DB 중복은 건너뛰고 삽입된 행만 Elasticsearch로 전송")
+    @SuppressWarnings("unchecked")
+    void saveBulkLogs_SkipsDuplicates() throws Exception {
+        // given: 두 번째 항목은 요청 내 중복, 세 번째 항목은 DB에 이미 있음
+        List<AiLogDtos.LogItem> logs = List.of(
+            logItem("trace-1", "conv-1", 1),
+            logItem("trace-1", "conv-1", 1),
+            logItem("trace-2", "conv-1", 2)
+        );
+        when(aiLogRepository.insertAllIgnoringDuplicates(anyString())).thenAnswer(invocation -> {
+            List<UUID> ids = idsOf(invocation.getArgument(0));
+            return ids.subList(0, 1);
+        });
+        when(chatLogElasticsearchService.saveChatLogs(anyMap())).thenReturn(Map.of());
+
+        // when
+        AiLogDtos.BulkResponse response = aiLogService.saveBulkLogs(new AiLogDtos.BulkRequest(logs));
+
+        // then
+        ArgumentCaptor<String> rows = ArgumentCaptor.forClass(String.class);
+        verify(aiLogRepository).insertAllIgnoringDuplicates(rows.capture());
+        assertThat(objectMapper.readTree(rows.getValue())).hasSize(2);
+
+        ArgumentCaptor<Map<String, AiLogDtos.LogItem>> indexed = ArgumentCaptor.forClass(Map.class);
+        verify(chatLogElasticsearchService).saveChatLogs(indexed.capture());
+        assertThat(indexed.getValue()).hasSize(1);
+        assertThat(indexed.getValue().values().iterator().next().getTraceId()).isEqualTo("trace-1");
+
+        assertThat(response.getSaved()).isEqualTo(1);
+        assertThat(response.getFailed()).isZero();
+    }
+
+    @Test
+    @DisplayName("Bulk 저장 - 필수 필드 누락 항목은 index와 함께 실패 처리")
+    void saveBulkLogs_ValidationError() {
+        // given
+        AiLogDtos.LogItem invalid = logItem("trace-1", "conv-1", 1);
+        invalid.setUserId(null);
+
+        // when
+        AiLogDtos.BulkResponse response = aiLogService.saveBulkLogs(new AiLogDtos.BulkRequest(List.of(invalid)));
+
+        // then
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getErrors()).hasSize(1);
+        assertThat(response.getErrors().get(0).getIndex()).isZero();
+        verify(aiLogRepository, never()).insertAllIgnoringDuplicates(anyString());
+        verify(chatLogElasticsearchService, never()).saveChatLogs(anyMap());
+    }
+
+    @Test
+    @DisplayName("Bulk 저장 - 배치 INSERT 실패 시 행 단위로 재시도해 문제 행만 실패 처리")
+    void saveBulkLogs_BatchFailure_FallsBackPerRow() throws Exception {
+        // given: 두 번째 행은 DB 제약 위반
+        List<AiLogDtos.LogItem> logs = List.of(
+            logItem("trace-1", "conv-1", 1),
+            logItem("trace-bad", "conv-1", 2),
+            logItem("trace-3", "conv-1", 3)
+        );
+        when(aiLogRepository.insertAllIgnoringDuplicates(anyString())).thenAnswer(invocation -> {
+            String rows = invocation.getArgument(0);
+            if (objectMapper.readTree(rows).size() > 1 || rows.contains("trace-bad")) {
+                throw new DataIntegrityViolationException("value too long for type character varying");
+            }
+            return idsOf(rows);
+        });
+        when(chatLogElasticsearchService.saveChatLogs(anyMap())).thenReturn(Map.of());
+
+        // when
+        AiLogDtos.BulkResponse response = aiLogService.saveBulkLogs(new AiLogDtos.BulkRequest(logs));
+
+        // then: 배치 1회 + 행 3회
+        verify(aiLogRepository, times(4)).insertAllIgnoringDuplicates(anyString());
+        assertThat(response.getSaved()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getErrors()).singleElement()
+            .satisfies(error -> {
+                assertThat(error.getIndex()).isEqualTo(1);
+                assertThat(error.getErrorCode()).isEqualTo("DB_ERROR");
+            });
+    }
+
+    @Test
+    @DisplayName("Bulk 저장 - 식별 컬럼 길이 초과는 거부하고 설명 컬럼은 잘라서 저장")
+    void saveBulkLogs_LengthLimits() throws Exception {
+        // given
+        AiLogDtos.LogItem longTrace = logItem("t".repeat(201), "conv-1", 1);
+        AiLogDtos.LogItem longDepartment = logItem("trace-2", "conv-1", 2);
+        longDepartment.setDepartment("부".repeat(150));
+        when(aiLogRepository.insertAllIgnoringDuplicates(anyString())).thenAnswer(invocation -> idsOf(invocation.getArgument(0)));
+        when(chatLogElasticsearchService.saveChatLogs(anyMap())).thenReturn(Map.of());
+
+        // when
+        AiLogDtos.BulkResponse response = aiLogService.saveBulkLogs(
+            new AiLogDtos.BulkRequest(List.of(longTrace, longDepartment)));
+
+        // then
+        ArgumentCaptor<String> rows = ArgumentCaptor.forClass(String.class);
+        verify(aiLogRepository).insertAllIgnoringDuplicates(rows.capture());
+        JsonNode inserted = objectMapper.readTree(rows.getValue());
+        assertThat(inserted).hasSize(1);
+        assertThat(inserted.get(0).get("department").asText()).hasSize(100);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getErrors().get(0).getIndex()).isZero();
+        assertThat(response.getErrors().get(0).getErrorCode()).isEqualTo("VALIDATION_ERROR");
+    }
+
+    @Test
+    @DisplayName("Bulk 저장 - Elasticsearch 항목별 실패는 indexFailed와 INDEX_ERROR로 응답")
+    void saveBulkLogs_IndexFailuresReported() throws Exception {
+        // given
+        List<AiLogDtos.LogItem> logs = List.of(logItem("trace-1", "conv-1", 1), logItem("trace-2", "conv-1", 2));
+        List<UUID> ids = new ArrayList<>();
+        when(aiLogRepository.insertAllIgnoringDuplicates(anyString())).thenAnswer(invocation -> {
+            ids.addAll(idsOf(invocation.getArgument(0)));
+            return ids;
+        });
+        when(chatLogElasticsearchService.saveChatLogs(anyMap())).thenAnswer(invocation ->
+            Map.of(ids.get(1).toString(), "mapper_parsing_exception: failed to parse"));
+
+        // when
+        AiLogDtos.BulkResponse response = aiLogService.saveBulkLogs(new AiLogDtos.BulkRequest(logs));
+
+        // then
+        assertThat(response.getSaved()).isEqualTo(2);
+        assertThat(response.getFailed()).isZero();
+        assertThat(response.getIndexFailed()).isEqualTo(1);
+        assertThat(response.getErrors()).singleElement()
+            .satisfies(error -> {
+                assertThat(error.getIndex()).isEqualTo(1);
+                assertThat(error.getErrorCode()).isEqualTo("INDEX_ERROR");
+            });
+    }
+
+    private List<UUID> idsOf(String rowsJson) throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        for (JsonNode row : objectMapper.readTree(rowsJson)) {
+            ids.add(UUID.fromString(row.get("id").asText()));
+        }
+        return ids;
+    }
+
+    private static AiLogDtos.LogItem logItem(String traceId, String conversationId, int turnId) {
+        AiLogDtos.LogItem item = new AiLogDtos.LogItem();
+        item.setCreatedAt(Instant.parse("2025-01-01T00:00:00Z"));
+        item.setUserId("user-1");
+        item.setDomain("POLICY");
+        item.setTraceId(traceId);
+        item.setConversationId(conversationId);
+        item.setTurnId(turnId);
+        return item;
+    }
+}
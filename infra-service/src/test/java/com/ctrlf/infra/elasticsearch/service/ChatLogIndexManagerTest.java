@@ -0,0 +1,166 @@
+package com.ctrlf.infra.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.transport.endpoints.BooleanResponse;
+import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.GetIndexResponse;
+import co.elastic.clients.elasticsearch.indices.IndexState;
+import co.elastic.clients.util.ObjectBuilder;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChatLogIndexManager 단위 테스트 (stub 클라이언트, 인덱스 선택 / 보존 기간 삭제).
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatLogIndexManager 테스트")
+class ChatLogIndexManagerTest {
+
+    @Mock
+    private ElasticsearchClient elasticsearchClient;
+
+    @Mock
+    private ElasticsearchIndicesClient indicesClient;
+
+    private ChatLogIndexManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ChatLogIndexManager(elasticsearchClient, "chat_log", "chat_log_read", "", "", 24, 13);
+    }
+
+    @Test
+    @DisplayName("조회 인덱스 - 기간과 겹치는 월 인덱스만")
+    void searchIndicesFor_SelectsOverlappingMonths() {
+        assertThat(manager.searchIndicesFor(
+            Instant.parse("2025-03-14T00:00:00Z"), Instant.parse("2025-03-15T00:00:00Z")))
+            .containsExactly("chat_log-2025.03");
+        assertThat(manager.searchIndicesFor(
+            Instant.parse("2024-12-20T00:00:00Z"), Instant.parse("2025-01-19T00:00:00Z")))
+            .containsExactly("chat_log-2024.12", "chat_log-2025.01");
+        assertThat(manager.searchIndicesFor(
+            Instant.parse("2020-01-01T00:00:00Z"), Instant.parse("2025-01-19T00:00:00Z")))
+            .containsExactly("chat_log_read");
+    }
+
+    @Test
+    @DisplayName("Bulk 저장 인덱스 - 늦게 도착한 로그도 createdAt 월 인덱스")
+    void writeIndexFor_LateArrival_UsesCreatedAtMonth() {
+        assertThat(manager.writeIndexFor(Instant.parse("2025-01-31T23:59:59Z"))).isEqualTo("chat_log-2025.01");
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @DisplayName("보존 기간 삭제 - 13개월보다 오래된 월 인덱스만 삭제, 형식이 다른 인덱스는 유지")
+    void dropExpiredIndices_DeletesOnlyExpiredMonths() throws Exception {
+        // given
+        YearMonth now = YearMonth.now(ZoneOffset.UTC);
+        String expired = "chat_log-" + now.minusMonths(14).toString().replace('-', '.');
+        String oldestKept = "chat_log-" + now.minusMonths(13).toString().replace('-', '.');
+        String current = "chat_log-" + now.toString().replace('-', '.');
+        Map<String, IndexState> existing = new HashMap<>();
+        for (String index : List.of(expired, oldestKept, current, "chat_log-reindex-tmp")) {
+            existing.put(index, IndexState.of(s -> s));
+        }
+        when(elasticsearchClient.indices()).thenReturn(indicesClient);
+        when(indicesClient.get(any(Function.class))).thenReturn(GetIndexResponse.of(r -> r.result(existing)));
+
+        // when
+        List<String> deleted = manager.dropExpiredIndices();
+
+        // then
+        assertThat(deleted).containsExactly(expired);
+        ArgumentCaptor<Function> captor = ArgumentCaptor.forClass(Function.class);
+        verify(indicesClient).delete(captor.capture());
+        DeleteIndexRequest request = ((Function<DeleteIndexRequest.Builder, ObjectBuilder<DeleteIndexRequest>>)
+            captor.getValue()).apply(new DeleteIndexRequest.Builder()).build();
+        assertThat(request.index()).containsExactly(expired);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("보존 기간 삭제 - 지난 인덱스가 없으면 삭제 요청 없음")
+    void dropExpiredIndices_NothingExpired_NoDelete() throws Exception {
+        // given
+        String current = "chat_log-" + YearMonth.now(ZoneOffset.UTC).toString().replace('-', '.');
+        when(elasticsearchClient.indices()).thenReturn(indicesClient);
+        when(indicesClient.get(any(Function.class)))
+            .thenReturn(GetIndexResponse.of(r -> r.result(Map.of(current, IndexState.of(s -> s)))));
+
+        // when
+        List<String> deleted = manager.dropExpiredIndices();
+
+        // then
+        assertThat(deleted).isEmpty();
+        verify(indicesClient, never()).delete(any(Function.class));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @DisplayName("보존 기간 삭제 - cutover가 보존 기간 시작 이전이면 레거시 인덱스도 삭제")
+    void dropExpiredIndices_LegacyOlderThanRetention_DeletesLegacy() throws Exception {
+        // given
+        YearMonth now = YearMonth.now(ZoneOffset.UTC);
+        String cutover = now.minusMonths(14).atDay(1).toString();
+        String current = "chat_log-" + now.toString().replace('-', '.');
+        ChatLogIndexManager withLegacy =
+            new ChatLogIndexManager(elasticsearchClient, "chat_log", "chat_log_read", "chat_log", cutover, 24, 13);
+        when(elasticsearchClient.indices()).thenReturn(indicesClient);
+        when(indicesClient.get(any(Function.class)))
+            .thenReturn(GetIndexResponse.of(r -> r.result(Map.of(current, IndexState.of(s -> s)))));
+        when(indicesClient.exists(any(Function.class))).thenReturn(new BooleanResponse(true));
+
+        // when
+        List<String> deleted = withLegacy.dropExpiredIndices();
+
+        // then
+        assertThat(deleted).containsExactly("chat_log");
+        ArgumentCaptor<Function> captor = ArgumentCaptor.forClass(Function.class);
+        verify(indicesClient).delete(captor.capture());
+        DeleteIndexRequest request = ((Function<DeleteIndexRequest.Builder, ObjectBuilder<DeleteIndexRequest>>)
+            captor.getValue()).apply(new DeleteIndexRequest.Builder()).build();
+        assertThat(request.index()).containsExactly("chat_log");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("보존 기간 삭제 - cutover가 보존 기간 안이면 레거시 인덱스 유지")
+    void dropExpiredIndices_LegacyWithinRetention_KeepsLegacy() throws Exception {
+        // given
+        YearMonth now = YearMonth.now(ZoneOffset.UTC);
+        String cutover = now.minusMonths(2).atDay(1).toString();
+        String current = "chat_log-" + now.toString().replace('-', '.');
+        ChatLogIndexManager withLegacy =
+            new ChatLogIndexManager(elasticsearchClient, "chat_log", "chat_log_read", "chat_log", cutover, 24, 13);
+        when(elasticsearchClient.indices()).thenReturn(indicesClient);
+        when(indicesClient.get(any(Function.class)))
+            .thenReturn(GetIndexResponse.of(r -> r.result(Map.of(current, IndexState.of(s -> s)))));
+
+        // when
+        List<String> deleted = withLegacy.dropExpiredIndices();
+
+        // then
+        assertThat(deleted).isEmpty();
+        verify(indicesClient, never()).exists(any(Function.class));
+        verify(indicesClient, never()).delete(any(Function.class));
+    }
+}
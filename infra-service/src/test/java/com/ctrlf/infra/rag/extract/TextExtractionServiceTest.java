@@ -0,0 +1,170 @@
+package com.ctrlf.infra.rag.extract;
+
+import com.ctrlf.infra.s3.service.S3Service;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TextExtractionService 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TextExtractionService 테스트")
+class TextExtractionServiceTest {
+
+    @Mock
+    private S3Service s3Service;
+
+    private ExtractedTextCache cache;
+    private TextExtractionService textExtractionService;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExtractedTextCache(1_000, 100);
+        PlainTextExtractor plain = new PlainTextExtractor();
+        textExtractionService = new TextExtractionService(
+            List.of(plain, new PdfTextExtractor(), new DocxTextExtractor(), new HwpxTextExtractor()),
+            plain,
+            cache,
+            s3Service,
+            10,
+            50
+        );
+    }
+
+    @Test
+    @DisplayName("텍스트 파일 - 요청 구간만 반환하고 다음 offset 제공")
+    void extract_PlainTextPage() throws Exception {
+        // given
+        String url = "s3://bucket/docs/a.txt";
+        when(s3Service.getObjectETag(url)).thenReturn("etag-1");
+        when(s3Service.openObject(url)).thenReturn(stream("0123456789abcdefghij".getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        TextPage page = textExtractionService.extract(url, 5, 10);
+
+        // then
+        assertThat(page.text()).isEqualTo("56789abcde");
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.nextOffset()).isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("같은 (sourceUrl, ETag)는 캐시에서 반환하여 다시 내려받지 않음")
+    void extract_CacheHit() throws Exception {
+        // given
+        String url = "s3://bucket/docs/a.txt";
+        when(s3Service.getObjectETag(url)).thenReturn("etag-1");
+        when(s3Service.openObject(url)).thenReturn(stream("hello world".getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        TextPage first = textExtractionService.extract(url, 0, null);
+        TextPage second = textExtractionService.extract(url, 6, null);
+
+        // then
+        assertThat(first.text()).isEqualTo("hello worl");
+        assertThat(second.text()).isEqualTo("world");
+        assertThat(second.hasMore()).isFalse();
+        verify(s3Service, times(1)).openObject(url);
+    }
+
+    @Test
+    @DisplayName("캐시 한도를 넘는 문서는 캐시하지 않고 구간만 반환")
+    void extract_LargeDocumentNotCached() throws Exception {
+        // given
+        String url = "s3://bucket/docs/big.txt";
+        byte[] big = "x".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+        when(s3Service.getObjectETag(url)).thenReturn("etag-big");
+        when(s3Service.openObject(url)).thenReturn(stream(big));
+
+        // when
+        TextPage page = textExtractionService.extract(url, 0, 10);
+
+        // then
+        assertThat(page.text()).hasSize(10);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("DOCX - 문단 단위로 본문 텍스트 추출")
+    void extract_Docx() throws Exception {
+        // given
+        String url = "s3://bucket/docs/rule.docx";
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>"
+            + "<w:p><w:r><w:t>연차</w:t></w:r><w:r><w:t xml:space=\"preserve\"> 규정</w:t></w:r></w:p>"
+            + "<w:p><w:r><w:t>제1조</w:t></w:r></w:p>"
+            + "</w:body></w:document>";
+        when(s3Service.getObjectETag(url)).thenReturn("etag-docx");
+        when(s3Service.openObject(url)).thenReturn(stream(zip("word/document.xml", xml)));
+
+        // when
+        TextPage page = textExtractionService.extract(url, 0, 50);
+
+        // then
+        assertThat(page.text()).isEqualTo("연차 규정\n제1조\n");
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("구버전 HWP - 415 반환, S3 조회하지 않음")
+    void extract_LegacyHwpUnsupported() {
+        // when & then
+        assertThatThrownBy(() -> textExtractionService.extract("s3://bucket/docs/old.hwp", 0, null))
+            .isInstanceOf(ResponseStatusException.class)
+            .extracting("statusCode.value")
+            .isEqualTo(415);
+        verify(s3Service, never()).openObject(anyString());
+    }
+
+    @Test
+    @DisplayName("페이지 크기 상한 초과 - 400")
+    void extract_LimitTooLarge() {
+        // when & then
+        assertThatThrownBy(() -> textExtractionService.extract("s3://bucket/docs/a.txt", 0, 51))
+            .isInstanceOf(ResponseStatusException.class)
+            .extracting("statusCode.value")
+            .isEqualTo(400);
+    }
+
+    private static ResponseInputStream<GetObjectResponse> stream(byte[] bytes) {
+        return new ResponseInputStream<>(
+            GetObjectResponse.builder().build(),
+            AbortableInputStream.create(new ByteArrayInputStream(bytes)));
+    }
+
+    private static byte[] zip(String entryName, String content) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write("<Types/>".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry(entryName));
+            zip.write(content.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return out.toByteArray();
+    }
+}
@@ -4,10 +4,13 @@ import static com.ctrlf.infra.rag.dto.RagDtos.*;
 import com.ctrlf.infra.config.metrics.CustomMetrics;
 import com.ctrlf.infra.rag.entity.RagDocument;
 import com.ctrlf.infra.rag.entity.RagDocumentStatus;
+import com.ctrlf.infra.rag.extract.TextExtractionService;
+import com.ctrlf.infra.rag.extract.TextPage;
 import com.ctrlf.infra.rag.repository.RagDocumentChunkRepository;
 import com.ctrlf.infra.rag.repository.RagDocumentHistoryRepository;
 import com.ctrlf.infra.rag.repository.RagDocumentRepository;
 import com.ctrlf.infra.rag.repository.RagFailChunkRepository;
+import com.ctrlf.infra.rag.client.ChatServiceClient;
 import com.ctrlf.infra.rag.client.RagAiClient;
 import com.ctrlf.infra.s3.service.S3Service;
 import java.time.Instant;
@@ -26,12 +29,16 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,9 +64,15 @@ class RagDocumentServiceTest {
     @Mock
     private RagAiClient ragAiClient;
 
+    @Mock
+    private ChatServiceClient chatServiceClient;
+
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private TextExtractionService textExtractionService;
+
     @Mock
     private CustomMetrics customMetrics;
 
@@ -249,6 +262,37 @@ class RagDocumentServiceTest {
         assertThat(result.getStatus()).isEqualTo(RagDocumentStatus.QUEUED.name());
     }
 
+    @Test
+    @DisplayName("문서 원문 텍스트 조회 - 구간 반환")
+    void getText_ReturnsPage() throws Exception {
+        // given
+        when(documentRepository.findById(testDocumentId)).thenReturn(Optional.of(testDocument));
+        when(textExtractionService.extract(eq("s3://bucket/file.pdf"), eq(100L), eq(50)))
+            .thenReturn(new TextPage("본문 일부", 100L, true));
+
+        // when
+        DocumentTextResponse result = ragDocumentService.getText(testDocumentIdStr, 100L, 50);
+
+        // then
+        assertThat(result.getText()).isEqualTo("본문 일부");
+        assertThat(result.getOffset()).isEqualTo(100L);
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getNextOffset()).isEqualTo(105L);
+    }
+
+    @Test
+    @DisplayName("문서 원문 텍스트 조회 - 문서를 찾을 수 없음")
+    void getText_NotFound() {
+        // given
+        when(documentRepository.findById(testDocumentId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> ragDocumentService.getText(testDocumentIdStr, 0L, null))
+            .isInstanceOf(ResponseStatusException.class)
+            .extracting("statusCode.value")
+            .isEqualTo(404);
+    }
+
     @Test
     @DisplayName("문서 목록 조회 - 성공")
     void list_Success() {
@@ -280,4 +324,45 @@ class RagDocumentServiceTest {
           .extracting("statusCode.value")
           .isEqualTo(400);
     }
+
+    @Test
+    @DisplayName("검토 승인 - 새 버전 적용 후 chat-service 답변 캐시 무효화")
+    void approveReview_InvalidatesChatAnswerCache() {
+        // given
+        testDocument.setDocumentId("POL-EDU-015");
+        testDocument.setStatus(RagDocumentStatus.PENDING);
+        when(documentRepository.findByDocumentIdAndVersion("POL-EDU-015", 1)).thenReturn(Optional.of(testDocument));
+        when(documentRepository.findByDocumentId("POL-EDU-015")).thenReturn(List.of(testDocument));
+        when(documentRepository.save(any(RagDocument.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ReviewResponse result = ragDocumentService.approveReview("POL-EDU-015", 1, new ApproveReviewRequest());
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(RagDocumentStatus.ACTIVE.name());
+        verify(chatServiceClient).invalidateAnswerCache("test");
+    }
+
+    @Test
+    @DisplayName("검토 승인 (트랜잭션 안) - 커밋 후에만 답변 캐시 무효화")
+    void approveReview_InTransaction_InvalidatesAfterCommit() {
+        // given
+        testDocument.setDocumentId("POL-EDU-015");
+        testDocument.setStatus(RagDocumentStatus.PENDING);
+        when(documentRepository.findByDocumentIdAndVersion("POL-EDU-015", 1)).thenReturn(Optional.of(testDocument));
+        when(documentRepository.findByDocumentId("POL-EDU-015")).thenReturn(List.of(testDocument));
+        when(documentRepository.save(any(RagDocument.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            ragDocumentService.approveReview("POL-EDU-015", 1, new ApproveReviewRequest());
+
+            // then: 커밋 전에는 호출하지 않음
+            verify(chatServiceClient, never()).invalidateAnswerCache(anyString());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(chatServiceClient).invalidateAnswerCache("test");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
@@ -31,6 +32,9 @@ class S3ServiceTest {
     @Mock
     private S3Presigner presigner;
 
+    @Mock
+    private S3Client s3Client;
+
     @Mock
     private CustomMetrics customMetrics;
 
@@ -45,6 +49,7 @@ class S3ServiceTest {
         // S3Service 생성 (생성자 주입)
         s3Service = new S3Service(
             presigner,
+            s3Client,
             customMetrics,
             36000L,  // ttlSeconds
             43200L   // downloadTtlSeconds
@@ -0,0 +1,83 @@
+package com.ctrlf.infra.telemetry.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * chat_turn_fact 30일 집계 부하 테스트 (payload 파싱 방식 vs chat_turn_fact SQL 집계).
+ *
+ * <p>30일치 CHAT_TURN 이벤트를 저장한 뒤 두 방식을 번갈아 실행해(워밍업 1회 후 측정 {@value #RUNS}회)
+ * 중앙값 소요 시간을 출력하고, 결과가 같으며 fact 집계가 더 빠른지 검증합니다.
+ * 이벤트 수는 기본 1,000,000건이며 {@code -Dtelemetry.benchmark.events=10000000}으로 늘릴 수 있습니다.</p>
+ * <p>실제 시간으로 측정하는 테스트라 기본 test 태스크에서는 제외하며,
+ * {@code ./gradlew :infra-service:loadTest}로 실행합니다. Docker가 없는 환경에서는 건너뜁니다.</p>
+ */
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("chat_turn_fact 집계 부하 테스트")
+class ChatTurnFactAggregationLoadTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final int EVENTS = Integer.getInteger("telemetry.benchmark.events", 1_000_000);
+    private static final int RUNS = 3;
+
+    @Test
+    @DisplayName("30일 집계 - chat_turn_fact SQL 집계가 payload 파싱보다 빠르고 결과가 같음")
+    void thirtyDayAggregate_FactFasterThanPayloadParsing() throws Exception {
+        try (Connection conn = connect()) {
+            // given
+            long insertStarted = System.nanoTime();
+            try (Statement st = conn.createStatement()) {
+                ChatTurnFactAggregationTest.migrateAndInsert(st, EVENTS);
+            }
+            long insertMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - insertStarted);
+
+            // when (워밍업 1회 + 측정)
+            long[] parsed = ChatTurnFactAggregationTest.aggregateByParsingPayload(conn);
+            long[] fact = ChatTurnFactAggregationTest.aggregateFact(conn);
+            long[] parseMs = new long[RUNS];
+            long[] factMs = new long[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                long started = System.nanoTime();
+                ChatTurnFactAggregationTest.aggregateByParsingPayload(conn);
+                parseMs[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+                started = System.nanoTime();
+                ChatTurnFactAggregationTest.aggregateFact(conn);
+                factMs[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            }
+
+            // then
+            System.out.printf("[chat_turn_fact load test] events=%,d, insert(+trigger)=%,dms%n", EVENTS, insertMs);
+            System.out.printf("  payload 파싱 : median=%,dms runs=%s%n", median(parseMs), Arrays.toString(parseMs));
+            System.out.printf("  fact 집계    : median=%,dms runs=%s%n", median(factMs), Arrays.toString(factMs));
+
+            assertThat(fact).containsExactly(parsed);
+            assertThat(fact[0] + fact[1] + fact[2] + fact[3]).isEqualTo(EVENTS);
+            assertThat(median(factMs)).isLessThan(median(parseMs));
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static Connection connect() throws Exception {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,198 @@
+package com.ctrlf.infra.telemetry.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * chat_turn_fact 집계 테스트.
+ *
+ * <p>30일치 CHAT_TURN 이벤트 20,000건에 대해 기존 방식(이벤트 전체 조회 후 payload를 Map으로 파싱)과
+ * chat_turn_fact SQL 집계의 결과가 같은지 확인합니다. Docker가 없는 환경에서는 건너뜁니다.</p>
+ * <p>두 방식의 소요 시간 비교는 {@link ChatTurnFactAggregationLoadTest}에서 합니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("chat_turn_fact 집계 테스트")
+class ChatTurnFactAggregationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final int EVENTS = 20_000;
+
+    static final String PERIOD = "occurred_at >= TIMESTAMPTZ '2025-01-01T00:00:00Z' "
+        + "AND occurred_at < TIMESTAMPTZ '2025-01-31T00:00:00Z'";
+
+    /** TelemetryEventRepository.aggregateChatTurnLatency와 같은 집계 + 에러 수 */
+    static final String FACT_AGGREGATE = """
+        SELECT
+            COUNT(*) FILTER (WHERE latency_ms_total < 500),
+            COUNT(*) FILTER (WHERE latency_ms_total >= 500 AND latency_ms_total < 1000),
+            COUNT(*) FILTER (WHERE latency_ms_total >= 1000 AND latency_ms_total < 2000),
+            COUNT(*) FILTER (WHERE latency_ms_total >= 2000),
+            COUNT(error_code),
+            COUNT(*) FILTER (WHERE pii_detected_input OR pii_detected_output)
+        FROM telemetry.chat_turn_fact
+        WHERE %s
+        """.formatted(PERIOD);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            migrateAndInsert(st, EVENTS);
+        }
+    }
+
+    /** V22까지 적용하고 2025-01-01부터 30일에 걸친 CHAT_TURN 이벤트 events건 저장 */
+    static void migrateAndInsert(Statement st, int events) throws Exception {
+        st.execute(migration("V8__create_telemetry_schema_and_event_table.sql"));
+        st.execute(migration("V12__alter_trace_id_to_varchar.sql"));
+        st.execute(migration("V21__partition_telemetry_event_by_month.sql"));
+        st.execute(migration("V22__create_chat_turn_fact.sql"));
+        st.execute("SELECT telemetry.create_telemetry_event_partition(DATE '2025-01-01')");
+        st.execute("""
+            INSERT INTO telemetry.telemetry_event
+              (event_id, source, sent_at, event_type, trace_id, conversation_id, turn_id,
+               user_id, dept_id, occurred_at, payload)
+            SELECT gen_random_uuid(), 'ai-gateway', now(), 'CHAT_TURN', 'trace', 'c' || (g / 10), g %% 10,
+                   'u' || (g %% 500), 'd' || (g %% 5),
+                   TIMESTAMPTZ '2025-01-01T00:00:00Z' + (g * interval '30 days' / %d),
+                   jsonb_build_object(
+                     'domain', (ARRAY['POLICY', 'FAQ', 'EDUCATION'])[1 + g %% 3],
+                     'intentMain', 'INTENT_' || (g %% 7),
+                     'model', (ARRAY['gpt-4o-mini', 'qwen'])[1 + g %% 2],
+                     'latencyMsTotal', (g * 37) %% 3000,
+                     'latencyMsLlm', (g * 17) %% 2000,
+                     'errorCode', CASE WHEN g %% 50 = 0 THEN 'LLM_TIMEOUT' END,
+                     'piiDetectedInput', g %% 40 = 0,
+                     'piiDetectedOutput', false,
+                     'ragUsed', g %% 2 = 0,
+                     'oos', g %% 90 = 0,
+                     'question_masked', '연차는 며칠인가요? ' || g
+                   )
+            FROM generate_series(0, %d) g
+            """.formatted(events, events - 1));
+        st.execute("ANALYZE telemetry.telemetry_event");
+        st.execute("ANALYZE telemetry.chat_turn_fact");
+    }
+
+    @Test
+    @DisplayName("30일 집계 - payload 파싱 결과와 chat_turn_fact SQL 집계 결과가 같음")
+    void thirtyDayAggregate_FactMatchesPayloadParsing() throws Exception {
+        // when
+        long[] parsed;
+        long[] fact;
+        try (Connection conn = connect()) {
+            parsed = aggregateByParsingPayload(conn);
+            fact = aggregateFact(conn);
+        }
+
+        // then
+        assertThat(fact).containsExactly(parsed);
+        assertThat(fact[0] + fact[1] + fact[2] + fact[3]).isEqualTo(EVENTS);
+    }
+
+    @Test
+    @DisplayName("트리거 - 타입이 맞지 않는 payload 값은 NULL로 저장하고 CHAT_TURN만 팩트에 추가")
+    void trigger_StoresNullForMistypedValues() throws Exception {
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            // given
+            st.execute("""
+                INSERT INTO telemetry.telemetry_event
+                  (event_id, source, sent_at, event_type, trace_id, user_id, dept_id, occurred_at, payload)
+                VALUES
+                  ('00000000-0000-0000-0000-000000000001', 'ai-gateway', now(), 'CHAT_TURN', 't', 'u', 'd',
+                   TIMESTAMPTZ '2025-01-31T12:00:00Z',
+                   '{"domain": " sec_policy ", "latencyMsTotal": "slow", "piiDetectedInput": "yes", "errorCode": 500}'),
+                  ('00000000-0000-0000-0000-000000000002', 'ai-gateway', now(), 'FEEDBACK', 't', 'u', 'd',
+                   TIMESTAMPTZ '2025-01-31T12:00:00Z', '{"feedback": "like"}')
+                """);
+
+            // when
+            try (ResultSet rs = st.executeQuery("""
+                SELECT domain, latency_ms_total, pii_detected_input, error_code
+                FROM telemetry.chat_turn_fact
+                WHERE event_id IN ('00000000-0000-0000-0000-000000000001', '00000000-0000-0000-0000-000000000002')
+                """)) {
+                // then
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getString("domain")).isEqualTo("SEC_POLICY");
+                assertThat(rs.getObject("latency_ms_total")).isNull();
+                assertThat(rs.getObject("pii_detected_input")).isNull();
+                assertThat(rs.getString("error_code")).isEqualTo("500");
+                assertThat(rs.next()).isFalse();
+            }
+        }
+    }
+
+    /** 기존 TelemetryService 방식: 이벤트를 모두 가져와 payload를 Map으로 파싱해 집계 */
+    static long[] aggregateByParsingPayload(Connection conn) throws Exception {
+        long[] result = new long[6];
+        boolean autoCommit = conn.getAutoCommit();
+        // fetch size는 트랜잭션 안에서만 적용 (커서로 나눠 읽기)
+        conn.setAutoCommit(false);
+        try (Statement st = conn.createStatement()) {
+            st.setFetchSize(10_000);
+            try (ResultSet rs = st.executeQuery(
+                "SELECT payload FROM telemetry.telemetry_event WHERE event_type = 'CHAT_TURN' AND " + PERIOD)) {
+                while (rs.next()) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> payload = OBJECT_MAPPER.readValue(rs.getString(1), Map.class);
+                    if (payload.get("latencyMsTotal") instanceof Number latencyObj) {
+                        long latency = latencyObj.longValue();
+                        result[latency < 500 ? 0 : latency < 1000 ? 1 : latency < 2000 ? 2 : 3]++;
+                    }
+                    if (payload.get("errorCode") != null) {
+                        result[4]++;
+                    }
+                    if (Boolean.TRUE.equals(payload.get("piiDetectedInput"))
+                            || Boolean.TRUE.equals(payload.get("piiDetectedOutput"))) {
+                        result[5]++;
+                    }
+                }
+            }
+        } finally {
+            conn.commit();
+            conn.setAutoCommit(autoCommit);
+        }
+        return result;
+    }
+
+    static long[] aggregateFact(Connection conn) throws Exception {
+        long[] result = new long[6];
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery(FACT_AGGREGATE)) {
+            rs.next();
+            for (int i = 0; i < result.length; i++) {
+                result[i] = rs.getLong(i + 1);
+            }
+        }
+        return result;
+    }
+
+    private static Connection connect() throws Exception {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    private static String migration(String fileName) throws Exception {
+        try (InputStream in = ChatTurnFactAggregationTest.class
+                .getResourceAsStream("/db/migration/" + fileName)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
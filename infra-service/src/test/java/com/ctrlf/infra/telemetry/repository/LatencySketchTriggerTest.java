@@ -0,0 +1,185 @@
+package com.ctrlf.infra.telemetry.repository;
+
+import com.ctrlf.infra.telemetry.sketch.LatencySketch;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * chat_latency_sketch 트리거 / backfill / 압축 테스트 (V25).
+ *
+ * <p>V25 적용 전에 넣은 이벤트(backfill)와 적용 후 여러 트랜잭션으로 넣은 이벤트(트리거)의 스케치를
+ * 병합한 결과가 같은 값을 Java {@link LatencySketch}에 모두 넣은 결과와 같은지 확인합니다.
+ * Docker가 없는 환경에서는 건너뜁니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("지연시간 스케치 트리거 테스트")
+class LatencySketchTriggerTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final int EVENTS_PER_BATCH = 500;
+    private static final int BATCHES = 4;
+
+    /** 모델 → 기대 스케치 (TOTAL 지표) */
+    private static final Map<String, LatencySketch> EXPECTED = new HashMap<>();
+
+    @BeforeAll
+    static void migrateAndIngest() throws Exception {
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            st.execute(migration("V8__create_telemetry_schema_and_event_table.sql"));
+            st.execute(migration("V12__alter_trace_id_to_varchar.sql"));
+            st.execute(migration("V21__partition_telemetry_event_by_month.sql"));
+            st.execute(migration("V22__create_chat_turn_fact.sql"));
+            st.execute(migration("V23__create_chat_latency_sketch.sql"));
+            st.execute(migration("V24__chat_turn_repeat_intent_at_ingest.sql"));
+            st.execute("SELECT telemetry.create_telemetry_event_partition(DATE '2025-01-01')");
+
+            // V25 이전 이벤트 (backfill 대상)
+            ingest(st, 0);
+            st.execute(migration("V25__chat_latency_sketch_trigger.sql"));
+            // V25 이후 이벤트 (배치마다 별도 트랜잭션 → writer_xid가 다른 행)
+            for (int batch = 1; batch < BATCHES; batch++) {
+                ingest(st, batch);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("backfill + 트리거 - 병합 결과가 Java 스케치와 버킷/합계/최댓값까지 같음")
+    void mergedSketch_MatchesJavaSketch() throws Exception {
+        assertThat(mergedSketches()).isEqualTo(summaries(EXPECTED));
+    }
+
+    @Test
+    @DisplayName("압축 - 트랜잭션별 행을 키당 한 행으로 합쳐도 병합 결과는 같음")
+    void compact_KeepsMergedResult() throws Exception {
+        // given
+        Map<String, String> before = mergedSketches();
+
+        // when
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            st.execute(RepositoryQueries.prepare("compact", TelemetryEventRepository.class, "compactLatencySketches"));
+            st.execute("EXECUTE compact('2025-02-01T00:00:00Z')");
+
+            // then
+            try (ResultSet rs = st.executeQuery("""
+                SELECT COUNT(*) FILTER (WHERE writer_xid <> 0),
+                       COUNT(*) - COUNT(DISTINCT (bucket_minute, metric, dept_id, model))
+                FROM telemetry.chat_latency_sketch
+                """)) {
+                rs.next();
+                assertThat(rs.getLong(1)).isZero();
+                assertThat(rs.getLong(2)).isZero();
+            }
+        }
+        assertThat(mergedSketches()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("재전송된 이벤트 - 팩트에 추가되지 않으므로 스케치에도 더해지지 않음")
+    void duplicateEvent_NotCountedTwice() throws Exception {
+        // given
+        Map<String, String> before = mergedSketches();
+
+        // when: 이미 저장된 이벤트를 같은 event_id로 다시 저장
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            st.execute("""
+                INSERT INTO telemetry.telemetry_event
+                  (event_id, source, sent_at, event_type, trace_id, user_id, dept_id, occurred_at, payload)
+                SELECT event_id, source, sent_at, event_type, trace_id, user_id, dept_id, occurred_at, payload
+                FROM telemetry.telemetry_event
+                LIMIT 10
+                ON CONFLICT DO NOTHING
+                """);
+        }
+
+        // then
+        assertThat(mergedSketches()).isEqualTo(before);
+    }
+
+    /** 배치 하나를 한 트랜잭션으로 저장하고 기대 스케치에도 같은 값을 기록 */
+    private static void ingest(Statement st, int batch) throws Exception {
+        int from = batch * EVENTS_PER_BATCH;
+        for (int g = from; g < from + EVENTS_PER_BATCH; g++) {
+            EXPECTED.computeIfAbsent(model(g), m -> new LatencySketch()).add(latency(g));
+        }
+        st.execute("""
+            INSERT INTO telemetry.telemetry_event
+              (event_id, source, sent_at, event_type, trace_id, user_id, dept_id, occurred_at, payload)
+            SELECT gen_random_uuid(), 'ai-gateway', now(), 'CHAT_TURN', 'trace', 'u' || g, 'd1',
+                   TIMESTAMPTZ '2025-01-10T09:00:00Z' + (g %% 7) * interval '1 minute',
+                   jsonb_build_object(
+                     'model', (ARRAY['gpt-4o-mini', 'qwen', ''])[1 + g %% 3],
+                     'latencyMsTotal', (g * 7919) %% 30000 - 5,
+                     'latencyMsLlm', (g * 31) %% 2000
+                   )
+            FROM generate_series(%d, %d) g
+            """.formatted(from, from + EVENTS_PER_BATCH - 1));
+    }
+
+    /** insert SQL의 모델 계산과 같음 (빈 모델은 unknown) */
+    private static String model(int g) {
+        return List.of("gpt-4o-mini", "qwen", "unknown").get(g % 3);
+    }
+
+    /** insert SQL의 latencyMsTotal 계산과 같음 (음수 포함) */
+    private static long latency(int g) {
+        return (g * 7919L) % 30000 - 5;
+    }
+
+    /** 리포지토리 조회 SQL로 모델별 스케치를 병합해 요약 문자열로 반환 */
+    private static Map<String, String> mergedSketches() throws Exception {
+        Map<String, LatencySketch> sketches = new HashMap<>();
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            st.execute(RepositoryQueries.prepare("bins", TelemetryEventRepository.class, "mergeLatencySketchBins"));
+            st.execute(RepositoryQueries.prepare("totals", TelemetryEventRepository.class, "sumLatencySketchTotals"));
+            String args = "('TOTAL', '2025-01-01T00:00:00Z', '2025-02-01T00:00:00Z', NULL)";
+            try (ResultSet rs = st.executeQuery("EXECUTE bins" + args)) {
+                while (rs.next()) {
+                    sketches.computeIfAbsent(rs.getString(1), m -> new LatencySketch())
+                        .addBin(rs.getInt(2), rs.getLong(3));
+                }
+            }
+            try (ResultSet rs = st.executeQuery("EXECUTE totals" + args)) {
+                while (rs.next()) {
+                    sketches.get(rs.getString(1)).addSummary(rs.getLong(3), rs.getLong(4));
+                }
+            }
+        }
+        return summaries(sketches);
+    }
+
+    private static Map<String, String> summaries(Map<String, LatencySketch> sketches) {
+        Map<String, String> result = new HashMap<>();
+        sketches.forEach((model, sketch) -> result.put(model,
+            "count=" + sketch.count() + ", sum=" + sketch.sum() + ", max=" + sketch.max() + ", bins=" + sketch.bins()));
+        return result;
+    }
+
+    private static Connection connect() throws Exception {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    private static String migration(String fileName) throws Exception {
+        try (InputStream in = LatencySketchTriggerTest.class
+                .getResourceAsStream("/db/migration/" + fileName)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
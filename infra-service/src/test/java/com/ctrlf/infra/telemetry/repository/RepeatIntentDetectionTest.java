@@ -0,0 +1,207 @@
+package com.ctrlf.infra.telemetry.repository;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수집 시 재질문 판정(V24) 테스트.
+ *
+ * <p>기록된 CHAT_TURN 이벤트 세트(telemetry/chat-turn-events.json)를 수집 순서대로 넣고,
+ * 트리거가 저장한 is_repeat가 기존 조회 시 계산 방식(conversation별 turnId 정렬 후 직전 3턴 비교)과
+ * 같은지 확인합니다. 앞 절반은 V24 적용 전에 넣어 backfill과 window 초기화도 함께 검증합니다.
+ * Docker가 없는 환경에서는 건너뜁니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("재질문 수집 시 판정 테스트")
+class RepeatIntentDetectionTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static List<RecordedTurn> events;
+
+    @BeforeAll
+    static void migrateAndIngest() throws Exception {
+        try (InputStream in = RepeatIntentDetectionTest.class.getResourceAsStream("/telemetry/chat-turn-events.json")) {
+            events = new ObjectMapper().readValue(in, new TypeReference<List<RecordedTurn>>() {});
+        }
+        int half = events.size() / 2;
+
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            st.execute(migration("V8__create_telemetry_schema_and_event_table.sql"));
+            st.execute(migration("V12__alter_trace_id_to_varchar.sql"));
+            st.execute(migration("V21__partition_telemetry_event_by_month.sql"));
+            st.execute(migration("V22__create_chat_turn_fact.sql"));
+            st.execute("SELECT telemetry.create_telemetry_event_partition(DATE '2025-01-01')");
+
+            ingest(conn, events.subList(0, half));
+            st.execute(migration("V24__chat_turn_repeat_intent_at_ingest.sql"));
+            ingest(conn, events.subList(half, events.size()));
+        }
+    }
+
+    @Test
+    @DisplayName("재질문 턴 수 - 기존 조회 시 계산 결과와 동일")
+    void repeatCount_MatchesQueryTimeAlgorithm() throws Exception {
+        // given
+        Set<String> expected = repeatedTurnsByQueryTimeAlgorithm(events);
+
+        // when
+        long total;
+        long repeated;
+        try (Connection conn = connect(); Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery(
+                 "SELECT COUNT(*), COUNT(*) FILTER (WHERE is_repeat) FROM telemetry.chat_turn_fact")) {
+            rs.next();
+            total = rs.getLong(1);
+            repeated = rs.getLong(2);
+        }
+
+        // then
+        assertThat(total).isEqualTo(events.size());
+        assertThat(repeated).isEqualTo(expected.size()).isPositive();
+    }
+
+    @Test
+    @DisplayName("재질문 턴 - 턴 단위로 기존 계산 결과와 동일")
+    void repeatFlags_MatchQueryTimeAlgorithmPerTurn() throws Exception {
+        // given
+        Set<String> expected = repeatedTurnsByQueryTimeAlgorithm(events);
+
+        // when
+        Set<String> actual = new HashSet<>();
+        try (Connection conn = connect(); Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery(
+                 "SELECT conversation_id, turn_id FROM telemetry.chat_turn_fact WHERE is_repeat")) {
+            while (rs.next()) {
+                actual.add(rs.getString(1) + "#" + rs.getInt(2));
+            }
+        }
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("conversation window - 최근 3턴만 보관")
+    void intentWindow_KeepsLastThreeTurns() throws Exception {
+        // when
+        Map<String, Integer> windowSizes = new HashMap<>();
+        try (Connection conn = connect(); Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery(
+                 "SELECT conversation_id, cardinality(turn_ids) FROM telemetry.conversation_intent_window")) {
+            while (rs.next()) {
+                windowSizes.put(rs.getString(1), rs.getInt(2));
+            }
+        }
+
+        // then
+        Map<String, Long> turnsPerConversation = new HashMap<>();
+        for (RecordedTurn event : events) {
+            if (event.conversationId != null) {
+                turnsPerConversation.merge(event.conversationId, 1L, Long::sum);
+            }
+        }
+        assertThat(windowSizes).hasSameSizeAs(turnsPerConversation);
+        turnsPerConversation.forEach((conversationId, turns) ->
+            assertThat(windowSizes.get(conversationId)).isEqualTo((int) Math.min(3, turns)));
+    }
+
+    /**
+     * 기존 TelemetryService.calculateRepeatRate와 같은 계산 (조회 기간 = 전체 이벤트)
+     *
+     * @return 재질문으로 판정된 턴 ("conversationId#turnId")
+     */
+    private static Set<String> repeatedTurnsByQueryTimeAlgorithm(List<RecordedTurn> turns) {
+        Map<String, List<RecordedTurn>> byConversation = new HashMap<>();
+        for (RecordedTurn turn : turns) {
+            if (turn.conversationId != null) {
+                byConversation.computeIfAbsent(turn.conversationId, k -> new ArrayList<>()).add(turn);
+            }
+        }
+
+        Set<String> repeated = new HashSet<>();
+        for (List<RecordedTurn> conversation : byConversation.values()) {
+            conversation.sort(Comparator.comparing(t -> t.turnId, Comparator.nullsFirst(Comparator.naturalOrder())));
+            for (int i = 0; i < conversation.size(); i++) {
+                RecordedTurn current = conversation.get(i);
+                if (current.intentMain == null) {
+                    continue;
+                }
+                for (int j = Math.max(0, i - 3); j < i; j++) {
+                    if (current.intentMain.equals(conversation.get(j).intentMain)) {
+                        repeated.add(current.conversationId + "#" + current.turnId);
+                        break;
+                    }
+                }
+            }
+        }
+        return repeated;
+    }
+
+    private static void ingest(Connection conn, List<RecordedTurn> turns) throws Exception {
+        try (PreparedStatement ps = conn.prepareStatement("""
+                INSERT INTO telemetry.telemetry_event
+                  (event_id, source, sent_at, event_type, trace_id, conversation_id, turn_id,
+                   user_id, dept_id, occurred_at, payload)
+                VALUES (gen_random_uuid(), 'ai-gateway', now(), 'CHAT_TURN', 'trace', ?, ?,
+                        'u1', 'd1', ?, jsonb_build_object('intentMain', CAST(? AS text)))
+                """)) {
+            for (RecordedTurn turn : turns) {
+                ps.setString(1, turn.conversationId);
+                if (turn.turnId == null) {
+                    ps.setNull(2, Types.INTEGER);
+                } else {
+                    ps.setInt(2, turn.turnId);
+                }
+                ps.setTimestamp(3, Timestamp.from(Instant.parse(turn.occurredAt)));
+                ps.setString(4, turn.intentMain);
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    private static Connection connect() throws Exception {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    private static String migration(String fileName) throws Exception {
+        try (InputStream in = RepeatIntentDetectionTest.class
+                .getResourceAsStream("/db/migration/" + fileName)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /** 기록된 CHAT_TURN 이벤트 한 건 */
+    static class RecordedTurn {
+        public String conversationId;
+        public Integer turnId;
+        public String occurredAt;
+        public String intentMain;
+    }
+}
@@ -0,0 +1,82 @@
+package com.ctrlf.infra.telemetry.repository;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository native 쿼리를 그대로 PREPARE 문으로 바꾸는 테스트 도우미.
+ *
+ * <p>@Query 값을 리플렉션으로 읽으므로 테스트에 SQL을 손으로 복사하지 않습니다.
+ * 이름 파라미터(:name)는 메서드 파라미터 순서대로 $1, $2 ...로 바꾸고, 파라미터 타입은
+ * Hibernate가 바인딩하는 PostgreSQL 타입(Instant → timestamptz 등)으로 선언합니다.</p>
+ */
+final class RepositoryQueries {
+
+    /** Hibernate 6 + PostgreSQL 기본 바인딩 타입 */
+    private static final Map<Class<?>, String> BIND_TYPES = Map.of(
+        Instant.class, "timestamptz",
+        LocalDateTime.class, "timestamp",
+        LocalDate.class, "date",
+        String.class, "varchar",
+        UUID.class, "uuid",
+        Integer.class, "int4",
+        int.class, "int4",
+        Long.class, "int8",
+        long.class, "int8"
+    );
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("(?<![:\\w]):(\\w+)");
+
+    private RepositoryQueries() {
+    }
+
+    /**
+     * @return {@code PREPARE <statementName>(<types>) AS <repository SQL>}
+     */
+    static String prepare(String statementName, Class<?> repository, String methodName) {
+        Method method = Arrays.stream(repository.getDeclaredMethods())
+            .filter(m -> m.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("메서드 없음: " + methodName));
+        Query query = method.getAnnotation(Query.class);
+        if (query == null || !query.nativeQuery()) {
+            throw new IllegalArgumentException("native @Query가 아님: " + methodName);
+        }
+
+        List<String> names = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        for (Parameter parameter : method.getParameters()) {
+            names.add(parameter.getAnnotation(Param.class).value());
+            String type = BIND_TYPES.get(parameter.getType());
+            if (type == null) {
+                throw new IllegalArgumentException("바인딩 타입 미정의: " + parameter.getType());
+            }
+            types.add(type);
+        }
+
+        Matcher matcher = NAMED_PARAMETER.matcher(query.value());
+        StringBuilder sql = new StringBuilder();
+        while (matcher.find()) {
+            int index = names.indexOf(matcher.group(1));
+            if (index < 0) {
+                throw new IllegalArgumentException("파라미터 없음: " + matcher.group(1));
+            }
+            matcher.appendReplacement(sql, "\\$" + (index + 1));
+        }
+        matcher.appendTail(sql);
+
+        return "PREPARE " + statementName + "(" + String.join(", ", types) + ") AS " + sql;
+    }
+}
@@ -0,0 +1,126 @@
+package com.ctrlf.infra.telemetry.repository;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * telemetry_event 월 파티션 EXPLAIN 테스트.
+ *
+ * <p>TelemetryEventRepository의 native 쿼리(countFeedbackByValue)를 그대로 PREPARE해
+ * Hibernate와 같은 바인딩 타입으로 실행할 때 요청 기간에 해당하는 파티션만 읽는지 실제 PostgreSQL에서 확인합니다.
+ * Docker가 없는 환경에서는 건너뜁니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("telemetry_event 파티션 프루닝 테스트")
+class TelemetryEventPartitionPruningTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            st.execute(migration("V8__create_telemetry_schema_and_event_table.sql"));
+            st.execute(migration("V12__alter_trace_id_to_varchar.sql"));
+            st.execute(migration("V21__partition_telemetry_event_by_month.sql"));
+            st.execute("SELECT telemetry.create_telemetry_event_partition(DATE '2025-01-01')");
+            st.execute("SELECT telemetry.create_telemetry_event_partition(DATE '2025-02-01')");
+            st.execute("SELECT telemetry.create_telemetry_event_partition(DATE '2025-03-01')");
+            for (String month : List.of("2025-01-15", "2025-02-15", "2025-03-15")) {
+                st.execute("""
+                    INSERT INTO telemetry.telemetry_event
+                      (event_id, source, sent_at, event_type, trace_id, user_id, dept_id, occurred_at, payload)
+                    SELECT gen_random_uuid(), 'ai-gateway', now(), 'FEEDBACK', 'trace', 'u1', 'd1',
+                           TIMESTAMPTZ '%sT00:00:00Z' + (g * interval '1 minute'), '{"feedback": "like"}'::jsonb
+                    FROM generate_series(1, 100) g
+                    """.formatted(month));
+            }
+            st.execute("ANALYZE telemetry.telemetry_event");
+        }
+    }
+
+    @Test
+    @DisplayName("기간 조회 - 해당 월 파티션만 계획에 포함")
+    void periodQuery_PrunesToSinglePartition() throws Exception {
+        List<String> plan = explain(null);
+
+        assertThat(String.join("\n", plan))
+            .contains("telemetry_event_202501")
+            .doesNotContain("telemetry_event_202502")
+            .doesNotContain("telemetry_event_202503");
+    }
+
+    @Test
+    @DisplayName("기간 조회 - 일반 계획(generic plan)에서도 실행 시 프루닝")
+    void periodQuery_GenericPlanPrunesAtExecutorStartup() throws Exception {
+        List<String> plan = explain("force_generic_plan");
+
+        assertThat(String.join("\n", plan)).contains("Subplans Removed");
+    }
+
+    @Test
+    @DisplayName("보존 기간 정리 - 기준 달 이전 파티션만 DROP")
+    void dropPartitionsBefore_DropsOnlyOlderMonths() throws Exception {
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            st.execute("SELECT telemetry.create_telemetry_event_partition(DATE '2024-11-01')");
+            st.execute("SELECT telemetry.create_telemetry_event_partition(DATE '2024-12-01')");
+
+            List<String> dropped = new ArrayList<>();
+            try (ResultSet rs = st.executeQuery(
+                "SELECT telemetry.drop_telemetry_event_partitions_before(DATE '2024-12-20')")) {
+                while (rs.next()) {
+                    dropped.add(rs.getString(1));
+                }
+            }
+
+            assertThat(dropped).containsExactly("telemetry_event_202411");
+            try (ResultSet rs = st.executeQuery(
+                "SELECT to_regclass('telemetry.telemetry_event_202412') IS NOT NULL")) {
+                rs.next();
+                assertThat(rs.getBoolean(1)).isTrue();
+            }
+        }
+    }
+
+    private static List<String> explain(String planCacheMode) throws Exception {
+        List<String> plan = new ArrayList<>();
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            if (planCacheMode != null) {
+                st.execute("SET plan_cache_mode = " + planCacheMode);
+            }
+            st.execute(RepositoryQueries.prepare("feedback_counts", TelemetryEventRepository.class, "countFeedbackByValue"));
+            try (ResultSet rs = st.executeQuery(
+                "EXPLAIN EXECUTE feedback_counts('2025-01-01T00:00:00Z', '2025-02-01T00:00:00Z', 'all')")) {
+                while (rs.next()) {
+                    plan.add(rs.getString(1));
+                }
+            }
+        }
+        return plan;
+    }
+
+    private static Connection connect() throws Exception {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    private static String migration(String fileName) throws Exception {
+        try (InputStream in = TelemetryEventPartitionPruningTest.class
+                .getResourceAsStream("/db/migration/" + fileName)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ctrlf.infra.telemetry.service;
+
+import com.ctrlf.infra.config.metrics.CustomMetrics;
+import com.ctrlf.infra.telemetry.dto.TelemetryDtos;
+import com.ctrlf.infra.telemetry.repository.TelemetryEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * TelemetryService 수집 단위 테스트 (배치 내 저장 순서).
+ */
+@DisplayName("TelemetryService 테스트")
+class TelemetryServiceTest {
+
+    private final TelemetryEventRepository telemetryEventRepository = mock(TelemetryEventRepository.class);
+
+    private final TelemetryService telemetryService = new TelemetryService(
+        telemetryEventRepository,
+        new ObjectMapper(),
+        mock(CustomMetrics.class),
+        mock(TelemetryPartitionService.class),
+        mock(LatencySketchService.class),
+        mock(PlatformTransactionManager.class)
+    );
+
+    @Test
+    @DisplayName("수집 - 요청 순서와 무관하게 conversationId, turnId, eventId 순으로 저장 (conversation 없는 이벤트는 마지막)")
+    void collectEvents_InsertsInConversationOrder() {
+        // given
+        UUID first = new UUID(0, 1);
+        UUID second = new UUID(0, 2);
+        List<TelemetryDtos.EventItem> events = List.of(
+            event(second, null, null),
+            event(UUID.randomUUID(), "conv-b", 1),
+            event(UUID.randomUUID(), "conv-a", 2),
+            event(first, null, null),
+            event(UUID.randomUUID(), "conv-a", 1)
+        );
+        List<String> inserted = new ArrayList<>();
+        doAnswer(invocation -> {
+            inserted.add(invocation.getArgument(5) + "/" + invocation.getArgument(6) + "/" + invocation.getArgument(0));
+            return 1;
+        }).when(telemetryEventRepository).insertIgnoringDuplicate(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+
+        // when
+        TelemetryDtos.TelemetryEventResponse response = telemetryService.collectEvents(
+            new TelemetryDtos.TelemetryEventRequest("ai-gateway", Instant.now(), events));
+
+        // then
+        assertThat(response.getAccepted()).isEqualTo(5);
+        assertThat(inserted).hasSize(5);
+        assertThat(inserted.subList(0, 3)).extracting(key -> key.substring(0, key.lastIndexOf('/')))
+            .containsExactly("conv-a/1", "conv-a/2", "conv-b/1");
+        assertThat(inserted.subList(3, 5))
+            .containsExactly("null/null/" + first, "null/null/" + second);
+    }
+
+    private static TelemetryDtos.EventItem event(UUID eventId, String conversationId, Integer turnId) {
+        return new TelemetryDtos.EventItem(
+            eventId, "CHAT_TURN", "trace", conversationId, turnId, "user", "dept",
+            Instant.parse("2025-01-10T09:00:00Z"), Map.of("intentMain", "LEAVE")
+        );
+    }
+}
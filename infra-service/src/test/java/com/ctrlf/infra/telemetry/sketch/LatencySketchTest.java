@@ -0,0 +1,114 @@
+package com.ctrlf.infra.telemetry.sketch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * LatencySketch 단위 테스트.
+ */
+@DisplayName("LatencySketch 테스트")
+class LatencySketchTest {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99, 0.999};
+
+    @Test
+    @DisplayName("퍼센타일 - 실제 nearest-rank 값 대비 상대 오차 1% 이하")
+    void quantile_WithinRelativeAccuracy() {
+        // given (로그정규 분포 지연시간 + 간헐적 긴 꼬리)
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        LatencySketch sketch = new LatencySketch();
+        for (int i = 0; i < values.length; i++) {
+            double latency = Math.exp(7 + 0.6 * random.nextGaussian());
+            if (random.nextInt(200) == 0) {
+                latency *= 20;
+            }
+            values[i] = Math.round(latency);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        // when & then
+        for (double q : QUANTILES) {
+            long exact = values[(int) Math.ceil(q * values.length) - 1];
+            assertThat(sketch.quantile(q))
+                .as("p%s", q * 100)
+                .isCloseTo(exact, within(exact * LatencySketch.RELATIVE_ACCURACY + 1e-9));
+        }
+        assertThat(sketch.count()).isEqualTo(values.length);
+        assertThat(sketch.max()).isEqualTo(values[values.length - 1]);
+    }
+
+    @Test
+    @DisplayName("병합 - 분 단위 스케치를 합친 결과가 한 스케치에 모두 넣은 결과와 같음")
+    void merge_EqualsSingleSketch() {
+        // given
+        Random random = new Random(7);
+        LatencySketch whole = new LatencySketch();
+        List<LatencySketch> perMinute = new ArrayList<>();
+        for (int minute = 0; minute < 60; minute++) {
+            LatencySketch sketch = new LatencySketch();
+            for (int i = 0; i < 500; i++) {
+                long latency = 200 + random.nextInt(5_000);
+                sketch.add(latency);
+                whole.add(latency);
+            }
+            perMinute.add(sketch);
+        }
+
+        // when
+        LatencySketch merged = new LatencySketch();
+        perMinute.forEach(merged::merge);
+
+        // then
+        assertThat(merged.bins()).isEqualTo(whole.bins());
+        assertThat(merged.count()).isEqualTo(whole.count());
+        assertThat(merged.sum()).isEqualTo(whole.sum());
+        for (double q : QUANTILES) {
+            assertThat(merged.quantile(q)).isEqualTo(whole.quantile(q));
+        }
+    }
+
+    @Test
+    @DisplayName("저장된 버킷 복원 - addBin으로 다시 만든 스케치의 퍼센타일이 같음")
+    void addBin_RestoresQuantiles() {
+        // given
+        LatencySketch original = new LatencySketch();
+        for (long latency = 0; latency < 10_000; latency += 3) {
+            original.add(latency);
+        }
+
+        // when
+        LatencySketch restored = new LatencySketch();
+        original.bins().forEach(restored::addBin);
+
+        // then
+        for (double q : QUANTILES) {
+            assertThat(restored.quantile(q)).isEqualTo(original.quantile(q));
+        }
+    }
+
+    @Test
+    @DisplayName("버킷 수 - 1시간까지의 값도 버킷 1,000개 이하 (값 개수와 무관)")
+    void bins_BoundedByValueRange() {
+        // given
+        LatencySketch sketch = new LatencySketch();
+
+        // when
+        for (long latency = 0; latency <= 3_600_000; latency++) {
+            sketch.add(latency);
+        }
+
+        // then
+        assertThat(sketch.bins()).hasSizeLessThan(1_000);
+        assertThat(sketch.quantile(0.0001)).isLessThan(400);
+        assertThat(LatencySketch.valueOf(LatencySketch.indexOf(0))).isZero();
+    }
+}
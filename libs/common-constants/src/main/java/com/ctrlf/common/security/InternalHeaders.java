@@ -0,0 +1,14 @@
+package com.ctrlf.common.security;
+
+/**
+ * 게이트웨이와 서비스 사이에서 사용하는 내부 헤더 이름 상수.
+ */
+public final class InternalHeaders {
+    private InternalHeaders() {}
+
+    /** 게이트웨이가 검증한 JWT claims (게이트웨이 공유 키로 서명한 HS256 JWS, 외부 요청 값은 게이트웨이에서 제거) */
+    public static final String VERIFIED_CLAIMS = "X-Verified-Claims";
+
+    /** 검증 claims에 넣는 access token 해시 claim (SHA-256, base64url). 헤더를 같은 요청의 Bearer 토큰에 묶음 */
+    public static final String ACCESS_TOKEN_HASH_CLAIM = "ath";
+}
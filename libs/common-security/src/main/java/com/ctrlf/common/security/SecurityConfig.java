@@ -6,6 +6,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -28,12 +29,30 @@ public class SecurityConfig {
         http.httpBasic(b -> b.disable());
         http.formLogin(f -> f.disable());
 
+        // 게이트웨이 검증 claims 헤더 (공유 키가 설정된 경우)
+        // 서명과 토큰 해시(ath)가 맞으면 같은 claims로 인증하고 Bearer 토큰 재검증은 생략
+        // trusted-proxies가 있으면 그 대역(게이트웨이)에서 온 헤더만 사용
+        String verifiedClaimsSecret = env.getProperty("app.security.verified-claims.secret");
+        VerifiedClaimsAuthenticationFilter verifiedClaimsFilter = null;
+        if (verifiedClaimsSecret != null && !verifiedClaimsSecret.isBlank()) {
+            List<String> trustedProxies = List.of(
+                env.getProperty("app.security.verified-claims.trusted-proxies", String[].class, new String[0]));
+            verifiedClaimsFilter = new VerifiedClaimsAuthenticationFilter(verifiedClaimsSecret, trustedProxies);
+            http.addFilterBefore(verifiedClaimsFilter, BearerTokenAuthenticationFilter.class);
+        }
+
         // OAuth2 Resource Server 활성화 (JWT 파싱용)
         // issuer-uri가 설정되어 있으면 JWT를 파싱하여 @AuthenticationPrincipal에 주입
         String issuer = env.getProperty("spring.security.oauth2.resourceserver.jwt.issuer-uri");
         String jwk = env.getProperty("spring.security.oauth2.resourceserver.jwt.jwk-set-uri");
         if ((issuer != null && !issuer.isBlank()) || (jwk != null && !jwk.isBlank())) {
-            http.oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> {}));
+            VerifiedClaimsAuthenticationFilter claimsFilter = verifiedClaimsFilter;
+            http.oauth2ResourceServer(oauth2 -> {
+                if (claimsFilter != null) {
+                    oauth2.bearerTokenResolver(claimsFilter.bearerTokenResolver());
+                }
+                oauth2.jwt(jwt -> {});
+            });
         }
         return http.build();
     }
@@ -0,0 +1,157 @@
+package com.ctrlf.common.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.AbstractAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 게이트웨이 검증 claims 인증 필터.
+ *
+ * <p>API Gateway는 사용자 JWT를 한 번 검증한 뒤 claims를 공유 키(HS256)로 서명해
+ * {@link InternalHeaders#VERIFIED_CLAIMS} 헤더로 전달합니다. 이 헤더의 서명과 만료만 확인되면
+ * 같은 claims로 Jwt 인증을 만들고, Authorization 헤더의 JWT는 다시 검증하지 않습니다 (RSA 서명 검증 생략).</p>
+ * <p>헤더의 ath claim(access token SHA-256 해시)이 같은 요청의 Bearer 토큰과 일치해야 하므로, 가로챈 헤더를
+ * 다른 토큰이나 토큰 없이 재사용할 수 없습니다. trusted-proxies를 설정하면 그 대역(게이트웨이 네트워크)에서 온
+ * 요청의 헤더만 사용합니다.</p>
+ * <p>헤더가 없거나 출발지/서명/만료/토큰 해시 확인에 실패하면 아무것도 하지 않으므로 기존처럼 Bearer 토큰을 검증합니다.</p>
+ */
+public class VerifiedClaimsAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(VerifiedClaimsAuthenticationFilter.class);
+
+    /** 헤더로 인증된 요청 표시 (Bearer 토큰 재검증 생략용) */
+    static final String VERIFIED_ATTRIBUTE = VerifiedClaimsAuthenticationFilter.class.getName() + ".verified";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final NimbusJwtDecoder decoder;
+    private final JwtAuthenticationConverter authenticationConverter = new JwtAuthenticationConverter();
+    private final BearerTokenResolver defaultBearerTokenResolver = new DefaultBearerTokenResolver();
+    /** 헤더를 받을 출발지 대역 (비어 있으면 제한 없음) */
+    private final List<IpAddressMatcher> trustedProxies;
+
+    /**
+     * @param secret 게이트웨이와 공유하는 서명 키 (HS256, 32바이트 이상)
+     */
+    public VerifiedClaimsAuthenticationFilter(String secret) {
+        this(secret, List.of());
+    }
+
+    /**
+     * @param secret 게이트웨이와 공유하는 서명 키 (HS256, 32바이트 이상)
+     * @param trustedProxies 헤더를 받을 게이트웨이 주소/대역 (예: 10.0.0.0/8, 비어 있으면 제한 없음)
+     */
+    public VerifiedClaimsAuthenticationFilter(String secret, List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+            .map(String::trim)
+            .filter(address -> !address.isEmpty())
+            .map(IpAddressMatcher::new)
+            .toList();
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        if (key.length < 32) {
+            throw new IllegalArgumentException("app.security.verified-claims.secret은 32바이트 이상이어야 합니다.");
+        }
+        this.decoder = NimbusJwtDecoder.withSecretKey(new SecretKeySpec(key, "HmacSHA256"))
+            .macAlgorithm(MacAlgorithm.HS256)
+            .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String header = request.getHeader(InternalHeaders.VERIFIED_CLAIMS);
+        if (header != null && !header.isBlank() && !isTrustedProxy(request.getRemoteAddr())) {
+            log.warn("[검증 claims] 허용되지 않은 출발지의 헤더는 무시하고 Bearer 토큰으로 인증합니다: uri={}, remoteAddr={}",
+                request.getRequestURI(), request.getRemoteAddr());
+        } else if (header != null && !header.isBlank()) {
+            try {
+                Jwt jwt = verify(header, request.getHeader(HttpHeaders.AUTHORIZATION));
+                AbstractAuthenticationToken authentication = authenticationConverter.convert(jwt);
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+                request.setAttribute(VERIFIED_ATTRIBUTE, Boolean.TRUE);
+            } catch (JwtException e) {
+                log.warn("[검증 claims] 헤더 확인 실패, Bearer 토큰으로 인증합니다: uri={}, error={}",
+                    request.getRequestURI(), e.getMessage());
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * 검증 claims 헤더 확인
+     *
+     * @param header {@link InternalHeaders#VERIFIED_CLAIMS} 값
+     * @param authorization Authorization 헤더 (Bearer 토큰의 해시가 헤더의 ath와 같아야 함)
+     * @return 원래 토큰과 같은 claims의 Jwt (tokenValue는 Bearer 토큰)
+     * @throws JwtException 서명이 맞지 않거나 만료되었거나, Bearer 토큰이 없거나 ath와 다른 경우
+     */
+    public Jwt verify(String header, String authorization) {
+        Jwt verified = decoder.decode(header);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new BadJwtException("검증 claims와 함께 보낸 Bearer 토큰이 없습니다.");
+        }
+        String tokenValue = authorization.substring(BEARER_PREFIX.length());
+        String expectedHash = verified.getClaimAsString(InternalHeaders.ACCESS_TOKEN_HASH_CLAIM);
+        if (expectedHash == null || !MessageDigest.isEqual(
+                expectedHash.getBytes(StandardCharsets.US_ASCII),
+                hash(tokenValue).getBytes(StandardCharsets.US_ASCII))) {
+            throw new BadJwtException("검증 claims의 토큰 해시가 Bearer 토큰과 다릅니다.");
+        }
+        return Jwt.withTokenValue(tokenValue)
+            .headers(headers -> headers.putAll(verified.getHeaders()))
+            .claims(claims -> {
+                claims.putAll(verified.getClaims());
+                claims.remove(InternalHeaders.ACCESS_TOKEN_HASH_CLAIM);
+            })
+            .build();
+    }
+
+    /**
+     * 헤더로 이미 인증된 요청은 Bearer 토큰을 넘기지 않는 resolver (BearerTokenAuthenticationFilter 재검증 생략)
+     */
+    public BearerTokenResolver bearerTokenResolver() {
+        return request -> request.getAttribute(VERIFIED_ATTRIBUTE) != null
+            ? null
+            : defaultBearerTokenResolver.resolve(request);
+    }
+
+    private boolean isTrustedProxy(String remoteAddr) {
+        return trustedProxies.isEmpty() || trustedProxies.stream().anyMatch(matcher -> matcher.matches(remoteAddr));
+    }
+
+    /** access token 해시 (SHA-256, base64url) - 게이트웨이 VerifiedClaimsFilter의 ath와 같은 계산 */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.ctrlf.common.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * VerifiedClaimsAuthenticationFilter 단위 테스트 (서명/만료/토큰 해시/출발지 확인, Bearer 인증으로의 fallback).
+ */
+@DisplayName("VerifiedClaimsAuthenticationFilter 테스트")
+class VerifiedClaimsAuthenticationFilterTest {
+
+    private static final String SECRET = "test-verified-claims-secret-0123456789";
+    private static final String OTHER_SECRET = "other-verified-claims-secret-0123456789";
+    private static final String ACCESS_TOKEN = "header.payload.signature";
+
+    private final VerifiedClaimsAuthenticationFilter filter = new VerifiedClaimsAuthenticationFilter(SECRET);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("정상 헤더 - claims로 인증하고 Bearer 토큰 재검증 생략")
+    void doFilter_ValidHeader_Authenticates() throws Exception {
+        // given
+        MockHttpServletRequest request = request(sign(SECRET, hash(ACCESS_TOKEN), Instant.now().plusSeconds(60)));
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("user-1");
+        Jwt jwt = (Jwt) authentication.getPrincipal();
+        assertThat(jwt.getTokenValue()).isEqualTo(ACCESS_TOKEN);
+        assertThat(jwt.hasClaim(InternalHeaders.ACCESS_TOKEN_HASH_CLAIM)).isFalse();
+        assertThat(filter.bearerTokenResolver().resolve(request)).isNull();
+    }
+
+    @Test
+    @DisplayName("ath 불일치 - 다른 Bearer 토큰과 함께 보낸 헤더는 거부하고 Bearer 인증")
+    void doFilter_AthMismatch_FallsBackToBearer() throws Exception {
+        // given
+        String header = sign(SECRET, hash("other.access.token"), Instant.now().plusSeconds(60));
+        MockHttpServletRequest request = request(header);
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(filter.bearerTokenResolver().resolve(request)).isEqualTo(ACCESS_TOKEN);
+        assertThatThrownBy(() -> filter.verify(header, "Bearer " + ACCESS_TOKEN))
+            .isInstanceOf(BadJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Bearer 토큰 없음 - 헤더만 보낸 요청은 거부")
+    void doFilter_WithoutBearer_Rejected() throws Exception {
+        // given
+        String header = sign(SECRET, hash(ACCESS_TOKEN), Instant.now().plusSeconds(60));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/chat/sessions");
+        request.addHeader(InternalHeaders.VERIFIED_CLAIMS, header);
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(filter.bearerTokenResolver().resolve(request)).isNull();
+        assertThatThrownBy(() -> filter.verify(header, null)).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> filter.verify(header, "Basic dXNlcjpwYXNz")).isInstanceOf(BadJwtException.class);
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 출발지 - 헤더를 무시하고 Bearer 인증")
+    void doFilter_UntrustedRemoteAddress_IgnoresHeader() throws Exception {
+        // given
+        VerifiedClaimsAuthenticationFilter restricted =
+            new VerifiedClaimsAuthenticationFilter(SECRET, List.of("10.0.0.0/8"));
+        MockHttpServletRequest request = request(sign(SECRET, hash(ACCESS_TOKEN), Instant.now().plusSeconds(60)));
+        request.setRemoteAddr("192.168.1.20");
+
+        // when
+        restricted.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(restricted.bearerTokenResolver().resolve(request)).isEqualTo(ACCESS_TOKEN);
+    }
+
+    @Test
+    @DisplayName("신뢰하는 출발지 - 게이트웨이 대역의 헤더로 인증")
+    void doFilter_TrustedRemoteAddress_Authenticates() throws Exception {
+        // given
+        VerifiedClaimsAuthenticationFilter restricted =
+            new VerifiedClaimsAuthenticationFilter(SECRET, List.of("10.0.0.0/8"));
+        MockHttpServletRequest request = request(sign(SECRET, hash(ACCESS_TOKEN), Instant.now().plusSeconds(60)));
+        request.setRemoteAddr("10.1.2.3");
+
+        // when
+        restricted.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(restricted.bearerTokenResolver().resolve(request)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 헤더 - 거부하고 Bearer 인증")
+    void doFilter_ExpiredHeader_FallsBackToBearer() throws Exception {
+        // given
+        String header = sign(SECRET, hash(ACCESS_TOKEN), Instant.now().minusSeconds(600));
+        MockHttpServletRequest request = request(header);
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(filter.bearerTokenResolver().resolve(request)).isEqualTo(ACCESS_TOKEN);
+        assertThatThrownBy(() -> filter.verify(header, "Bearer " + ACCESS_TOKEN)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("위조된 헤더 - 다른 키로 서명한 헤더는 거부하고 Bearer 인증")
+    void doFilter_ForgedHeader_FallsBackToBearer() throws Exception {
+        // given
+        String header = sign(OTHER_SECRET, hash(ACCESS_TOKEN), Instant.now().plusSeconds(60));
+        MockHttpServletRequest request = request(header);
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(filter.bearerTokenResolver().resolve(request)).isEqualTo(ACCESS_TOKEN);
+        assertThatThrownBy(() -> filter.verify(header, "Bearer " + ACCESS_TOKEN)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("헤더 없음 - 아무것도 하지 않고 Bearer 인증")
+    void doFilter_NoHeader_FallsBackToBearer() throws Exception {
+        // given
+        MockHttpServletRequest request = request(null);
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(filter.bearerTokenResolver().resolve(request)).isEqualTo(ACCESS_TOKEN);
+    }
+
+    private static MockHttpServletRequest request(String verifiedClaims) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/chat/sessions");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + ACCESS_TOKEN);
+        if (verifiedClaims != null) {
+            request.addHeader(InternalHeaders.VERIFIED_CLAIMS, verifiedClaims);
+        }
+        return request;
+    }
+
+    /** 게이트웨이 VerifiedClaimsFilter와 같은 방식으로 claims(+ ath) 서명 */
+    private static String sign(String secret, String ath, Instant expiresAt) throws Exception {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject("user-1")
+            .issueTime(Date.from(expiresAt.minusSeconds(300)))
+            .expirationTime(Date.from(expiresAt))
+            .claim(InternalHeaders.ACCESS_TOKEN_HASH_CLAIM, ath)
+            .build();
+        SignedJWT signed = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        signed.sign(new MACSigner(secret.getBytes(StandardCharsets.UTF_8)));
+        return signed.serialize();
+    }
+
+    private static String hash(String token) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+}
@@ -0,0 +1,72 @@
+// 채팅 SSE 스트리밍 부하 테스트 (k6)
+//
+// 기존 SseEmitter 엔드포인트(legacy)와 Flux 엔드포인트(reactive)를 같은 조건으로 호출해
+// 동시 스트림 2,000개에서의 메모리/스레드 사용량을 비교합니다.
+// JVM 지표는 실행 중 scripts/loadtest/sample-jvm-metrics.sh 로 함께 수집합니다.
+//
+// 실행 예:
+//   k6 run -e BASE_URL=http://localhost:9005 -e TOKEN=<JWT> \
+//          -e MESSAGE_IDS=<uuid1,uuid2,...> -e MODE=reactive \
+//          scripts/loadtest/chat-stream-load.js
+//
+// MESSAGE_IDS: 스트리밍할 assistant 메시지 ID 목록 (POST /chat/messages 응답의 messageId)
+// MODE: legacy | reactive (기본값 reactive)
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend, Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:9005';
+const TOKEN = __ENV.TOKEN || '';
+const MODE = __ENV.MODE || 'reactive';
+const MESSAGE_IDS = (__ENV.MESSAGE_IDS || '').split(',').filter((id) => id.length > 0);
+const STREAMS = parseInt(__ENV.STREAMS || '2000', 10);
+
+const streamDuration = new Trend('chat_stream_duration', true);
+const tokenEvents = new Counter('chat_stream_token_events');
+const errorEvents = new Counter('chat_stream_error_events');
+
+export const options = {
+  scenarios: {
+    streams: {
+      executor: 'per-vu-iterations',
+      vus: STREAMS,
+      iterations: 1,
+      maxDuration: '5m',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export function setup() {
+  if (MESSAGE_IDS.length === 0) {
+    throw new Error('MESSAGE_IDS 환경 변수가 필요합니다.');
+  }
+}
+
+export default function () {
+  const messageId = MESSAGE_IDS[(__VU - 1) % MESSAGE_IDS.length];
+  const path = MODE === 'legacy'
+    ? `/chat/messages/${messageId}/stream`
+    : `/chat/messages/${messageId}/stream/reactive`;
+
+  const res = http.get(`${BASE_URL}${path}`, {
+    headers: {
+      Authorization: `Bearer ${TOKEN}`,
+      Accept: 'text/event-stream',
+    },
+    timeout: '200s',
+  });
+
+  check(res, {
+    'status is 200': (r) => r.status === 200,
+    'stream finished with done or error': (r) => /event:\s*(done|error)/.test(r.body || ''),
+  });
+
+  const body = res.body || '';
+  tokenEvents.add((body.match(/event:\s*token/g) || []).length);
+  errorEvents.add((body.match(/event:\s*error/g) || []).length);
+  streamDuration.add(res.timings.duration);
+}
@@ -0,0 +1,20 @@
+#!/bin/bash
+
+# chat-service JVM 지표 수집 스크립트
+# 부하 테스트(chat-stream-load.js) 실행 중 스레드 수/힙 사용량/활성 스트림 수를 주기적으로 기록합니다.
+#
+# 사용법: ./sample-jvm-metrics.sh [BASE_URL] [INTERVAL_SEC] > metrics-legacy.csv
+
+BASE_URL=${1:-http://localhost:9005}
+INTERVAL=${2:-1}
+
+metric() {
+    curl -s "$BASE_URL/actuator/metrics/$1${2:+?tag=$2}" \
+        | jq -r '[.measurements[] | select(.statistic == "VALUE")][0].value // 0' 2>/dev/null || echo 0
+}
+
+echo "timestamp,threads_live,heap_used_bytes,active_streams_emitter,active_streams_flux"
+while true; do
+    echo "$(date +%s),$(metric jvm.threads.live),$(metric jvm.memory.used area:heap),$(metric chat.stream.active type:emitter),$(metric chat.stream.active type:flux)"
+    sleep "$INTERVAL"
+done